@@ -0,0 +1,40 @@
+#!/bin/sh
+# ----------------------------------------------------------------------------
+# Starts de.bcxp.challenge.App from the build output in target, using the
+# AppCDS archive created by "./mvnw -P cds package" if it exists.
+#
+# The arguments are passed to App unchanged, e.g.
+#   ./run-app.sh weather.csv countries.csv
+#
+# The archive is only used by the JDK that created it and only if the jars
+# are unchanged since; otherwise the JVM silently starts without it. Set
+# CDS_LOG=1 to have the JVM report whether the archive was mapped.
+# ----------------------------------------------------------------------------
+set -eu
+
+TARGET_DIR="$(cd "$(dirname "$0")/target" && pwd)"
+CDS_DIR="$TARGET_DIR/cds"
+
+if [ -n "${JAVA_HOME:-}" ]; then
+  JAVA="$JAVA_HOME/bin/java"
+else
+  JAVA=java
+fi
+
+if [ ! -f "$CDS_DIR/dependencies.classpath" ]; then
+  echo "Missing $CDS_DIR/dependencies.classpath, build with: ./mvnw -P cds package" >&2
+  exit 1
+fi
+
+# Must match the classpath the archive was dumped with, see the cds profile in pom.xml
+CLASSPATH="$(ls "$TARGET_DIR"/challenge-*.jar | head -n 1):$(cat "$CDS_DIR/dependencies.classpath")"
+
+set -- -cp "$CLASSPATH" de.bcxp.challenge.App "$@"
+if [ -f "$CDS_DIR/app.jsa" ]; then
+  set -- -XX:SharedArchiveFile="$CDS_DIR/app.jsa" -Xshare:auto "$@"
+  if [ "${CDS_LOG:-0}" = 1 ]; then
+    set -- -Xlog:cds "$@"
+  fi
+fi
+
+exec "$JAVA" "$@"
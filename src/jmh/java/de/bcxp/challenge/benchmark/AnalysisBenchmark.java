@@ -0,0 +1,73 @@
+package de.bcxp.challenge.benchmark;
+
+import de.bcxp.challenge.common.analysis.csv.CsvAnalysisUtility;
+import de.bcxp.challenge.common.documentParsing.source.FileSource;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.ColumnarDocument;
+import de.bcxp.challenge.common.model.Document;
+import de.bcxp.challenge.common.model.DocumentEntry;
+import de.bcxp.challenge.common.model.csv.NumericComparisonType;
+import de.bcxp.challenge.weather.WeatherCsvParser;
+import de.bcxp.challenge.weather.WeatherEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the best match analysis on parsed weather documents, row oriented and columnar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class AnalysisBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int rows;
+
+    private Document<WeatherEntry> document;
+    private ColumnarDocument columnarDocument;
+
+    @Setup(Level.Trial)
+    public void setUp() throws DocumentCreationException {
+        final Path file = BenchmarkData.getDataDir().resolve(BenchmarkData.getWeatherFile(rows));
+        final WeatherCsvParser parser = new WeatherCsvParser(',', BenchmarkData.WEATHER_LOCALE, new FileSource(file));
+        document = parser.parseDocument();
+        columnarDocument = parser.parseColumnarDocument(file);
+    }
+
+    @Benchmark
+    public Set<DocumentEntry> getBestMatchesForNumericColumnComparison() {
+        return CsvAnalysisUtility.getBestMatchesForNumericColumnComparison(document, NumericComparisonType.MIN);
+    }
+
+    @Benchmark
+    public Set<WeatherEntry> getBestMatchesOfNumericTuples() {
+        return CsvAnalysisUtility.getBestMatchesOfNumericTuples(document, NumericComparisonType.MIN);
+    }
+
+    @Benchmark
+    public List<WeatherEntry> getTopMatches() {
+        return CsvAnalysisUtility.getTopMatches(document, NumericComparisonType.MIN, 100);
+    }
+
+    @Benchmark
+    public int[] getBestMatchRows() {
+        return CsvAnalysisUtility.getBestMatchRows(columnarDocument, NumericComparisonType.MIN);
+    }
+}
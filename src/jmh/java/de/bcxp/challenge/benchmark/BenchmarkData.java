@@ -0,0 +1,97 @@
+package de.bcxp.challenge.benchmark;
+
+import de.bcxp.challenge.common.generation.CsvGenerator;
+import de.bcxp.challenge.common.generation.CsvGeneratorOptions;
+import de.bcxp.challenge.countries.CountryCsvGenerator;
+import de.bcxp.challenge.weather.WeatherCsvGenerator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+
+/**
+ * Creates and caches the CSV files used by the benchmarks.
+ * <p>
+ * Files are named after their dataset, row count and locale and written once per data directory, so repeated benchmark
+ * runs parse identical content.
+ * </p>
+ */
+final class BenchmarkData {
+
+    private static final long SEED = 42;
+
+    /**
+     * Locale of the weather files; its '.' decimal separator keeps values unquoted with the ',' delimiter, so the
+     * numeric fast path is measured instead of the quoted field fallback. Grouping is disabled for the same reason.
+     */
+    static final Locale WEATHER_LOCALE = Locale.US;
+
+    /**
+     * Locale of the country files, which use the ';' delimiter and can therefore keep the German number format.
+     */
+    static final Locale COUNTRY_LOCALE = Locale.GERMANY;
+
+    private BenchmarkData() {
+        throw new AssertionError("Cannot instantiate utility class.");
+    }
+
+    /**
+     * @return the data directory shared with {@link BenchmarkRunner}
+     */
+    static Path getDataDir() {
+        final String dataDir = System.getProperty(BenchmarkRunner.DATA_DIR_PROPERTY);
+        if (dataDir == null) throw new IllegalStateException("Benchmarks must be started through BenchmarkRunner.");
+        return Path.of(dataDir);
+    }
+
+    /**
+     * @return the directory of the AppCDS archive shared with {@link BenchmarkRunner}
+     */
+    static Path getCdsDir() {
+        final String cdsDir = System.getProperty(BenchmarkRunner.CDS_DIR_PROPERTY);
+        if (cdsDir == null) throw new IllegalStateException("Benchmarks must be started through BenchmarkRunner.");
+        return Path.of(cdsDir);
+    }
+
+    /**
+     * Returns a weather file with the given number of rows generated by {@link WeatherCsvGenerator} in
+     * {@link #WEATHER_LOCALE}, creating it if needed.
+     *
+     * @param rows the number of data rows
+     * @return the file name within {@link #getDataDir()}
+     */
+    static String getWeatherFile(final int rows) {
+        return getFile("weather-" + rows + "-" + WEATHER_LOCALE.toLanguageTag() + ".csv", new WeatherCsvGenerator(options(rows, WEATHER_LOCALE, false)));
+    }
+
+    /**
+     * Returns a country file with the given number of rows generated by {@link CountryCsvGenerator} in
+     * {@link #COUNTRY_LOCALE}, creating it if needed.
+     *
+     * @param rows the number of data rows
+     * @return the file name within {@link #getDataDir()}
+     */
+    static String getCountryFile(final int rows) {
+        return getFile("countries-" + rows + "-" + COUNTRY_LOCALE.toLanguageTag() + ".csv", new CountryCsvGenerator(options(rows, COUNTRY_LOCALE, true)));
+    }
+
+    private static CsvGeneratorOptions options(final int rows, final Locale locale, final boolean grouping) {
+        return CsvGeneratorOptions.builder().rows(rows).seed(SEED).locale(locale).grouping(grouping).build();
+    }
+
+    private static String getFile(final String name, final CsvGenerator generator) {
+        final Path file = getDataDir().resolve(name);
+        if (Files.exists(file)) return name;
+
+        try {
+            final Path temp = Files.createTempFile(getDataDir(), name, ".tmp");
+            generator.generate(temp);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Creating benchmark file " + file + " failed.", e);
+        }
+        return name;
+    }
+}
@@ -0,0 +1,62 @@
+package de.bcxp.challenge.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Entry point of {@code target/benchmarks.jar}.
+ * <p>
+ * Accepts the usual JMH command line options, e.g. a benchmark regex or {@code -p rows=1000}, and always adds the
+ * {@link GCProfiler}, so every result reports throughput together with the allocation rate per operation.
+ * </p>
+ * <p>
+ * Generated CSV files are cached in the directory given by the system property {@value #DATA_DIR_PROPERTY}
+ * (default {@code target/benchmark-data}) and read from the local file system by the forked benchmark JVMs. The
+ * startup benchmark reads the AppCDS archive from the directory given by {@value #CDS_DIR_PROPERTY} (default
+ * {@code target/cds}).
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+    static final String DATA_DIR_PROPERTY = "benchmark.dataDir";
+    private static final String DEFAULT_DATA_DIR = "target/benchmark-data";
+    static final String CDS_DIR_PROPERTY = "benchmark.cdsDir";
+    private static final String DEFAULT_CDS_DIR = "target/cds";
+
+    private BenchmarkRunner() {
+        throw new AssertionError("Cannot instantiate utility class.");
+    }
+
+    public static void main(final String... args) throws CommandLineOptionException, RunnerException, IOException {
+        final Path dataDir = Files.createDirectories(Path.of(System.getProperty(DATA_DIR_PROPERTY, DEFAULT_DATA_DIR))).toAbsolutePath();
+        final Path cdsDir = Path.of(System.getProperty(CDS_DIR_PROPERTY, DEFAULT_CDS_DIR)).toAbsolutePath();
+
+        // Options set here take precedence over the @Fork annotations, so the runner's arguments are prepended to
+        // the ones given on the command line, leaving the jvmArgsAppend of the annotations, e.g. heap sizes, in effect.
+        final CommandLineOptions commandLine = new CommandLineOptions(args);
+        final List<String> jvmArgsPrepend = new ArrayList<>(List.of(
+                "-D" + DATA_DIR_PROPERTY + "=" + dataDir,
+                "-D" + CDS_DIR_PROPERTY + "=" + cdsDir,
+                "-Dlog4j.configurationFile=log4j2-benchmark.xml"
+        ));
+        jvmArgsPrepend.addAll(commandLine.getJvmArgsPrepend().orElse(Collections.emptyList()));
+
+        final Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .jvmArgsPrepend(jvmArgsPrepend.toArray(new String[0]))
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,120 @@
+package de.bcxp.challenge.benchmark;
+
+import de.bcxp.challenge.common.documentParsing.source.FileSource;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.ColumnarDocument;
+import de.bcxp.challenge.common.model.Document;
+import de.bcxp.challenge.countries.CountryCsvParser;
+import de.bcxp.challenge.countries.CountryEntry;
+import de.bcxp.challenge.weather.WeatherCsvParser;
+import de.bcxp.challenge.weather.WeatherEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsers on generated weather and country files with the given number of rows.
+ * <p>
+ * {@code parseDocument} and {@code parseEntries} read the files through a {@link FileSource} and Commons CSV, the
+ * other benchmarks read the same files through the projecting and memory mapped tokenizers, the columnar
+ * representation, its binary snapshot and the parallel chunked parser.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CsvParserBenchmark {
+
+    @Param({"1000", "1000000", "10000000"})
+    public int rows;
+
+    private WeatherCsvParser weatherParser;
+    private CountryCsvParser countryParser;
+    private Path weatherFile;
+    private Path countryFile;
+    private Path weatherSnapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws DocumentCreationException, IOException {
+        weatherFile = BenchmarkData.getDataDir().resolve(BenchmarkData.getWeatherFile(rows));
+        countryFile = BenchmarkData.getDataDir().resolve(BenchmarkData.getCountryFile(rows));
+        weatherParser = new WeatherCsvParser(',', BenchmarkData.WEATHER_LOCALE, new FileSource(weatherFile));
+        countryParser = new CountryCsvParser(';', BenchmarkData.COUNTRY_LOCALE, new FileSource(countryFile));
+        weatherSnapshot = Files.createTempFile("weather-", ".snapshot");
+        Files.delete(weatherSnapshot);
+        weatherParser.parseColumnarDocument(weatherFile, weatherSnapshot);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(weatherSnapshot);
+    }
+
+    @Benchmark
+    public Document<WeatherEntry> weatherParseDocument() throws DocumentCreationException {
+        return weatherParser.parseDocument();
+    }
+
+    @Benchmark
+    public Document<CountryEntry> countryParseDocument() throws DocumentCreationException {
+        return countryParser.parseDocument();
+    }
+
+    @Benchmark
+    public void weatherParseEntries(final Blackhole blackhole) throws DocumentCreationException {
+        weatherParser.parseEntries(blackhole::consume);
+    }
+
+    @Benchmark
+    public Document<WeatherEntry> weatherParseProjectedDocument() throws DocumentCreationException {
+        return weatherParser.parseProjectedDocument();
+    }
+
+    @Benchmark
+    public Document<CountryEntry> countryParseProjectedDocument() throws DocumentCreationException {
+        return countryParser.parseProjectedDocument();
+    }
+
+    @Benchmark
+    public Document<WeatherEntry> weatherParseMappedDocument() throws DocumentCreationException {
+        return weatherParser.parseMappedDocument(weatherFile);
+    }
+
+    @Benchmark
+    public Document<CountryEntry> countryParseMappedDocument() throws DocumentCreationException {
+        return countryParser.parseMappedDocument(countryFile);
+    }
+
+    @Benchmark
+    public ColumnarDocument weatherParseColumnarDocument() throws DocumentCreationException {
+        return weatherParser.parseColumnarDocument(weatherFile);
+    }
+
+    @Benchmark
+    public ColumnarDocument weatherReloadColumnarSnapshot() throws DocumentCreationException {
+        return weatherParser.parseColumnarDocument(weatherFile, weatherSnapshot);
+    }
+
+    @Benchmark
+    public Document<WeatherEntry> weatherParseDocumentInParallel() throws DocumentCreationException {
+        return weatherParser.parseDocumentInParallel(weatherFile, Runtime.getRuntime().availableProcessors());
+    }
+}
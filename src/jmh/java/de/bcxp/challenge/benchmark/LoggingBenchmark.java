@@ -0,0 +1,94 @@
+package de.bcxp.challenge.benchmark;
+
+import de.bcxp.challenge.common.documentParsing.source.FileSource;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.Document;
+import de.bcxp.challenge.weather.WeatherCsvParser;
+import de.bcxp.challenge.weather.WeatherEntry;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of logging while parsing, by parsing a generated weather file under the development
+ * configuration {@code log4j2.xml} (synchronous file appender) and the production configuration
+ * {@code log4j2-production.xml} (asynchronous loggers), each with the root level at {@code DEBUG} and {@code INFO}.
+ * <p>
+ * Both configurations log to a temporary file that is deleted after the trial. Every tenth row is additionally
+ * logged by the row sampler, so the {@code INFO} runs measure a steady stream of log events rather than only the
+ * disabled debug statements.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Dde.bcxp.challenge.csv.sampleInterval=10"})
+public class LoggingBenchmark {
+
+    private static final long SAMPLE_INTERVAL = 10;
+
+    @Param({"1000", "1000000"})
+    public int rows;
+
+    @Param({"log4j2.xml", "log4j2-production.xml"})
+    public String configuration;
+
+    @Param({"DEBUG", "INFO"})
+    public String level;
+
+    private WeatherCsvParser parser;
+    private Path logFile;
+
+    @Setup
+    public void setUp() throws IOException, URISyntaxException {
+        logFile = Files.createTempFile("benchmark-", ".log");
+        System.setProperty("de.bcxp.challenge.log.file", logFile.toString());
+
+        final LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        context.setConfigLocation(LoggingBenchmark.class.getClassLoader().getResource(configuration).toURI());
+        Configurator.setRootLevel(Level.valueOf(level));
+
+        final Path weatherFile = BenchmarkData.getDataDir().resolve(BenchmarkData.getWeatherFile(rows));
+        parser = new WeatherCsvParser(',', BenchmarkData.WEATHER_LOCALE, new FileSource(weatherFile));
+        if (parser.getSampleInterval() != SAMPLE_INTERVAL) {
+            throw new IllegalStateException("Row sampling is not configured, INFO runs would log nothing.");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        LogManager.shutdown();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public Document<WeatherEntry> weatherParseDocument() throws DocumentCreationException {
+        return parser.parseDocument();
+    }
+
+    @Benchmark
+    public void weatherParseEntries(final Blackhole blackhole) throws DocumentCreationException {
+        parser.parseEntries(blackhole::consume);
+    }
+}
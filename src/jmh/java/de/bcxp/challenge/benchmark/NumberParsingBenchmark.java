@@ -0,0 +1,75 @@
+package de.bcxp.challenge.benchmark;
+
+import de.bcxp.challenge.common.utility.StringParsingUtility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link StringParsingUtility#getDoubleFromString} and {@link StringParsingUtility#getLongFromString} on
+ * numbers formatted with grouping separators and decimals of the benchmarked locale.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NumberParsingBenchmark {
+
+    private static final int VALUES = 1024;
+
+    @Param({"de-DE", "en-US", "fr-FR"})
+    public String languageTag;
+
+    private Locale locale;
+    private String[] doubles;
+    private String[] longs;
+
+    @Setup
+    public void setUp() {
+        locale = Locale.forLanguageTag(languageTag);
+        final NumberFormat doubleFormat = NumberFormat.getNumberInstance(locale);
+        doubleFormat.setMaximumFractionDigits(3);
+        final NumberFormat longFormat = NumberFormat.getIntegerInstance(locale);
+
+        final SplittableRandom random = new SplittableRandom(42);
+        doubles = new String[VALUES];
+        longs = new String[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            doubles[i] = doubleFormat.format(random.nextDouble(-1_000_000, 1_000_000));
+            longs[i] = longFormat.format(random.nextLong(0, 100_000_000_000L));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void getDoubleFromString(final Blackhole blackhole) throws ParseException {
+        for (final String value : doubles) {
+            blackhole.consume(StringParsingUtility.getDoubleFromString(value, locale));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void getLongFromString(final Blackhole blackhole) throws ParseException {
+        for (final String value : longs) {
+            blackhole.consume(StringParsingUtility.getLongFromString(value, locale));
+        }
+    }
+}
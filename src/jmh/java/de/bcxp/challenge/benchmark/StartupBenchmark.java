@@ -0,0 +1,125 @@
+package de.bcxp.challenge.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the time from launching a new JVM running {@code App} on the bundled documents until it prints its first
+ * result, with class data sharing disabled ({@code off}), with the JDK's default archive of JDK classes
+ * ({@code default}) and with the AppCDS archive created by the {@code cds} Maven profile ({@code app}).
+ * <p>
+ * The JVMs are started with the same JDK and classpath the archive was dumped with, read from the directory given by
+ * the system property {@value BenchmarkRunner#CDS_DIR_PROPERTY}. The result cache is disabled, so every launch
+ * analyses both documents. Each launched JVM is awaited after the measurement, outside the measured time.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, batchSize = 1)
+@Measurement(iterations = 20, batchSize = 1)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final String RESULT_SEPARATOR = ": ";
+
+    @Param({"off", "default", "app"})
+    public String archive;
+
+    private List<String> command;
+    private Path logFile;
+    private Process process;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final Path cdsDir = BenchmarkData.getCdsDir();
+        final Path dependencies = cdsDir.resolve("dependencies.classpath");
+        final Path archiveFile = cdsDir.resolve("app.jsa");
+        if (!Files.isRegularFile(dependencies) || !Files.isRegularFile(archiveFile)) {
+            throw new IllegalStateException("No AppCDS archive in " + cdsDir + ", build with: mvn -P cds,benchmark package");
+        }
+
+        final Path applicationJar;
+        try (Stream<Path> jars = Files.list(cdsDir.getParent())) {
+            applicationJar = jars
+                    .filter(jar -> jar.getFileName().toString().matches("challenge-.*\\.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No application jar next to " + cdsDir));
+        }
+        logFile = Files.createTempFile("startup-", ".log");
+
+        command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        switch (archive) {
+            case "off":
+                command.add("-Xshare:off");
+                break;
+            case "default":
+                command.add("-Xshare:auto");
+                break;
+            case "app":
+                command.add("-Xshare:on");
+                command.add("-XX:SharedArchiveFile=" + archiveFile);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown archive " + archive);
+        }
+        command.add("-Dde.bcxp.challenge.cache.disabled=true");
+        command.add("-Dde.bcxp.challenge.log.file=" + logFile);
+        command.add("-cp");
+        command.add(applicationJar + File.pathSeparator + Files.readString(dependencies).strip());
+        command.add("de.bcxp.challenge.App");
+    }
+
+    @TearDown(Level.Invocation)
+    public void awaitProcess() throws InterruptedException, IOException {
+        if (process != null) {
+            process.waitFor();
+            // the benchmark stops reading at the result line, so the pipes of the child are released here
+            process.getInputStream().close();
+            process.getOutputStream().close();
+            process = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public String timeToFirstResult() throws IOException {
+        process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        final BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+
+        String line;
+        while ((line = output.readLine()) != null) {
+            if (line.contains(RESULT_SEPARATOR)) return line;
+        }
+        throw new IllegalStateException("App exited without printing a result.");
+    }
+}
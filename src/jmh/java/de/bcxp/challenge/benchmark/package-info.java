@@ -0,0 +1,6 @@
+/**
+ * JMH benchmarks for parsing, number conversion, analysis, logging and startup, built with the {@code benchmark}
+ * Maven profile. {@link de.bcxp.challenge.benchmark.BenchmarkRunner} runs them with the GC profiler to report
+ * allocation rates.
+ */
+package de.bcxp.challenge.benchmark;
@@ -1,18 +1,24 @@
 package de.bcxp.challenge;
 
-import de.bcxp.challenge.common.analysis.IDocumentAnalyser;
 import de.bcxp.challenge.countries.CountryAnalyser;
 import de.bcxp.challenge.weather.WeatherAnalyser;
-import de.bcxp.challenge.common.documentParsing.IDocumentParser;
+import de.bcxp.challenge.common.cache.ResultCache;
+import de.bcxp.challenge.common.documentParsing.source.ClasspathSource;
+import de.bcxp.challenge.common.documentParsing.source.DirectorySource;
+import de.bcxp.challenge.common.documentParsing.source.FileSource;
+import de.bcxp.challenge.common.documentParsing.source.IDocumentSource;
+import de.bcxp.challenge.common.documentParsing.source.StandardInputSource;
+import de.bcxp.challenge.common.pipeline.AnalysisJob;
+import de.bcxp.challenge.common.pipeline.AnalysisPipeline;
+import de.bcxp.challenge.common.pipeline.JobResult;
 import de.bcxp.challenge.countries.CountryCsvParser;
 import de.bcxp.challenge.weather.WeatherCsvParser;
-import de.bcxp.challenge.common.model.Document;
-import de.bcxp.challenge.common.model.DocumentEntry;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Locale;
-import java.util.NoSuchElementException;
-import java.util.Set;
 
 /**
  * The entry class for your solution. This class is only aimed as starting point and not intended as baseline for your
@@ -23,54 +29,72 @@ public final class App {
 
     private static final String WEATHER_CSV_PATH = "de/bcxp/challenge/weather.csv";
     private static final String COUNTRIES_CSV_PATH = "de/bcxp/challenge/countries.csv";
+    private static final String STANDARD_INPUT_ARGUMENT = "-";
 
     /**
      * This is the main entry method of your program.
+     * <p>
+     * Without arguments, the bundled weather and country documents are analysed. Other documents can be passed as
+     * arguments {@code [weather] [countries]}, each being a local CSV file, a directory of CSV shards or {@code -} for
+     * the standard input.
+     * </p>
+     * <p>
+     * The documents are analysed concurrently by an {@link AnalysisPipeline}, and every result is printed as soon as
+     * its analysis completes. A failed analysis prints {@code N/A} without affecting the others.
+     * </p>
      * @param args The CLI arguments passed
      */
     public static void main(String... args) {
-
-        String dayWithSmallestTempSpread = getBestMatchFromDocument(
-                new WeatherCsvParser(',', Locale.GERMANY, WEATHER_CSV_PATH),
-                new WeatherAnalyser()
-        );
-        System.out.printf("Day with smallest temperature spread: %s%n", dayWithSmallestTempSpread);
-
-
-        String countryWithHighestPopulationDensity = getBestMatchFromDocument(
-                new CountryCsvParser(';', Locale.GERMANY, COUNTRIES_CSV_PATH),
-                new CountryAnalyser()
+        final List<AnalysisJob<?>> jobs = List.of(
+                new AnalysisJob<>(
+                        "Day with smallest temperature spread",
+                        new WeatherCsvParser(',', Locale.GERMANY, getSource(args, 0, WEATHER_CSV_PATH)),
+                        new WeatherAnalyser()
+                ),
+                new AnalysisJob<>(
+                        "Country with highest population density",
+                        new CountryCsvParser(';', Locale.GERMANY, getSource(args, 1, COUNTRIES_CSV_PATH)),
+                        new CountryAnalyser()
+                )
         );
-        System.out.printf("Country with highest population density: %s%n", countryWithHighestPopulationDensity);
 
+        try {
+            new AnalysisPipeline(ResultCache.fromSystemProperties()).run(jobs, App::printResult);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.fatal("Interrupted while analysing documents.", e);
+            System.err.println("Document analysis was interrupted.");
+        }
     }
 
     /**
-     * Loads a document from the given file path using the provided parser, analyzes its entries to find the best match
-     * using the provided analyser, and returns the result.
+     * Prints the result of an analysis, or {@code N/A} if it failed.
      * <p>
-     * Since the provided main()-Method in App.java calls for only one value, an arbitrary value is pulled from the set of results.
-     * For example, if there are multiple days with equal temperature spreads, one arbitrary from this set of days is returned.
+     * Since the provided main()-Method in App.java calls for only one value, the analysis reports an arbitrary value
+     * from the set of best matches. For example, if there are multiple days with equal temperature spreads, one
+     * arbitrary from this set of days is printed.
      * </p>
      *
-     * @param parser the {@link IDocumentParser} that reads and parses the document into entries
-     * @param analyser the {@link IDocumentAnalyser} that finds the best match from the parsed entries
-     * @return The ID of an arbitrary result from the result Set
+     * @param result the result of an analysis
      */
-    private static String getBestMatchFromDocument(final IDocumentParser parser, final IDocumentAnalyser analyser) {
-        try {
-            final Document document = parser.parseDocument();
-            final Set<DocumentEntry> bestMatches = analyser.getBestMatches(document);
-            return bestMatches.stream()
-                    .findAny()
-                    .orElseThrow(() -> new NoSuchElementException("Unable to find best match"))
-                    .getId();
-        } catch (Exception e) {
-            logger.fatal("Reading and analysis of document failed.", e);
-            System.err.println("Document analysis failed.");
-            return "N/A";
-        }
+    private static void printResult(final JobResult result) {
+        if (!result.isSuccessful()) System.err.println("Document analysis failed.");
+        System.out.printf("%s: %s%n", result.getName(), result.getBestMatch().orElse("N/A"));
     }
 
+    /**
+     * Determines the source of a document from the CLI arguments.
+     *
+     * @param args the CLI arguments
+     * @param index the position of the document in the arguments
+     * @param defaultResource the classpath resource used if the argument is absent
+     * @return the source of the document
+     */
+    private static IDocumentSource getSource(final String[] args, final int index, final String defaultResource) {
+        if (args == null || args.length <= index) return new ClasspathSource(defaultResource);
+        if (STANDARD_INPUT_ARGUMENT.equals(args[index])) return new StandardInputSource();
+        final Path path = Path.of(args[index]);
+        return Files.isDirectory(path) ? new DirectorySource(path) : new FileSource(path);
+    }
 
 }
@@ -0,0 +1,94 @@
+package de.bcxp.challenge;
+
+import de.bcxp.challenge.common.generation.CsvGenerator;
+import de.bcxp.challenge.common.generation.CsvGeneratorOptions;
+import de.bcxp.challenge.countries.CountryCsvGenerator;
+import de.bcxp.challenge.weather.WeatherCsvGenerator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Command line entry point generating large synthetic weather and country CSV files for load tests.
+ * <p>
+ * Usage: {@code CsvGeneratorApp <weather|countries> <rows> <target> [options]} with the options
+ * {@code --locale=<language tag>}, {@code --seed=<long>}, {@code --delimiter=<char>}, {@code --best-matches=<int>},
+ * {@code --quote-all} and {@code --no-grouping}.
+ * </p>
+ *
+ * @see CsvGeneratorOptions
+ */
+public final class CsvGeneratorApp {
+    private static final Logger logger = LogManager.getLogger(CsvGeneratorApp.class);
+
+    private static final String USAGE = "Usage: CsvGeneratorApp <weather|countries> <rows> <target> "
+            + "[--locale=de-DE] [--seed=42] [--delimiter=;] [--best-matches=1] [--quote-all] [--no-grouping]";
+
+    private CsvGeneratorApp() {
+        throw new AssertionError("Cannot instantiate utility class.");
+    }
+
+    /**
+     * Generates the file described by the CLI arguments.
+     * @param args The CLI arguments passed
+     */
+    public static void main(final String... args) {
+        try {
+            final long start = System.nanoTime();
+            final Path target = Path.of(args.length > 2 ? args[2] : "");
+            createGenerator(args).generate(target);
+            System.out.printf("Generated %s in %d ms%n", target, (System.nanoTime() - start) / 1_000_000);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException e) {
+            logger.fatal("Generating file failed.", e);
+            System.err.println("Generating file failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Creates the generator described by the CLI arguments.
+     *
+     * @param args the CLI arguments
+     * @return the configured generator
+     * @throws IllegalArgumentException if the arguments are invalid
+     */
+    static CsvGenerator createGenerator(final String... args) {
+        if (args.length < 3) throw new IllegalArgumentException("Dataset, row count and target are required.");
+
+        final CsvGeneratorOptions.Builder options = CsvGeneratorOptions.builder().rows(Long.parseLong(args[1]));
+        for (int i = 3; i < args.length; i++) {
+            final String argument = args[i];
+            final String value = argument.substring(argument.indexOf('=') + 1);
+            if (argument.startsWith("--locale=")) {
+                options.locale(Locale.forLanguageTag(value));
+            } else if (argument.startsWith("--seed=")) {
+                options.seed(Long.parseLong(value));
+            } else if (argument.startsWith("--delimiter=") && value.length() == 1) {
+                options.delimiter(value.charAt(0));
+            } else if (argument.startsWith("--best-matches=")) {
+                options.bestMatches(Integer.parseInt(value));
+            } else if (argument.equals("--quote-all")) {
+                options.quoteAll(true);
+            } else if (argument.equals("--no-grouping")) {
+                options.grouping(false);
+            } else {
+                throw new IllegalArgumentException("Unknown option " + argument);
+            }
+        }
+
+        switch (args[0]) {
+            case "weather":
+                return new WeatherCsvGenerator(options.build());
+            case "countries":
+                return new CountryCsvGenerator(options.build());
+            default:
+                throw new IllegalArgumentException("Unknown dataset " + args[0]);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package de.bcxp.challenge;
+
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.daemon.AnalysisDaemon;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Command line entry point starting the {@link AnalysisDaemon}, which analyses documents submitted over a loopback
+ * socket until the JVM is terminated.
+ * <p>
+ * Usage: {@code DaemonApp [--port=7311] [--threads=<available processors>] [--data-root=<working directory>]}
+ * </p>
+ * <p>
+ * Only documents within the data root can be analysed, see {@link AnalysisDaemon}.
+ * </p>
+ */
+public final class DaemonApp {
+    private static final Logger logger = LogManager.getLogger(DaemonApp.class);
+
+    private static final String USAGE = "Usage: DaemonApp [--port=" + AnalysisDaemon.DEFAULT_PORT + "] [--threads=<n>] [--data-root=<directory>]";
+
+    private DaemonApp() {
+        throw new AssertionError("Cannot instantiate utility class.");
+    }
+
+    /**
+     * Starts the daemon described by the CLI arguments and serves requests until the JVM is terminated.
+     * @param args The CLI arguments passed
+     */
+    public static void main(final String... args) {
+        try {
+            final AnalysisDaemon daemon = start(args);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    daemon.close();
+                } catch (IOException e) {
+                    logger.warn("Stopping analysis daemon failed", e);
+                }
+            }, "daemon-shutdown"));
+            System.out.printf("Analysis daemon listening on 127.0.0.1:%d%n", daemon.getPort());
+            daemon.awaitTermination();
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException | DocumentCreationException e) {
+            logger.fatal("Starting analysis daemon failed.", e);
+            System.err.println("Starting analysis daemon failed: " + e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Starts the daemon described by the CLI arguments.
+     *
+     * @param args the CLI arguments
+     * @return the running daemon
+     * @throws IllegalArgumentException if the arguments are invalid
+     * @throws IOException if the port can't be bound or the data root can't be resolved
+     * @throws DocumentCreationException if warming up fails
+     */
+    static AnalysisDaemon start(final String... args) throws IOException, DocumentCreationException {
+        int port = AnalysisDaemon.DEFAULT_PORT;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path dataRoot = Path.of("");
+        for (final String argument : args) {
+            final String value = argument.substring(argument.indexOf('=') + 1);
+            if (argument.startsWith("--port=")) {
+                port = Integer.parseInt(value);
+            } else if (argument.startsWith("--threads=")) {
+                threads = Integer.parseInt(value);
+            } else if (argument.startsWith("--data-root=")) {
+                dataRoot = Path.of(value);
+            } else {
+                throw new IllegalArgumentException("Unknown option " + argument);
+            }
+        }
+        return AnalysisDaemon.start(port, threads, dataRoot);
+    }
+}
@@ -0,0 +1,173 @@
+package de.bcxp.challenge;
+
+import de.bcxp.challenge.common.analysis.IDocumentAnalyser;
+import de.bcxp.challenge.common.documentParsing.csv.CsvParser;
+import de.bcxp.challenge.common.documentParsing.source.ClasspathSource;
+import de.bcxp.challenge.common.documentParsing.source.IDocumentSource;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.Document;
+import de.bcxp.challenge.common.model.DocumentEntry;
+import de.bcxp.challenge.common.model.csv.NumericComparisonType;
+import de.bcxp.challenge.countries.CountryAnalyser;
+import de.bcxp.challenge.countries.CountryCsvParser;
+import de.bcxp.challenge.countries.CountryEntry;
+import de.bcxp.challenge.weather.WeatherAnalyser;
+import de.bcxp.challenge.weather.WeatherCsvParser;
+import de.bcxp.challenge.weather.WeatherEntry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * The kinds of documents the application can analyse, each pairing its {@link CsvParser} with its stateless
+ * {@link IDocumentAnalyser}.
+ * <p>
+ * Services analysing documents on request look up the type by its name, e.g. {@code weather}, and create a parser
+ * for each requested document, while the analyser instance is shared by all requests.
+ * </p>
+ */
+public enum DocumentType {
+
+    WEATHER("weather", "de/bcxp/challenge/weather.csv", ',', NumericComparisonType.MIN) {
+        @Override
+        public CsvParser<WeatherEntry> createParser(final char delimiter, final Locale locale, final IDocumentSource source) {
+            return new WeatherCsvParser(delimiter, locale, source);
+        }
+
+        @Override
+        public String analyse(final char delimiter, final Locale locale, final IDocumentSource source) throws DocumentCreationException {
+            return getBestMatch(WEATHER_ANALYSER, createParser(delimiter, locale, source));
+        }
+    },
+
+    COUNTRIES("countries", "de/bcxp/challenge/countries.csv", ';', NumericComparisonType.MAX) {
+        @Override
+        public CsvParser<CountryEntry> createParser(final char delimiter, final Locale locale, final IDocumentSource source) {
+            return new CountryCsvParser(delimiter, locale, source);
+        }
+
+        @Override
+        public String analyse(final char delimiter, final Locale locale, final IDocumentSource source) throws DocumentCreationException {
+            return getBestMatch(COUNTRY_ANALYSER, createParser(delimiter, locale, source));
+        }
+    };
+
+    private static final Logger logger = LogManager.getLogger(DocumentType.class);
+
+    private static final WeatherAnalyser WEATHER_ANALYSER = new WeatherAnalyser();
+    private static final CountryAnalyser COUNTRY_ANALYSER = new CountryAnalyser();
+
+    private final String name;
+    private final String bundledResource;
+    private final char defaultDelimiter;
+    private final NumericComparisonType comparisonType;
+
+    DocumentType(final String name, final String bundledResource, final char defaultDelimiter, final NumericComparisonType comparisonType) {
+        this.name = name;
+        this.bundledResource = bundledResource;
+        this.defaultDelimiter = defaultDelimiter;
+        this.comparisonType = comparisonType;
+    }
+
+    /**
+     * Creates the parser reading documents of this type.
+     *
+     * @param delimiter the delimiter of the document
+     * @param locale the locale of the numbers in the document
+     * @param source the source of the document
+     * @return the parser
+     * @throws IllegalArgumentException if {@code locale} or {@code source} is {@code null}
+     */
+    public abstract CsvParser<? extends DocumentEntry> createParser(char delimiter, Locale locale, IDocumentSource source);
+
+    /**
+     * Streams a document of this type into its analyser and returns the ID of an arbitrary best match.
+     *
+     * @param delimiter the delimiter of the document
+     * @param locale the locale of the numbers in the document
+     * @param source the source of the document
+     * @return the ID of the best match
+     * @throws DocumentCreationException if parsing the document fails
+     * @throws NoSuchElementException if the document has no suitable entry
+     * @throws IllegalArgumentException if {@code locale} or {@code source} is {@code null}
+     */
+    public abstract String analyse(char delimiter, Locale locale, IDocumentSource source) throws DocumentCreationException;
+
+    /**
+     * Parses a whole document of this type, e.g. to answer several queries from it.
+     *
+     * @param delimiter the delimiter of the document
+     * @param locale the locale of the numbers in the document
+     * @param source the source of the document
+     * @return the parsed document
+     * @throws DocumentCreationException if parsing the document fails
+     * @throws IllegalArgumentException if {@code locale} or {@code source} is {@code null}
+     */
+    public Document<? extends DocumentEntry> load(final char delimiter, final Locale locale, final IDocumentSource source) throws DocumentCreationException {
+        return createParser(delimiter, locale, source).parseDocument();
+    }
+
+    /**
+     * Parses the bundled document of this type with its default delimiter and the German locale.
+     *
+     * @return the parsed document
+     * @throws DocumentCreationException if parsing the document fails
+     */
+    public Document<? extends DocumentEntry> loadBundled() throws DocumentCreationException {
+        return load(defaultDelimiter, Locale.GERMANY, new ClasspathSource(bundledResource));
+    }
+
+    /**
+     * Analyses the bundled document of this type once, so class loading, locale data initialization and the first
+     * compilations happen before the first request.
+     *
+     * @return the ID of the best match of the bundled document
+     * @throws DocumentCreationException if the bundled document can't be parsed
+     */
+    public String warmUp() throws DocumentCreationException {
+        final long start = System.nanoTime();
+        final String bestMatch = analyse(defaultDelimiter, Locale.GERMANY, new ClasspathSource(bundledResource));
+        logger.info("Warmed up {} analysis in {} ms", name, (System.nanoTime() - start) / 1_000_000);
+        return bestMatch;
+    }
+
+    /**
+     * Looks up a type by its name.
+     *
+     * @param name the name of the type, e.g. {@code weather}
+     * @return the type
+     * @throws IllegalArgumentException if no type has the given name
+     */
+    public static DocumentType forName(final String name) {
+        for (final DocumentType type : values()) {
+            if (type.name.equals(name)) return type;
+        }
+        logger.warn("Unknown document type {}", name);
+        throw new IllegalArgumentException("Unknown document type " + name);
+    }
+
+    private static <T extends DocumentEntry> String getBestMatch(final IDocumentAnalyser<T> analyser, final CsvParser<? extends T> parser) throws DocumentCreationException {
+        return analyser.getBestMatchesFromParser(parser).stream()
+                .findAny()
+                .orElseThrow(() -> new NoSuchElementException("Unable to find best match"))
+                .getId();
+    }
+
+    //region Getter
+    public String getName() {
+        return name;
+    }
+
+    public char getDefaultDelimiter() {
+        return defaultDelimiter;
+    }
+
+    /**
+     * @return whether the best entries of this type have the smallest or the largest score
+     */
+    public NumericComparisonType getComparisonType() {
+        return comparisonType;
+    }
+    //endregion
+}
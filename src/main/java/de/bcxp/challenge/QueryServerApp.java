@@ -0,0 +1,87 @@
+package de.bcxp.challenge;
+
+import de.bcxp.challenge.common.documentParsing.source.DirectorySource;
+import de.bcxp.challenge.common.documentParsing.source.FileSource;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.Document;
+import de.bcxp.challenge.common.model.DocumentEntry;
+import de.bcxp.challenge.http.QueryServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line entry point starting the {@link QueryServer} over documents parsed once at startup.
+ * <p>
+ * Usage: {@code QueryServerApp [--port=8080] [--weather=<path>] [--countries=<path>]}. Documents not given as
+ * argument are loaded from the bundled files; paths may point to a CSV file or a directory of CSV shards and are
+ * parsed with the default delimiter of their type and the German locale.
+ * </p>
+ */
+public final class QueryServerApp {
+    private static final Logger logger = LogManager.getLogger(QueryServerApp.class);
+
+    private static final String USAGE = "Usage: QueryServerApp [--port=" + QueryServer.DEFAULT_PORT + "] [--weather=<path>] [--countries=<path>]";
+
+    private QueryServerApp() {
+        throw new AssertionError("Cannot instantiate utility class.");
+    }
+
+    /**
+     * Loads the documents described by the CLI arguments and serves queries until the JVM is terminated.
+     * @param args The CLI arguments passed
+     */
+    public static void main(final String... args) {
+        try {
+            final QueryServer server = start(args);
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "http-shutdown"));
+            System.out.printf("Query server listening on http://127.0.0.1:%d/documents%n", server.getPort());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException | DocumentCreationException e) {
+            logger.fatal("Starting query server failed.", e);
+            System.err.println("Starting query server failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Loads the documents and starts the server described by the CLI arguments.
+     *
+     * @param args the CLI arguments
+     * @return the running server
+     * @throws IllegalArgumentException if the arguments are invalid
+     * @throws IOException if the port can't be bound
+     * @throws DocumentCreationException if a document can't be parsed
+     */
+    static QueryServer start(final String... args) throws IOException, DocumentCreationException {
+        int port = QueryServer.DEFAULT_PORT;
+        final Map<DocumentType, Path> paths = new EnumMap<>(DocumentType.class);
+        for (final String argument : args) {
+            final String value = argument.substring(argument.indexOf('=') + 1);
+            if (argument.startsWith("--port=")) {
+                port = Integer.parseInt(value);
+            } else if (argument.startsWith("--") && argument.contains("=")) {
+                paths.put(DocumentType.forName(argument.substring(2, argument.indexOf('='))), Path.of(value));
+            } else {
+                throw new IllegalArgumentException("Unknown option " + argument);
+            }
+        }
+
+        final Map<DocumentType, Document<? extends DocumentEntry>> documents = new EnumMap<>(DocumentType.class);
+        for (final DocumentType type : DocumentType.values()) {
+            final Path path = paths.get(type);
+            documents.put(type, path == null
+                    ? type.loadBundled()
+                    : type.load(type.getDefaultDelimiter(), Locale.GERMANY, Files.isDirectory(path) ? new DirectorySource(path) : new FileSource(path)));
+        }
+        return QueryServer.start(port, documents);
+    }
+}
@@ -1,5 +1,7 @@
 package de.bcxp.challenge.common.analysis;
 
+import de.bcxp.challenge.common.documentParsing.IDocumentParser;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
 import de.bcxp.challenge.common.model.Document;
 import de.bcxp.challenge.common.model.DocumentEntry;
 import java.util.NoSuchElementException;
@@ -9,9 +11,10 @@ import java.util.Set;
  * Functional interface that defines a contract for analyzing a {@link Document} containing {@link DocumentEntry} objects
  * to determine the best matching entry based on a specific criterion.
  *
+ * @param <T> the type of the analyzed entries
  */
 @FunctionalInterface
-public interface IDocumentAnalyser {
+public interface IDocumentAnalyser<T extends DocumentEntry> {
 
     /**
      * Analyzes the provided {@link Document} and returns the single best matching entry.
@@ -25,6 +28,24 @@ public interface IDocumentAnalyser {
      * @return a {@link Set} of {@link DocumentEntry} objects that best match the implemented analysis criteria
      * @throws java.util.NoSuchElementException if no suitable entry can be found
      */
-    Set<DocumentEntry> getBestMatches(final Document document) throws NoSuchElementException;
+    Set<T> getBestMatches(final Document<? extends T> document) throws NoSuchElementException;
+
+    /**
+     * Analyzes the entries produced by the provided {@link IDocumentParser} and returns the best matching entries.
+     * <p>
+     * The default implementation parses the whole {@link Document} and delegates to {@link #getBestMatches(Document)}.
+     * Implementations whose criterion can be evaluated in a single pass should override it to consume the entries
+     * as they are parsed, without building the document.
+     * </p>
+     *
+     * @param parser the {@link IDocumentParser} providing the entries to analyze;
+     *               must not be {@code null}
+     * @return a {@link Set} of {@link DocumentEntry} objects that best match the implemented analysis criteria
+     * @throws DocumentCreationException if parsing the document fails
+     * @throws java.util.NoSuchElementException if no suitable entry can be found
+     */
+    default Set<T> getBestMatchesFromParser(final IDocumentParser<? extends T> parser) throws DocumentCreationException, NoSuchElementException {
+        return getBestMatches(parser.parseDocument());
+    }
 
 }
\ No newline at end of file
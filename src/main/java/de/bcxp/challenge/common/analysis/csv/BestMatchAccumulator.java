@@ -0,0 +1,131 @@
+package de.bcxp.challenge.common.analysis.csv;
+
+import de.bcxp.challenge.common.model.DocumentEntry;
+import de.bcxp.challenge.common.model.csv.IEntryWithComparableNumericTuple;
+import de.bcxp.challenge.common.model.csv.NumericComparisonType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+
+/**
+ * Single-pass accumulator determining the entries with the "best" numeric score of a stream of
+ * {@link DocumentEntry} objects.
+ * <p>
+ * The accumulator only keeps the current best score and the entries tied for it, so its memory usage is
+ * proportional to the number of ties instead of the number of consumed entries. It is meant to be passed to
+ * {@link de.bcxp.challenge.common.documentParsing.IDocumentParser#parseEntries(Consumer)}, which allows finding
+ * the best matches of a document without ever building it.
+ * </p>
+ * <p>
+ * Every consumed entry must be of the same concrete type as the first consumed entry. Instances are not
+ * thread-safe.
+ * </p>
+ *
+ * @param <T> the type of the consumed entries, providing their scores
+ * @see CsvAnalysisUtility#getBestMatchesFromEntryStream
+ * @see NumericComparisonType
+ */
+public final class BestMatchAccumulator<T extends DocumentEntry & IEntryWithComparableNumericTuple> implements Consumer<T> {
+    private static final Logger logger = LogManager.getLogger(BestMatchAccumulator.class);
+
+    private final NumericComparisonType type;
+    private final Set<T> bestMatches = new HashSet<>();
+
+    private final NumericTupleEntryScorer scorer = new NumericTupleEntryScorer();
+    private double bestScore;
+    private long consumedEntries;
+
+    /**
+     * Creates an empty accumulator.
+     *
+     * @param type the {@link NumericComparisonType} defining which score is the best one
+     * @throws IllegalArgumentException if {@code type} is {@code null}
+     */
+    public BestMatchAccumulator(final NumericComparisonType type) {
+        nullCheck(type, logger, "NumericComparisonType was null when creating accumulator.", "Comparison type can't be null.");
+        this.type = type;
+    }
+
+    /**
+     * Consumes the next entry, replacing the current best matches if its score is better, or adding it to them if
+     * its score is equal to the current best score.
+     *
+     * @param entry the entry to consume
+     * @throws IllegalStateException if {@code entry} is {@code null}
+     * @throws IllegalArgumentException if {@code entry} differs in type from the previously consumed entries
+     */
+    @Override
+    public void accept(final T entry) {
+        final double score = scorer.score(entry);
+
+        if (consumedEntries++ == 0) {
+            bestScore = score;
+            bestMatches.add(entry);
+            return;
+        }
+
+        if (type.isBetter(score, bestScore)) {
+            bestScore = score;
+            bestMatches.clear();
+            bestMatches.add(entry);
+        } else if (score == bestScore) {
+            bestMatches.add(entry);
+        }
+    }
+
+    /**
+     * Adds the entries consumed by another accumulator, as if they had been consumed by this one.
+     * <p>
+     * Allows keeping the best matches of a growing document up to date, by consuming only the newly added entries
+     * into a fresh accumulator and merging it once they have been consumed successfully.
+     * </p>
+     *
+     * @param other the accumulator to merge, which is left unchanged
+     * @throws IllegalArgumentException if {@code other} is {@code null} or uses a different {@link NumericComparisonType}
+     */
+    public void merge(final BestMatchAccumulator<? extends T> other) {
+        nullCheck(other, logger, "Accumulator was null when merging best matches.", "Accumulator can't be null.");
+        if (other.type != type) {
+            logger.warn("Can't merge best matches of {} into best matches of {}", other.type, type);
+            throw new IllegalArgumentException("Accumulators must use the same comparison type.");
+        }
+        if (other.consumedEntries == 0) return;
+
+        if (consumedEntries == 0 || type.isBetter(other.bestScore, bestScore)) {
+            bestScore = other.bestScore;
+            bestMatches.clear();
+            bestMatches.addAll(other.bestMatches);
+        } else if (other.bestScore == bestScore) {
+            bestMatches.addAll(other.bestMatches);
+        }
+        consumedEntries += other.consumedEntries;
+    }
+
+    /**
+     * Returns the entries sharing the best score of all entries consumed so far.
+     *
+     * @return a new {@link Set} of the best matching entries; never empty
+     * @throws NoSuchElementException if no entry has been consumed yet
+     */
+    public Set<T> getBestMatches() throws NoSuchElementException {
+        if (consumedEntries == 0) {
+            logger.warn("No best match found, no entries were consumed.");
+            throw new NoSuchElementException("No best match found.");
+        }
+        return new HashSet<>(bestMatches);
+    }
+
+    //region Getter
+    public NumericComparisonType getType() {
+        return type;
+    }
+
+    public long getConsumedEntries() {
+        return consumedEntries;
+    }
+    //endregion
+}
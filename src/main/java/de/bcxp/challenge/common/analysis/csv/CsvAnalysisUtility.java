@@ -1,5 +1,8 @@
 package de.bcxp.challenge.common.analysis.csv;
 
+import de.bcxp.challenge.common.documentParsing.IDocumentParser;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.ColumnarDocument;
 import de.bcxp.challenge.common.model.Document;
 import de.bcxp.challenge.common.model.DocumentEntry;
 import de.bcxp.challenge.common.model.csv.IEntryWithComparableNumericTuple;
@@ -7,7 +10,6 @@ import de.bcxp.challenge.common.model.csv.NumericComparisonType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import java.util.*;
-import java.util.stream.Collectors;
 import static de.bcxp.challenge.common.utility.ParameterValidationUtility.*;
 
 /**
@@ -34,23 +36,16 @@ public final class CsvAnalysisUtility {
 
     /**
      * Finds all entries in the given {@link Document} that share the "best" numeric score,
-     * according to the specified {@link Comparator}.
+     * according to the specified {@link NumericComparisonType}.
      * <p>
-     * The method performs the following steps:
+     * This variant accepts documents of any entry type and is meant for callers that don't know the type of their
+     * document at compile time. The document must pass the same validation as for
+     * {@link #getBestMatchesOfNumericTuples(Document, NumericComparisonType)}, which then determines the result.
      * </p>
-     * <ol>
-     *   <li>Validates that the document and its entries are not {@code null} and meet
-     *       the required type constraints.</li>
-     *   <li>Validates that all entries implement {@link IEntryWithComparableNumericTuple}.</li>
-     *   <li>Calculates a numeric score for each entry via
-     *       {@link IEntryWithComparableNumericTuple#getBestMatchScore()}.</li>
-     *   <li>Determines the best score according to {@code type.comparator}.</li>
-     *   <li>Collects and returns all entries that have this best score.</li>
-     * </ol>
      *
      * @param document the {@link Document} containing entries to analyze
-     * @param type the {@link NumericComparisonType} providing the Comparator for best score determination
-     * @return a {@link Set} of entries with the best score according to the given comparator;
+     * @param type the {@link NumericComparisonType} defining the best score
+     * @return a {@link Set} of entries with the best score according to the given comparison type;
      *         never {@code null} but may be empty
      * @throws NoSuchElementException if the document contains no valid entries or no score could be computed
      * @throws IllegalArgumentException if the document entries are not of type {@link IEntryWithComparableNumericTuple}
@@ -59,46 +54,240 @@ public final class CsvAnalysisUtility {
      * @see DocumentEntry
      * @see IEntryWithComparableNumericTuple
      */
-    public static Set<DocumentEntry> getBestMatchesForNumericColumnComparison(final Document document, final NumericComparisonType type) throws NoSuchElementException {
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Set<DocumentEntry> getBestMatchesForNumericColumnComparison(final Document<?> document, final NumericComparisonType type) throws NoSuchElementException {
+        validateNumericTupleDocument(document, logger);
+        return getBestMatchesOfNumericTuples((Document) document, type);
+    }
+
+    /**
+     * Finds all entries in the given typed {@link Document} that share the "best" numeric score,
+     * according to the specified {@link NumericComparisonType}.
+     * <p>
+     * The method performs the following steps:
+     * </p>
+     * <ol>
+     *   <li>Validates that the document is not {@code null}, not empty and homogeneous, using the type information
+     *       the document determined when it was created.</li>
+     *   <li>Calculates a numeric score for each entry via
+     *       {@link IEntryWithComparableNumericTuple#getBestMatchScore()} in a single pass, keeping the best score
+     *       according to {@link NumericComparisonType#isBetter(double, double)} and all entries tied for it.</li>
+     *   <li>Returns the entries that have the best score.</li>
+     * </ol>
+     * <p>
+     * Since the element type of the document is known to implement {@link IEntryWithComparableNumericTuple}, the
+     * entries are scored without any per-entry type check or cast.
+     * </p>
+     *
+     * @param document the {@link Document} containing entries to analyze
+     * @param type the {@link NumericComparisonType} defining the best score
+     * @param <T> the type of the entries
+     * @return a {@link Set} of entries with the best score according to the given comparison type
+     * @throws NoSuchElementException if the document contains no entries
+     * @throws IllegalArgumentException if {@code document} is {@code null} or its entries differ in type
+     */
+    public static <T extends DocumentEntry & IEntryWithComparableNumericTuple> Set<T> getBestMatchesOfNumericTuples(final Document<? extends T> document, final NumericComparisonType type) throws NoSuchElementException {
+        validateNumericTupleDocument(document, logger);
+        final List<? extends T> entries = document.getEntries();
+
+        final Set<T> bestMatches = new HashSet<>();
+        double bestScore = type.getWorstValue();
+        for (final T entry : entries) {
+            final double score = entry.getBestMatchScore();
+            if (type.isBetter(score, bestScore)) {
+                bestScore = score;
+                bestMatches.clear();
+                bestMatches.add(entry);
+            } else if (score == bestScore) {
+                bestMatches.add(entry);
+            }
+        }
+
+        if (bestMatches.isEmpty()) {
+            logger.warn("No best match found in {}", document);
+            throw new NoSuchElementException("No best match found.");
+        }
+        return bestMatches;
+    }
+
+    /**
+     * Finds all entries streamed by the given {@link IDocumentParser} that share the "best" numeric score,
+     * according to the specified {@link NumericComparisonType}, without building a {@link Document}.
+     * <p>
+     * The entries are consumed by a {@link BestMatchAccumulator} while the parser reads them, so the source is
+     * scanned exactly once and only the current best score and its tied entries are held in memory.
+     * </p>
+     *
+     * @param parser the {@link IDocumentParser} streaming the entries to analyze
+     * @param type the {@link NumericComparisonType} providing the Comparator for best score determination
+     * @param <T> the type of the entries
+     * @return a {@link Set} of entries with the best score according to the given comparison type
+     * @throws DocumentCreationException if parsing the document fails
+     * @throws NoSuchElementException if the parser streams no entries
+     * @throws IllegalArgumentException if {@code parser} or {@code type} is {@code null}, or the entries are not all
+     *                                  of the same type
+     * @throws IllegalStateException if the parser streams a {@code null} entry
+     * @see BestMatchAccumulator
+     */
+    public static <T extends DocumentEntry & IEntryWithComparableNumericTuple> Set<T> getBestMatchesFromEntryStream(final IDocumentParser<? extends T> parser, final NumericComparisonType type) throws DocumentCreationException, NoSuchElementException {
+        nullCheck(parser, logger, "Parser was null when streaming entries for analysis.", "Parser can't be null.");
+        final BestMatchAccumulator<T> accumulator = new BestMatchAccumulator<>(type);
+        parser.parseEntries(accumulator);
+        return accumulator.getBestMatches();
+    }
+
+    /**
+     * Finds the {@code k} entries of the given {@link Document} with the best scores, according to the specified
+     * {@link NumericComparisonType}.
+     * <p>
+     * The entries are ranked by a {@link TopMatchesAccumulator}, which keeps a bounded heap of the current top entries,
+     * so the document is scanned once in {@code O(n log k)} without sorting all of its entries.
+     * </p>
+     *
+     * @param document the {@link Document} containing entries to analyze
+     * @param type the {@link NumericComparisonType} defining the best scores
+     * @param k the maximum number of entries to return
+     * @param <T> the type of the entries
+     * @return a {@link List} of at most {@code k} entries, best first; entries with equal scores keep document order
+     * @throws NoSuchElementException if the document contains no entries
+     * @throws IllegalArgumentException if {@code document} or {@code type} is {@code null}, {@code k} is less than
+     *                                  one, or the entries are not all of the same type
+     * @throws IllegalStateException if the document contains a {@code null} entry
+     */
+    public static <T extends DocumentEntry & IEntryWithComparableNumericTuple> List<T> getTopMatches(final Document<? extends T> document, final NumericComparisonType type, final int k) throws NoSuchElementException {
         validateDocument(document, logger, DOCUMENT_LOG, DOCUMENT_EXCEPTION);
-        final Set<IEntryWithComparableNumericTuple> comparableEntries = getEntriesWithComparableNumericTuples(document);
+        final TopMatchesAccumulator<T> accumulator = new TopMatchesAccumulator<>(type, k);
+        document.getEntries().forEach(accumulator);
+        return accumulator.getTopMatches();
+    }
+
+    /**
+     * Finds the {@code k} entries streamed by the given {@link IDocumentParser} with the best scores, according to
+     * the specified {@link NumericComparisonType}, without building a {@link Document}.
+     *
+     * @param parser the {@link IDocumentParser} streaming the entries to analyze
+     * @param type the {@link NumericComparisonType} defining the best scores
+     * @param k the maximum number of entries to return
+     * @param <T> the type of the entries
+     * @return a {@link List} of at most {@code k} entries, best first; entries with equal scores keep document order
+     * @throws DocumentCreationException if parsing the document fails
+     * @throws NoSuchElementException if the parser streams no entries
+     * @throws IllegalArgumentException if {@code parser} or {@code type} is {@code null}, {@code k} is less than
+     *                                  one, or the entries are not all of the same type
+     * @throws IllegalStateException if the parser streams a {@code null} entry
+     * @see TopMatchesAccumulator
+     */
+    public static <T extends DocumentEntry & IEntryWithComparableNumericTuple> List<T> getTopMatchesFromEntryStream(final IDocumentParser<? extends T> parser, final NumericComparisonType type, final int k) throws DocumentCreationException, NoSuchElementException {
+        nullCheck(parser, logger, "Parser was null when streaming entries for analysis.", "Parser can't be null.");
+        final TopMatchesAccumulator<T> accumulator = new TopMatchesAccumulator<>(type, k);
+        parser.parseEntries(accumulator);
+        return accumulator.getTopMatches();
+    }
+
+    /**
+     * Finds all entries of the given {@link Document} whose score lies within the given closed range.
+     *
+     * @param document the {@link Document} containing entries to analyze
+     * @param minScore the smallest score to include
+     * @param maxScore the largest score to include
+     * @param <T> the type of the entries
+     * @return a {@link List} of the entries whose score is at least {@code minScore} and at most {@code maxScore},
+     *         in document order; empty if no score lies within the range
+     * @throws NoSuchElementException if the document contains no entries
+     * @throws IllegalArgumentException if {@code document} is {@code null}, its entries are not all of the same type,
+     *                                  or {@code minScore} exceeds {@code maxScore} or either bound is NaN
+     * @see #collectMatchesInScoreRange(Document, double, double, int, Collection)
+     */
+    public static <T extends DocumentEntry & IEntryWithComparableNumericTuple> List<T> getMatchesInScoreRange(final Document<? extends T> document, final double minScore, final double maxScore) throws NoSuchElementException {
+        final List<T> matches = new ArrayList<>();
+        collectMatchesInScoreRange(document, minScore, maxScore, Integer.MAX_VALUE, matches);
+        return matches;
+    }
 
-        final double bestScore = comparableEntries.stream()
-                .map(IEntryWithComparableNumericTuple::getBestMatchScore)
-                .max(type.comparator)
-                .orElseThrow(() -> {
-                    logger.warn("No best match found in {}", comparableEntries);
-                    return new NoSuchElementException("No best match found.");
-                });
+    /**
+     * Adds the first {@code limit} entries of the given {@link Document} whose score lies within the given closed
+     * range to a collection and counts all such entries.
+     * <p>
+     * Entries beyond the limit are only counted, so a page of a large result doesn't require collecting all of it.
+     * </p>
+     *
+     * @param document the {@link Document} containing entries to analyze
+     * @param minScore the smallest score to include
+     * @param maxScore the largest score to include
+     * @param limit the maximum number of entries to add
+     * @param matches the collection to add the entries to, in document order
+     * @param <T> the type of the entries
+     * @return the number of entries whose score is at least {@code minScore} and at most {@code maxScore}, including
+     *         those that weren't added
+     * @throws NoSuchElementException if the document contains no entries
+     * @throws IllegalArgumentException if {@code document} or {@code matches} is {@code null}, the entries are not
+     *                                  all of the same type, {@code minScore} exceeds {@code maxScore} or either
+     *                                  bound is NaN, or {@code limit} is negative
+     */
+    public static <T extends DocumentEntry & IEntryWithComparableNumericTuple> int collectMatchesInScoreRange(final Document<? extends T> document, final double minScore, final double maxScore,
+                                                                                                          final int limit, final Collection<? super T> matches) throws NoSuchElementException {
+        validateNumericTupleDocument(document, logger);
+        nullCheck(matches, logger, "Collection was null when collecting matches in score range.", "Matches can't be null.");
+        if (!(minScore <= maxScore)) {
+            logger.warn("Invalid score range [{}, {}] for {}", minScore, maxScore, document.getEntryType());
+            throw new IllegalArgumentException("Minimum score can't exceed maximum score.");
+        }
+        if (limit < 0) {
+            logger.warn("Invalid limit {} for matches in score range", limit);
+            throw new IllegalArgumentException("Limit can't be negative.");
+        }
 
-        return getAllDocumentEntriesWithBestScore(comparableEntries, bestScore);
+        int total = 0;
+        for (final T entry : document.getEntries()) {
+            final double score = entry.getBestMatchScore();
+            if (score >= minScore && score <= maxScore && total++ < limit) matches.add(entry);
+        }
+        return total;
     }
 
     /**
-     * Maps all {@link DocumentEntry} objects from a {@link Document} to {@link IEntryWithComparableNumericTuple}
-     * @param document Document with numeric tuples
-     * @return a {@link Set} of {@link IEntryWithComparableNumericTuple} objects representing the entries from the given document
-     * @throws IllegalArgumentException if the entries are empty, null, or not all the same concrete type implementing {@link IEntryWithComparableNumericTuple}
+     * Finds all rows of the given {@link ColumnarDocument} that share the "best" score, according to the specified
+     * {@link NumericComparisonType}, and creates their entries.
+     * <p>
+     * The scores are scanned in a single tight loop over the score column; only the returned rows are turned into
+     * {@link DocumentEntry} objects.
+     * </p>
+     *
+     * @param document the {@link ColumnarDocument} containing the rows to analyze
+     * @param type the {@link NumericComparisonType} defining the best score
+     * @return a {@link Set} of the entries of all rows with the best score
+     * @throws NoSuchElementException if the document contains no rows
+     * @throws IllegalArgumentException if {@code document} or {@code type} is {@code null}
+     * @see #getBestMatchRows(ColumnarDocument, NumericComparisonType)
      */
-    private static Set<IEntryWithComparableNumericTuple> getEntriesWithComparableNumericTuples(final Document document) throws IllegalArgumentException {
-        final List<DocumentEntry> entries = document.getEntries();
-        validateNumericTupleDocumentEntries(entries, logger);
-        return entries.stream()
-                .map(entry -> (IEntryWithComparableNumericTuple) entry)
-                .collect(Collectors.toSet());
+    public static Set<DocumentEntry> getBestMatchesFromColumns(final ColumnarDocument document, final NumericComparisonType type) throws NoSuchElementException {
+        final int[] rows = getBestMatchRows(document, type);
+        final Set<DocumentEntry> bestMatches = new HashSet<>();
+        for (final int row : rows) {
+            bestMatches.add(document.getEntry(row));
+        }
+        return bestMatches;
     }
 
     /**
-     * Retrieves all entries from the given set that have the determined score.
-     * @param comparableEntries Set containing all entries from the document.
-     * @param bestScore Score to filter for
-     * @return Set of all {@link DocumentEntry} objects with the best score.
+     * Finds the indices of all rows of the given {@link ColumnarDocument} that share the "best" score, according to
+     * the specified {@link NumericComparisonType}.
+     *
+     * @param document the {@link ColumnarDocument} containing the rows to analyze
+     * @param type the {@link NumericComparisonType} defining the best score
+     * @return the ascending indices of all rows with the best score
+     * @throws NoSuchElementException if the document contains no rows
+     * @throws IllegalArgumentException if {@code document} or {@code type} is {@code null}
+     * @see ColumnarDocument#getBestScoreRows(NumericComparisonType)
      */
-    private static Set<DocumentEntry> getAllDocumentEntriesWithBestScore(final Set<IEntryWithComparableNumericTuple> comparableEntries, final double bestScore) {
-        return comparableEntries.stream()
-                .filter(entry -> entry.getBestMatchScore() == bestScore)
-                .map(entry -> (DocumentEntry) entry)
-                .collect(Collectors.toSet());
+    public static int[] getBestMatchRows(final ColumnarDocument document, final NumericComparisonType type) throws NoSuchElementException {
+        nullCheck(document, logger, DOCUMENT_LOG, DOCUMENT_EXCEPTION);
+        nullCheck(type, logger, "Comparison type was null when analysing " + document, "Comparison type can't be null.");
+        if (document.size() == 0) {
+            logger.warn("No best match found in {}", document);
+            throw new NoSuchElementException("No best match found.");
+        }
+        return document.getBestScoreRows(type);
     }
 
 }
\ No newline at end of file
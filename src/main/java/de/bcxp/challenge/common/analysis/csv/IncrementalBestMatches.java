@@ -0,0 +1,126 @@
+package de.bcxp.challenge.common.analysis.csv;
+
+import de.bcxp.challenge.common.documentParsing.csv.CsvParser;
+import de.bcxp.challenge.common.documentParsing.csv.CsvTailPosition;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.DocumentEntry;
+import de.bcxp.challenge.common.model.csv.IEntryWithComparableNumericTuple;
+import de.bcxp.challenge.common.model.csv.NumericComparisonType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+
+/**
+ * Keeps the best matches of an append-only CSV file up to date without parsing the whole file on every update.
+ * <p>
+ * Each {@link #update()} parses only the rows appended since the previous update through
+ * {@link CsvParser#parseAppendedEntries(Path, CsvTailPosition, Consumer)} and merges their best matches into the
+ * best matches of all earlier rows. If the file has been truncated or replaced in the meantime, it is parsed from its
+ * beginning and the earlier best matches are discarded. A failed update leaves the state untouched, so the next
+ * update parses the same rows again.
+ * </p>
+ * <p>
+ * Instances are thread-safe.
+ * </p>
+ *
+ * @param <T> the type of the entries
+ * @see BestMatchAccumulator
+ */
+public final class IncrementalBestMatches<T extends DocumentEntry & IEntryWithComparableNumericTuple> {
+    private static final Logger logger = LogManager.getLogger(IncrementalBestMatches.class);
+
+    private final CsvParser<? extends T> parser;
+    private final Path path;
+    private final NumericComparisonType type;
+
+    private BestMatchAccumulator<T> accumulator;
+    private CsvTailPosition position;
+    private long restarts;
+
+    /**
+     * Creates the state of a file that hasn't been parsed yet; the first {@link #update()} parses the whole file.
+     *
+     * @param parser the parser converting the rows of the file
+     * @param path the path of the CSV file on the local file system
+     * @param type the {@link NumericComparisonType} defining which score is the best one
+     * @throws IllegalArgumentException if a parameter is {@code null}
+     */
+    public IncrementalBestMatches(final CsvParser<? extends T> parser, final Path path, final NumericComparisonType type) {
+        nullCheck(parser, logger, "Parser was null when following best matches.", "Parser can't be null.");
+        nullCheck(path, logger, "Path was null when following best matches.", "Path can't be null.");
+        this.parser = parser;
+        this.path = path;
+        this.type = type;
+        this.accumulator = new BestMatchAccumulator<>(type);
+    }
+
+    /**
+     * Parses the rows appended to the file since the previous update and returns the best matches of all rows.
+     *
+     * @return a {@link Set} of the entries sharing the best score of all rows parsed so far
+     * @throws DocumentCreationException if parsing the appended rows fails
+     * @throws NoSuchElementException if the file contains no complete rows yet
+     */
+    public synchronized Set<T> update() throws DocumentCreationException, NoSuchElementException {
+        final BestMatchAccumulator<T> appended = new BestMatchAccumulator<>(type);
+        final CsvTailPosition next = parser.parseAppendedEntries(path, position, appended);
+
+        if (next.isRestarted()) {
+            if (position != null) restarts++;
+            accumulator = appended;
+        } else {
+            accumulator.merge(appended);
+        }
+        logger.debug("Updated best matches of {} with {} appended entries, {}", path, appended.getConsumedEntries(), next);
+        position = next;
+        return accumulator.getBestMatches();
+    }
+
+    /**
+     * Returns the best matches determined by the last update without parsing the file.
+     *
+     * @return a {@link Set} of the entries sharing the best score of all rows parsed so far
+     * @throws NoSuchElementException if no rows have been parsed yet
+     */
+    public synchronized Set<T> getBestMatches() throws NoSuchElementException {
+        return accumulator.getBestMatches();
+    }
+
+    //region Getter
+    /**
+     * @return the position of the last update, or an empty {@link Optional} if the file hasn't been parsed yet
+     */
+    public synchronized Optional<CsvTailPosition> getPosition() {
+        return Optional.ofNullable(position);
+    }
+
+    /**
+     * @return the number of times the file had to be parsed from its beginning again after the first update
+     */
+    public synchronized long getRestarts() {
+        return restarts;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public NumericComparisonType getType() {
+        return type;
+    }
+    //endregion
+
+    //region java.lang.Object Overrides
+    @Override
+    public synchronized String toString() {
+        return "IncrementalBestMatches: " + path +
+                ", position: " + position +
+                ", restarts: " + restarts;
+    }
+    //endregion
+}
@@ -0,0 +1,45 @@
+package de.bcxp.challenge.common.analysis.csv;
+
+import de.bcxp.challenge.common.model.DocumentEntry;
+import de.bcxp.challenge.common.model.csv.IEntryWithComparableNumericTuple;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+
+/**
+ * Validates streamed entries and retrieves their scores for the accumulators of this package.
+ * <p>
+ * Every scored entry must be of the same concrete type as the first scored entry, mirroring the checks applied to
+ * whole documents; that it implements {@link IEntryWithComparableNumericTuple} is guaranteed by the type bound of the
+ * accumulators. Instances are not thread-safe.
+ * </p>
+ */
+final class NumericTupleEntryScorer {
+    private static final Logger logger = LogManager.getLogger(NumericTupleEntryScorer.class);
+
+    private Class<? extends DocumentEntry> entryType;
+
+    /**
+     * Validates the entry and retrieves its score.
+     *
+     * @param entry the entry to score
+     * @param <T> the type of the entry
+     * @return the score of the entry
+     * @throws IllegalStateException if {@code entry} is {@code null}
+     * @throws IllegalArgumentException if {@code entry} differs in type from the previously scored entries
+     */
+    <T extends DocumentEntry & IEntryWithComparableNumericTuple> double score(final T entry) {
+        try {
+            nullCheck(entry, logger, "Null entry passed into accumulator.", "Entries can't be null.");
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(e.getMessage());
+        }
+        if (entryType == null) {
+            entryType = entry.getClass();
+        } else if (!entryType.isInstance(entry)) {
+            logger.warn("Different DocumentEntry types present {} - {}", entry.getClass(), entryType);
+            throw new IllegalArgumentException("Entries must all be of the same type.");
+        }
+        return entry.getBestMatchScore();
+    }
+}
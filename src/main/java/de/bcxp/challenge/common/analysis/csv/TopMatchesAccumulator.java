@@ -0,0 +1,143 @@
+package de.bcxp.challenge.common.analysis.csv;
+
+import de.bcxp.challenge.common.model.DocumentEntry;
+import de.bcxp.challenge.common.model.csv.IEntryWithComparableNumericTuple;
+import de.bcxp.challenge.common.model.csv.NumericComparisonType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+
+/**
+ * Single-pass accumulator determining the {@code k} entries with the best numeric scores of a stream of
+ * {@link DocumentEntry} objects.
+ * <p>
+ * The accumulator keeps the current top entries in a bounded heap whose head is the worst of them, so consuming an
+ * entry costs {@code O(log k)} and memory stays {@code O(k)} regardless of the number of consumed entries. Entries
+ * with equal scores are ranked in the order in which they were consumed.
+ * </p>
+ * <p>
+ * Every consumed entry must be of the same concrete type as the first consumed entry. Instances are not
+ * thread-safe.
+ * </p>
+ *
+ * @param <T> the type of the consumed entries, providing their scores
+ * @see CsvAnalysisUtility#getTopMatches
+ * @see BestMatchAccumulator
+ */
+public final class TopMatchesAccumulator<T extends DocumentEntry & IEntryWithComparableNumericTuple> implements Consumer<T> {
+    private static final Logger logger = LogManager.getLogger(TopMatchesAccumulator.class);
+
+    private final NumericComparisonType type;
+    private final int limit;
+    private final PriorityQueue<RankedEntry<T>> heap;
+    private final NumericTupleEntryScorer scorer = new NumericTupleEntryScorer();
+
+    private long consumedEntries;
+
+    /**
+     * Creates an empty accumulator.
+     *
+     * @param type the {@link NumericComparisonType} defining which scores are the best ones
+     * @param limit the maximum number of entries to keep
+     * @throws IllegalArgumentException if {@code type} is {@code null} or {@code limit} is less than one
+     */
+    public TopMatchesAccumulator(final NumericComparisonType type, final int limit) {
+        nullCheck(type, logger, "NumericComparisonType was null when creating accumulator.", "Comparison type can't be null.");
+        if (limit < 1) {
+            logger.warn("Invalid limit {} for top matches", limit);
+            throw new IllegalArgumentException("Limit must be at least 1.");
+        }
+        this.type = type;
+        this.limit = limit;
+        this.heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, worstFirst(type));
+    }
+
+    /**
+     * Consumes the next entry, adding it to the top entries if fewer than {@code limit} entries were consumed so far
+     * or its score is strictly better than the worst of the current top entries.
+     *
+     * @param entry the entry to consume
+     * @throws IllegalStateException if {@code entry} is {@code null}
+     * @throws IllegalArgumentException if {@code entry} differs in type from the previously consumed entries
+     */
+    @Override
+    public void accept(final T entry) {
+        final double score = scorer.score(entry);
+        final long sequence = consumedEntries++;
+
+        if (heap.size() < limit) {
+            heap.add(new RankedEntry<>(entry, score, sequence));
+        } else if (type.isBetter(score, heap.peek().score)) {
+            heap.poll();
+            heap.add(new RankedEntry<>(entry, score, sequence));
+        }
+    }
+
+    /**
+     * Returns the top entries of all entries consumed so far.
+     *
+     * @return a new {@link List} of at most {@code limit} entries, best first; never empty
+     * @throws NoSuchElementException if no entry has been consumed yet
+     */
+    public List<T> getTopMatches() throws NoSuchElementException {
+        if (consumedEntries == 0) {
+            logger.warn("No top matches found, no entries were consumed.");
+            throw new NoSuchElementException("No best match found.");
+        }
+
+        final List<RankedEntry<T>> ranked = new ArrayList<>(heap);
+        ranked.sort(TopMatchesAccumulator.<T>worstFirst(type).reversed());
+        final List<T> topMatches = new ArrayList<>(ranked.size());
+        for (final RankedEntry<T> rankedEntry : ranked) {
+            topMatches.add(rankedEntry.entry);
+        }
+        return topMatches;
+    }
+
+    /**
+     * Orders ranked entries from worst to best: by score according to the comparison type, and among equal scores
+     * the later consumed entry first.
+     */
+    private static <T extends DocumentEntry> Comparator<RankedEntry<T>> worstFirst(final NumericComparisonType type) {
+        return (first, second) -> {
+            if (type.isBetter(first.score, second.score)) return 1;
+            if (type.isBetter(second.score, first.score)) return -1;
+            return Long.compare(second.sequence, first.sequence);
+        };
+    }
+
+    //region Getter
+    public NumericComparisonType getType() {
+        return type;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public long getConsumedEntries() {
+        return consumedEntries;
+    }
+    //endregion
+
+    /**
+     * Entry together with its score and consumption order, so the heap compares primitives only.
+     */
+    private static final class RankedEntry<T extends DocumentEntry> {
+        private final T entry;
+        private final double score;
+        private final long sequence;
+
+        private RankedEntry(final T entry, final double score, final long sequence) {
+            this.entry = entry;
+            this.score = score;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package de.bcxp.challenge.common.cache;
+
+import de.bcxp.challenge.common.documentParsing.source.IDocumentSource;
+import de.bcxp.challenge.common.utility.ContentHashUtility;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.validateString;
+
+/**
+ * Cache of analysis results on the local disk, keyed by the content of the analysed document and the configuration
+ * of the analysis.
+ * <p>
+ * Keys are created by {@link #createKey(IDocumentSource, String...)}, which streams the content of the document
+ * through SHA-256 without buffering it, so a lookup costs one sequential read of the input instead of parsing and
+ * analysing it. Every result is stored in a file of its own, named after its key. Reading a result marks it as
+ * recently used by updating the modification time of its file; after every write the least recently used results are
+ * evicted until both the number of results and their total size are within the configured bounds.
+ * </p>
+ * <p>
+ * The cache is an optimization only: failures to read or write it are logged and treated as cache misses. Results are
+ * written to a temporary file first and moved into place, so concurrent processes never read partial results.
+ * </p>
+ * <p>
+ * On file systems supporting POSIX permissions, the directory is created accessible by its owner only, and a
+ * directory that other users may write to is never used, so they can't plant results. Every key includes
+ * {@link #VERSION}, so results of earlier versions of the analysis are never returned.
+ * </p>
+ */
+public final class ResultCache {
+    private static final Logger logger = LogManager.getLogger(ResultCache.class);
+
+    /**
+     * System property naming the cache directory, by default {@code .cache/bcxp-challenge} in the home directory of
+     * the user.
+     */
+    public static final String DIRECTORY_PROPERTY = "de.bcxp.challenge.cache.dir";
+
+    /**
+     * System property disabling the cache when set to {@code true}.
+     */
+    public static final String DISABLED_PROPERTY = "de.bcxp.challenge.cache.disabled";
+
+    /**
+     * Default maximum number of cached results.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    /**
+     * Default maximum total size of the cached results in bytes.
+     */
+    public static final long DEFAULT_MAX_BYTES = 1L << 20;
+
+    /**
+     * Version of the cached results, part of every key. It must be increased whenever a change of parsing or analysis
+     * can change the result for the same content and configuration.
+     */
+    public static final int VERSION = 1;
+
+    private static final String SUFFIX = ".result";
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    private final Path directory;
+    private final int maxEntries;
+    private final long maxBytes;
+
+    /**
+     * Creates a cache in the given directory, which is created on the first write.
+     *
+     * @param directory the directory holding the cached results
+     * @param maxEntries the maximum number of cached results
+     * @param maxBytes the maximum total size of the cached results in bytes
+     * @throws IllegalArgumentException if {@code directory} is {@code null} or a bound is less than one
+     */
+    public ResultCache(final Path directory, final int maxEntries, final long maxBytes) {
+        nullCheck(directory, logger, "Directory was null when creating result cache.", "Directory can't be null.");
+        if (maxEntries < 1 || maxBytes < 1) {
+            logger.warn("Invalid bounds {} entries and {} bytes for result cache {}", maxEntries, maxBytes, directory);
+            throw new IllegalArgumentException("Result cache bounds must be at least 1.");
+        }
+        this.directory = directory;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Creates the cache configured by the system properties {@value #DIRECTORY_PROPERTY} and {@value #DISABLED_PROPERTY},
+     * with the default bounds.
+     *
+     * @return the configured cache, or {@code null} if caching is disabled
+     */
+    public static ResultCache fromSystemProperties() {
+        if (Boolean.getBoolean(DISABLED_PROPERTY)) {
+            logger.debug("Result cache is disabled");
+            return null;
+        }
+        final String configured = System.getProperty(DIRECTORY_PROPERTY);
+        final Path directory = configured == null || configured.isBlank()
+                ? Path.of(System.getProperty("user.home"), ".cache", "bcxp-challenge")
+                : Path.of(configured);
+        return new ResultCache(directory, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates the key of a result from the content of its document and the configuration of the analysis.
+     * <p>
+     * Every part of the source is hashed separately and the checksums of the parts are combined with {@link #VERSION}
+     * and the configuration, so the key changes whenever the content, the split into parts, the version or the
+     * configuration changes.
+     * </p>
+     *
+     * @param source the source of the analysed document
+     * @param configuration values identifying the analysis, e.g. the parser, its delimiter and locale and the analyser
+     * @return the key as hexadecimal string, or {@code null} if the source can't be read twice and therefore can't be
+     *         hashed before it is analysed
+     * @throws IOException if the source can't be read
+     * @throws IllegalArgumentException if a parameter is {@code null}
+     */
+    public static String createKey(final IDocumentSource source, final String... configuration) throws IOException {
+        nullCheck(source, logger, "Source was null when creating cache key.", "Source can't be null.");
+        nullCheck(configuration, logger, "Configuration was null when creating cache key for " + source.getName(), "Configuration can't be null.");
+        if (!source.isRepeatable()) {
+            logger.debug("Not caching results of {}, which can only be read once", source.getName());
+            return null;
+        }
+
+        final MessageDigest digest = ContentHashUtility.newSha256();
+        for (final IDocumentSource part : source.getParts()) {
+            try (final ReadableByteChannel channel = part.open()) {
+                digest.update(ContentHashUtility.sha256(channel));
+            }
+        }
+        digest.update(Integer.toString(VERSION).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        for (final String value : configuration) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return ContentHashUtility.toHex(digest.digest());
+    }
+
+    /**
+     * Looks up a result and marks it as recently used.
+     *
+     * @param key the key created by {@link #createKey(IDocumentSource, String...)}
+     * @return the cached result, or an empty {@link Optional} if there is none or it can't be read
+     * @throws IllegalArgumentException if {@code key} is {@code null} or empty
+     */
+    public Optional<String> get(final String key) {
+        final Path file = getFile(key);
+        try {
+            if (Files.isDirectory(directory) && isWritableByOthers()) return Optional.empty();
+            final String result = Files.readString(file, StandardCharsets.UTF_8);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            logger.debug("Result cache hit for {}", key);
+            return Optional.of(result);
+        } catch (NoSuchFileException e) {
+            logger.debug("Result cache miss for {}", key);
+            return Optional.empty();
+        } catch (IOException e) {
+            logger.warn("Reading cached result {} failed", file, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores a result, replacing an existing result of the same key, and evicts the least recently used results
+     * exceeding the bounds.
+     *
+     * @param key the key created by {@link #createKey(IDocumentSource, String...)}
+     * @param result the result to store
+     * @throws IllegalArgumentException if a parameter is {@code null} or {@code key} is empty
+     */
+    public void put(final String key, final String result) {
+        final Path file = getFile(key);
+        nullCheck(result, logger, "Result was null when caching " + key, "Result can't be null.");
+        try {
+            if (!createDirectory()) return;
+            final Path temporary = Files.createTempFile(directory, key, ".tmp");
+            try {
+                Files.writeString(temporary, result, StandardCharsets.UTF_8);
+                try {
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+            evict();
+        } catch (IOException e) {
+            logger.warn("Caching result {} failed", file, e);
+        }
+    }
+
+    /**
+     * Creates the directory, accessible by its owner only if the file system supports POSIX permissions.
+     *
+     * @return {@code true} if the directory can be written, {@code false} if other users may write to it
+     * @throws IOException if the directory can't be created
+     */
+    private boolean createDirectory() throws IOException {
+        if (Files.isDirectory(directory)) return !isWritableByOthers();
+        if (directory.getParent() != null) Files.createDirectories(directory.getParent());
+        try {
+            if (directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                Files.createDirectory(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+            } else {
+                Files.createDirectory(directory);
+            }
+        } catch (FileAlreadyExistsException e) {
+            // created concurrently by another process
+            return !isWritableByOthers();
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether other users than the owner may write to the directory, and could plant results.
+     *
+     * @return {@code true} if the group or others may write to the directory; {@code false} if not or if the file
+     *         system doesn't support POSIX permissions
+     * @throws IOException if the permissions can't be read
+     */
+    private boolean isWritableByOthers() throws IOException {
+        final PosixFileAttributeView view = Files.getFileAttributeView(directory, PosixFileAttributeView.class);
+        if (view == null) return false;
+        final Set<PosixFilePermission> permissions = view.readAttributes().permissions();
+        if (!permissions.contains(PosixFilePermission.GROUP_WRITE) && !permissions.contains(PosixFilePermission.OTHERS_WRITE)) return false;
+        logger.warn("Not using result cache {}, which other users may write to", directory);
+        return true;
+    }
+
+    /**
+     * Deletes the least recently used results until the number and total size of the results are within the bounds.
+     *
+     * @throws IOException if the directory can't be listed
+     */
+    private void evict() throws IOException {
+        final List<CachedFile> files = new ArrayList<>();
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (final Path file : stream) {
+                try {
+                    final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    files.add(new CachedFile(file, attributes.lastModifiedTime(), attributes.size()));
+                } catch (NoSuchFileException e) {
+                    // evicted concurrently by another process
+                }
+            }
+        }
+        files.sort(Comparator.comparing((CachedFile file) -> file.lastUsed).reversed());
+
+        long totalBytes = 0;
+        for (int index = 0; index < files.size(); index++) {
+            final CachedFile file = files.get(index);
+            totalBytes += file.size;
+            if (index >= maxEntries || totalBytes > maxBytes) {
+                Files.deleteIfExists(file.path);
+                logger.debug("Evicted cached result {}", file.path);
+            }
+        }
+    }
+
+    private Path getFile(final String key) {
+        validateString(key, logger, "Invalid key provided for result cache " + directory, "Key can't be empty.");
+        if (!key.chars().allMatch(Character::isLetterOrDigit)) {
+            logger.warn("Key {} of result cache {} contains invalid characters", key, directory);
+            throw new IllegalArgumentException("Key must only consist of letters and digits.");
+        }
+        return directory.resolve(key + SUFFIX);
+    }
+
+    //region Getter
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+    //endregion
+
+    //region java.lang.Object Overrides
+    @Override
+    public String toString() {
+        return "ResultCache: " + directory +
+                ", max entries: " + maxEntries +
+                ", max bytes: " + maxBytes;
+    }
+    //endregion
+
+    /**
+     * A cached result file with the attributes relevant for eviction.
+     */
+    private static final class CachedFile {
+        private final Path path;
+        private final FileTime lastUsed;
+        private final long size;
+
+        private CachedFile(final Path path, final FileTime lastUsed, final long size) {
+            this.path = path;
+            this.lastUsed = lastUsed;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Caching of analysis results across runs, keyed by the content of the analysed documents.
+ */
+package de.bcxp.challenge.common.cache;
@@ -2,13 +2,17 @@ package de.bcxp.challenge.common.documentParsing;
 
 import de.bcxp.challenge.common.exceptions.DocumentCreationException;
 import de.bcxp.challenge.common.model.Document;
+import de.bcxp.challenge.common.model.DocumentEntry;
+import java.util.function.Consumer;
 
 /**
  * Interface for parsing a document from a given file path. <br>
  * Implementations should handle the logic for reading the file.
+ *
+ * @param <T> the type of the entries produced by the parser
  */
 @FunctionalInterface
-public interface IDocumentParser {
+public interface IDocumentParser<T extends DocumentEntry> {
 
     /**
      * Parses a document in accordance with the specific parser implementation.
@@ -16,6 +20,22 @@ public interface IDocumentParser {
      * @return a {@link Document} representing the parsed content
      * @throws DocumentCreationException if parsing the file fails
      */
-    Document parseDocument() throws DocumentCreationException;
+    Document<T> parseDocument() throws DocumentCreationException;
 
-}
\ No newline at end of file
+    /**
+     * Parses the document entry by entry and hands each {@link DocumentEntry} to the given consumer as soon as it has
+     * been read, without building a {@link Document}.
+     * <p>
+     * The default implementation falls back to {@link #parseDocument()} and therefore holds the whole document in
+     * memory. Implementations that can read their source lazily should override it, so that memory usage stays
+     * independent of the document size.
+     * </p>
+     *
+     * @param consumer the {@link Consumer} receiving the parsed entries in document order; must not be {@code null}
+     * @throws DocumentCreationException if parsing the file fails
+     */
+    default void parseEntries(final Consumer<? super T> consumer) throws DocumentCreationException {
+        parseDocument().getEntries().forEach(consumer);
+    }
+
+}
@@ -0,0 +1,220 @@
+package de.bcxp.challenge.common.documentParsing.csv;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.CRC32;
+
+/**
+ * Locates the complete rows appended to a local CSV file since a {@link CsvTailPosition}.
+ * <p>
+ * The rows start at the offset of the position if the file still continues it, and after the header of the file
+ * otherwise. They end after the last line break outside of quotes, so a row that is still being written is left for
+ * the next call. Since the rows start at a row boundary, quote parity is tracked from the start of the rows.
+ * </p>
+ */
+final class AppendedCsvRows {
+    private static final Logger logger = LogManager.getLogger(AppendedCsvRows.class);
+
+    /**
+     * Number of bytes in front of a position whose checksum identifies the content the position was taken from.
+     */
+    static final int ANCHOR_LENGTH = 256;
+    private static final int SCAN_BUFFER_SIZE = 1 << 16;
+    private static final byte QUOTE = '"', LINE_FEED = '\n';
+
+    private final FileChannel channel;
+    private final Object fileKey;
+    private final List<String> header;
+    private final long start;
+    private final long end;
+    private final boolean restarted;
+
+    private AppendedCsvRows(final FileChannel channel, final Object fileKey, final List<String> header,
+                            final long start, final long end, final boolean restarted) {
+        this.channel = channel;
+        this.fileKey = fileKey;
+        this.header = header;
+        this.start = start;
+        this.end = end;
+        this.restarted = restarted;
+    }
+
+    /**
+     * Locates the rows appended to the file since the given position.
+     *
+     * @param path the file to read
+     * @param channel an open channel of the file, used for all subsequent reads
+     * @param delimiter the delimiter of the file
+     * @param previous the position of the previous parse, or {@code null} to read all rows
+     * @return the appended rows
+     * @throws IOException if reading the file fails, or it has no complete header when read from its beginning
+     */
+    static AppendedCsvRows locate(final Path path, final FileChannel channel, final char delimiter, final CsvTailPosition previous) throws IOException {
+        final long size = channel.size();
+        final Object fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+
+        if (previous != null && continues(previous, channel, size, fileKey)) {
+            return new AppendedCsvRows(channel, fileKey, previous.getHeader(), previous.getOffset(),
+                    findLastRowEnd(channel, previous.getOffset(), size), false);
+        }
+        if (previous != null) {
+            logger.info("{} was truncated or replaced since offset {}, parsing it from the beginning", path, previous.getOffset());
+        }
+
+        final List<String> header;
+        final long dataStart;
+        try (final MappedCsvReader reader = MappedCsvReader.open(path, delimiter, Locale.ROOT, Collections.emptyList())) {
+            header = reader.getHeader();
+            dataStart = reader.getPosition();
+        }
+        if (!endsWithLineFeed(channel, dataStart)) {
+            logger.warn("Header of {} is not terminated by a line break yet", path);
+            throw new IOException("Incomplete header in " + path);
+        }
+        return new AppendedCsvRows(channel, fileKey, header, dataStart, findLastRowEnd(channel, dataStart, size), true);
+    }
+
+    /**
+     * Checks whether the file still continues the given position: it must not be shorter than the offset, must have
+     * the same file key if the file system provides one, and must have unchanged content in front of the offset.
+     */
+    private static boolean continues(final CsvTailPosition previous, final FileChannel channel, final long size, final Object fileKey) throws IOException {
+        if (size < previous.getOffset()) return false;
+        if (fileKey != null && previous.getFileKey() != null && !fileKey.equals(previous.getFileKey())) return false;
+        return checksumBefore(channel, previous.getOffset()) == previous.getAnchorChecksum();
+    }
+
+    /**
+     * Calculates the CRC-32 checksum of the up to {@link #ANCHOR_LENGTH} bytes in front of the given offset.
+     */
+    static long checksumBefore(final FileChannel channel, final long offset) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(ANCHOR_LENGTH, offset));
+        final long from = offset - buffer.capacity();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, from + buffer.position()) < 0) throw new IOException("Unexpected end of file.");
+        }
+        buffer.flip();
+        final CRC32 crc = new CRC32();
+        crc.update(buffer);
+        return crc.getValue();
+    }
+
+    private static boolean endsWithLineFeed(final FileChannel channel, final long offset) throws IOException {
+        if (offset == 0) return false;
+        final ByteBuffer buffer = ByteBuffer.allocate(1);
+        return channel.read(buffer, offset - 1) == 1 && buffer.get(0) == LINE_FEED;
+    }
+
+    /**
+     * Finds the position after the last line break outside of quotes between {@code from}, which must be a row
+     * boundary, and {@code size}.
+     *
+     * @return the position after the line break, or {@code from} if there is no complete row
+     */
+    private static long findLastRowEnd(final FileChannel channel, final long from, final long size) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        boolean quoted = false;
+        long rowEnd = from;
+        for (long offset = from; offset < size; ) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), size - offset));
+            final int read = channel.read(buffer, offset);
+            if (read < 0) break;
+            for (int i = 0; i < read; i++) {
+                final byte b = buffer.get(i);
+                if (b == QUOTE) {
+                    quoted = !quoted;
+                } else if (b == LINE_FEED && !quoted) {
+                    rowEnd = offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return rowEnd;
+    }
+
+    /**
+     * Opens a reader decoding the appended rows as UTF-8.
+     *
+     * @return a reader over the bytes {@code [start, end)} of the file
+     */
+    Reader openReader() {
+        return new BufferedReader(new InputStreamReader(new ChannelRangeInputStream(channel, start, end), StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    /**
+     * Creates the position after the appended rows.
+     *
+     * @param previous the position the rows were located from, or {@code null}
+     * @param rows the number of appended rows that were parsed
+     * @return the position to continue from
+     * @throws IOException if reading the checksum of the rows fails
+     */
+    CsvTailPosition toPosition(final CsvTailPosition previous, final long rows) throws IOException {
+        final long rowCount = restarted ? rows : previous.getRowCount() + rows;
+        return new CsvTailPosition(fileKey, header, end, checksumBefore(channel, end), rowCount, restarted);
+    }
+
+    //region Getter
+    List<String> getHeader() {
+        return header;
+    }
+
+    long getStart() {
+        return start;
+    }
+
+    long getEnd() {
+        return end;
+    }
+
+    boolean isRestarted() {
+        return restarted;
+    }
+    //endregion
+
+    /**
+     * {@link InputStream} reading a byte range of a {@link FileChannel} with positional reads, leaving the position
+     * of the channel untouched.
+     */
+    private static final class ChannelRangeInputStream extends InputStream {
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        private ChannelRangeInputStream(final FileChannel channel, final long start, final long end) {
+            this.channel = channel;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+            if (length == 0) return 0;
+            if (position >= end) return -1;
+            final int read = channel.read(ByteBuffer.wrap(bytes, offset, (int) Math.min(length, end - position)), position);
+            if (read < 0) return -1;
+            position += read;
+            return read;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package de.bcxp.challenge.common.documentParsing.csv;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Resolves the columns requested by a {@link CsvParser} within the header of a file and checks that every row
+ * provides them, shared by all tokenizers, so a missing column or field is reported the same way in every parsing
+ * mode.
+ */
+final class CsvColumns {
+    private static final Logger logger = LogManager.getLogger(CsvColumns.class);
+
+    private CsvColumns() {
+        throw new AssertionError("Cannot instantiate utility class.");
+    }
+
+    /**
+     * Resolves the position of each requested column within the header of a file.
+     *
+     * @param header the column names of the file
+     * @param columns the requested column names, see {@link CsvParser#getColumnNames()}
+     * @param source the file or resource whose header is resolved, used in log and error messages
+     * @return the index of each requested column within the records, in the order of {@code columns}
+     * @throws IllegalArgumentException if a requested column is missing in the header
+     */
+    static int[] resolveIndices(final List<String> header, final List<String> columns, final Object source) {
+        final int[] indices = new int[columns.size()];
+        for (int column = 0; column < columns.size(); column++) {
+            indices[column] = header.indexOf(columns.get(column));
+            if (indices[column] < 0) {
+                logger.warn("Required column {} missing in header {} of {}", columns.get(column), header, source);
+                throw new IllegalArgumentException("Required column '" + columns.get(column) + "' missing in header of " + source);
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Resolves the requested columns into a projection from the column index within the file to the position of the
+     * requested column, as used by tokenizers walking the fields of a row in file order.
+     *
+     * @param header the column names of the file
+     * @param columns the requested column names, see {@link CsvParser#getColumnNames()}
+     * @param source the file or resource whose header is resolved, used in log and error messages
+     * @return for each column of the file, the position of the requested column, or {@code -1} if it isn't requested
+     * @throws IllegalArgumentException if a requested column is missing in the header
+     */
+    static int[] resolveProjection(final List<String> header, final List<String> columns, final Object source) {
+        final int[] indices = resolveIndices(header, columns, source);
+        final int[] projection = new int[header.size()];
+        Arrays.fill(projection, -1);
+        for (int column = 0; column < indices.length; column++) {
+            projection[indices[column]] = column;
+        }
+        return projection;
+    }
+
+    /**
+     * Checks that every requested column has been located within the current row.
+     *
+     * @param fieldStarts the start of each requested field within the row, negative if the row ended before it
+     * @param rowNumber the number of the row, used in log and error messages
+     * @param source the file or resource the row is read from, used in log and error messages
+     * @throws IllegalArgumentException if a requested field is missing
+     */
+    static void requireFields(final int[] fieldStarts, final long rowNumber, final Object source) {
+        for (final int start : fieldStarts) {
+            if (start < 0) throw tooFewFields(rowNumber, source);
+        }
+    }
+
+    /**
+     * Logs a row lacking requested fields and creates the exception to throw for it.
+     *
+     * @param rowNumber the number of the row
+     * @param source the file or resource the row is read from
+     * @return the exception to throw
+     */
+    static IllegalArgumentException tooFewFields(final long rowNumber, final Object source) {
+        logger.warn("Row {} of {} has fewer fields than required for the requested columns", rowNumber, source);
+        return new IllegalArgumentException("Row " + rowNumber + " of " + source + " has too few fields.");
+    }
+}
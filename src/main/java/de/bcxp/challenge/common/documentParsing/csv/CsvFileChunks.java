@@ -0,0 +1,236 @@
+package de.bcxp.challenge.common.documentParsing.csv;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Splits the data section of a local CSV file into byte ranges that start and end at row boundaries, so that the
+ * ranges can be parsed independently of each other.
+ * <p>
+ * Quoted fields may contain line breaks, so a line break only ends a row if it lies outside of quotes. Whether a
+ * position lies within quotes is determined by the parity of the quote characters in front of it. The quotes of
+ * each raw range are counted in parallel, the prefix parity of each raw boundary is derived from these counts, and
+ * each boundary is then moved forward to the first line break outside of quotes.
+ * </p>
+ */
+final class CsvFileChunks {
+    private static final Logger logger = LogManager.getLogger(CsvFileChunks.class);
+
+    /**
+     * Maximum size of a raw range, so that a chunk including its trailing row can always be mapped as a whole.
+     */
+    static final long MAX_CHUNK_SIZE = 1L << 30;
+    private static final int SCAN_WINDOW_SIZE = 1 << 20;
+    private static final byte QUOTE = '"', LINE_FEED = '\n';
+
+    private final FileChannel channel;
+    private final List<String> header;
+    private final List<Chunk> chunks;
+
+    private CsvFileChunks(final FileChannel channel, final List<String> header, final List<Chunk> chunks) {
+        this.channel = channel;
+        this.header = header;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Reads the header of the file and splits its data section into row aligned chunks.
+     *
+     * @param path the file to split
+     * @param channel an open channel of the file, used for all subsequent reads
+     * @param delimiter the delimiter of the file
+     * @param chunkCount the requested number of chunks; more chunks are used if a chunk would exceed
+     *                   {@link #MAX_CHUNK_SIZE}, fewer if the file has fewer rows
+     * @param executor the executor counting the quotes of the raw ranges in parallel
+     * @return the chunks of the file in file order
+     * @throws IOException if reading the file fails or it has no header
+     * @throws InterruptedException if interrupted while waiting for the quote counts
+     */
+    static CsvFileChunks split(final Path path, final FileChannel channel, final char delimiter, final int chunkCount, final ExecutorService executor) throws IOException, InterruptedException {
+        final List<String> header;
+        final long dataStart;
+        try (final MappedCsvReader reader = MappedCsvReader.open(path, delimiter, Locale.ROOT, Collections.emptyList())) {
+            header = reader.getHeader();
+            dataStart = reader.getPosition();
+        }
+
+        final long size = channel.size();
+        final long dataSize = size - dataStart;
+        if (dataSize <= 0) return new CsvFileChunks(channel, header, Collections.emptyList());
+
+        final int count = (int) Math.min(Math.max(chunkCount, dataSize / MAX_CHUNK_SIZE + 1), dataSize);
+        final long[] rawBoundaries = new long[count + 1];
+        for (int i = 0; i <= count; i++) {
+            rawBoundaries[i] = dataStart + dataSize * i / count;
+        }
+
+        final boolean[] oddQuotesBefore = getQuoteParities(channel, rawBoundaries, executor);
+
+        final List<Chunk> chunks = new ArrayList<>(count);
+        long start = dataStart;
+        for (int i = 1; i <= count; i++) {
+            final long end = i == count ? size : findRowEnd(channel, Math.max(rawBoundaries[i], start), oddQuotesBefore[i] && rawBoundaries[i] >= start, size);
+            if (end > start) chunks.add(new Chunk(start, end));
+            start = end;
+        }
+        logger.debug("Split {} into {} chunks", path, chunks.size());
+        return new CsvFileChunks(channel, header, Collections.unmodifiableList(chunks));
+    }
+
+    /**
+     * Opens a reader decoding the given chunk as UTF-8 from a mapping of the chunk.
+     *
+     * @param chunk the chunk to read
+     * @return a reader over the chunk's rows
+     * @throws IOException if mapping the chunk fails
+     */
+    Reader openReader(final Chunk chunk) throws IOException {
+        final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start, chunk.end - chunk.start);
+        return new BufferedReader(new InputStreamReader(new ByteBufferInputStream(buffer), StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    //region Quote handling
+    /**
+     * Determines for each raw boundary whether an odd number of quotes precedes it within the data section.
+     *
+     * @return parities indexed like {@code rawBoundaries}
+     */
+    private static boolean[] getQuoteParities(final FileChannel channel, final long[] rawBoundaries, final ExecutorService executor) throws IOException, InterruptedException {
+        final List<Callable<Boolean>> tasks = new ArrayList<>(rawBoundaries.length - 1);
+        for (int i = 0; i < rawBoundaries.length - 1; i++) {
+            final long from = rawBoundaries[i], to = rawBoundaries[i + 1];
+            tasks.add(() -> hasOddQuoteCount(channel, from, to));
+        }
+
+        final boolean[] parities = new boolean[rawBoundaries.length];
+        final List<Future<Boolean>> results = executor.invokeAll(tasks);
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                parities[i + 1] = parities[i] ^ results.get(i).get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+                throw new IOException("Counting quotes failed.", e.getCause());
+            }
+        }
+        return parities;
+    }
+
+    private static boolean hasOddQuoteCount(final FileChannel channel, final long from, final long to) throws IOException {
+        boolean odd = false;
+        for (long offset = from; offset < to; offset += SCAN_WINDOW_SIZE) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(SCAN_WINDOW_SIZE, to - offset));
+            final int limit = buffer.limit();
+            for (int i = 0; i < limit; i++) {
+                if (buffer.get(i) == QUOTE) odd = !odd;
+            }
+        }
+        return odd;
+    }
+
+    /**
+     * Finds the position after the first line break outside of quotes at or after {@code from}.
+     *
+     * @param quoted whether {@code from} lies within quotes
+     * @return the position after the line break, or {@code size} if there is none
+     */
+    private static long findRowEnd(final FileChannel channel, final long from, boolean quoted, final long size) throws IOException {
+        for (long offset = from; offset < size; offset += SCAN_WINDOW_SIZE) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(SCAN_WINDOW_SIZE, size - offset));
+            final int limit = buffer.limit();
+            for (int i = 0; i < limit; i++) {
+                final byte b = buffer.get(i);
+                if (b == QUOTE) {
+                    quoted = !quoted;
+                } else if (b == LINE_FEED && !quoted) {
+                    return offset + i + 1;
+                }
+            }
+        }
+        return size;
+    }
+    //endregion
+
+    //region Getter
+    List<String> getHeader() {
+        return header;
+    }
+
+    List<Chunk> getChunks() {
+        return chunks;
+    }
+    //endregion
+
+    /**
+     * Byte range {@code [start, end)} of a file containing complete rows.
+     */
+    static final class Chunk {
+        private final long start;
+        private final long end;
+
+        Chunk(final long start, final long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        long getStart() {
+            return start;
+        }
+
+        long getEnd() {
+            return end;
+        }
+
+        @Override
+        public String toString() {
+            return "Chunk: [" + start + ", " + end + ")";
+        }
+    }
+
+    /**
+     * {@link InputStream} reading the remaining bytes of a {@link ByteBuffer}.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            if (length == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            final int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -1,61 +1,141 @@
 package de.bcxp.challenge.common.documentParsing.csv;
 
 import de.bcxp.challenge.common.documentParsing.IDocumentParser;
+import de.bcxp.challenge.common.documentParsing.source.ClasspathSource;
+import de.bcxp.challenge.common.documentParsing.source.DirectorySource;
+import de.bcxp.challenge.common.documentParsing.source.FileSource;
+import de.bcxp.challenge.common.documentParsing.source.IDocumentSource;
+import de.bcxp.challenge.common.documentParsing.source.StandardInputSource;
 import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.ColumnarDocument;
+import de.bcxp.challenge.common.model.ColumnarSnapshot;
 import de.bcxp.challenge.common.model.Document;
 import de.bcxp.challenge.common.model.DocumentEntry;
+import de.bcxp.challenge.common.utility.ContentHashUtility;
 import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
-import static de.bcxp.challenge.common.utility.ParameterValidationUtility.validateString;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
 
 /**
  * An abstract base class for parsing CSV documents, implementing the {@link IDocumentParser} interface.
  * <p>
- * Provides common CSV reading and parsing functionality, including loading CSV files from the classpath,
- * applying a specified delimiter and locale, and delegating the conversion of CSV records into
- * {@link DocumentEntry} objects to subclasses.
+ * Provides common CSV reading and parsing functionality, including loading CSV files from an
+ * {@link IDocumentSource}, applying a specified delimiter and locale, and delegating the conversion of CSV records
+ * into {@link DocumentEntry} objects to subclasses.
+ * </p>
+ *
+ * <p>
+ * The source defaults to a resource on the classpath, but can also be a local file ({@link FileSource}), the standard
+ * input ({@link StandardInputSource}) or a directory of shards ({@link DirectorySource}). Sources consisting of
+ * several parts are read part by part, each with its own header, as if they were one document.
  * </p>
  *
  * <p>
  * Subclasses must implement {@link #getEntriesFromRecords(Iterable)} to define how CSV records are transformed
- * into document entries specific to their domain.
+ * into document entries specific to their domain. Subclasses that map every record to exactly one entry should
+ * additionally override {@link #getEntryFromRecord(CSVRecord)}, which is used by the streaming
+ * {@link #parseEntries(Consumer)} path. Subclasses declaring the columns they read via {@link #getColumnNames()}
+ * have their records converted through {@link #getEntryFromRow(ICsvRow)} instead: the declared columns are resolved
+ * to indices once per file, and a file missing one of them fails before its first record is converted.
+ * </p>
+ *
+ * <p>
+ * Local files can also be read through memory mapping with {@link #parseMappedDocument(Path)}. This mode tokenizes
+ * the raw bytes of the file and only decodes the columns declared by {@link #getColumnNames()}, which subclasses
+ * supporting it convert through {@link #getEntryFromRow(ICsvRow)}, or write into a {@link ColumnarDocument} through
+ * {@link #addRowToColumns(ICsvRow, ColumnarDocument.Builder)}. Columnar documents of unchanged files can be
+ * reloaded from a binary snapshot with {@link #parseColumnarDocument(Path, Path)}. Large local files can be parsed on
+ * several cores with {@link #parseDocumentInParallel(Path, int)}.
+ * </p>
+ *
+ * <p>
+ * Append-only local files, such as growing logs, can be followed with
+ * {@link #parseAppendedEntries(Path, CsvTailPosition, Consumer)}, which only parses the rows appended since the
+ * position returned by its previous call and falls back to parsing the whole file if it was truncated or replaced.
+ * </p>
+ *
+ * <p>
+ * For sources of any kind, {@link #parseProjectedDocument()} tokenizes the decoded characters in the same projected
+ * manner, skipping the columns the parser doesn't read without creating strings for them.
+ * </p>
+ *
+ * <p>
+ * Rows are never logged one by one. For troubleshooting, every {@code n}th parsed row can be logged at
+ * {@code INFO} by setting the system property {@code de.bcxp.challenge.csv.sampleInterval} to {@code n} before the
+ * parser is created.
  * </p>
  *
+ * @param <T> the type of the entries created by the parser
  * @see IDocumentParser
  * @see Document
  * @see DocumentEntry
  */
-public abstract class CsvParser implements IDocumentParser {
+public abstract class CsvParser<T extends DocumentEntry> implements IDocumentParser<T> {
     private static final Logger logger = LogManager.getLogger(CsvParser.class);
 
     private final char delimiter;
     private final Locale locale;
+    private final IDocumentSource source;
     private final String filepath;
+    private final long sampleInterval;
 
     /**
-     * Constructs a {@link CsvParser} with the specified delimiter character.
+     * Constructs a {@link CsvParser} with the specified delimiter character, reading a CSV file from the classpath.
      *
      * @param delimiter the character used to separate values in the CSV file.
      * @param locale the locale used to determine the format of numbers that are parsed
-     * @param filepath Filepath of the csv file
+     * @param filepath Filepath of the csv file within the classpath
+     * @throws IllegalArgumentException if {@code filepath} is {@code null} or empty
      */
     protected CsvParser(final char delimiter, final Locale locale, final String filepath) {
+        this(delimiter, locale, new ClasspathSource(filepath));
+    }
+
+    /**
+     * Constructs a {@link CsvParser} with the specified delimiter character, reading the given source.
+     *
+     * @param delimiter the character used to separate values in the CSV file.
+     * @param locale the locale used to determine the format of numbers that are parsed
+     * @param source the source of the CSV document
+     * @throws IllegalArgumentException if {@code source} is {@code null}
+     */
+    protected CsvParser(final char delimiter, final Locale locale, final IDocumentSource source) {
+        nullCheck(source, logger, "Source was null when creating parser.", "Source can't be null.");
         this.delimiter = delimiter;
         this.locale = locale;
-        this.filepath = filepath;
+        this.source = source;
+        this.filepath = source.getName();
+        this.sampleInterval = RowSampler.getConfiguredInterval();
     }
 
     /**
      * Reads a CSV file and converts its records into a {@link Document} by delegating
-     * the record-to-entry conversion to getEntriesFromRecords(Iterable).
+     * the record-to-entry conversion to getEntriesFromRecords(Iterable), or to getEntryFromRow(ICsvRow) for parsers
+     * declaring their columns.
      * <p>
-     * This method handles parsing errors, file not found errors, and general I/O issues,
+     * The records are read lazily from the underlying {@link CSVParser}, so only the resulting entries are held
+     * in memory. This method handles parsing errors, file not found errors, and general I/O issues,
      * wrapping them into a {@link DocumentCreationException}.
      * </p>
      *
@@ -64,23 +144,393 @@ public abstract class CsvParser implements IDocumentParser {
      *                                   missing file, or I/O errors
      */
     @Override
-    public Document parseDocument() throws DocumentCreationException {
+    public Document<T> parseDocument() throws DocumentCreationException {
+        final List<List<T>> parts = new ArrayList<>(1);
+        processRecords((records, part) -> parts.add(convertRecords(records, resolveColumnIndices(records.getHeaderNames(), part), part)));
+        final List<T> entries;
+        if (parts.size() == 1) {
+            entries = parts.get(0);
+        } else {
+            entries = new ArrayList<>();
+            parts.forEach(entries::addAll);
+        }
+        new RowSampler(logger, filepath, sampleInterval).sampleAll(entries);
+        logger.debug("Parsed {} entries from {}", entries.size(), filepath);
+        return new Document<>(entries);
+    }
+
+    /**
+     * Reads the CSV file record by record and hands each converted {@link DocumentEntry} to the given consumer
+     * before the next record is read.
+     * <p>
+     * Neither the CSV records nor the entries are collected, so memory usage is independent of the file size.
+     * Errors are handled the same way as in {@link #parseDocument()}.
+     * </p>
+     *
+     * @param consumer the {@link Consumer} receiving the parsed entries in file order; must not be {@code null}
+     * @throws DocumentCreationException if parsing fails due to invalid data formatting,
+     *                                   missing file, or I/O errors
+     * @throws IllegalArgumentException if {@code consumer} is {@code null}
+     */
+    @Override
+    public void parseEntries(final Consumer<? super T> consumer) throws DocumentCreationException {
+        nullCheck(consumer, logger, "Consumer was null when streaming entries from " + filepath, "Consumer can't be null.");
+        final RowSampler sampler = new RowSampler(logger, filepath, sampleInterval);
+        processRecords((records, part) -> {
+            final int[] indices = resolveColumnIndices(records.getHeaderNames(), part);
+            final CsvRecordRow row = indices == null ? null : new CsvRecordRow(indices, locale, part);
+            for (final CSVRecord record : records) {
+                final T entry = row == null ? getEntryFromRecord(record) : getEntryFromRow(row.of(record));
+                if (sampler.tick()) sampler.log(record.getRecordNumber(), entry);
+                consumer.accept(entry);
+            }
+        });
+    }
+
+    /**
+     * Reads the CSV document and converts its rows into a {@link Document}, only decoding the columns declared by
+     * {@link #getColumnNames()}.
+     *
+     * @return a {@link Document} containing the parsed entries from the CSV document
+     * @throws DocumentCreationException if parsing fails due to invalid data formatting, missing file or columns,
+     *                                   or I/O errors
+     * @throws UnsupportedOperationException if the parser doesn't declare any columns via {@link #getColumnNames()}
+     * @see #parseProjectedEntries(Consumer)
+     */
+    public Document<T> parseProjectedDocument() throws DocumentCreationException {
+        final List<T> entries = new ArrayList<>();
+        parseProjectedEntries(entries::add);
+        logger.debug("Parsed {} entries from projected columns of {}", entries.size(), filepath);
+        return new Document<>(entries);
+    }
+
+    /**
+     * Reads the CSV document row by row and hands each converted {@link DocumentEntry} to the given consumer before
+     * the next row is read, only decoding the columns declared by {@link #getColumnNames()}.
+     * <p>
+     * Each part of the source is tokenized by a {@link ProjectingCsvReader}, which skips the fields of all other
+     * columns without creating strings for them and parses numeric columns straight from its character buffer. On
+     * wide documents of which only a few columns are read, this avoids most of the allocations of
+     * {@link #parseEntries(Consumer)}. Like the other parsing modes, it works with every {@link IDocumentSource},
+     * including compressed content.
+     * </p>
+     *
+     * @param consumer the {@link Consumer} receiving the parsed entries in document order; must not be {@code null}
+     * @throws DocumentCreationException if parsing fails due to invalid data formatting, missing file or columns,
+     *                                   or I/O errors
+     * @throws IllegalArgumentException if {@code consumer} is {@code null}
+     * @throws UnsupportedOperationException if the parser doesn't declare any columns via {@link #getColumnNames()}
+     */
+    public void parseProjectedEntries(final Consumer<? super T> consumer) throws DocumentCreationException {
+        nullCheck(consumer, logger, "Consumer was null when streaming entries from " + filepath, "Consumer can't be null.");
+        final List<String> columns = getRequiredColumnNames(filepath);
+        final RowSampler sampler = new RowSampler(logger, filepath, sampleInterval);
+
+        for (final IDocumentSource part : getParts()) {
+            try (final ProjectingCsvReader reader = ProjectingCsvReader.open(part, delimiter, locale, columns)) {
+                while (reader.next()) {
+                    final T entry = getEntryFromRow(reader);
+                    if (sampler.tick()) sampler.log(reader.getRowNumber(), entry);
+                    consumer.accept(entry);
+                }
+            } catch (ParseException | IOException | UncheckedIOException | IllegalArgumentException e) {
+                throw toDocumentCreationException(e, part.getName());
+            }
+        }
+    }
+
+    /**
+     * Reads a local CSV file through memory mapping and converts its rows into a {@link Document}.
+     *
+     * @param path the path of the CSV file on the local file system
+     * @return a {@link Document} containing the parsed entries from the CSV file
+     * @throws DocumentCreationException if parsing fails due to invalid data formatting, missing file or columns,
+     *                                   or I/O errors
+     * @throws UnsupportedOperationException if the parser doesn't declare any columns via {@link #getColumnNames()}
+     * @see #parseMappedEntries(Path, Consumer)
+     */
+    public Document<T> parseMappedDocument(final Path path) throws DocumentCreationException {
+        final List<T> entries = new ArrayList<>();
+        parseMappedEntries(path, entries::add);
+        logger.debug("Parsed {} entries from mapped file {}", entries.size(), path);
+        return new Document<>(entries);
+    }
+
+    /**
+     * Reads a local CSV file through memory mapping and hands each converted {@link DocumentEntry} to the given
+     * consumer before the next row is read.
+     * <p>
+     * The file is tokenized by a {@link MappedCsvReader} directly on the mapped bytes. Only the columns declared by
+     * {@link #getColumnNames()} are located and decoded, and numeric columns are parsed without decoding them into
+     * strings first. The file is expected to be UTF-8 encoded and to use an ASCII delimiter.
+     * </p>
+     *
+     * @param path the path of the CSV file on the local file system
+     * @param consumer the {@link Consumer} receiving the parsed entries in file order; must not be {@code null}
+     * @throws DocumentCreationException if parsing fails due to invalid data formatting, missing file or columns,
+     *                                   or I/O errors
+     * @throws UnsupportedOperationException if the parser doesn't declare any columns via {@link #getColumnNames()}
+     */
+    public void parseMappedEntries(final Path path, final Consumer<? super T> consumer) throws DocumentCreationException {
+        nullCheck(path, logger, "Path was null when parsing mapped file.", "Path can't be null.");
+        nullCheck(consumer, logger, "Consumer was null when streaming entries from " + path, "Consumer can't be null.");
+        final List<String> columns = getRequiredColumnNames(path);
+        final RowSampler sampler = new RowSampler(logger, path, sampleInterval);
+
+        try (final MappedCsvReader reader = MappedCsvReader.open(path, delimiter, locale, columns)) {
+            while (reader.next()) {
+                final T entry = getEntryFromRow(reader);
+                if (sampler.tick()) sampler.log(reader.getRowNumber(), entry);
+                consumer.accept(entry);
+            }
+        } catch (ParseException | IOException | IllegalArgumentException e) {
+            throw toDocumentCreationException(e, path);
+        }
+    }
+
+    /**
+     * Parses a local CSV file through memory mapping directly into a {@link ColumnarDocument}.
+     * <p>
+     * No {@link DocumentEntry} is created while parsing: every row is written into the primitive columns of the
+     * builder returned by {@link #createColumnarBuilder()} via {@link #addRowToColumns(ICsvRow, ColumnarDocument.Builder)}.
+     * </p>
+     *
+     * @param path the path of the CSV file on the local file system
+     * @return a {@link ColumnarDocument} containing the parsed rows in file order
+     * @throws DocumentCreationException if parsing fails due to invalid data formatting, missing file or columns, or I/O errors
+     * @throws IllegalArgumentException if {@code path} is {@code null}
+     * @throws UnsupportedOperationException if the parser doesn't declare any columns via {@link #getColumnNames()}
+     */
+    public ColumnarDocument parseColumnarDocument(final Path path) throws DocumentCreationException {
+        nullCheck(path, logger, "Path was null when parsing columnar document.", "Path can't be null.");
+        final List<String> columns = getRequiredColumnNames(path);
+        final ColumnarDocument.Builder builder = createColumnarBuilder();
+        final RowSampler sampler = new RowSampler(logger, path, sampleInterval);
+
+        try (final MappedCsvReader reader = MappedCsvReader.open(path, delimiter, locale, columns)) {
+            while (reader.next()) {
+                addRowToColumns(reader, builder);
+                if (sampler.tick()) sampler.log(reader.getRowNumber(), columns.get(0) + "=" + reader.getString(0));
+            }
+        } catch (ParseException | IOException | IllegalArgumentException e) {
+            throw toDocumentCreationException(e, path);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Parses a local CSV file into a {@link ColumnarDocument}, reusing a binary snapshot of an earlier parse.
+     * <p>
+     * The SHA-256 checksum of the file is streamed first. If the snapshot file holds a {@link ColumnarSnapshot} of the
+     * same content, created with the same {@link #getSnapshotSchema() schema}, the document is reloaded from it
+     * through memory mapping without parsing. Otherwise the file is parsed by {@link #parseColumnarDocument(Path)}
+     * and the snapshot is replaced, unless the checksum of the file changed while parsing. Failures to read or write
+     * the snapshot are logged and only cost the snapshot's benefit, never the result.
+     * </p>
+     *
+     * @param path the path of the CSV file on the local file system
+     * @param snapshot the path of the snapshot file, created if missing
+     * @return a {@link ColumnarDocument} containing the rows in file order
+     * @throws DocumentCreationException if parsing fails due to invalid data formatting, missing file or columns, or I/O errors
+     * @throws IllegalArgumentException if a parameter is {@code null}
+     * @throws UnsupportedOperationException if the parser doesn't support columnar parsing
+     */
+    public ColumnarDocument parseColumnarDocument(final Path path, final Path snapshot) throws DocumentCreationException {
+        nullCheck(path, logger, "Path was null when parsing columnar document.", "Path can't be null.");
+        nullCheck(snapshot, logger, "Snapshot path was null when parsing " + path, "Snapshot path can't be null.");
+        final byte[] checksum;
+        try {
+            checksum = ContentHashUtility.sha256(path);
+        } catch (IOException e) {
+            throw toDocumentCreationException(e, path);
+        }
+
+        final String schema = getSnapshotSchema();
         try {
-            final Iterable<CSVRecord> records = readFileWithHeader(filepath);
-            final List<DocumentEntry> entries = getEntriesFromRecords(records);
-
-            logger.debug("Parsed {} from {}", entries.toString() , filepath);
-            return new Document(entries);
-
-        } catch (NumberFormatException | ParseException e) {
-            logger.warn("Parsing document failed: {}", filepath, e);
-            throw new DocumentCreationException("Invalid formatting of numeric values in CSV.");
-        } catch (FileNotFoundException e) {
-            logger.error("File not found: {}, {}", filepath, e);
-            throw new DocumentCreationException("File not found: " + filepath);
+            final Optional<ColumnarDocument> restored = ColumnarSnapshot.read(snapshot, schema, checksum, createColumnarBuilder());
+            if (restored.isPresent()) return restored.get();
         } catch (IOException e) {
-            logger.error("File reading failed: {}", filepath, e);
-            throw new DocumentCreationException("Error during file reading of " + filepath);
+            logger.warn("Reading snapshot {} of {} failed, parsing again", snapshot, path, e);
+        }
+
+        final ColumnarDocument document = parseColumnarDocument(path);
+        try {
+            // the file is hashed and parsed in separate reads, so a concurrent change must not be stored under the old checksum
+            if (!Arrays.equals(checksum, ContentHashUtility.sha256(path))) {
+                logger.info("{} changed while parsing, not writing snapshot {}", path, snapshot);
+                return document;
+            }
+            ColumnarSnapshot.write(document, schema, checksum, snapshot);
+        } catch (IOException e) {
+            logger.warn("Writing snapshot {} of {} failed", snapshot, path, e);
+        }
+        return document;
+    }
+
+    /**
+     * Identifies how this parser creates columnar documents, so snapshots created by other parsers or configurations
+     * are detected as stale.
+     * <p>
+     * The default schema consists of the parser class, the delimiter and the locale. Subclasses changing how rows are
+     * converted should append a version of their own.
+     * </p>
+     *
+     * @return the schema written to and expected in snapshots
+     */
+    protected String getSnapshotSchema() {
+        return getClass().getName() + "|" + delimiter + "|" + (locale == null ? "" : locale.toLanguageTag());
+    }
+
+    private List<String> getRequiredColumnNames(final Object document) {
+        final List<String> columns = getColumnNames();
+        if (columns.isEmpty()) {
+            logger.warn("{} doesn't declare columns for row based parsing of {}", getClass().getSimpleName(), document);
+            throw new UnsupportedOperationException(getClass().getSimpleName() + " doesn't support row based parsing.");
+        }
+        return columns;
+    }
+
+    /**
+     * Parses the rows appended to a local CSV file since the given position and hands each converted
+     * {@link DocumentEntry} to the given consumer, in file order.
+     * <p>
+     * Only complete rows are parsed, i.e. rows terminated by a line break outside of quotes; a row that is still being
+     * written is parsed by a later call once it is complete. The returned position is passed to the next call, which
+     * then only reads the bytes appended in the meantime, using the header remembered by the position.
+     * </p>
+     * <p>
+     * If the position is {@code null}, or the file no longer continues it because it has been truncated, rotated or
+     * rewritten (see {@link CsvTailPosition}), the whole file is parsed and the returned position is
+     * {@link CsvTailPosition#isRestarted() restarted}. Consumers accumulating state across calls must then discard the
+     * state built from earlier calls. If parsing fails, the entries handed to the consumer during the failed call
+     * should be discarded as well, and the previous position stays valid.
+     * </p>
+     *
+     * @param path the path of the CSV file on the local file system
+     * @param position the position returned by the previous call for the same file, or {@code null} for the first call
+     * @param consumer the {@link Consumer} receiving the appended entries in file order; must not be {@code null}
+     * @return the position after the last parsed row
+     * @throws DocumentCreationException if parsing fails due to invalid data formatting, missing file or columns,
+     *                                   an incomplete header, or I/O errors
+     * @throws IllegalArgumentException if {@code path} or {@code consumer} is {@code null}
+     */
+    public CsvTailPosition parseAppendedEntries(final Path path, final CsvTailPosition position, final Consumer<? super T> consumer) throws DocumentCreationException {
+        nullCheck(path, logger, "Path was null when parsing appended entries.", "Path can't be null.");
+        nullCheck(consumer, logger, "Consumer was null when streaming appended entries from " + path, "Consumer can't be null.");
+        final RowSampler sampler = new RowSampler(logger, path, sampleInterval);
+
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final AppendedCsvRows rows = AppendedCsvRows.locate(path, channel, delimiter, position);
+            final int[] indices = resolveColumnIndices(rows.getHeader(), path);
+            final CSVFormat format = CSVFormat.DEFAULT.builder()
+                    .setHeader(rows.getHeader().toArray(new String[0]))
+                    .setSkipHeaderRecord(false)
+                    .setDelimiter(this.delimiter)
+                    .get();
+
+            long count = 0;
+            try (final CSVParser records = format.parse(rows.openReader())) {
+                final CsvRecordRow row = indices == null ? null : new CsvRecordRow(indices, locale, path);
+                for (final CSVRecord record : records) {
+                    final T entry = row == null ? getEntryFromRecord(record) : getEntryFromRow(row.of(record));
+                    if (sampler.tick()) sampler.log(record.getRecordNumber(), entry);
+                    consumer.accept(entry);
+                    count++;
+                }
+            }
+            logger.debug("Parsed {} entries appended to {} between offsets {} and {}", count, path, rows.getStart(), rows.getEnd());
+            return rows.toPosition(position, count);
+        } catch (ParseException | IOException | UncheckedIOException | IllegalArgumentException e) {
+            throw toDocumentCreationException(e, path);
+        }
+    }
+
+    /**
+     * Parses a local CSV file in parallel on the common {@link ForkJoinPool}.
+     *
+     * @param path the path of the CSV file on the local file system
+     * @param chunkCount the number of chunks to split the file into, usually the number of available cores
+     * @return a {@link Document} containing the parsed entries in file order
+     * @throws DocumentCreationException if parsing fails due to invalid data formatting, missing file, or I/O errors
+     * @see #parseDocumentInParallel(Path, int, ExecutorService)
+     */
+    public Document<T> parseDocumentInParallel(final Path path, final int chunkCount) throws DocumentCreationException {
+        return parseDocumentInParallel(path, chunkCount, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses a local CSV file in parallel by splitting it into chunks of complete rows.
+     * <p>
+     * The file is split into byte ranges aligned to row boundaries, respecting line breaks within quoted fields
+     * (see {@link CsvFileChunks}). Each chunk is mapped into memory and parsed on the given executor by
+     * {@link #getEntriesFromRecords(Iterable)}, using the header of the file. The entries of all chunks are merged
+     * in file order, so the resulting {@link Document} equals the one created by {@link #parseDocument()} for the
+     * same content.
+     * </p>
+     *
+     * @param path the path of the CSV file on the local file system
+     * @param chunkCount the number of chunks to split the file into, usually the number of available cores
+     * @param executor the executor parsing the chunks, e.g. a {@link ForkJoinPool}
+     * @return a {@link Document} containing the parsed entries in file order
+     * @throws DocumentCreationException if parsing fails due to invalid data formatting, missing file, or I/O errors
+     * @throws IllegalArgumentException if {@code path} or {@code executor} is {@code null}, or {@code chunkCount} is
+     *                                  less than one
+     */
+    public Document<T> parseDocumentInParallel(final Path path, final int chunkCount, final ExecutorService executor) throws DocumentCreationException {
+        nullCheck(path, logger, "Path was null when parsing in parallel.", "Path can't be null.");
+        nullCheck(executor, logger, "Executor was null when parsing " + path + " in parallel.", "Executor can't be null.");
+        if (chunkCount < 1) {
+            logger.warn("Invalid chunk count {} for parsing {}", chunkCount, path);
+            throw new IllegalArgumentException("Chunk count must be at least 1.");
+        }
+
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final CsvFileChunks chunks = CsvFileChunks.split(path, channel, delimiter, chunkCount, executor);
+            final CSVFormat format = CSVFormat.DEFAULT.builder()
+                    .setHeader(chunks.getHeader().toArray(new String[0]))
+                    .setSkipHeaderRecord(false)
+                    .setDelimiter(this.delimiter)
+                    .get();
+
+            final int[] indices = resolveColumnIndices(chunks.getHeader(), path);
+
+            final List<Callable<List<T>>> tasks = new ArrayList<>(chunks.getChunks().size());
+            for (final CsvFileChunks.Chunk chunk : chunks.getChunks()) {
+                tasks.add(() -> {
+                    try (final CSVParser records = format.parse(chunks.openReader(chunk))) {
+                        return convertRecords(records, indices, path);
+                    }
+                });
+            }
+
+            final List<List<T>> results = new ArrayList<>(tasks.size());
+            int entryCount = 0;
+            for (final Future<List<T>> result : executor.invokeAll(tasks)) {
+                results.add(result.get());
+                entryCount += results.get(results.size() - 1).size();
+            }
+
+            final List<T> entries = new ArrayList<>(entryCount);
+            results.forEach(entries::addAll);
+            new RowSampler(logger, path, sampleInterval).sampleAll(entries);
+            logger.debug("Parsed {} entries from {} in {} chunks", entries.size(), path, results.size());
+            return new Document<>(entries);
+
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof Error) throw (Error) cause;
+            if (cause instanceof DocumentCreationException) throw (DocumentCreationException) cause;
+            if (cause instanceof RuntimeException && !(cause instanceof IllegalArgumentException || cause instanceof UncheckedIOException)) {
+                throw (RuntimeException) cause;
+            }
+            // any checked failure of a chunk task is reported like a failure of the sequential parser
+            throw toDocumentCreationException((Exception) cause, path);
+        } catch (IOException | UncheckedIOException | IllegalArgumentException e) {
+            throw toDocumentCreationException(e, path);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while parsing {} in parallel", path);
+            throw new DocumentCreationException("Parsing of " + path + " was interrupted.");
         }
     }
 
@@ -96,54 +546,230 @@ public abstract class CsvParser implements IDocumentParser {
      * @throws NumberFormatException if a numeric value in the records cannot be parsed
      * @throws ParseException        if a value in the records cannot be parsed according to the locale
      */
-    protected abstract List<DocumentEntry> getEntriesFromRecords(final Iterable<CSVRecord> records) throws NumberFormatException, ParseException;
+    protected abstract List<T> getEntriesFromRecords(final Iterable<CSVRecord> records) throws NumberFormatException, ParseException;
 
     /**
-     * Reads a CSV file from the application's classpath and parses its content into an {@link Iterable} of
-     * {@link CSVRecord} objects.
+     * Converts a single CSV record into a {@link DocumentEntry}.
      * <p>
-     * The CSV file is located using the provided relative classpath {@code filepath}, and must exist under the
-     * application's resources. The method applies the configured delimiter and treats the first record in the CSV as
-     * the header row.
+     * The default implementation delegates to {@link #getEntriesFromRecords(Iterable)} with a single-element list,
+     * and expects exactly one resulting entry. Subclasses should override this method to avoid the
+     * intermediate list per record.
      * </p>
      *
-     * <p><b>Behavior:</b></p>
-     * <ul>
-     *   <li>Validates that {@code filepath} is not {@code null} or empty.</li>
-     *   <li>Loads the CSV file from the classpath using the current class loader.</li>
-     *   <li>Parses the CSV using {@link CSVFormat} with the configured {@code delimiter}.</li>
-     *   <li>Returns all parsed records as a fully materialized list (safe to iterate after method returns).</li>
-     * </ul>
-     * @param filepath the relative path to the CSV file within the classpath
-     * @return an {@link Iterable} containing all CSV records from the file
-     * @throws IllegalArgumentException if {@code filepath} is null or empty
-     * @throws FileNotFoundException    if the CSV file cannot be found on the classpath
-     * @throws IOException              if an I/O error occurs while reading or parsing the file
+     * @param record the CSV record to be converted
+     * @return the {@link DocumentEntry} extracted from the record
+     * @throws NumberFormatException if a numeric value in the record cannot be parsed
+     * @throws ParseException        if a value in the record cannot be parsed according to the locale
+     * @throws IllegalStateException if the record doesn't map to exactly one entry
      */
-    private Iterable<CSVRecord> readFileWithHeader(final String filepath) throws IOException, FileNotFoundException {
+    protected T getEntryFromRecord(final CSVRecord record) throws NumberFormatException, ParseException {
+        final List<T> entries = getEntriesFromRecords(Collections.singletonList(record));
+        if (entries.size() != 1) {
+            logger.warn("Record {} of {} was converted into {} entries", record.getRecordNumber(), filepath, entries.size());
+            throw new IllegalStateException("Every CSV record must be converted into exactly one entry when streaming.");
+        }
+        return entries.get(0);
+    }
 
-        validateString(filepath, logger, "Invalid filepath provided: " + filepath, "Filepath can't be empty");
+    /**
+     * Returns the names of the columns read by {@link #getEntryFromRow(ICsvRow)}, in the order in which they are
+     * addressed through the {@link ICsvRow}.
+     * <p>
+     * Row based parsing modes only locate and decode these columns. The default implementation returns an empty
+     * list, meaning the parser doesn't support row based parsing.
+     * </p>
+     *
+     * @return the required column names
+     */
+    protected List<String> getColumnNames() {
+        return Collections.emptyList();
+    }
 
-        try (final InputStream input = getClass().getClassLoader().getResourceAsStream(filepath)) {
+    /**
+     * Converts the current row of a row based tokenizer into a {@link DocumentEntry}.
+     * <p>
+     * Subclasses declaring columns via {@link #getColumnNames()} must override this method. The row is only valid
+     * during the call.
+     * </p>
+     *
+     * @param row the current row, exposing the columns declared by {@link #getColumnNames()} by position
+     * @return the {@link DocumentEntry} extracted from the row
+     * @throws NumberFormatException if a numeric value in the row cannot be parsed
+     * @throws ParseException        if a value in the row cannot be parsed according to the locale
+     */
+    protected T getEntryFromRow(final ICsvRow row) throws NumberFormatException, ParseException {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " doesn't support row based parsing.");
+    }
 
-            if (input == null) throw new FileNotFoundException("Resource not found: " + filepath);
+    /**
+     * Creates an empty builder for the columnar representation of the parsed documents.
+     * <p>
+     * Subclasses supporting {@link #parseColumnarDocument(Path)} must override this method together with
+     * {@link #addRowToColumns(ICsvRow, ColumnarDocument.Builder)}.
+     * </p>
+     *
+     * @return a new, empty {@link ColumnarDocument.Builder}
+     * @throws UnsupportedOperationException if the parser doesn't support columnar parsing
+     */
+    protected ColumnarDocument.Builder createColumnarBuilder() {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " doesn't support columnar parsing.");
+    }
 
-            final Reader in = new InputStreamReader(input);
-            final CSVFormat format = CSVFormat.DEFAULT.builder()
-                    .setHeader()
-                    .setDelimiter(this.delimiter)
-                    .get();
+    /**
+     * Validates the current row and appends it to the columnar builder.
+     *
+     * @param row the current row, exposing the columns declared by {@link #getColumnNames()} by position
+     * @param builder the builder created by {@link #createColumnarBuilder()}
+     * @throws NumberFormatException if a numeric value is malformed
+     * @throws ParseException if a numeric value can't be parsed
+     * @throws IllegalArgumentException if the row contains invalid values
+     * @throws UnsupportedOperationException if the parser doesn't support columnar parsing
+     */
+    protected void addRowToColumns(final ICsvRow row, final ColumnarDocument.Builder builder) throws NumberFormatException, ParseException {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " doesn't support columnar parsing.");
+    }
 
-            return format.parse(in).getRecords();
+    /**
+     * Resolves the columns declared by {@link #getColumnNames()} to their indices within the header of a file.
+     * <p>
+     * Called once per file, so the records of the file can be converted through a {@link CsvRecordRow} by index
+     * instead of looking up every value by its column name.
+     * </p>
+     *
+     * @param header the column names of the file
+     * @param document the file or resource whose header is resolved, used in log and error messages
+     * @return the index of each declared column within the records, or {@code null} if the parser doesn't declare
+     *         any columns and converts records via {@link #getEntriesFromRecords(Iterable)}
+     * @throws IllegalArgumentException if a declared column is missing in the header
+     */
+    private int[] resolveColumnIndices(final List<String> header, final Object document) {
+        final List<String> columns = getColumnNames();
+        return columns.isEmpty() ? null : CsvColumns.resolveIndices(header, columns, document);
+    }
 
-        } catch (FileNotFoundException | NullPointerException e) {
-            logger.error("\"Resource not found: {};\n{}", filepath, e);
-            throw new FileNotFoundException("Resource not found: " + filepath);
-        } catch (IOException e) {
-            logger.error("Error during file reading of {}:\n{}", filepath, e);
-            throw new IOException("Error during reading of CSV file of {}" + filepath);
+    /**
+     * Converts the records of a file into entries, by index through {@link #getEntryFromRow(ICsvRow)} if the columns
+     * have been resolved, and through {@link #getEntriesFromRecords(Iterable)} otherwise.
+     *
+     * @param records the records to convert
+     * @param indices the resolved column indices, see {@link #resolveColumnIndices(List, Object)}
+     * @param document the file or resource the records are read from, used in log and error messages
+     * @return the converted entries in record order
+     * @throws NumberFormatException if a numeric value in the records cannot be parsed
+     * @throws ParseException        if a value in the records cannot be parsed according to the locale
+     * @throws IllegalArgumentException if a record has fewer fields than required for the declared columns
+     */
+    private List<T> convertRecords(final Iterable<CSVRecord> records, final int[] indices, final Object document) throws NumberFormatException, ParseException {
+        if (indices == null) return getEntriesFromRecords(records);
+
+        final CsvRecordRow row = new CsvRecordRow(indices, locale, document);
+        final List<T> entries = new ArrayList<>();
+        for (final CSVRecord record : records) {
+            entries.add(getEntryFromRow(row.of(record)));
+        }
+        return entries;
+    }
+
+    /**
+     * Opens each part of the source in turn, hands its lazily read records to the given processor and closes the
+     * part afterwards.
+     * <p>
+     * Centralizes the error handling shared by all parsing modes: parsing errors, file not found errors and
+     * general I/O issues (including those surfacing during lazy iteration) are wrapped into a
+     * {@link DocumentCreationException}.
+     * </p>
+     *
+     * @param processor the {@link RecordsProcessor} consuming the records, called once per part in source order
+     * @throws DocumentCreationException if parsing fails due to invalid data formatting,
+     *                                   missing file, or I/O errors
+     */
+    private void processRecords(final RecordsProcessor processor) throws DocumentCreationException {
+        for (final IDocumentSource part : getParts()) {
+            try (final CSVParser records = openWithHeader(part)) {
+                processor.process(records, part.getName());
+            } catch (ParseException | IOException | UncheckedIOException | IllegalArgumentException e) {
+                throw toDocumentCreationException(e, part.getName());
+            }
+        }
+    }
+
+    /**
+     * Determines the parts of the source, see {@link IDocumentSource#getParts()}.
+     *
+     * @return the parts of the source in reading order
+     * @throws DocumentCreationException if the parts can't be determined, e.g. because a directory doesn't exist
+     */
+    private List<? extends IDocumentSource> getParts() throws DocumentCreationException {
+        try {
+            return source.getParts();
+        } catch (IOException | UncheckedIOException e) {
+            throw toDocumentCreationException(e, filepath);
         }
+    }
 
+    /**
+     * Logs the given parsing failure and wraps it into a {@link DocumentCreationException}.
+     * <p>
+     * Invalid numbers, missing files and I/O errors are reported with dedicated messages; any other failure, such as
+     * a missing column, is reported with its own message.
+     * </p>
+     *
+     * @param e the failure
+     * @param source the file or resource that was parsed
+     * @return the {@link DocumentCreationException} to throw
+     */
+    private static DocumentCreationException toDocumentCreationException(final Exception e, final Object source) {
+        if (e instanceof NumberFormatException || e instanceof ParseException) {
+            logger.warn("Parsing document failed: {}", source, e);
+            return new DocumentCreationException("Invalid formatting of numeric values in CSV.");
+        }
+        if (e instanceof FileNotFoundException || e instanceof NoSuchFileException) {
+            logger.error("File not found: {}, {}", source, e);
+            return new DocumentCreationException("File not found: " + source);
+        }
+        if (e instanceof IOException || e instanceof UncheckedIOException) {
+            logger.error("File reading failed: {}", source, e);
+            return new DocumentCreationException("Error during file reading of " + source);
+        }
+        logger.warn("Invalid CSV structure in {}", source, e);
+        return new DocumentCreationException(e.getMessage());
+    }
+
+    /**
+     * Opens a part of the source as a {@link CSVParser}, which reads its records lazily.
+     * <p>
+     * The content is decoded as UTF-8 through the large buffer of {@link IDocumentSource#openReader()}. The method
+     * applies the configured delimiter and treats the first record of the part as the header row.
+     * </p>
+     *
+     * @param part the part of the source to open
+     * @return an open {@link CSVParser} over the records of the part; records are only read while iterating it, so
+     *         the caller must close it once done
+     * @throws FileNotFoundException if the part cannot be found
+     * @throws IOException           if an I/O error occurs while opening the part or reading its header
+     */
+    private CSVParser openWithHeader(final IDocumentSource part) throws IOException, FileNotFoundException {
+        final Reader in = part.openReader();
+        final CSVFormat format = CSVFormat.DEFAULT.builder()
+                .setHeader()
+                .setDelimiter(this.delimiter)
+                .get();
+
+        try {
+            return format.parse(in);
+        } catch (IOException | UncheckedIOException e) {
+            in.close();
+            logger.error("Error during file reading of {}:\n{}", part.getName(), e);
+            throw new IOException("Error during reading of CSV file " + part.getName());
+        }
+    }
+
+    /**
+     * Processing step applied to the lazily read records of an opened CSV file.
+     */
+    @FunctionalInterface
+    private interface RecordsProcessor {
+        void process(final CSVParser records, final String part) throws NumberFormatException, ParseException;
     }
 
     //region Getter
@@ -158,5 +784,13 @@ public abstract class CsvParser implements IDocumentParser {
     public String getFilepath() {
         return filepath;
     }
+
+    public IDocumentSource getSource() {
+        return source;
+    }
+
+    public long getSampleInterval() {
+        return sampleInterval;
+    }
     //endregion
-}
\ No newline at end of file
+}
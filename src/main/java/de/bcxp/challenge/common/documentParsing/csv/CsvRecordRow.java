@@ -0,0 +1,87 @@
+package de.bcxp.challenge.common.documentParsing.csv;
+
+import de.bcxp.challenge.common.utility.LocaleNumberParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.text.ParseException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Index-based {@link ICsvRow} view of the records read by Commons CSV.
+ * <p>
+ * The requested columns are resolved to their indices within the header once per file by
+ * {@link CsvColumns#resolveIndices(List, List, Object)}, so reading a value is a plain array access on the record instead of
+ * a lookup of the column name in the header map of the record. A missing column fails before the first record is
+ * converted.
+ * </p>
+ * <p>
+ * Instances are flyweights pointing at the current record, set by {@link #of(CSVRecord)}. They are not thread-safe,
+ * but several instances may share the same resolved indices.
+ * </p>
+ */
+final class CsvRecordRow implements ICsvRow {
+    private static final Logger logger = LogManager.getLogger(CsvRecordRow.class);
+
+    private final int[] indices;
+    private final int requiredSize;
+    private final LocaleNumberParser numberParser;
+    private final Object source;
+    private CSVRecord record;
+
+    /**
+     * Creates a row view for records of a file whose columns have been resolved.
+     *
+     * @param indices the index of each requested column within the records, see {@link CsvColumns#resolveIndices(List, List, Object)}
+     * @param locale the locale used to parse numbers
+     * @param source the file or resource the records are read from, used in log and error messages
+     */
+    CsvRecordRow(final int[] indices, final Locale locale, final Object source) {
+        this.indices = indices;
+        this.numberParser = LocaleNumberParser.forLocale(locale);
+        this.source = source;
+        int maxIndex = -1;
+        for (final int index : indices) {
+            maxIndex = Math.max(maxIndex, index);
+        }
+        this.requiredSize = maxIndex + 1;
+    }
+
+    /**
+     * Points this row at the given record.
+     *
+     * @param record the current record
+     * @return this row
+     * @throws IllegalArgumentException if the record has fewer fields than required for the requested columns
+     */
+    CsvRecordRow of(final CSVRecord record) {
+        if (record.size() < requiredSize) {
+            throw CsvColumns.tooFewFields(record.getRecordNumber(), source);
+        }
+        this.record = record;
+        return this;
+    }
+
+    //region ICsvRow
+    @Override
+    public long getRowNumber() {
+        return record.getRecordNumber();
+    }
+
+    @Override
+    public String getString(final int column) {
+        return record.get(indices[column]);
+    }
+
+    @Override
+    public double getDouble(final int column) throws NumberFormatException, ParseException {
+        return numberParser.parseDouble(record.get(indices[column]));
+    }
+
+    @Override
+    public long getLong(final int column) throws NumberFormatException, ParseException {
+        return numberParser.parseLong(record.get(indices[column]));
+    }
+    //endregion
+}
@@ -0,0 +1,84 @@
+package de.bcxp.challenge.common.documentParsing.csv;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Position up to which an append-only CSV file has been parsed by
+ * {@link CsvParser#parseAppendedEntries(Path, CsvTailPosition, Consumer)}, allowing the next call to only read the
+ * rows appended since.
+ * <p>
+ * Besides the byte offset after the last complete row and the header of the file, the position remembers the file
+ * key of the file system and a checksum of the bytes in front of the offset. A file that has become shorter than the
+ * offset, has been replaced by another file or differs in front of the offset doesn't continue the position and is
+ * parsed from its beginning again. Positions are immutable.
+ * </p>
+ */
+public final class CsvTailPosition {
+
+    private final Object fileKey;
+    private final List<String> header;
+    private final long offset;
+    private final long anchorChecksum;
+    private final long rowCount;
+    private final boolean restarted;
+
+    CsvTailPosition(final Object fileKey, final List<String> header, final long offset, final long anchorChecksum,
+                    final long rowCount, final boolean restarted) {
+        this.fileKey = fileKey;
+        this.header = List.copyOf(header);
+        this.offset = offset;
+        this.anchorChecksum = anchorChecksum;
+        this.rowCount = rowCount;
+        this.restarted = restarted;
+    }
+
+    //region Getter
+    /**
+     * @return the file key of the parsed file, or {@code null} if the file system doesn't provide one
+     */
+    Object getFileKey() {
+        return fileKey;
+    }
+
+    long getAnchorChecksum() {
+        return anchorChecksum;
+    }
+
+    public List<String> getHeader() {
+        return header;
+    }
+
+    /**
+     * @return the byte offset after the last complete row parsed; a trailing row still being written is not included
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return the number of rows parsed since the file was last parsed from its beginning
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return {@code true} if the file was parsed from its beginning to reach this position, because there was no
+     *         previous position or the file no longer continued it; {@code false} if only appended rows were parsed
+     */
+    public boolean isRestarted() {
+        return restarted;
+    }
+    //endregion
+
+    //region java.lang.Object Overrides
+    @Override
+    public String toString() {
+        return "CsvTailPosition: offset " + offset +
+                ", rows: " + rowCount +
+                ", restarted: " + restarted;
+    }
+    //endregion
+}
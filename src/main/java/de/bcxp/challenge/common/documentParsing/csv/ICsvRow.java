@@ -0,0 +1,54 @@
+package de.bcxp.challenge.common.documentParsing.csv;
+
+import java.text.ParseException;
+
+/**
+ * Index-based view of the current row of a CSV tokenizer.
+ * <p>
+ * Columns are addressed by their position in the list of columns requested from the tokenizer (see
+ * {@link CsvParser#getColumnNames()}), not by their position in the file. Implementations are usually flyweights
+ * that are reused for every row, so values must be read before the tokenizer advances and the row itself must not
+ * be retained.
+ * </p>
+ */
+public interface ICsvRow {
+
+    /**
+     * Returns the one-based number of the current row, not counting the header.
+     *
+     * @return the number of the current row
+     */
+    long getRowNumber();
+
+    /**
+     * Returns the value of the given column as {@link String}.
+     *
+     * @param column position of the column in the requested columns
+     * @return the value of the column
+     * @throws IndexOutOfBoundsException if {@code column} isn't a requested column
+     */
+    String getString(final int column);
+
+    /**
+     * Parses the value of the given column as {@code double}, using the locale of the tokenizer.
+     *
+     * @param column position of the column in the requested columns
+     * @return the parsed value
+     * @throws NumberFormatException if the value isn't a valid finite number
+     * @throws ParseException if the value cannot be parsed according to the locale
+     * @throws IndexOutOfBoundsException if {@code column} isn't a requested column
+     */
+    double getDouble(final int column) throws NumberFormatException, ParseException;
+
+    /**
+     * Parses the value of the given column as {@code long}, using the locale of the tokenizer.
+     *
+     * @param column position of the column in the requested columns
+     * @return the parsed value
+     * @throws NumberFormatException if the value isn't a valid number or doesn't fit into a {@code long}
+     * @throws ParseException if the value cannot be parsed according to the locale
+     * @throws IndexOutOfBoundsException if {@code column} isn't a requested column
+     */
+    long getLong(final int column) throws NumberFormatException, ParseException;
+
+}
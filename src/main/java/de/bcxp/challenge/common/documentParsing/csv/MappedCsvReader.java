@@ -0,0 +1,421 @@
+package de.bcxp.challenge.common.documentParsing.csv;
+
+import de.bcxp.challenge.common.utility.LocaleNumberParser;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Byte-level CSV tokenizer reading a local file through memory-mapped windows of a {@link FileChannel}.
+ * <p>
+ * Delimiters, quotes and line breaks are detected directly on the {@link MappedByteBuffer}, without decoding the
+ * file into characters. Only the requested columns are located; all other fields are skipped. Values are only
+ * decoded on access: {@link #getString(int)} decodes the field as UTF-8, while {@link #getDouble(int)} and
+ * {@link #getLong(int)} parse plain ASCII fields straight from the mapped bytes.
+ * </p>
+ * <p>
+ * The reader supports RFC 4180 quoting (including delimiters, line breaks and {@code ""} escapes within quoted
+ * fields), {@code \n} and {@code \r\n} line endings and skips empty lines. The first line is treated as header.
+ * Files larger than the mapping window are processed in consecutive windows, each starting at a row boundary.
+ * </p>
+ * <p>
+ * The reader itself is the {@link ICsvRow} of the current row. Instances are not thread-safe.
+ * </p>
+ */
+public final class MappedCsvReader implements ICsvRow, Closeable {
+    private static final Logger logger = LogManager.getLogger(MappedCsvReader.class);
+
+    /**
+     * Default size of a mapped window; rows must not be longer than a window.
+     */
+    static final long DEFAULT_WINDOW_SIZE = 1L << 30;
+
+    private static final byte QUOTE = '"', LINE_FEED = '\n', CARRIAGE_RETURN = '\r';
+    private static final int INCOMPLETE_ROW = -1;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long windowSize;
+    private final byte delimiter;
+    private final LocaleNumberParser numberParser;
+    private final List<String> header;
+
+    /**
+     * Maps the column index within the file to the position within the requested columns, or {@code -1} for
+     * columns that are skipped.
+     */
+    private final int[] projection;
+    private final int[] fieldStarts;
+    private final int[] fieldEnds;
+    private final boolean[] fieldQuoted;
+    private final FieldChars fieldChars = new FieldChars();
+    private byte[] scratch = new byte[64];
+
+    private MappedByteBuffer window;
+    private long windowOffset;
+    private int position;
+    private long rowNumber;
+    private boolean blankRow;
+
+    /**
+     * Opens the file, reads its header and resolves the requested columns.
+     *
+     * @param path the file to read
+     * @param delimiter the ASCII character separating the fields
+     * @param locale the locale used to parse numbers
+     * @param columns names of the columns to locate, in the order they are addressed by the {@link ICsvRow} methods
+     * @param windowSize the maximum number of bytes mapped at once
+     * @throws IOException if the file cannot be read or has no header
+     * @throws IllegalArgumentException if the delimiter isn't ASCII or a requested column is missing in the header
+     */
+    MappedCsvReader(final Path path, final char delimiter, final Locale locale, final List<String> columns, final long windowSize) throws IOException {
+        if (delimiter > 127 || delimiter == QUOTE || delimiter == LINE_FEED || delimiter == CARRIAGE_RETURN) {
+            logger.warn("Unsupported delimiter '{}' for memory-mapped parsing of {}", delimiter, path);
+            throw new IllegalArgumentException("Memory-mapped parsing requires an ASCII delimiter other than quotes and line breaks.");
+        }
+        this.path = path;
+        this.delimiter = (byte) delimiter;
+        this.numberParser = LocaleNumberParser.forLocale(locale);
+        this.windowSize = windowSize;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.fileSize = channel.size();
+            map(0);
+            skipByteOrderMark();
+            this.header = readHeader();
+            this.projection = CsvColumns.resolveProjection(header, columns, path);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.fieldStarts = new int[columns.size()];
+        this.fieldEnds = new int[columns.size()];
+        this.fieldQuoted = new boolean[columns.size()];
+    }
+
+    /**
+     * Opens the given file for memory-mapped, projected reading.
+     *
+     * @param path the file to read
+     * @param delimiter the ASCII character separating the fields
+     * @param locale the locale used to parse numbers
+     * @param columns names of the columns to locate, in the order they are addressed by the {@link ICsvRow} methods
+     * @return the opened reader, positioned before the first row
+     * @throws IOException if the file cannot be read or has no header
+     * @throws IllegalArgumentException if the delimiter isn't ASCII or a requested column is missing in the header
+     */
+    public static MappedCsvReader open(final Path path, final char delimiter, final Locale locale, final List<String> columns) throws IOException {
+        return new MappedCsvReader(path, delimiter, locale, columns, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Advances to the next non-empty row.
+     *
+     * @return {@code true} if a row has been read, {@code false} at the end of the file
+     * @throws IOException if the file cannot be read, a row exceeds the mapping window or is malformed
+     * @throws IllegalArgumentException if the row has fewer fields than required for the requested columns
+     */
+    public boolean next() throws IOException {
+        while (windowOffset + position < fileSize) {
+            final int end = scanRow(position);
+            if (end == INCOMPLETE_ROW) {
+                if (position == 0) {
+                    logger.error("Row {} of {} exceeds the mapping window of {} bytes", rowNumber + 1, path, windowSize);
+                    throw new IOException("Row exceeds the mapping window of " + windowSize + " bytes in " + path);
+                }
+                map(windowOffset + position);
+                continue;
+            }
+            position = end;
+            if (blankRow) continue;
+
+            rowNumber++;
+            CsvColumns.requireFields(fieldStarts, rowNumber, path);
+            return true;
+        }
+        return false;
+    }
+
+    //region ICsvRow
+    @Override
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public String getString(final int column) {
+        final int length = copyField(column);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public double getDouble(final int column) throws NumberFormatException, ParseException {
+        if (isPlainAscii(column)) {
+            return numberParser.parseDouble(fieldChars.of(fieldStarts[column], fieldEnds[column]));
+        }
+        return numberParser.parseDouble(getString(column));
+    }
+
+    @Override
+    public long getLong(final int column) throws NumberFormatException, ParseException {
+        if (isPlainAscii(column)) {
+            return numberParser.parseLong(fieldChars.of(fieldStarts[column], fieldEnds[column]));
+        }
+        return numberParser.parseLong(getString(column));
+    }
+    //endregion
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    //region Tokenizing
+    /**
+     * Locates the fields of the row starting at {@code from} within the current window.
+     *
+     * @param from position of the first byte of the row
+     * @return the position after the row's line break, or {@link #INCOMPLETE_ROW} if the row continues beyond the
+     *         current window
+     * @throws IOException if the row is malformed
+     */
+    private int scanRow(final int from) throws IOException {
+        final MappedByteBuffer buffer = window;
+        final int limit = buffer.limit();
+        final boolean lastWindow = windowOffset + limit == fileSize;
+        Arrays.fill(fieldStarts, -1);
+
+        int pos = from;
+        int field = 0;
+        while (true) {
+            int contentStart = pos;
+            int contentEnd;
+            final boolean quoted = pos < limit && buffer.get(pos) == QUOTE;
+
+            if (quoted) {
+                contentStart = ++pos;
+                while (true) {
+                    if (pos >= limit) {
+                        if (lastWindow) throw malformed("Unterminated quoted field");
+                        return INCOMPLETE_ROW;
+                    }
+                    if (buffer.get(pos) == QUOTE) {
+                        if (pos + 1 >= limit && !lastWindow) return INCOMPLETE_ROW;
+                        if (pos + 1 < limit && buffer.get(pos + 1) == QUOTE) {
+                            pos += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    pos++;
+                }
+                contentEnd = pos++;
+            } else {
+                while (pos < limit) {
+                    final byte b = buffer.get(pos);
+                    if (b == delimiter || b == LINE_FEED) break;
+                    pos++;
+                }
+                contentEnd = pos;
+                if (pos >= limit && !lastWindow) return INCOMPLETE_ROW;
+                if (contentEnd > contentStart && buffer.get(contentEnd - 1) == CARRIAGE_RETURN) contentEnd--;
+            }
+
+            if (field < projection.length && projection[field] >= 0) {
+                final int column = projection[field];
+                fieldStarts[column] = contentStart;
+                fieldEnds[column] = contentEnd;
+                fieldQuoted[column] = quoted;
+            }
+            field++;
+
+            if (pos >= limit) {
+                if (!lastWindow) return INCOMPLETE_ROW;
+                blankRow = field == 1 && !quoted && contentEnd == contentStart;
+                return limit;
+            }
+            final byte b = buffer.get(pos);
+            if (b == delimiter) {
+                pos++;
+            } else if (b == LINE_FEED) {
+                blankRow = field == 1 && !quoted && contentEnd == contentStart;
+                return pos + 1;
+            } else if (quoted && b == CARRIAGE_RETURN && pos + 1 < limit && buffer.get(pos + 1) == LINE_FEED) {
+                blankRow = false;
+                return pos + 2;
+            } else if (quoted && b == CARRIAGE_RETURN && pos + 1 >= limit) {
+                // a bare carriage return after the last quoted field ends the content
+                if (!lastWindow) return INCOMPLETE_ROW;
+                blankRow = false;
+                return limit;
+            } else {
+                throw malformed("Invalid character after closing quote");
+            }
+        }
+    }
+
+    /**
+     * Copies the content of the given field into the scratch buffer, resolving {@code ""} escapes.
+     *
+     * @param column position of the column in the requested columns
+     * @return the number of bytes copied
+     */
+    private int copyField(final int column) {
+        final int start = fieldStarts[column], end = fieldEnds[column];
+        if (scratch.length < end - start) scratch = new byte[Math.max(end - start, scratch.length * 2)];
+
+        int length = 0;
+        for (int pos = start; pos < end; pos++) {
+            final byte b = window.get(pos);
+            scratch[length++] = b;
+            if (b == QUOTE && fieldQuoted[column]) pos++;
+        }
+        return length;
+    }
+
+    /**
+     * Checks whether the given field can be parsed straight from the mapped bytes.
+     *
+     * @param column position of the column in the requested columns
+     * @return {@code true} if the field isn't quoted and only contains ASCII bytes
+     */
+    private boolean isPlainAscii(final int column) {
+        if (fieldQuoted[column]) return false;
+        for (int pos = fieldStarts[column]; pos < fieldEnds[column]; pos++) {
+            if (window.get(pos) < 0) return false;
+        }
+        return true;
+    }
+
+    private IOException malformed(final String reason) {
+        logger.warn("{} in row {} of {}", reason, rowNumber + 1, path);
+        return new IOException(reason + " in row " + (rowNumber + 1) + " of " + path);
+    }
+    //endregion
+
+    //region Header
+    /**
+     * Reads the header line, which must fit into the first window.
+     *
+     * @return the column names of the file
+     * @throws IOException if the file is empty or the header is malformed
+     */
+    private List<String> readHeader() throws IOException {
+        final int limit = window.limit();
+        int end = position;
+        boolean quoted = false;
+        while (end < limit && (quoted || window.get(end) != LINE_FEED)) {
+            if (window.get(end) == QUOTE) quoted = !quoted;
+            end++;
+        }
+        if (end == position) {
+            logger.warn("No header found in {}", path);
+            throw new IOException("No header found in " + path);
+        }
+        if (end == limit && windowOffset + limit < fileSize) {
+            throw new IOException("Header exceeds the mapping window of " + windowSize + " bytes in " + path);
+        }
+
+        final byte[] line = new byte[end - position];
+        for (int i = 0; i < line.length; i++) line[i] = window.get(position + i);
+        position = Math.min(end + 1, limit);
+
+        final CSVFormat format = CSVFormat.DEFAULT.builder().setDelimiter((char) delimiter).get();
+        try (final CSVParser parser = format.parse(new StringReader(new String(line, StandardCharsets.UTF_8)))) {
+            final List<String> names = new ArrayList<>();
+            for (final CSVRecord record : parser) {
+                record.forEach(names::add);
+            }
+            return List.copyOf(names);
+        }
+    }
+
+    //endregion
+
+    //region Mapping
+    private void map(final long offset) throws IOException {
+        final long size = Math.min(windowSize, fileSize - offset);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+        windowOffset = offset;
+        position = 0;
+    }
+
+    private void skipByteOrderMark() {
+        if (window.limit() >= 3 && window.get(0) == (byte) 0xEF && window.get(1) == (byte) 0xBB && window.get(2) == (byte) 0xBF) {
+            position = 3;
+        }
+    }
+    //endregion
+
+    /**
+     * Returns the position in the file after the current row, or after the header before the first row.
+     *
+     * @return the byte offset of the next row
+     */
+    long getPosition() {
+        return windowOffset + position;
+    }
+
+    //region Getter
+    public Path getPath() {
+        return path;
+    }
+
+    public List<String> getHeader() {
+        return header;
+    }
+    //endregion
+
+    /**
+     * Reusable {@link CharSequence} view of an ASCII field in the current window.
+     */
+    private final class FieldChars implements CharSequence {
+        private int start;
+        private int length;
+
+        private FieldChars of(final int start, final int end) {
+            this.start = start;
+            this.length = end - start;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            return (char) window.get(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int from, final int to) {
+            return toString().substring(from, to);
+        }
+
+        @Override
+        public String toString() {
+            final byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) bytes[i] = window.get(start + i);
+            return new String(bytes, StandardCharsets.US_ASCII);
+        }
+    }
+}
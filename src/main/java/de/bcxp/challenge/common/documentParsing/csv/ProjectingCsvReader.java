@@ -0,0 +1,370 @@
+package de.bcxp.challenge.common.documentParsing.csv;
+
+import de.bcxp.challenge.common.documentParsing.source.IDocumentSource;
+import de.bcxp.challenge.common.utility.LocaleNumberParser;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Character-level CSV tokenizer reading any {@link Reader}, e.g. the content of an {@link IDocumentSource}.
+ * <p>
+ * The content is read into a reusable character buffer, in which delimiters, quotes and line breaks are detected
+ * directly. Only the fields of the requested columns are located; all other fields are skipped without creating a
+ * {@link String}. Values are only materialized on access: {@link #getString(int)} creates a string of the field,
+ * while {@link #getDouble(int)} and {@link #getLong(int)} parse the field straight from the buffer.
+ * </p>
+ * <p>
+ * Like {@link MappedCsvReader}, the reader supports RFC 4180 quoting (including delimiters, line breaks and
+ * {@code ""} escapes within quoted fields), {@code \n} and {@code \r\n} line endings, skips empty lines and treats
+ * the first line as header. Unlike it, the reader isn't limited to local files and grows its buffer for rows longer
+ * than the buffer.
+ * </p>
+ * <p>
+ * The reader itself is the {@link ICsvRow} of the current row. Instances are not thread-safe.
+ * </p>
+ */
+public final class ProjectingCsvReader implements ICsvRow, Closeable {
+    private static final Logger logger = LogManager.getLogger(ProjectingCsvReader.class);
+
+    /**
+     * Default size of the character buffer.
+     */
+    static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Maximum size of the character buffer, which limits the length of a single row.
+     */
+    static final int MAX_BUFFER_SIZE = 1 << 26;
+
+    private static final char QUOTE = '"', LINE_FEED = '\n', CARRIAGE_RETURN = '\r', BYTE_ORDER_MARK = '\uFEFF';
+    private static final int INCOMPLETE_ROW = -1;
+
+    private final Reader reader;
+    private final String name;
+    private final char delimiter;
+    private final LocaleNumberParser numberParser;
+    private final List<String> header;
+
+    /**
+     * Maps the column index within the file to the position within the requested columns, or {@code -1} for
+     * columns that are skipped.
+     */
+    private final int[] projection;
+    private final int[] fieldStarts;
+    private final int[] fieldEnds;
+    private final boolean[] fieldQuoted;
+
+    private char[] buffer;
+    private CharBuffer chars;
+    private int limit;
+    private int position;
+    private boolean endOfInput;
+    private long rowNumber;
+    private boolean blankRow;
+
+    /**
+     * Reads the header and resolves the requested columns.
+     *
+     * @param reader the reader providing the content; closed together with this reader
+     * @param name the name of the content, used in log and error messages
+     * @param delimiter the character separating the fields
+     * @param locale the locale used to parse numbers
+     * @param columns names of the columns to locate, in the order they are addressed by the {@link ICsvRow} methods
+     * @param bufferSize the initial size of the character buffer
+     * @throws IOException if the content cannot be read or has no header
+     * @throws IllegalArgumentException if the delimiter is a quote or line break, or a requested column is missing in
+     *                                  the header
+     */
+    ProjectingCsvReader(final Reader reader, final String name, final char delimiter, final Locale locale, final List<String> columns, final int bufferSize) throws IOException {
+        try {
+            if (delimiter == QUOTE || delimiter == LINE_FEED || delimiter == CARRIAGE_RETURN) {
+                logger.warn("Unsupported delimiter '{}' for projected parsing of {}", delimiter, name);
+                throw new IllegalArgumentException("Projected parsing requires a delimiter other than quotes and line breaks.");
+            }
+            this.reader = reader;
+            this.name = name;
+            this.delimiter = delimiter;
+            this.numberParser = LocaleNumberParser.forLocale(locale);
+            this.buffer = new char[bufferSize];
+            this.chars = CharBuffer.wrap(buffer);
+            this.fieldStarts = new int[columns.size()];
+            this.fieldEnds = new int[columns.size()];
+            this.fieldQuoted = new boolean[columns.size()];
+            this.header = readHeader();
+            this.projection = CsvColumns.resolveProjection(header, columns, name);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the given source part for projected reading.
+     *
+     * @param part the part of a source to read, see {@link IDocumentSource#getParts()}
+     * @param delimiter the character separating the fields
+     * @param locale the locale used to parse numbers
+     * @param columns names of the columns to locate, in the order they are addressed by the {@link ICsvRow} methods
+     * @return the opened reader, positioned before the first row
+     * @throws IOException if the part cannot be read or has no header
+     * @throws IllegalArgumentException if the delimiter is a quote or line break, or a requested column is missing in
+     *                                  the header
+     */
+    public static ProjectingCsvReader open(final IDocumentSource part, final char delimiter, final Locale locale, final List<String> columns) throws IOException {
+        return new ProjectingCsvReader(part.openReader(), part.getName(), delimiter, locale, columns, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Advances to the next non-empty row.
+     *
+     * @return {@code true} if a row has been read, {@code false} at the end of the content
+     * @throws IOException if the content cannot be read, a row exceeds the maximum buffer size or is malformed
+     * @throws IllegalArgumentException if the row has fewer fields than required for the requested columns
+     */
+    public boolean next() throws IOException {
+        while (true) {
+            if (position >= limit) {
+                if (endOfInput) return false;
+                fill();
+                continue;
+            }
+            final int end = scanRow(null);
+            if (end == INCOMPLETE_ROW) {
+                fill();
+                continue;
+            }
+            position = end;
+            if (blankRow) continue;
+
+            rowNumber++;
+            CsvColumns.requireFields(fieldStarts, rowNumber, name);
+            return true;
+        }
+    }
+
+    //region ICsvRow
+    @Override
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public String getString(final int column) {
+        return toString(fieldStarts[column], fieldEnds[column], fieldQuoted[column]);
+    }
+
+    @Override
+    public double getDouble(final int column) throws NumberFormatException, ParseException {
+        if (hasEscapedQuotes(column)) return numberParser.parseDouble(getString(column));
+        return numberParser.parseDouble(chars, fieldStarts[column], fieldEnds[column]);
+    }
+
+    @Override
+    public long getLong(final int column) throws NumberFormatException, ParseException {
+        if (hasEscapedQuotes(column)) return numberParser.parseLong(getString(column));
+        return numberParser.parseLong(chars, fieldStarts[column], fieldEnds[column]);
+    }
+    //endregion
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    //region Tokenizing
+    /**
+     * Locates the fields of the row starting at the current position within the buffered content.
+     *
+     * @param headerFields if not {@code null}, receives the values of all fields of the row instead of locating the
+     *                     requested columns
+     * @return the position after the row's line break, or {@link #INCOMPLETE_ROW} if the row continues beyond the
+     *         buffered content
+     * @throws IOException if the row is malformed
+     */
+    private int scanRow(final List<String> headerFields) throws IOException {
+        final char[] buf = buffer;
+        final int end = limit;
+        final boolean last = endOfInput;
+        if (headerFields == null) Arrays.fill(fieldStarts, -1);
+
+        int pos = position;
+        int field = 0;
+        while (true) {
+            int contentStart = pos;
+            int contentEnd;
+            final boolean quoted = pos < end && buf[pos] == QUOTE;
+
+            if (quoted) {
+                contentStart = ++pos;
+                while (true) {
+                    if (pos >= end) {
+                        if (last) throw malformed("Unterminated quoted field");
+                        return INCOMPLETE_ROW;
+                    }
+                    if (buf[pos] == QUOTE) {
+                        if (pos + 1 >= end && !last) return INCOMPLETE_ROW;
+                        if (pos + 1 < end && buf[pos + 1] == QUOTE) {
+                            pos += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    pos++;
+                }
+                contentEnd = pos++;
+            } else {
+                while (pos < end) {
+                    final char c = buf[pos];
+                    if (c == delimiter || c == LINE_FEED) break;
+                    pos++;
+                }
+                contentEnd = pos;
+                if (pos >= end && !last) return INCOMPLETE_ROW;
+                if (contentEnd > contentStart && buf[contentEnd - 1] == CARRIAGE_RETURN) contentEnd--;
+            }
+
+            if (headerFields != null) {
+                headerFields.add(toString(contentStart, contentEnd, quoted));
+            } else if (field < projection.length && projection[field] >= 0) {
+                final int column = projection[field];
+                fieldStarts[column] = contentStart;
+                fieldEnds[column] = contentEnd;
+                fieldQuoted[column] = quoted;
+            }
+            field++;
+
+            if (pos >= end) {
+                if (!last) return INCOMPLETE_ROW;
+                blankRow = field == 1 && !quoted && contentEnd == contentStart;
+                return end;
+            }
+            final char c = buf[pos];
+            if (c == delimiter) {
+                pos++;
+            } else if (c == LINE_FEED) {
+                blankRow = field == 1 && !quoted && contentEnd == contentStart;
+                return pos + 1;
+            } else if (quoted && c == CARRIAGE_RETURN && pos + 1 < end && buf[pos + 1] == LINE_FEED) {
+                blankRow = false;
+                return pos + 2;
+            } else if (quoted && c == CARRIAGE_RETURN && pos + 1 >= end) {
+                // a bare carriage return after the last quoted field ends the content
+                if (!last) return INCOMPLETE_ROW;
+                blankRow = false;
+                return end;
+            } else {
+                throw malformed("Invalid character after closing quote");
+            }
+        }
+    }
+
+    /**
+     * Moves the unread content to the start of the buffer, grows the buffer if it is full, and reads more content.
+     *
+     * @throws IOException if the content cannot be read or a row exceeds {@link #MAX_BUFFER_SIZE}
+     */
+    private void fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            if (buffer.length >= MAX_BUFFER_SIZE) {
+                logger.error("Row {} of {} exceeds the maximum length of {} characters", rowNumber + 1, name, MAX_BUFFER_SIZE);
+                throw new IOException("Row exceeds the maximum length of " + MAX_BUFFER_SIZE + " characters in " + name);
+            }
+            buffer = Arrays.copyOf(buffer, Math.min(MAX_BUFFER_SIZE, buffer.length * 2));
+            chars = CharBuffer.wrap(buffer);
+        }
+        final int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            endOfInput = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    /**
+     * Creates a string of the buffered characters in {@code [start, end)}, resolving {@code ""} escapes of quoted
+     * fields.
+     */
+    private String toString(final int start, final int end, final boolean quoted) {
+        if (!quoted) return new String(buffer, start, end - start);
+
+        final StringBuilder value = new StringBuilder(end - start);
+        for (int pos = start; pos < end; pos++) {
+            value.append(buffer[pos]);
+            if (buffer[pos] == QUOTE) pos++;
+        }
+        return value.toString();
+    }
+
+    /**
+     * Checks whether the given field contains {@code ""} escapes, which must be resolved before parsing.
+     *
+     * @param column position of the column in the requested columns
+     * @return {@code true} if the field is quoted and contains a quote
+     */
+    private boolean hasEscapedQuotes(final int column) {
+        if (!fieldQuoted[column]) return false;
+        for (int pos = fieldStarts[column]; pos < fieldEnds[column]; pos++) {
+            if (buffer[pos] == QUOTE) return true;
+        }
+        return false;
+    }
+
+    private IOException malformed(final String reason) {
+        logger.warn("{} in row {} of {}", reason, rowNumber + 1, name);
+        return new IOException(reason + " in row " + (rowNumber + 1) + " of " + name);
+    }
+    //endregion
+
+    //region Header
+    /**
+     * Reads the header line.
+     *
+     * @return the column names of the content
+     * @throws IOException if the content is empty or the header is malformed
+     */
+    private List<String> readHeader() throws IOException {
+        fill();
+        if (position < limit && buffer[position] == BYTE_ORDER_MARK) position++;
+
+        final List<String> names = new ArrayList<>();
+        int end = INCOMPLETE_ROW;
+        while (position < limit || !endOfInput) {
+            names.clear();
+            end = scanRow(names);
+            if (end != INCOMPLETE_ROW) break;
+            fill();
+        }
+        if (end == INCOMPLETE_ROW || blankRow) {
+            logger.warn("No header found in {}", name);
+            throw new IOException("No header found in " + name);
+        }
+        position = end;
+        return List.copyOf(names);
+    }
+
+    //endregion
+
+    //region Getter
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getHeader() {
+        return header;
+    }
+    //endregion
+}
@@ -0,0 +1,103 @@
+package de.bcxp.challenge.common.documentParsing.csv;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.util.List;
+
+/**
+ * Sampled diagnostic logging of parsed rows, logging every {@code n}th row instead of every row.
+ * <p>
+ * Logging each row of a large document is too expensive for production, even at disabled levels if the arguments
+ * have to be boxed. A sampler instead counts the rows with a primitive countdown and only logs a row at {@code INFO}
+ * once the configured interval has passed, so troubleshooting output stays proportional to {@code rows / n}. With
+ * an interval of {@code 0}, the sampler is disabled and costs a single comparison per row.
+ * </p>
+ * <p>
+ * The interval is configured with the system property {@value #INTERVAL_PROPERTY}. Instances are not thread-safe.
+ * </p>
+ */
+final class RowSampler {
+    private static final Logger logger = LogManager.getLogger(RowSampler.class);
+
+    /**
+     * System property holding the sampling interval; {@code 0} or absent disables sampling.
+     */
+    static final String INTERVAL_PROPERTY = "de.bcxp.challenge.csv.sampleInterval";
+
+    private final Logger target;
+    private final Object source;
+    private final long interval;
+    private long countdown;
+
+    /**
+     * Creates a sampler.
+     *
+     * @param target the logger the sampled rows are logged to
+     * @param source the file or resource being parsed, included in the log messages
+     * @param interval the number of rows between two logged rows; {@code 0} disables sampling
+     */
+    RowSampler(final Logger target, final Object source, final long interval) {
+        this.target = target;
+        this.source = source;
+        this.interval = Math.max(interval, 0);
+        this.countdown = this.interval;
+    }
+
+    /**
+     * @return the interval configured by {@value #INTERVAL_PROPERTY}, or {@code 0} if it is absent or invalid
+     */
+    static long getConfiguredInterval() {
+        return parseInterval(System.getProperty(INTERVAL_PROPERTY));
+    }
+
+    /**
+     * Parses a sampling interval.
+     *
+     * @param value the interval as string, may be {@code null}
+     * @return the interval, or {@code 0} if {@code value} is {@code null}, not a number or negative
+     */
+    static long parseInterval(final String value) {
+        if (value == null || value.isBlank()) return 0;
+        try {
+            final long interval = Long.parseLong(value.trim());
+            if (interval >= 0) return interval;
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        logger.warn("Ignoring invalid row sampling interval {}", value);
+        return 0;
+    }
+
+    /**
+     * Advances the sampler by one row.
+     *
+     * @return {@code true} if the current row is due to be logged via {@link #log(long, Object)}
+     */
+    boolean tick() {
+        if (interval == 0 || --countdown > 0) return false;
+        countdown = interval;
+        return true;
+    }
+
+    /**
+     * Logs a sampled row.
+     *
+     * @param rowNumber the one-based number of the row, not counting the header
+     * @param row the parsed row
+     */
+    void log(final long rowNumber, final Object row) {
+        target.info("Sampled row {} of {}: {}", rowNumber, source, row);
+    }
+
+    /**
+     * Logs every {@code n}th element of already parsed rows, stepping over the rows in between.
+     *
+     * @param rows the parsed rows in file order
+     */
+    void sampleAll(final List<?> rows) {
+        if (interval == 0) return;
+        for (long index = interval - 1; index < rows.size(); index += interval) {
+            log(index + 1, rows.get((int) index));
+        }
+    }
+}
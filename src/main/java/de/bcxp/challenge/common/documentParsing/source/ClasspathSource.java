@@ -0,0 +1,55 @@
+package de.bcxp.challenge.common.documentParsing.source;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.validateString;
+
+/**
+ * Document source reading a resource from the application's classpath.
+ */
+public final class ClasspathSource implements IDocumentSource {
+    private static final Logger logger = LogManager.getLogger(ClasspathSource.class);
+
+    private final String resource;
+
+    /**
+     * Creates a source for a classpath resource.
+     *
+     * @param resource the relative path of the resource within the classpath
+     * @throws IllegalArgumentException if {@code resource} is {@code null} or empty
+     */
+    public ClasspathSource(final String resource) {
+        validateString(resource, logger, "Invalid filepath provided: " + resource, "Filepath can't be empty");
+        this.resource = resource;
+    }
+
+    /**
+     * @throws FileNotFoundException if the resource doesn't exist on the classpath
+     */
+    @Override
+    public ReadableByteChannel open() throws IOException {
+        final InputStream input = ClasspathSource.class.getClassLoader().getResourceAsStream(resource);
+        if (input == null) {
+            logger.error("Resource not found: {}", resource);
+            throw new FileNotFoundException("Resource not found: " + resource);
+        }
+        return Channels.newChannel(input);
+    }
+
+    @Override
+    public String getName() {
+        return resource;
+    }
+
+    //region java.lang.Object Overrides
+    @Override
+    public String toString() {
+        return "ClasspathSource: " + resource;
+    }
+    //endregion
+}
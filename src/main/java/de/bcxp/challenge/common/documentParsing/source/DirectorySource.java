@@ -0,0 +1,114 @@
+package de.bcxp.challenge.common.documentParsing.source;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.validateString;
+
+/**
+ * Document source made up of the shards of a document stored as files in a local directory.
+ * <p>
+ * Every regular file in the directory matching the glob pattern is one part of the document, e.g. {@code part-000.csv},
+ * {@code part-001.csv} and so on, each with its own header. The parts are read in the lexicographic order of their
+ * file names. Subdirectories are ignored.
+ * </p>
+ */
+public final class DirectorySource implements IDocumentSource {
+    private static final Logger logger = LogManager.getLogger(DirectorySource.class);
+
+    /**
+     * Glob pattern matching the shards of a CSV document.
+     */
+    public static final String CSV_GLOB = "*.csv";
+
+    private final Path directory;
+    private final String glob;
+
+    /**
+     * Creates a source for the CSV files of a directory.
+     *
+     * @param directory the directory containing the shards
+     * @throws IllegalArgumentException if {@code directory} is {@code null}
+     */
+    public DirectorySource(final Path directory) {
+        this(directory, CSV_GLOB);
+    }
+
+    /**
+     * Creates a source for the files of a directory matching a glob pattern.
+     *
+     * @param directory the directory containing the shards
+     * @param glob the glob pattern the file names of the shards must match, see {@link java.nio.file.FileSystem#getPathMatcher(String)}
+     * @throws IllegalArgumentException if a parameter is {@code null} or {@code glob} is empty
+     */
+    public DirectorySource(final Path directory, final String glob) {
+        nullCheck(directory, logger, "Directory was null when creating directory source.", "Directory can't be null.");
+        validateString(glob, logger, "Invalid glob provided for " + directory, "Glob can't be empty.");
+        this.directory = directory;
+        this.glob = glob;
+    }
+
+    /**
+     * A directory can't be read as a whole.
+     *
+     * @throws UnsupportedOperationException always; the parts must be opened individually
+     */
+    @Override
+    public ReadableByteChannel open() {
+        throw new UnsupportedOperationException("Directory source " + directory + " must be read part by part.");
+    }
+
+    /**
+     * Lists the matching files of the directory.
+     *
+     * @return a {@link FileSource} per matching file, ordered by file name
+     * @throws java.nio.file.NoSuchFileException if the directory doesn't exist
+     * @throws IOException if the directory can't be listed
+     */
+    @Override
+    public List<FileSource> getParts() throws IOException {
+        final List<Path> files = new ArrayList<>();
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+            for (final Path file : stream) {
+                if (Files.isRegularFile(file)) files.add(file);
+            }
+        }
+        files.sort(Path::compareTo);
+
+        final List<FileSource> parts = new ArrayList<>(files.size());
+        for (final Path file : files) {
+            parts.add(new FileSource(file));
+        }
+        logger.debug("Found {} parts matching {} in {}", parts.size(), glob, directory);
+        return parts;
+    }
+
+    @Override
+    public String getName() {
+        return directory.resolve(glob).toString();
+    }
+
+    //region Getter
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public String getGlob() {
+        return glob;
+    }
+    //endregion
+
+    //region java.lang.Object Overrides
+    @Override
+    public String toString() {
+        return "DirectorySource: " + getName();
+    }
+    //endregion
+}
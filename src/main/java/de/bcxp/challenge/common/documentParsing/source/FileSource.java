@@ -0,0 +1,56 @@
+package de.bcxp.challenge.common.documentParsing.source;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+
+/**
+ * Document source reading a file from the local file system through a {@link FileChannel}.
+ */
+public final class FileSource implements IDocumentSource {
+    private static final Logger logger = LogManager.getLogger(FileSource.class);
+
+    private final Path path;
+
+    /**
+     * Creates a source for a local file.
+     *
+     * @param path the path of the file
+     * @throws IllegalArgumentException if {@code path} is {@code null}
+     */
+    public FileSource(final Path path) {
+        nullCheck(path, logger, "Path was null when creating file source.", "Path can't be null.");
+        this.path = path;
+    }
+
+    /**
+     * @throws java.nio.file.NoSuchFileException if the file doesn't exist
+     */
+    @Override
+    public ReadableByteChannel open() throws IOException {
+        return FileChannel.open(path, StandardOpenOption.READ);
+    }
+
+    @Override
+    public String getName() {
+        return path.toString();
+    }
+
+    //region Getter
+    public Path getPath() {
+        return path;
+    }
+    //endregion
+
+    //region java.lang.Object Overrides
+    @Override
+    public String toString() {
+        return "FileSource: " + path;
+    }
+    //endregion
+}
@@ -0,0 +1,269 @@
+package de.bcxp.challenge.common.documentParsing.source;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+
+/**
+ * Transparent decompression of gzip compressed document content.
+ * <p>
+ * The content is recognized by its leading bytes, so compressed and uncompressed sources can be read the same way:
+ * </p>
+ * <ul>
+ *   <li>Uncompressed content is passed through unchanged.</li>
+ *   <li>gzip content, including multi-member files created by concatenating gzip files, is decompressed by a
+ *       dedicated thread while the reading thread tokenizes the decompressed content.</li>
+ *   <li>BGZF content, i.e. gzip members of at most 64 KiB that state their compressed size in a {@code BC} extra
+ *       field, is split into its members by a dedicated thread and the members are inflated in parallel on an
+ *       executor, so decompression scales with the number of cores.</li>
+ * </ul>
+ * <p>
+ * The utility class is declared {@code final} and has a private constructor to prevent instantiation.
+ * </p>
+ */
+public final class GzipDecompression {
+    private static final Logger logger = LogManager.getLogger(GzipDecompression.class);
+
+    private static final int ID1 = 0x1f, ID2 = 0x8b, CM_DEFLATE = 8, FLG_FEXTRA = 0x04;
+    private static final int HEADER_SIZE = 12, TRAILER_SIZE = 8, BGZF_PEEK_SIZE = 18;
+    private static final int BLOCK_SIZE = 1 << 20;
+    private static final int READ_AHEAD = 4;
+    private static final int MAX_BGZF_BLOCK_SIZE = 1 << 16;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private GzipDecompression() {
+        throw new AssertionError("Cannot instantiate utility class.");
+    }
+
+    /**
+     * Type of compression recognized by {@link #decompressIfNeeded(ReadableByteChannel, String)}.
+     */
+    public enum Compression {
+        /**
+         * Uncompressed content.
+         */
+        NONE,
+        /**
+         * gzip content of one or more members, decompressed sequentially.
+         */
+        GZIP,
+        /**
+         * Block compressed gzip content whose members can be decompressed in parallel.
+         */
+        BGZF
+    }
+
+    /**
+     * Decompresses the content of the given channel if it is gzip compressed, inflating BGZF members on the common
+     * {@link ForkJoinPool}.
+     *
+     * @param channel the channel providing the possibly compressed content; closed together with the returned channel
+     * @param name the name of the source, used in thread names and log messages
+     * @return a channel providing the uncompressed content
+     * @throws IOException if reading the leading bytes fails
+     * @see #decompressIfNeeded(ReadableByteChannel, String, ExecutorService)
+     */
+    public static ReadableByteChannel decompressIfNeeded(final ReadableByteChannel channel, final String name) throws IOException {
+        return decompressIfNeeded(channel, name, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decompresses the content of the given channel if it is gzip compressed.
+     *
+     * @param channel the channel providing the possibly compressed content; closed together with the returned channel
+     * @param name the name of the source, used in thread names and log messages
+     * @param executor the executor inflating the members of BGZF content in parallel
+     * @return a channel providing the uncompressed content
+     * @throws IOException if reading the leading bytes fails
+     * @throws IllegalArgumentException if a parameter is {@code null}
+     */
+    public static ReadableByteChannel decompressIfNeeded(final ReadableByteChannel channel, final String name, final ExecutorService executor) throws IOException {
+        nullCheck(channel, logger, "Channel was null when checking for compression.", "Channel can't be null.");
+        nullCheck(name, logger, "Name was null when checking for compression.", "Name can't be null.");
+        nullCheck(executor, logger, "Executor was null when checking for compression of " + name, "Executor can't be null.");
+
+        final InputStream raw = Channels.newInputStream(channel);
+        final byte[] peek = readUpTo(raw, BGZF_PEEK_SIZE);
+        final InputStream content = new SequenceInputStream(new ByteArrayInputStream(peek), raw);
+        final Compression compression = detect(peek, peek.length);
+        logger.debug("Detected compression {} of {}", compression, name);
+
+        switch (compression) {
+            case GZIP:
+                return new PipelinedChannel(sink -> inflateSequentially(content, sink), content, name, READ_AHEAD);
+            case BGZF:
+                final int readAhead = Math.max(READ_AHEAD, 2 * Runtime.getRuntime().availableProcessors());
+                return new PipelinedChannel(sink -> inflateBlocksInParallel(content, executor, sink), content, name, readAhead);
+            default:
+                return Channels.newChannel(content);
+        }
+    }
+
+    /**
+     * Recognizes the compression of content by its leading bytes.
+     *
+     * @param bytes the leading bytes of the content
+     * @param length the number of valid leading bytes
+     * @return the recognized {@link Compression}
+     */
+    public static Compression detect(final byte[] bytes, final int length) {
+        if (length < 2 || (bytes[0] & 0xff) != ID1 || (bytes[1] & 0xff) != ID2) return Compression.NONE;
+        if (length >= BGZF_PEEK_SIZE && isBgzfHeader(bytes)) return Compression.BGZF;
+        return Compression.GZIP;
+    }
+
+    /**
+     * Checks for the header written by BGZF compressors: deflate, only the extra field flag, and an extra field holding
+     * exactly the {@code BC} subfield with the block size.
+     */
+    private static boolean isBgzfHeader(final byte[] header) {
+        return (header[2] & 0xff) == CM_DEFLATE
+                && (header[3] & 0xff) == FLG_FEXTRA
+                && readShort(header, 10) == 6
+                && header[12] == 'B' && header[13] == 'C'
+                && readShort(header, 14) == 2;
+    }
+
+    //region Decompression
+    private static void inflateSequentially(final InputStream content, final PipelinedChannel.ISink sink) throws IOException, InterruptedException {
+        try (final GZIPInputStream gzip = new GZIPInputStream(content, 1 << 16)) {
+            while (true) {
+                final byte[] block = readUpTo(gzip, BLOCK_SIZE);
+                if (block.length == 0) return;
+                sink.put(CompletableFuture.completedFuture(ByteBuffer.wrap(block)));
+                if (Thread.interrupted()) throw new InterruptedException();
+            }
+        }
+    }
+
+    private static void inflateBlocksInParallel(final InputStream content, final ExecutorService executor, final PipelinedChannel.ISink sink) throws IOException, InterruptedException {
+        final DataInputStream in = new DataInputStream(content);
+        final byte[] header = new byte[HEADER_SIZE];
+        long offset = 0;
+        while (true) {
+            final int first = in.read();
+            if (first < 0) return;
+            header[0] = (byte) first;
+            in.readFully(header, 1, HEADER_SIZE - 1);
+            if ((header[0] & 0xff) != ID1 || (header[1] & 0xff) != ID2 || (header[2] & 0xff) != CM_DEFLATE || (header[3] & FLG_FEXTRA) == 0) {
+                throw new ZipException("Not a BGZF block at offset " + offset);
+            }
+
+            final byte[] extra = new byte[readShort(header, 10)];
+            in.readFully(extra);
+            final int blockSize = getBlockSize(extra, offset);
+            final int remaining = blockSize - HEADER_SIZE - extra.length;
+            if (remaining < TRAILER_SIZE) throw new ZipException("Invalid BGZF block size at offset " + offset);
+
+            final byte[] data = new byte[remaining];
+            in.readFully(data);
+            final long blockOffset = offset;
+            sink.put(executor.submit(() -> inflateBlock(data, blockOffset)));
+            offset += blockSize;
+        }
+    }
+
+    /**
+     * Finds the {@code BC} subfield in the extra field of a BGZF member.
+     *
+     * @return the total size of the member in bytes
+     */
+    private static int getBlockSize(final byte[] extra, final long offset) throws ZipException {
+        int position = 0;
+        while (position + 4 <= extra.length) {
+            final int length = readShort(extra, position + 2);
+            if (extra[position] == 'B' && extra[position + 1] == 'C' && length == 2 && position + 6 <= extra.length) {
+                return readShort(extra, position + 4) + 1;
+            }
+            position += 4 + length;
+        }
+        throw new ZipException("Missing BGZF block size at offset " + offset);
+    }
+
+    /**
+     * Inflates the deflate data of a single BGZF member and verifies its trailer.
+     *
+     * @param data the compressed data of the member, followed by its CRC-32 and uncompressed size
+     * @param offset the offset of the member in the content, used in error messages
+     * @return the uncompressed content of the member
+     */
+    private static ByteBuffer inflateBlock(final byte[] data, final long offset) throws IOException {
+        final int dataLength = data.length - TRAILER_SIZE;
+        final long expectedCrc = readInt(data, dataLength) & 0xffffffffL;
+        final int size = readInt(data, dataLength + 4);
+        if (size < 0 || size > MAX_BGZF_BLOCK_SIZE) {
+            throw new ZipException("Invalid uncompressed size " + Integer.toUnsignedString(size) + " of BGZF block at offset " + offset);
+        }
+        // one spare byte to detect members inflating to more than their stated size
+        final byte[] output = new byte[size + 1];
+
+        final Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data, 0, dataLength);
+            int length = 0;
+            while (length <= size && !inflater.finished()) {
+                final int count = inflater.inflate(output, length, output.length - length);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                length += count;
+            }
+            if (length != size || !inflater.finished()) {
+                throw new ZipException("Corrupt BGZF block at offset " + offset);
+            }
+        } catch (DataFormatException e) {
+            throw new ZipException("Corrupt BGZF block at offset " + offset + ": " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+
+        final CRC32 crc = new CRC32();
+        crc.update(output, 0, size);
+        if (crc.getValue() != expectedCrc) throw new ZipException("CRC mismatch in BGZF block at offset " + offset);
+        return ByteBuffer.wrap(output, 0, size);
+    }
+    //endregion
+
+    //region Auxiliary
+    /**
+     * Reads bytes until {@code length} bytes were read or the stream ended.
+     *
+     * @return the read bytes; shorter than {@code length} only at the end of the stream
+     */
+    private static byte[] readUpTo(final InputStream in, final int length) throws IOException {
+        final byte[] bytes = new byte[length];
+        int count = 0;
+        while (count < length) {
+            final int read = in.read(bytes, count, length - count);
+            if (read < 0) break;
+            count += read;
+        }
+        return count == length ? bytes : Arrays.copyOf(bytes, count);
+    }
+
+    private static int readShort(final byte[] bytes, final int offset) {
+        return (bytes[offset] & 0xff) | (bytes[offset + 1] & 0xff) << 8;
+    }
+
+    private static int readInt(final byte[] bytes, final int offset) {
+        return readShort(bytes, offset) | readShort(bytes, offset + 2) << 16;
+    }
+    //endregion
+}
@@ -0,0 +1,84 @@
+package de.bcxp.challenge.common.documentParsing.source;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Source of the raw content of a document, read as a {@link ReadableByteChannel}.
+ * <p>
+ * A source consists of one or more parts, each of which is a complete document of its own, e.g. a CSV file with its
+ * own header. Most sources consist of a single part, themselves; sources like {@link DirectorySource} split a large
+ * document into several shards, which parsers read one after another.
+ * </p>
+ *
+ * @see ClasspathSource
+ * @see FileSource
+ * @see StandardInputSource
+ * @see DirectorySource
+ */
+public interface IDocumentSource {
+
+    /**
+     * Size of the buffers used to read the content of a source, large enough to read multi-GB files in few system
+     * calls.
+     */
+    int BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Opens the content of this source.
+     *
+     * @return a new channel over the content, which the caller must close
+     * @throws IOException if the source can't be opened, e.g. because it doesn't exist
+     * @throws UnsupportedOperationException if the source consists of several parts, which must be opened individually
+     */
+    ReadableByteChannel open() throws IOException;
+
+    /**
+     * Returns the parts of this source in reading order.
+     *
+     * @return the parts of this source; by default only the source itself
+     * @throws IOException if the parts can't be determined
+     */
+    default List<? extends IDocumentSource> getParts() throws IOException {
+        return List.of(this);
+    }
+
+    /**
+     * Tells whether this source can be opened more than once, yielding the same content each time.
+     *
+     * @return {@code true} by default; {@code false} for sources that are consumed by reading them, like the
+     *         standard input
+     */
+    default boolean isRepeatable() {
+        return true;
+    }
+
+    /**
+     * Opens the content of this source as UTF-8 text. Malformed input is replaced instead of failing the read.
+     * <p>
+     * gzip compressed content is recognized and decompressed transparently, see {@link GzipDecompression}.
+     * </p>
+     *
+     * @return a new reader over the uncompressed content, which the caller must close
+     * @throws IOException if the source can't be opened
+     */
+    default Reader openReader() throws IOException {
+        return Channels.newReader(
+                GzipDecompression.decompressIfNeeded(open(), getName()),
+                StandardCharsets.UTF_8.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE),
+                BUFFER_SIZE
+        );
+    }
+
+    /**
+     * @return a human-readable name of this source, used in log and error messages
+     */
+    String getName();
+}
@@ -0,0 +1,148 @@
+package de.bcxp.challenge.common.documentParsing.source;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Channel whose content is produced by a background thread while the reading thread consumes it.
+ * <p>
+ * The producer hands over blocks of content as {@link Future futures} through a bounded queue, in content order.
+ * Blocks can therefore either be produced by the producer thread itself, e.g. by decompressing a stream, or be
+ * computed concurrently on an executor, e.g. by inflating independent blocks in parallel. The bounded queue limits the
+ * read-ahead, so memory usage stays constant, and the throughput is bound by the slower of producer and consumer
+ * instead of their sum.
+ * </p>
+ * <p>
+ * Failures of the producer, including errors, are rethrown by {@link #read(ByteBuffer)} once the reader reaches the failed block.
+ * Closing the channel stops the producer and closes the underlying source.
+ * </p>
+ */
+final class PipelinedChannel implements ReadableByteChannel {
+    private static final Logger logger = LogManager.getLogger(PipelinedChannel.class);
+
+    private static final Future<ByteBuffer> END = CompletableFuture.completedFuture(null);
+
+    /**
+     * Produces the blocks of the content.
+     */
+    @FunctionalInterface
+    interface IProducer {
+
+        /**
+         * Produces all blocks of the content, in order.
+         *
+         * @param sink the queue accepting the blocks; blocks until there is room for the next one
+         * @throws IOException if reading the source fails
+         * @throws InterruptedException if the channel was closed while producing
+         */
+        void produce(ISink sink) throws IOException, InterruptedException;
+    }
+
+    /**
+     * Accepts the blocks of a {@link IProducer}.
+     */
+    @FunctionalInterface
+    interface ISink {
+        void put(Future<ByteBuffer> block) throws InterruptedException;
+    }
+
+    private final BlockingQueue<Future<ByteBuffer>> queue;
+    private final Closeable source;
+    private final String name;
+    private final Thread producerThread;
+
+    private ByteBuffer current;
+    private boolean ended;
+    private volatile boolean open = true;
+
+    /**
+     * Creates the channel and starts its producer thread.
+     *
+     * @param producer the producer of the content
+     * @param source the source the producer reads from, closed together with the channel
+     * @param name the name of the source, used for the producer thread and log messages
+     * @param readAhead the maximum number of blocks produced ahead of the reader
+     */
+    PipelinedChannel(final IProducer producer, final Closeable source, final String name, final int readAhead) {
+        this.queue = new ArrayBlockingQueue<>(readAhead);
+        this.source = source;
+        this.name = name;
+        this.producerThread = new Thread(() -> produce(producer), "pipeline-" + name);
+        this.producerThread.setDaemon(true);
+        this.producerThread.start();
+    }
+
+    private void produce(final IProducer producer) {
+        try {
+            try {
+                producer.produce(queue::put);
+                queue.put(END);
+            } catch (IOException | RuntimeException | Error e) {
+                // errors are handed over as well, otherwise the reader would wait for the next block forever
+                if (!open) return;
+                logger.warn("Producing content of {} failed", name, e);
+                queue.put(CompletableFuture.failedFuture(e));
+            }
+        } catch (InterruptedException e) {
+            logger.debug("Producer of {} stopped", name);
+        }
+    }
+
+    @Override
+    public int read(final ByteBuffer destination) throws IOException {
+        if (!open) throw new ClosedChannelException();
+        while (current == null || !current.hasRemaining()) {
+            if (ended) return -1;
+            current = nextBlock();
+            if (current == null) {
+                ended = true;
+                return -1;
+            }
+        }
+
+        final int count = Math.min(current.remaining(), destination.remaining());
+        final int limit = current.limit();
+        current.limit(current.position() + count);
+        destination.put(current);
+        current.limit(limit);
+        return count;
+    }
+
+    private ByteBuffer nextBlock() throws IOException {
+        try {
+            return queue.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading " + name, e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IOException("Reading " + name + " failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!open) return;
+        open = false;
+        producerThread.interrupt();
+        queue.clear();
+        source.close();
+    }
+}
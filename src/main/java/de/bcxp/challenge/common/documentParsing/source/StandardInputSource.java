@@ -0,0 +1,72 @@
+package de.bcxp.challenge.common.documentParsing.source;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+
+/**
+ * Document source reading the standard input of the process, e.g. a file piped into the application.
+ * <p>
+ * The content of the stream can only be read once. Closing the opened channel doesn't close the underlying stream.
+ * </p>
+ */
+public final class StandardInputSource implements IDocumentSource {
+    private static final Logger logger = LogManager.getLogger(StandardInputSource.class);
+
+    private final InputStream input;
+
+    /**
+     * Creates a source reading {@link System#in}.
+     */
+    public StandardInputSource() {
+        this(System.in);
+    }
+
+    /**
+     * Creates a source reading the given stream in place of the standard input.
+     *
+     * @param input the stream to read
+     * @throws IllegalArgumentException if {@code input} is {@code null}
+     */
+    public StandardInputSource(final InputStream input) {
+        nullCheck(input, logger, "Input stream was null when creating standard input source.", "Input stream can't be null.");
+        this.input = input;
+    }
+
+    @Override
+    public ReadableByteChannel open() {
+        return Channels.newChannel(new FilterInputStream(input) {
+            @Override
+            public void close() {
+                // the standard input stays open for the rest of the process
+            }
+        });
+    }
+
+    @Override
+    public String getName() {
+        return "<stdin>";
+    }
+
+    /**
+     * The standard input is consumed by reading it.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isRepeatable() {
+        return false;
+    }
+
+    //region java.lang.Object Overrides
+    @Override
+    public String toString() {
+        return "StandardInputSource";
+    }
+    //endregion
+}
@@ -0,0 +1,5 @@
+/**
+ * Sources that documents are read from, such as classpath resources, local files, standard input or directories
+ * of shards.
+ */
+package de.bcxp.challenge.common.documentParsing.source;
@@ -0,0 +1,277 @@
+package de.bcxp.challenge.common.generation;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.DecimalFormatSymbols;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+
+/**
+ * Base class for generators of arbitrarily large synthetic CSV documents.
+ * <p>
+ * Subclasses define the header and the content of a single row, this class takes care of the rest: rows are
+ * formatted into a reusable buffer, encoded as UTF-8 and written to a {@link WritableByteChannel} in blocks of about
+ * one megabyte, so generation speed is bound by the disk rather than by allocations. Numbers are formatted with the
+ * separators and minus sign of the configured locale, and fields are quoted if they contain the delimiter, quotes or
+ * line breaks, or if {@link CsvGeneratorOptions#isQuoteAll()} is set.
+ * </p>
+ * <p>
+ * A configurable number of randomly chosen rows is flagged as best match; subclasses must give those rows the best
+ * score of the dataset and all other rows a strictly worse one, so that the expected analysis result is known.
+ * The same options always generate the same content.
+ * </p>
+ *
+ * @see CsvGeneratorOptions
+ */
+public abstract class CsvGenerator {
+    private static final Logger logger = LogManager.getLogger(CsvGenerator.class);
+
+    private static final int FLUSH_THRESHOLD = 1 << 20;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+
+    private final CsvGeneratorOptions options;
+    private final char delimiter;
+    private final char decimalSeparator;
+    private final char groupingSeparator;
+    private final char minusSign;
+
+    /**
+     * Creates a generator.
+     *
+     * @param options the generation settings
+     * @param defaultDelimiter the delimiter used if the options don't specify one
+     * @throws IllegalArgumentException if {@code options} is {@code null}
+     */
+    protected CsvGenerator(final CsvGeneratorOptions options, final char defaultDelimiter) {
+        nullCheck(options, logger, "Options were null when creating generator.", "Options can't be null.");
+        final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(options.getLocale());
+        this.options = options;
+        this.delimiter = options.getDelimiter() == null ? defaultDelimiter : options.getDelimiter();
+        this.decimalSeparator = symbols.getDecimalSeparator();
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.minusSign = symbols.getMinusSign();
+    }
+
+    /**
+     * Generates the document into a file, replacing any existing content.
+     *
+     * @param target the file to write
+     * @throws IOException if writing fails
+     */
+    public void generate(final Path target) throws IOException {
+        nullCheck(target, logger, "Target was null when generating document.", "Target can't be null.");
+        try (final FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            generate(channel);
+        }
+        logger.info("Generated {} with {}", target, options);
+    }
+
+    /**
+     * Generates the document into a channel, which is not closed afterward.
+     *
+     * @param channel the channel to write to
+     * @throws IOException if writing fails
+     */
+    public void generate(final WritableByteChannel channel) throws IOException {
+        nullCheck(channel, logger, "Channel was null when generating document.", "Channel can't be null.");
+        final SplittableRandom random = new SplittableRandom(options.getSeed());
+        final long[] bestRows = pickBestRows(random.split());
+        final Row row = new Row(channel);
+
+        for (final String column : getHeader()) {
+            row.field(column);
+        }
+        row.end();
+
+        int nextBest = 0;
+        for (long index = 0; index < options.getRows(); index++) {
+            final boolean best = nextBest < bestRows.length && bestRows[nextBest] == index;
+            if (best) nextBest++;
+            writeRow(row, index, best, random);
+            row.end();
+        }
+        row.flush();
+    }
+
+    /**
+     * @return the column names of the generated document
+     */
+    protected abstract List<String> getHeader();
+
+    /**
+     * Writes the fields of a single row. The row is ended by the caller.
+     *
+     * @param row the row to write the fields to
+     * @param index the zero-based index of the row
+     * @param best whether the row must have the best score of the document
+     * @param random the source of random values, shared by all rows
+     */
+    protected abstract void writeRow(Row row, long index, boolean best, SplittableRandom random);
+
+    private long[] pickBestRows(final SplittableRandom random) {
+        if (options.getRows() == 0) return new long[0];
+        final TreeSet<Long> rows = new TreeSet<>();
+        while (rows.size() < options.getBestMatches()) {
+            rows.add(random.nextLong(options.getRows()));
+        }
+        return rows.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    //region Getter
+    public CsvGeneratorOptions getOptions() {
+        return options;
+    }
+
+    public char getDelimiter() {
+        return delimiter;
+    }
+    //endregion
+
+    /**
+     * Row of the generated document, buffering the formatted fields until enough content has accumulated to be
+     * written.
+     */
+    public final class Row {
+        private final WritableByteChannel channel;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 4096);
+        private final StringBuilder field = new StringBuilder(64);
+        private final char[] digits = new char[20];
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        private final ByteBuffer bytes = ByteBuffer.allocateDirect(FLUSH_THRESHOLD);
+        private boolean firstField = true;
+
+        private Row(final WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Appends a text field.
+         *
+         * @param value the text of the field
+         * @return this row
+         */
+        public Row field(final CharSequence value) {
+            field.setLength(0);
+            field.append(value);
+            return appendField();
+        }
+
+        /**
+         * Appends an integer field, formatted with the grouping separator of the locale if grouping is enabled.
+         *
+         * @param value the value of the field
+         * @return this row
+         */
+        public Row integer(final long value) {
+            field.setLength(0);
+            if (value < 0) field.append(minusSign);
+            appendDigits(value < 0 ? -value : value, options.isGrouping());
+            return appendField();
+        }
+
+        /**
+         * Appends a decimal field, formatted with the decimal and grouping separators of the locale.
+         *
+         * @param unscaled the value multiplied by {@code 10^fractionDigits}
+         * @param fractionDigits the number of fraction digits, between 0 and 9
+         * @return this row
+         */
+        public Row decimal(final long unscaled, final int fractionDigits) {
+            field.setLength(0);
+            final long magnitude = unscaled < 0 ? -unscaled : unscaled;
+            final long scale = POWERS_OF_TEN[fractionDigits];
+            if (unscaled < 0) field.append(minusSign);
+            appendDigits(magnitude / scale, options.isGrouping());
+            if (fractionDigits > 0) {
+                field.append(decimalSeparator);
+                final long fraction = magnitude % scale;
+                for (int digit = fractionDigits - 1; digit >= 0; digit--) {
+                    field.append((char) ('0' + fraction / POWERS_OF_TEN[digit] % 10));
+                }
+            }
+            return appendField();
+        }
+
+        private void appendDigits(long value, final boolean grouping) {
+            int count = 0;
+            do {
+                digits[count++] = (char) ('0' + value % 10);
+                value /= 10;
+            } while (value != 0);
+            for (int i = count - 1; i >= 0; i--) {
+                field.append(digits[i]);
+                if (grouping && i > 0 && i % 3 == 0) field.append(groupingSeparator);
+            }
+        }
+
+        private Row appendField() {
+            if (!firstField) buffer.append(delimiter);
+            firstField = false;
+
+            if (options.isQuoteAll() || needsQuotes()) {
+                buffer.append('"');
+                for (int i = 0; i < field.length(); i++) {
+                    final char c = field.charAt(i);
+                    if (c == '"') buffer.append('"');
+                    buffer.append(c);
+                }
+                buffer.append('"');
+            } else {
+                buffer.append(field);
+            }
+            return this;
+        }
+
+        private boolean needsQuotes() {
+            for (int i = 0; i < field.length(); i++) {
+                final char c = field.charAt(i);
+                if (c == delimiter || c == '"' || c == '\n' || c == '\r') return true;
+            }
+            return false;
+        }
+
+        private void end() throws IOException {
+            buffer.append('\n');
+            firstField = true;
+            if (buffer.length() >= FLUSH_THRESHOLD) flush();
+        }
+
+        private void flush() throws IOException {
+            final CharBuffer chars = CharBuffer.wrap(buffer);
+            CoderResult result;
+            do {
+                result = encoder.encode(chars, bytes, true);
+                if (result.isError()) result.throwException();
+                write();
+            } while (result.isOverflow());
+            do {
+                result = encoder.flush(bytes);
+                write();
+            } while (result.isOverflow());
+            encoder.reset();
+            buffer.setLength(0);
+        }
+
+        private void write() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            bytes.clear();
+        }
+    }
+}
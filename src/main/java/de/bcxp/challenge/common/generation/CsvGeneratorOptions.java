@@ -0,0 +1,183 @@
+package de.bcxp.challenge.common.generation;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.util.Locale;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+
+/**
+ * Immutable settings of a {@link CsvGenerator}, created through {@link #builder()}.
+ */
+public final class CsvGeneratorOptions {
+    private static final Logger logger = LogManager.getLogger(CsvGeneratorOptions.class);
+
+    private final long rows;
+    private final long seed;
+    private final Locale locale;
+    private final Character delimiter;
+    private final boolean quoteAll;
+    private final boolean grouping;
+    private final int bestMatches;
+
+    private CsvGeneratorOptions(final Builder builder) {
+        this.rows = builder.rows;
+        this.seed = builder.seed;
+        this.locale = builder.locale;
+        this.delimiter = builder.delimiter;
+        this.quoteAll = builder.quoteAll;
+        this.grouping = builder.grouping;
+        this.bestMatches = builder.bestMatches;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    //region Getter
+    public long getRows() {
+        return rows;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * @return the delimiter to use, or {@code null} to use the default delimiter of the generated dataset
+     */
+    public Character getDelimiter() {
+        return delimiter;
+    }
+
+    public boolean isQuoteAll() {
+        return quoteAll;
+    }
+
+    public boolean isGrouping() {
+        return grouping;
+    }
+
+    public int getBestMatches() {
+        return bestMatches;
+    }
+    //endregion
+
+    //region java.lang.Object Overrides
+    @Override
+    public String toString() {
+        return "CsvGeneratorOptions: " +
+                "rows: " + rows +
+                ", seed: " + seed +
+                ", locale: " + locale +
+                ", delimiter: " + delimiter +
+                ", quoteAll: " + quoteAll +
+                ", grouping: " + grouping +
+                ", bestMatches: " + bestMatches;
+    }
+    //endregion
+
+    /**
+     * Builder for {@link CsvGeneratorOptions}. Defaults to 1000 rows, seed 42, {@link Locale#GERMANY}, the default
+     * delimiter of the dataset, minimal quoting, grouped numbers and a single best match.
+     */
+    public static final class Builder {
+        private long rows = 1000;
+        private long seed = 42;
+        private Locale locale = Locale.GERMANY;
+        private Character delimiter;
+        private boolean quoteAll;
+        private boolean grouping = true;
+        private int bestMatches = 1;
+
+        private Builder() {}
+
+        /**
+         * @param rows the number of data rows to generate, at least as many as {@code bestMatches}
+         * @return this builder
+         */
+        public Builder rows(final long rows) {
+            if (rows < 0) {
+                logger.warn("Invalid row count {}", rows);
+                throw new IllegalArgumentException("Row count can't be negative.");
+            }
+            this.rows = rows;
+            return this;
+        }
+
+        /**
+         * @param seed the seed of the random values; equal options generate identical files
+         * @return this builder
+         */
+        public Builder seed(final long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * @param locale the {@link Locale} whose separators and minus sign are used to format numbers
+         * @return this builder
+         */
+        public Builder locale(final Locale locale) {
+            nullCheck(locale, logger, "Locale was null when configuring generator.", "Locale can't be null.");
+            this.locale = locale;
+            return this;
+        }
+
+        /**
+         * @param delimiter the delimiter to use instead of the default delimiter of the dataset
+         * @return this builder
+         */
+        public Builder delimiter(final char delimiter) {
+            if (delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+                logger.warn("Invalid delimiter {}", delimiter);
+                throw new IllegalArgumentException("Delimiter can't be a quote or line break.");
+            }
+            this.delimiter = delimiter;
+            return this;
+        }
+
+        /**
+         * @param quoteAll {@code true} to quote every field, {@code false} to quote only fields containing the
+         *                 delimiter, quotes or line breaks
+         * @return this builder
+         */
+        public Builder quoteAll(final boolean quoteAll) {
+            this.quoteAll = quoteAll;
+            return this;
+        }
+
+        /**
+         * @param grouping {@code true} to format integer parts with the grouping separator of the locale
+         * @return this builder
+         */
+        public Builder grouping(final boolean grouping) {
+            this.grouping = grouping;
+            return this;
+        }
+
+        /**
+         * @param bestMatches the number of rows sharing the best score; all other rows score strictly worse
+         * @return this builder
+         */
+        public Builder bestMatches(final int bestMatches) {
+            if (bestMatches < 1) {
+                logger.warn("Invalid best match count {}", bestMatches);
+                throw new IllegalArgumentException("There must be at least one best match.");
+            }
+            this.bestMatches = bestMatches;
+            return this;
+        }
+
+        public CsvGeneratorOptions build() {
+            if (rows > 0 && bestMatches > rows) {
+                logger.warn("{} best matches requested for {} rows", bestMatches, rows);
+                throw new IllegalArgumentException("There can't be more best matches than rows.");
+            }
+            return new CsvGeneratorOptions(this);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Generation of large synthetic CSV documents for load tests and benchmarks.
+ */
+package de.bcxp.challenge.common.generation;
@@ -0,0 +1,133 @@
+package de.bcxp.challenge.common.metrics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram of latencies in microseconds with bounded relative error.
+ * <p>
+ * Values are counted in log-linear buckets: every power of two is split into {@value #SUB_BUCKETS} equally wide
+ * buckets, so a reported percentile exceeds the recorded value by at most 12.5%, while the whole range of
+ * {@code long} values fits into a fixed array of {@value #BUCKET_COUNT} counters. Recording a value is a few bit
+ * operations and atomic increments without locking or allocation, so request threads can record their latency
+ * concurrently on every request.
+ * </p>
+ * <p>
+ * Reads are not atomic with respect to concurrent writes: a percentile computed while values are recorded may
+ * reflect some of them only partially, which is acceptable for monitoring.
+ * </p>
+ */
+public final class LatencyHistogram {
+    private static final Logger logger = LogManager.getLogger(LatencyHistogram.class);
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param micros the latency in microseconds; negative values, e.g. caused by clock adjustments, count as zero
+     */
+    public void record(final long micros) {
+        final long value = Math.max(micros, 0);
+        counts.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns the latency below or at which the given share of the recorded latencies lies.
+     *
+     * @param percentile the share of latencies in percent, from {@code 0} to {@code 100}
+     * @return the upper bound of the bucket holding the percentile, at most the maximum recorded latency, or
+     *         {@code 0} if nothing has been recorded
+     * @throws IllegalArgumentException if {@code percentile} is outside of {@code [0, 100]}
+     */
+    public long getPercentile(final double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            logger.warn("Invalid percentile {} requested", percentile);
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+        final long total = count.sum();
+        if (total == 0) return 0;
+
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            seen += counts.get(index);
+            if (seen >= rank) return Math.min(upperBoundOf(index), getMax());
+        }
+        return getMax();
+    }
+
+    /**
+     * @return the number of recorded latencies
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the mean of the recorded latencies in microseconds, or {@code 0} if nothing has been recorded
+     */
+    public double getMean() {
+        final long total = count.sum();
+        return total == 0 ? 0 : (double) sum.sum() / total;
+    }
+
+    /**
+     * @return the maximum recorded latency in microseconds, or {@code 0} if nothing has been recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the index of the bucket counting the given value.
+     *
+     * @param value a non-negative value
+     * @return the bucket index
+     */
+    static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        final int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value counted by the given bucket.
+     *
+     * @param index the bucket index
+     * @return the inclusive upper bound of the bucket
+     */
+    static long upperBoundOf(final int index) {
+        if (index < SUB_BUCKETS) return index;
+        final int shift = index / SUB_BUCKETS - 1;
+        final long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        final long upperBound = lowerBound + (1L << shift) - 1;
+        return upperBound < 0 ? Long.MAX_VALUE : upperBound;
+    }
+
+    //region java.lang.Object Overrides
+    @Override
+    public String toString() {
+        return "count=" + getCount() +
+                " mean=" + Math.round(getMean()) +
+                " p50=" + getPercentile(50) +
+                " p90=" + getPercentile(90) +
+                " p99=" + getPercentile(99) +
+                " max=" + getMax();
+    }
+    //endregion
+}
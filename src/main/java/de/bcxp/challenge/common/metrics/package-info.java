@@ -0,0 +1,4 @@
+/**
+ * Lightweight metrics for long-running services, such as request latency histograms.
+ */
+package de.bcxp.challenge.common.metrics;
@@ -0,0 +1,447 @@
+package de.bcxp.challenge.common.model;
+
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.csv.NumericComparisonType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.*;
+
+/**
+ * Column oriented representation of a document, holding its rows in primitive arrays instead of
+ * {@link DocumentEntry} objects.
+ * <p>
+ * The ids of the rows are kept in a compact string table and every numeric column in a {@code double[]} or
+ * {@code long[]}. In addition, the best match score of every row is computed once while the document is built, so
+ * that analyses can scan the scores in a tight loop via {@link #getBestScoreRows(NumericComparisonType)} or
+ * {@link #getScore(int)}. Rows are only turned into
+ * {@link DocumentEntry} objects on request, e.g. for the few rows an analysis returns.
+ * </p>
+ *
+ * @see Builder
+ * @see Document
+ */
+public final class ColumnarDocument {
+    private static final Logger logger = LogManager.getLogger(ColumnarDocument.class);
+
+    /**
+     * Type of a numeric column.
+     */
+    public enum ColumnType {
+        /**
+         * Column of {@code double} values.
+         */
+        DOUBLE,
+        /**
+         * Column of {@code long} values.
+         */
+        LONG
+    }
+
+    /**
+     * Creates the {@link DocumentEntry} represented by a row of a {@link ColumnarDocument}.
+     */
+    @FunctionalInterface
+    public interface IEntryMapper {
+
+        /**
+         * Creates the entry of the given row.
+         *
+         * @param document the document containing the row
+         * @param row the index of the row
+         * @return the entry represented by the row
+         */
+        DocumentEntry toEntry(ColumnarDocument document, int row);
+    }
+
+    private final StringTable ids;
+    private final List<String> columnNames;
+    private final List<ColumnType> columnTypes;
+    private final double[][] doubleColumns;
+    private final long[][] longColumns;
+    private final double[] scores;
+    private final int size;
+    private final IEntryMapper entryMapper;
+
+    private ColumnarDocument(final Builder builder) {
+        this.ids = builder.ids;
+        this.columnNames = builder.columnNames;
+        this.columnTypes = builder.columnTypes;
+        this.doubleColumns = builder.doubleColumns;
+        this.longColumns = builder.longColumns;
+        this.scores = builder.scores;
+        this.size = builder.size;
+        this.entryMapper = builder.entryMapper;
+    }
+
+    private ColumnarDocument(final StringTable ids, final List<String> columnNames, final List<ColumnType> columnTypes, final double[][] doubleColumns,
+                             final long[][] longColumns, final double[] scores, final IEntryMapper entryMapper) {
+        this.ids = ids;
+        this.columnNames = columnNames;
+        this.columnTypes = columnTypes;
+        this.doubleColumns = doubleColumns;
+        this.longColumns = longColumns;
+        this.scores = scores;
+        this.size = scores.length;
+        this.entryMapper = entryMapper;
+    }
+
+    /**
+     * Restores a document from its columns, e.g. read from a {@link ColumnarSnapshot}.
+     * <p>
+     * The columns are taken over without copying. The schema, i.e. the column names and types and the entry mapper,
+     * is taken from an unused builder, usually the one of the parser that created the original document.
+     * </p>
+     *
+     * @param schema an unused builder providing the column names, types and entry mapper
+     * @param ids the ids of all rows
+     * @param scores the best match scores of all rows
+     * @param doubleColumns the values of every {@link ColumnType#DOUBLE} column, {@code null} for other columns
+     * @param longColumns the values of every {@link ColumnType#LONG} column, {@code null} for other columns
+     * @return the restored document
+     * @throws IllegalArgumentException if the columns don't match the schema or the number of rows
+     */
+    static ColumnarDocument restore(final Builder schema, final StringTable ids, final double[] scores, final double[][] doubleColumns, final long[][] longColumns) {
+        final int size = scores.length;
+        boolean matches = ids.size() == size
+                && doubleColumns.length == schema.columnTypes.size()
+                && longColumns.length == schema.columnTypes.size();
+        for (int column = 0; matches && column < schema.columnTypes.size(); column++) {
+            final double[] doubles = doubleColumns[column];
+            final long[] longs = longColumns[column];
+            matches = schema.columnTypes.get(column) == ColumnType.DOUBLE
+                    ? doubles != null && longs == null && doubles.length == size
+                    : longs != null && doubles == null && longs.length == size;
+        }
+        if (!matches) {
+            logger.warn("Restored columns don't match the schema {} {} with {} rows", schema.columnNames, schema.columnTypes, size);
+            throw new IllegalArgumentException("Restored columns don't match the schema of the document.");
+        }
+        return new ColumnarDocument(ids, schema.columnNames, schema.columnTypes, doubleColumns, longColumns, scores, schema.entryMapper);
+    }
+
+    /**
+     * Creates a builder for a document with the given numeric columns.
+     *
+     * @param columnNames the names of the numeric columns
+     * @param columnTypes the types of the numeric columns, in the same order as {@code columnNames}
+     * @param entryMapper the mapper creating a {@link DocumentEntry} from a row
+     * @return a new, empty {@link Builder}
+     * @throws IllegalArgumentException if a parameter is {@code null} or the column names and types differ in size
+     */
+    public static Builder builder(final List<String> columnNames, final List<ColumnType> columnTypes, final IEntryMapper entryMapper) {
+        return new Builder(columnNames, columnTypes, entryMapper);
+    }
+
+    //region Row Access
+    /**
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    public String getId(final int row) {
+        checkRow(row);
+        return ids.get(row);
+    }
+
+    /**
+     * Returns the best match score of a row, as computed while the document was built.
+     *
+     * @param row the index of the row
+     * @return the score of the row
+     * @throws IndexOutOfBoundsException if the row doesn't exist
+     */
+    public double getScore(final int row) {
+        checkRow(row);
+        return scores[row];
+    }
+
+    /**
+     * Finds the rows sharing the best score, according to the given {@link NumericComparisonType}.
+     * <p>
+     * The backing score column is scanned directly, once to determine the best score and once to collect the rows
+     * having it into a buffer that only grows with the number of such rows.
+     * </p>
+     *
+     * @param type the {@link NumericComparisonType} defining the best score
+     * @return the ascending indices of all rows with the best score; empty if the document has no rows
+     * @throws IllegalArgumentException if {@code type} is {@code null}
+     */
+    public int[] getBestScoreRows(final NumericComparisonType type) {
+        nullCheck(type, logger, "Comparison type was null when searching best scores of " + this, "Comparison type can't be null.");
+        if (size == 0) return new int[0];
+
+        final double[] scores = this.scores;
+        double bestScore = scores[0];
+        for (int row = 1; row < size; row++) {
+            bestScore = type.selectBetter(bestScore, scores[row]);
+        }
+
+        int count = 0;
+        int[] rows = new int[Math.min(size, 16)];
+        for (int row = 0; row < size; row++) {
+            if (scores[row] != bestScore) continue;
+            if (count == rows.length) rows = Arrays.copyOf(rows, (int) Math.min(size, 2L * count));
+            rows[count++] = row;
+        }
+        return count == rows.length ? rows : Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Returns the value of a {@link ColumnType#DOUBLE} column.
+     *
+     * @param column the index of the column within {@link #getColumnNames()}
+     * @param row the index of the row
+     * @return the value of the cell
+     * @throws IllegalArgumentException if the column isn't a {@code double} column
+     * @throws IndexOutOfBoundsException if the column or row doesn't exist
+     */
+    public double getDouble(final int column, final int row) {
+        checkRow(row);
+        final double[] values = doubleColumns[column];
+        if (values == null) throw wrongColumnType(column, ColumnType.DOUBLE);
+        return values[row];
+    }
+
+    /**
+     * Returns the value of a {@link ColumnType#LONG} column.
+     *
+     * @param column the index of the column within {@link #getColumnNames()}
+     * @param row the index of the row
+     * @return the value of the cell
+     * @throws IllegalArgumentException if the column isn't a {@code long} column
+     * @throws IndexOutOfBoundsException if the column or row doesn't exist
+     */
+    public long getLong(final int column, final int row) {
+        checkRow(row);
+        final long[] values = longColumns[column];
+        if (values == null) throw wrongColumnType(column, ColumnType.LONG);
+        return values[row];
+    }
+
+    /**
+     * Creates the {@link DocumentEntry} represented by a row.
+     *
+     * @param row the index of the row
+     * @return a new entry for the row
+     * @throws IndexOutOfBoundsException if the row doesn't exist
+     */
+    public DocumentEntry getEntry(final int row) {
+        checkRow(row);
+        return entryMapper.toEntry(this, row);
+    }
+
+    /**
+     * Creates a row oriented {@link Document} containing the entries of all rows.
+     *
+     * @return a {@link Document} with one entry per row, in row order
+     * @throws DocumentCreationException if the document can't be created
+     */
+    public Document<DocumentEntry> toDocument() throws DocumentCreationException {
+        final List<DocumentEntry> entries = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            entries.add(entryMapper.toEntry(this, row));
+        }
+        return new Document<>(entries);
+    }
+
+    private void checkRow(final int row) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+    }
+
+    private IllegalArgumentException wrongColumnType(final int column, final ColumnType expected) {
+        logger.warn("Column {} accessed as {} but is {}", columnNames.get(column), expected, columnTypes.get(column));
+        return new IllegalArgumentException("Column " + columnNames.get(column) + " is not of type " + expected + ".");
+    }
+    //endregion
+
+    //region Column Access
+    /**
+     * Returns the backing column of a {@link ColumnType#DOUBLE} column without copying; the caller must not modify it.
+     */
+    double[] getDoubleColumn(final int column) {
+        return doubleColumns[column];
+    }
+
+    /**
+     * Returns the backing column of a {@link ColumnType#LONG} column without copying; the caller must not modify it.
+     */
+    long[] getLongColumn(final int column) {
+        return longColumns[column];
+    }
+
+    /**
+     * Returns the backing scores without copying; the caller must not modify them.
+     */
+    double[] getScores() {
+        return scores;
+    }
+
+    StringTable getIds() {
+        return ids;
+    }
+    //endregion
+
+    //region Getter
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public List<ColumnType> getColumnTypes() {
+        return columnTypes;
+    }
+    //endregion
+
+    //region java.lang.Object Overrides
+    @Override
+    public String toString() {
+        return "ColumnarDocument: " +
+                "rows: " + size +
+                ", columns: " + columnNames;
+    }
+    //endregion
+
+    /**
+     * Builds a {@link ColumnarDocument} row by row.
+     * <p>
+     * A row is started with {@link #addRow(String, double)} and its numeric cells are set with
+     * {@link #setDouble(int, double)} and {@link #setLong(int, long)}. Unset cells are {@code 0}. The columns grow by
+     * doubling and are trimmed to the number of rows by {@link #build()}. A builder can only be used once.
+     * </p>
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final StringTable ids = new StringTable(INITIAL_CAPACITY);
+        private final List<String> columnNames;
+        private final List<ColumnType> columnTypes;
+        private final double[][] doubleColumns;
+        private final long[][] longColumns;
+        private final IEntryMapper entryMapper;
+        private double[] scores = new double[INITIAL_CAPACITY];
+        private int size;
+        private boolean built;
+
+        private Builder(final List<String> columnNames, final List<ColumnType> columnTypes, final IEntryMapper entryMapper) {
+            nullCheck(columnNames, logger, "Column names were null when creating columnar document.", "Column names can't be null.");
+            nullCheck(columnTypes, logger, "Column types were null when creating columnar document.", "Column types can't be null.");
+            nullCheck(entryMapper, logger, "Entry mapper was null when creating columnar document.", "Entry mapper can't be null.");
+            if (columnNames.size() != columnTypes.size()) {
+                logger.warn("Column names {} don't match column types {}", columnNames, columnTypes);
+                throw new IllegalArgumentException("Each column needs exactly one type.");
+            }
+
+            this.columnNames = List.copyOf(columnNames);
+            this.columnTypes = List.copyOf(columnTypes);
+            this.entryMapper = entryMapper;
+            this.doubleColumns = new double[columnTypes.size()][];
+            this.longColumns = new long[columnTypes.size()][];
+            for (int column = 0; column < columnTypes.size(); column++) {
+                if (this.columnTypes.get(column) == ColumnType.DOUBLE) {
+                    doubleColumns[column] = new double[INITIAL_CAPACITY];
+                } else {
+                    longColumns[column] = new long[INITIAL_CAPACITY];
+                }
+            }
+        }
+
+        /**
+         * Starts a new row.
+         *
+         * @param id the id of the row
+         * @param score the best match score of the row
+         * @return this builder
+         * @throws IllegalArgumentException if the id is {@code null} or empty
+         */
+        public Builder addRow(final String id, final double score) {
+            checkNotBuilt();
+            validateString(id, logger, STRING_LOG, STRING_EXCEPTION);
+            if (size == scores.length) grow();
+            ids.add(id);
+            scores[size++] = score;
+            return this;
+        }
+
+        /**
+         * Sets a cell of a {@link ColumnType#DOUBLE} column in the current row.
+         *
+         * @param column the index of the column
+         * @param value the value of the cell
+         * @return this builder
+         * @throws IllegalStateException if no row was started
+         * @throws IllegalArgumentException if the column isn't a {@code double} column
+         */
+        public Builder setDouble(final int column, final double value) {
+            final double[] values = doubleColumns[column];
+            if (values == null) throw new IllegalArgumentException("Column " + columnNames.get(column) + " is not of type " + ColumnType.DOUBLE + ".");
+            values[currentRow()] = value;
+            return this;
+        }
+
+        /**
+         * Sets a cell of a {@link ColumnType#LONG} column in the current row.
+         *
+         * @param column the index of the column
+         * @param value the value of the cell
+         * @return this builder
+         * @throws IllegalStateException if no row was started
+         * @throws IllegalArgumentException if the column isn't a {@code long} column
+         */
+        public Builder setLong(final int column, final long value) {
+            final long[] values = longColumns[column];
+            if (values == null) throw new IllegalArgumentException("Column " + columnNames.get(column) + " is not of type " + ColumnType.LONG + ".");
+            values[currentRow()] = value;
+            return this;
+        }
+
+        /**
+         * Creates the document from the added rows.
+         *
+         * @return the built {@link ColumnarDocument}
+         * @throws IllegalStateException if the builder was already used
+         */
+        public ColumnarDocument build() {
+            checkNotBuilt();
+            built = true;
+            ids.trim();
+            scores = Arrays.copyOf(scores, size);
+            for (int column = 0; column < columnTypes.size(); column++) {
+                if (doubleColumns[column] != null) doubleColumns[column] = Arrays.copyOf(doubleColumns[column], size);
+                if (longColumns[column] != null) longColumns[column] = Arrays.copyOf(longColumns[column], size);
+            }
+            logger.debug("Built columnar document with {} rows and columns {}", size, columnNames);
+            return new ColumnarDocument(this);
+        }
+
+        List<String> getColumnNames() {
+            return columnNames;
+        }
+
+        List<ColumnType> getColumnTypes() {
+            return columnTypes;
+        }
+
+        private int currentRow() {
+            checkNotBuilt();
+            if (size == 0) throw new IllegalStateException("No row was added yet.");
+            return size - 1;
+        }
+
+        private void checkNotBuilt() {
+            if (built) throw new IllegalStateException("Builder was already used.");
+        }
+
+        private void grow() {
+            final int capacity = scores.length * 2;
+            scores = Arrays.copyOf(scores, capacity);
+            for (int column = 0; column < columnTypes.size(); column++) {
+                if (doubleColumns[column] != null) doubleColumns[column] = Arrays.copyOf(doubleColumns[column], capacity);
+                if (longColumns[column] != null) longColumns[column] = Arrays.copyOf(longColumns[column], capacity);
+            }
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package de.bcxp.challenge.common.model;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import static de.bcxp.challenge.common.utility.ContentHashUtility.CHECKSUM_LENGTH;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+
+/**
+ * Compact binary snapshot of a {@link ColumnarDocument}, written once after parsing and reloaded through memory
+ * mapping instead of parsing the source document again.
+ * <p>
+ * A snapshot stores the columns of the document as they are held in memory: the ids as one block of UTF-8 bytes with
+ * an offset per row, and the scores and numeric columns as fixed-width little-endian arrays. Reloading maps each
+ * section of the file and copies it into the arrays of the document in bulk, so no value is parsed again.
+ * </p>
+ * <p>
+ * The header of a snapshot carries the format version, the schema of the document and the checksum of the source
+ * it was created from. {@link #read(Path, String, byte[], ColumnarDocument.Builder)} only returns a document if all of
+ * them match, so snapshots of changed sources, of other parser configurations or of older formats are detected as
+ * stale and can be replaced. Snapshots are written to a temporary file first and moved into place, so a reader never
+ * sees a partially written snapshot.
+ * </p>
+ * <p>
+ * The utility class is declared {@code final} and has a private constructor to prevent instantiation.
+ * </p>
+ */
+public final class ColumnarSnapshot {
+    private static final Logger logger = LogManager.getLogger(ColumnarSnapshot.class);
+
+    /**
+     * Version of the binary layout, incremented with every incompatible change.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x50534342; // "BCSP" in little-endian order
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_HEADER_STRING_LENGTH = 1 << 16;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ColumnarSnapshot() {
+        throw new AssertionError("Cannot instantiate utility class.");
+    }
+
+    //region Writing
+    /**
+     * Writes a snapshot of a document, replacing an existing snapshot.
+     *
+     * @param document the document to write
+     * @param schema identifies how the document was created, e.g. the parser and its configuration
+     * @param checksum the SHA-256 checksum of the source the document was created from
+     * @param file the snapshot file
+     * @throws IOException if the snapshot can't be written
+     * @throws IllegalArgumentException if a parameter is {@code null} or the checksum isn't a SHA-256 checksum
+     */
+    public static void write(final ColumnarDocument document, final String schema, final byte[] checksum, final Path file) throws IOException {
+        nullCheck(document, logger, "Document was null when writing snapshot.", "Document can't be null.");
+        nullCheck(file, logger, "File was null when writing snapshot.", "File can't be null.");
+        checkHeaderArguments(schema, checksum);
+
+        final Path directory = file.toAbsolutePath().getParent();
+        final Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (final FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeContent(new Output(channel), document, schema, checksum);
+            }
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        logger.debug("Wrote snapshot of {} rows to {}", document.size(), file);
+    }
+
+    private static void writeContent(final Output out, final ColumnarDocument document, final String schema, final byte[] checksum) throws IOException {
+        out.putInt(MAGIC);
+        out.putInt(FORMAT_VERSION);
+        out.put(checksum, 0, CHECKSUM_LENGTH);
+        out.putString(schema);
+
+        final List<String> names = document.getColumnNames();
+        final List<ColumnarDocument.ColumnType> types = document.getColumnTypes();
+        out.putInt(names.size());
+        for (int column = 0; column < names.size(); column++) {
+            out.putString(names.get(column));
+            out.putInt(types.get(column).ordinal());
+        }
+
+        final int size = document.size();
+        final StringTable ids = document.getIds();
+        out.putInt(size);
+        out.putInt(ids.byteSize());
+        out.putInts(ids.getOffsets(), size + 1);
+        out.put(ids.getBytes(), 0, ids.byteSize());
+        out.align();
+
+        out.putDoubles(document.getScores(), size);
+        for (int column = 0; column < types.size(); column++) {
+            if (types.get(column) == ColumnarDocument.ColumnType.DOUBLE) {
+                out.putDoubles(document.getDoubleColumn(column), size);
+            } else {
+                out.putLongs(document.getLongColumn(column), size);
+            }
+        }
+        out.flush();
+    }
+    //endregion
+
+    //region Reading
+    /**
+     * Reloads a document from a snapshot if the snapshot is current.
+     * <p>
+     * The snapshot is current if it has the current {@link #FORMAT_VERSION}, the given schema and checksum, and the
+     * column names and types of the given builder. Otherwise, including if the file doesn't exist or isn't a
+     * complete snapshot, no document is returned and the caller is expected to parse the source again.
+     * </p>
+     *
+     * @param file the snapshot file
+     * @param schema identifies how the document must have been created, see {@link #write(ColumnarDocument, String, byte[], Path)}
+     * @param checksum the SHA-256 checksum of the current source
+     * @param builder an unused builder providing the column names, types and entry mapper of the document
+     * @return the reloaded document, or an empty {@link Optional} if the snapshot is missing or stale
+     * @throws IOException if an existing snapshot can't be read
+     * @throws IllegalArgumentException if a parameter is {@code null} or the checksum isn't a SHA-256 checksum
+     */
+    public static Optional<ColumnarDocument> read(final Path file, final String schema, final byte[] checksum, final ColumnarDocument.Builder builder) throws IOException {
+        nullCheck(file, logger, "File was null when reading snapshot.", "File can't be null.");
+        nullCheck(builder, logger, "Builder was null when reading snapshot " + file, "Builder can't be null.");
+        checkHeaderArguments(schema, checksum);
+
+        final FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            logger.debug("No snapshot found at {}", file);
+            return Optional.empty();
+        }
+        try (channel) {
+            final Input in = new Input(channel);
+            final ColumnarDocument document = readContent(in, schema, checksum, builder);
+            if (document == null) return Optional.empty();
+            logger.debug("Reloaded {} rows from snapshot {}", document.size(), file);
+            return Optional.of(document);
+        } catch (InvalidSnapshotException e) {
+            logger.warn("Ignoring snapshot {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the content of a snapshot.
+     *
+     * @return the document, or {@code null} if the snapshot is stale
+     * @throws InvalidSnapshotException if the file isn't a complete snapshot
+     */
+    private static ColumnarDocument readContent(final Input in, final String schema, final byte[] checksum, final ColumnarDocument.Builder builder) throws IOException {
+        final ByteBuffer header = in.section(3 * Integer.BYTES + CHECKSUM_LENGTH);
+        if (header.getInt() != MAGIC) throw new InvalidSnapshotException("not a snapshot");
+        final int version = header.getInt();
+        if (version != FORMAT_VERSION) {
+            logger.info("Snapshot has format version {} instead of {}", version, FORMAT_VERSION);
+            return null;
+        }
+        final byte[] storedChecksum = new byte[CHECKSUM_LENGTH];
+        header.get(storedChecksum);
+        if (!Arrays.equals(storedChecksum, checksum)) {
+            logger.info("Snapshot was created from a different source content");
+            return null;
+        }
+        final String storedSchema = in.string(header.getInt());
+        if (!storedSchema.equals(schema)) {
+            logger.info("Snapshot has schema {} instead of {}", storedSchema, schema);
+            return null;
+        }
+
+        final int columnCount = in.section(Integer.BYTES).getInt();
+        if (columnCount != builder.getColumnTypes().size()) {
+            logger.info("Snapshot has {} columns instead of {}", columnCount, builder.getColumnTypes().size());
+            return null;
+        }
+        final List<String> names = new ArrayList<>(columnCount);
+        final List<ColumnarDocument.ColumnType> types = new ArrayList<>(columnCount);
+        for (int column = 0; column < columnCount; column++) {
+            names.add(in.string(in.section(Integer.BYTES).getInt()));
+            final int type = in.section(Integer.BYTES).getInt();
+            if (type < 0 || type >= ColumnarDocument.ColumnType.values().length) throw new InvalidSnapshotException("unknown column type " + type);
+            types.add(ColumnarDocument.ColumnType.values()[type]);
+        }
+        if (!names.equals(builder.getColumnNames()) || !types.equals(builder.getColumnTypes())) {
+            logger.info("Snapshot has columns {} {} instead of {} {}", names, types, builder.getColumnNames(), builder.getColumnTypes());
+            return null;
+        }
+
+        final ByteBuffer counts = in.section(2 * Integer.BYTES);
+        final int size = counts.getInt();
+        final int idBytes = counts.getInt();
+        if (size < 0 || idBytes < 0) throw new InvalidSnapshotException("negative size");
+        final long idSectionEnd = in.position + (size + 1L) * Integer.BYTES + idBytes;
+        final long valueSectionLength = (long) size * Double.BYTES * (1 + columnCount);
+        in.checkRemaining(idSectionEnd - in.position + alignment(idSectionEnd) + valueSectionLength);
+
+        final int[] offsets = new int[size + 1];
+        in.section((size + 1L) * Integer.BYTES).asIntBuffer().get(offsets);
+        final byte[] bytes = new byte[idBytes];
+        in.section(idBytes).get(bytes);
+        in.align();
+        final StringTable ids;
+        try {
+            ids = new StringTable(bytes, offsets);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSnapshotException(e.getMessage());
+        }
+
+        final double[] scores = new double[size];
+        in.section((long) size * Double.BYTES).asDoubleBuffer().get(scores);
+        final double[][] doubleColumns = new double[columnCount][];
+        final long[][] longColumns = new long[columnCount][];
+        for (int column = 0; column < columnCount; column++) {
+            final ByteBuffer values = in.section((long) size * Double.BYTES);
+            if (types.get(column) == ColumnarDocument.ColumnType.DOUBLE) {
+                doubleColumns[column] = new double[size];
+                values.asDoubleBuffer().get(doubleColumns[column]);
+            } else {
+                longColumns[column] = new long[size];
+                values.asLongBuffer().get(longColumns[column]);
+            }
+        }
+        return ColumnarDocument.restore(builder, ids, scores, doubleColumns, longColumns);
+    }
+    //endregion
+
+    //region Auxiliary
+    private static void checkHeaderArguments(final String schema, final byte[] checksum) {
+        nullCheck(schema, logger, "Schema was null when accessing snapshot.", "Schema can't be null.");
+        nullCheck(checksum, logger, "Checksum was null when accessing snapshot.", "Checksum can't be null.");
+        if (checksum.length != CHECKSUM_LENGTH) {
+            logger.warn("Checksum of snapshot has {} instead of {} bytes", checksum.length, CHECKSUM_LENGTH);
+            throw new IllegalArgumentException("Checksum must be a SHA-256 checksum.");
+        }
+    }
+
+    /**
+     * @return the number of padding bytes needed to align the given position to 8 bytes
+     */
+    private static int alignment(final long position) {
+        return (int) (-position & 7);
+    }
+
+    /**
+     * Signals a file that isn't a complete snapshot, e.g. because it was truncated.
+     */
+    private static final class InvalidSnapshotException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        private InvalidSnapshotException(final String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Buffered little-endian writer of the snapshot sections.
+     */
+    private static final class Output {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private long position;
+
+        private Output(final FileChannel channel) {
+            this.channel = channel;
+        }
+
+        private void putInt(final int value) throws IOException {
+            ensure(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        private void put(final byte[] bytes, final int offset, final int length) throws IOException {
+            for (int written = 0; written < length; ) {
+                ensure(1);
+                final int count = Math.min(buffer.remaining(), length - written);
+                buffer.put(bytes, offset + written, count);
+                written += count;
+            }
+        }
+
+        private void putString(final String string) throws IOException {
+            final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            put(bytes, 0, bytes.length);
+        }
+
+        private void putInts(final int[] values, final int length) throws IOException {
+            for (int index = 0; index < length; index++) putInt(values[index]);
+        }
+
+        private void putDoubles(final double[] values, final int length) throws IOException {
+            for (int index = 0; index < length; index++) {
+                ensure(Double.BYTES);
+                buffer.putDouble(values[index]);
+            }
+        }
+
+        private void putLongs(final long[] values, final int length) throws IOException {
+            for (int index = 0; index < length; index++) {
+                ensure(Long.BYTES);
+                buffer.putLong(values[index]);
+            }
+        }
+
+        private void align() throws IOException {
+            final int padding = alignment(position + buffer.position());
+            ensure(padding);
+            for (int index = 0; index < padding; index++) buffer.put((byte) 0);
+        }
+
+        private void ensure(final int bytes) throws IOException {
+            if (buffer.remaining() < bytes) flush();
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Sequential reader mapping the sections of a snapshot into memory.
+     */
+    private static final class Input {
+        private final FileChannel channel;
+        private final long fileSize;
+        private long position;
+
+        private Input(final FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.fileSize = channel.size();
+        }
+
+        /**
+         * Maps the next {@code length} bytes of the file.
+         *
+         * @throws InvalidSnapshotException if the file ends before the section or the section is larger than a mapping
+         */
+        private ByteBuffer section(final long length) throws IOException {
+            checkRemaining(length);
+            if (length > Integer.MAX_VALUE) throw new InvalidSnapshotException("section of " + length + " bytes is too large");
+            final ByteBuffer section = channel.map(FileChannel.MapMode.READ_ONLY, position, length).order(ByteOrder.LITTLE_ENDIAN);
+            position += length;
+            return section;
+        }
+
+        private String string(final int length) throws IOException {
+            if (length < 0 || length > MAX_HEADER_STRING_LENGTH) throw new InvalidSnapshotException("invalid string length " + length);
+            final byte[] bytes = new byte[length];
+            section(length).get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private void align() {
+            position += alignment(position);
+        }
+
+        private void checkRemaining(final long length) throws InvalidSnapshotException {
+            if (length < 0 || position + length > fileSize) throw new InvalidSnapshotException("truncated at offset " + position);
+        }
+    }
+    //endregion
+}
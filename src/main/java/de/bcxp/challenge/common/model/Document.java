@@ -1,18 +1,33 @@
 package de.bcxp.challenge.common.model;
 
 import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.csv.IEntryWithComparableNumericTuple;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import static de.bcxp.challenge.common.utility.ParameterValidationUtility.validateEntries;
 
 /**
  * Represents an abstract document containing a list of {@link DocumentEntry} objects. <br>
  * Subclasses should define specific behavior for
  * different types of documents.
+ * <p>
+ * The type parameter describes the element type of the document, e.g. {@code Document<WeatherEntry>}, which is
+ * known to the parser creating it. Analyses of typed documents can therefore work with the entries directly,
+ * without checking and casting every entry.
+ * </p>
+ * <p>
+ * A document is validated once, when it is created: its entries are checked for {@code null} and their common type
+ * is determined in a single pass over an unmodifiable copy of the passed list. Since the entries can't change
+ * afterward, consumers can rely on the result of this validation via {@link #getEntryType()},
+ * {@link #isHomogeneous()} and {@link #hasComparableNumericTuples()} instead of validating the entries again.
+ * </p>
+ *
+ * @param <T> the type of the entries
  */
-public class Document {
+public class Document<T extends DocumentEntry> {
     private static final Logger logger = LogManager.getLogger(Document.class);
 
     /**
@@ -23,27 +38,82 @@ public class Document {
      * entries that could be valid.
      * </p>
      */
-    private final List<DocumentEntry> entries;
+    private final List<T> entries;
+
+    /**
+     * The concrete type of the first entry, or {@code null} if the document is empty.
+     */
+    private final Class<? extends DocumentEntry> entryType;
+
+    /**
+     * Whether all entries are instances of {@link #entryType}.
+     */
+    private final boolean homogeneous;
 
     /**
      * Constructs a new {@code Document}.
      * @param entries a {@link List} of {@link DocumentEntry} objects that represent the Document contents
      * @throws DocumentCreationException if document creation fails
      */
-    public Document(final List<DocumentEntry> entries) throws DocumentCreationException {
-        try {
-            validateEntries(entries, true, logger, "List of entries was null or contained null when trying to create Document.", "Entries can't be null.");
-        } catch (Exception e) {
-            throw new DocumentCreationException(e.getMessage());
+    public Document(final List<? extends T> entries) throws DocumentCreationException {
+        if (entries == null) {
+            logger.warn("List of entries was null when trying to create Document.");
+            throw new DocumentCreationException("Entries can't be null.");
         }
-        this.entries = entries;
-        logger.debug("Created Document with {}", entries);
+
+        final List<T> copy = new ArrayList<>(entries);
+        Class<? extends DocumentEntry> type = null;
+        boolean sameType = true;
+        for (final T entry : copy) {
+            if (entry == null) {
+                logger.warn("List of entries contained null when trying to create Document.");
+                throw new DocumentCreationException("Entries can't be null.");
+            }
+            if (type == null) {
+                type = entry.getClass();
+            } else if (sameType && !type.isInstance(entry)) {
+                sameType = false;
+            }
+        }
+
+        this.entries = Collections.unmodifiableList(copy);
+        this.entryType = type;
+        this.homogeneous = sameType;
+        logger.debug("Created Document with {} entries of {}", copy.size(), type);
     }
 
-    public List<DocumentEntry> getEntries() {
+    /**
+     * @return an unmodifiable list of the entries of this document
+     */
+    public List<T> getEntries() {
         return entries;
     }
 
+    /**
+     * Returns the concrete type of the first entry. If the document {@link #isHomogeneous() is homogeneous}, all
+     * entries are instances of this type.
+     *
+     * @return the type of the first entry, or {@code null} if the document is empty
+     */
+    public Class<? extends DocumentEntry> getEntryType() {
+        return entryType;
+    }
+
+    /**
+     * @return {@code true} if all entries are instances of {@link #getEntryType()}, which includes empty documents
+     */
+    public boolean isHomogeneous() {
+        return homogeneous;
+    }
+
+    /**
+     * @return {@code true} if the document is homogeneous and all of its entries implement
+     *         {@link IEntryWithComparableNumericTuple}; {@code false} for empty documents
+     */
+    public boolean hasComparableNumericTuples() {
+        return homogeneous && entryType != null && IEntryWithComparableNumericTuple.class.isAssignableFrom(entryType);
+    }
+
     //region java.lang.Object Overrides
     @Override
     public String toString() {
@@ -51,4 +121,4 @@ public class Document {
                 "entries: " + entries;
     }
     //endregion
-}
\ No newline at end of file
+}
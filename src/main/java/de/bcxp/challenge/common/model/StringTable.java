@@ -0,0 +1,111 @@
+package de.bcxp.challenge.common.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Append-only table of strings stored as UTF-8 bytes in a single array, addressed by their insertion index.
+ * <p>
+ * Compared to a {@code String[]}, the table needs no object per string: each string costs its encoded bytes plus one
+ * offset. Strings are decoded again on access, which is intended for reading results rather than for hot loops.
+ * </p>
+ */
+final class StringTable {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private byte[] bytes;
+    private int[] offsets;
+    private int size;
+
+    StringTable() {
+        this(INITIAL_CAPACITY);
+    }
+
+    StringTable(final int expectedSize) {
+        final int capacity = Math.max(expectedSize, 1);
+        this.bytes = new byte[capacity * 4];
+        this.offsets = new int[capacity + 1];
+    }
+
+    /**
+     * Restores a table from its backing arrays, e.g. read from a snapshot.
+     *
+     * @param bytes the UTF-8 bytes of all strings, concatenated in index order
+     * @param offsets the start of every string within {@code bytes}, followed by the end of the last string
+     * @throws IllegalArgumentException if the offsets don't describe ascending ranges within {@code bytes}
+     */
+    StringTable(final byte[] bytes, final int[] offsets) {
+        if (offsets.length == 0 || offsets[0] != 0 || offsets[offsets.length - 1] != bytes.length) {
+            throw new IllegalArgumentException("Offsets don't match the string table content.");
+        }
+        for (int index = 1; index < offsets.length; index++) {
+            if (offsets[index] < offsets[index - 1]) throw new IllegalArgumentException("Offsets of the string table must be ascending.");
+        }
+        this.bytes = bytes;
+        this.offsets = offsets;
+        this.size = offsets.length - 1;
+    }
+
+    /**
+     * Appends a string to the table.
+     *
+     * @param string the string to append
+     * @return the index of the appended string
+     */
+    int add(final String string) {
+        final byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+        final int start = offsets[size];
+        if (start + encoded.length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, start + encoded.length));
+        }
+        if (size + 2 > offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        System.arraycopy(encoded, 0, bytes, start, encoded.length);
+        offsets[size + 1] = start + encoded.length;
+        return size++;
+    }
+
+    String get(final int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        final int start = offsets[index];
+        return new String(bytes, start, offsets[index + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of bytes used by the stored strings
+     */
+    int byteSize() {
+        return offsets[size];
+    }
+
+    /**
+     * Returns the backing arrays without copying; the caller must not modify them.
+     *
+     * @return the UTF-8 bytes of all strings, possibly followed by unused capacity
+     */
+    byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the backing offsets without copying; the caller must not modify them.
+     *
+     * @return the start of every string, followed by the end of the last string and possibly unused capacity
+     */
+    int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * Shrinks the backing arrays to the stored content.
+     */
+    void trim() {
+        bytes = Arrays.copyOf(bytes, offsets[size]);
+        offsets = Arrays.copyOf(offsets, size + 1);
+    }
+}
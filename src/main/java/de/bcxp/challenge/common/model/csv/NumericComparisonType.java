@@ -1,6 +1,7 @@
 package de.bcxp.challenge.common.model.csv;
 
 import java.util.Comparator;
+import java.util.function.DoubleBinaryOperator;
 
 /**
  * Enumeration defining strategies for comparing numeric values when determining
@@ -10,7 +11,9 @@ import java.util.Comparator;
  * algorithms to determine whether the optimal value is the minimum or maximum score.
  * </p>
  * <p>
- * Each constant stores a comparator that defines the ordering for comparison.
+ * Each constant stores a comparator that defines the ordering for comparison. For hot loops over primitive scores,
+ * {@link #isBetter(double, double)}, {@link #selector} and {@link #getWorstValue()} provide the same ordering
+ * without boxing.
  * </p>
  */
 public enum NumericComparisonType {
@@ -18,11 +21,11 @@ public enum NumericComparisonType {
     /**
      * Selects the biggest numeric value as the best score.
      */
-    MAX(Comparator.naturalOrder()),
+    MAX(Comparator.naturalOrder(), true),
     /**
      * Selects the smallest numeric value as the best score.
      */
-    MIN(Comparator.reverseOrder());
+    MIN(Comparator.reverseOrder(), false);
 
     /**
      * <p>Comparator to be used with max() function applied to a double stream.</p>
@@ -35,7 +38,54 @@ public enum NumericComparisonType {
      */
     public final Comparator<Double> comparator;
 
-    NumericComparisonType(final Comparator<Double> comparator) {
+    /**
+     * <p>Operator selecting the better of two scores, to be used with reduce() applied to a primitive stream.</p>
+     * <strong>Usage Example:</strong>
+     *  <pre>{@code
+     *  final double bestScore = comparableEntries.stream()
+     *                 .mapToDouble(IEntryWithComparableNumericTuple::getBestMatchScore)
+     *                 .reduce(type.getWorstValue(), type.selector)
+     *  }</pre>
+     */
+    public final DoubleBinaryOperator selector;
+
+    private final boolean maximize;
+
+    NumericComparisonType(final Comparator<Double> comparator, final boolean maximize) {
         this.comparator = comparator;
+        this.maximize = maximize;
+        this.selector = this::selectBetter;
+    }
+
+    /**
+     * Checks whether a score is strictly better than another one.
+     *
+     * @param candidate the score to check
+     * @param current the score to compare against, usually the best score so far
+     * @return {@code true} if {@code candidate} is strictly better than {@code current}
+     */
+    public boolean isBetter(final double candidate, final double current) {
+        return maximize ? candidate > current : candidate < current;
+    }
+
+    /**
+     * Selects the better of two scores.
+     *
+     * @param first the first score
+     * @param second the second score
+     * @return {@code second} if it is strictly better than {@code first}, {@code first} otherwise
+     */
+    public double selectBetter(final double first, final double second) {
+        return isBetter(second, first) ? second : first;
+    }
+
+    /**
+     * Returns the worst possible score, which every other score is at least as good as. It is the identity of
+     * {@link #selector}.
+     *
+     * @return {@link Double#NEGATIVE_INFINITY} for {@link #MAX}, {@link Double#POSITIVE_INFINITY} for {@link #MIN}
+     */
+    public double getWorstValue() {
+        return maximize ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
     }
-}
\ No newline at end of file
+}
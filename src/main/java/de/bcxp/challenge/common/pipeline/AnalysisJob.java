@@ -0,0 +1,138 @@
+package de.bcxp.challenge.common.pipeline;
+
+import de.bcxp.challenge.common.analysis.IDocumentAnalyser;
+import de.bcxp.challenge.common.cache.ResultCache;
+import de.bcxp.challenge.common.documentParsing.IDocumentParser;
+import de.bcxp.challenge.common.documentParsing.csv.CsvParser;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.DocumentEntry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.validateString;
+
+/**
+ * A named analysis of one document, pairing the {@link IDocumentParser} reading the document with the
+ * {@link IDocumentAnalyser} finding its best match.
+ * <p>
+ * Jobs are executed by an {@link AnalysisPipeline}. A job holds no state of its own besides its parser and analyser,
+ * so it is safe to run concurrently with other jobs as long as they don't share a parser or analyser with state.
+ * </p>
+ *
+ * @param <T> the type of the analysed entries
+ */
+public final class AnalysisJob<T extends DocumentEntry> {
+    private static final Logger logger = LogManager.getLogger(AnalysisJob.class);
+
+    private final String name;
+    private final IDocumentParser<? extends T> parser;
+    private final IDocumentAnalyser<T> analyser;
+
+    /**
+     * Creates a job analysing the document read by the given parser.
+     *
+     * @param name the name identifying the job in results and logs
+     * @param parser the {@link IDocumentParser} that reads and parses the document into entries
+     * @param analyser the {@link IDocumentAnalyser} that finds the best match from the parsed entries
+     * @throws IllegalArgumentException if a parameter is {@code null} or {@code name} is empty
+     */
+    public AnalysisJob(final String name, final IDocumentParser<? extends T> parser, final IDocumentAnalyser<T> analyser) {
+        validateString(name, logger, "Invalid name provided for analysis job.", "Name can't be empty.");
+        nullCheck(parser, logger, "Parser was null when creating analysis job " + name, "Parser can't be null.");
+        nullCheck(analyser, logger, "Analyser was null when creating analysis job " + name, "Analyser can't be null.");
+        this.name = name;
+        this.parser = parser;
+        this.analyser = analyser;
+    }
+
+    /**
+     * Streams the entries of the document into the analyser and returns the ID of the best match.
+     * <p>
+     * If several entries match equally well, an arbitrary one of them is returned. If a {@link ResultCache} is given
+     * and the parser is a {@link CsvParser}, whose source and configuration identify the document, the result is
+     * looked up by the content of the document first and stored after a successful analysis.
+     * </p>
+     *
+     * @param cache the cache of earlier results, or {@code null} to always analyse the document
+     * @return the ID of the best match and whether it was taken from the cache
+     * @throws DocumentCreationException if parsing the document fails
+     * @throws IOException if the document can't be read to compute its cache key
+     * @throws NoSuchElementException if the document has no suitable entry
+     */
+    Outcome analyse(final ResultCache cache) throws DocumentCreationException, IOException, NoSuchElementException {
+        final String key = cache == null ? null : getCacheKey();
+        if (key != null) {
+            final Optional<String> cached = cache.get(key);
+            if (cached.isPresent()) return new Outcome(cached.get(), true);
+        }
+
+        final Set<T> bestMatches = analyser.getBestMatchesFromParser(parser);
+        final String bestMatch = bestMatches.stream()
+                .findAny()
+                .orElseThrow(() -> new NoSuchElementException("Unable to find best match"))
+                .getId();
+        if (key != null) cache.put(key, bestMatch);
+        return new Outcome(bestMatch, false);
+    }
+
+    /**
+     * Creates the cache key of this job from the content of its document and the configuration of parser and analyser.
+     *
+     * @return the key, or {@code null} if the result of the parser can't be cached
+     * @throws IOException if the document can't be read
+     */
+    private String getCacheKey() throws IOException {
+        if (!(parser instanceof CsvParser)) return null;
+        final CsvParser<?> csvParser = (CsvParser<?>) parser;
+        return ResultCache.createKey(csvParser.getSource(), csvParser.getClass().getName(),
+                String.valueOf(csvParser.getDelimiter()), csvParser.getLocale().toLanguageTag(), analyser.getClass().getName());
+    }
+
+    //region Getter
+    public String getName() {
+        return name;
+    }
+
+    public IDocumentParser<? extends T> getParser() {
+        return parser;
+    }
+
+    public IDocumentAnalyser<T> getAnalyser() {
+        return analyser;
+    }
+    //endregion
+
+    //region java.lang.Object Overrides
+    @Override
+    public String toString() {
+        return "AnalysisJob: " + name +
+                ", parser: " + parser.getClass().getSimpleName() +
+                ", analyser: " + analyser.getClass().getSimpleName();
+    }
+    //endregion
+
+    /**
+     * The best match found by a job and whether it was taken from the cache.
+     */
+    static final class Outcome {
+        private final String bestMatch;
+        private final boolean cached;
+
+        Outcome(final String bestMatch, final boolean cached) {
+            this.bestMatch = bestMatch;
+            this.cached = cached;
+        }
+
+        String getBestMatch() {
+            return bestMatch;
+        }
+
+        boolean isCached() {
+            return cached;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package de.bcxp.challenge.common.pipeline;
+
+import de.bcxp.challenge.common.cache.ResultCache;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+
+/**
+ * Runs many {@link AnalysisJob}s concurrently on a bounded number of threads.
+ * <p>
+ * Every run uses a fixed thread pool of at most {@link #getParallelism()} threads, so a batch of many jobs never
+ * parses more documents at once than configured. Results are handed to a listener on the calling thread as soon as
+ * their job completes, in completion order, while the remaining jobs are still running. Each job is isolated from the
+ * others: an exception thrown by one job is recorded in its {@link JobResult} and doesn't affect any other job.
+ * </p>
+ * <p>
+ * Every result reports the wall-clock time its job took, measured on the thread executing it, which excludes the
+ * time the job waited for a free thread.
+ * </p>
+ */
+public final class AnalysisPipeline {
+    private static final Logger logger = LogManager.getLogger(AnalysisPipeline.class);
+
+    private static final AtomicInteger runCount = new AtomicInteger();
+
+    private final int parallelism;
+    private final ResultCache cache;
+
+    /**
+     * Creates a pipeline running as many jobs at once as there are available processors.
+     *
+     * @param cache the cache of earlier results, or {@code null} to always analyse the documents
+     */
+    public AnalysisPipeline(final ResultCache cache) {
+        this(Runtime.getRuntime().availableProcessors(), cache);
+    }
+
+    /**
+     * Creates a pipeline running at most the given number of jobs at once.
+     *
+     * @param parallelism the maximum number of concurrently running jobs
+     * @param cache the cache of earlier results, or {@code null} to always analyse the documents
+     * @throws IllegalArgumentException if {@code parallelism} is less than one
+     */
+    public AnalysisPipeline(final int parallelism, final ResultCache cache) {
+        if (parallelism < 1) {
+            logger.warn("Invalid parallelism {} for analysis pipeline", parallelism);
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+        this.parallelism = parallelism;
+        this.cache = cache;
+    }
+
+    /**
+     * Runs the given jobs concurrently and waits for all of them to complete.
+     *
+     * @param jobs the jobs to run
+     * @return the results of the jobs, in the order of {@code jobs}
+     * @throws InterruptedException if interrupted while waiting for the jobs, which are cancelled then
+     * @throws IllegalArgumentException if {@code jobs} is or contains {@code null}
+     * @see #run(List, Consumer)
+     */
+    public List<JobResult> run(final List<? extends AnalysisJob<?>> jobs) throws InterruptedException {
+        return run(jobs, result -> { });
+    }
+
+    /**
+     * Runs the given jobs concurrently, hands every result to the listener as soon as its job completes and waits for
+     * all jobs to complete.
+     * <p>
+     * The listener is called on the calling thread, one result at a time, so it needs no synchronization. An
+     * exception thrown by the listener cancels the remaining jobs and is rethrown.
+     * </p>
+     *
+     * @param jobs the jobs to run
+     * @param listener receives the result of every job in completion order
+     * @return the results of the jobs, in the order of {@code jobs}
+     * @throws InterruptedException if interrupted while waiting for the jobs, which are cancelled then
+     * @throws IllegalArgumentException if a parameter is or {@code jobs} contains {@code null}
+     */
+    public List<JobResult> run(final List<? extends AnalysisJob<?>> jobs, final Consumer<? super JobResult> listener) throws InterruptedException {
+        nullCheck(jobs, logger, "Jobs were null when running analysis pipeline.", "Jobs can't be null.");
+        nullCheck(listener, logger, "Listener was null when running analysis pipeline.", "Listener can't be null.");
+        for (final AnalysisJob<?> job : jobs) {
+            nullCheck(job, logger, "Job was null when running analysis pipeline.", "Jobs can't contain null.");
+        }
+        if (jobs.isEmpty()) return List.of();
+
+        final int threadCount = Math.min(parallelism, jobs.size());
+        final String threadPrefix = "analysis-" + runCount.incrementAndGet() + "-";
+        final AtomicInteger threadCounter = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount, task -> {
+            final Thread thread = new Thread(task, threadPrefix + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        final long start = System.nanoTime();
+        try {
+            final CompletionService<Completed> completion = new ExecutorCompletionService<>(executor);
+            final List<Future<Completed>> futures = new ArrayList<>(jobs.size());
+            for (int index = 0; index < jobs.size(); index++) {
+                final int position = index;
+                final AnalysisJob<?> job = jobs.get(index);
+                futures.add(completion.submit(() -> new Completed(position, execute(job))));
+            }
+            logger.debug("Submitted {} analysis jobs to {} threads", jobs.size(), threadCount);
+
+            final JobResult[] results = new JobResult[jobs.size()];
+            boolean completed = false;
+            try {
+                for (int remaining = jobs.size(); remaining > 0; remaining--) {
+                    final Completed done = completion.take().get();
+                    results[done.position] = done.result;
+                    listener.accept(done.result);
+                }
+                completed = true;
+            } finally {
+                if (!completed) futures.forEach(future -> future.cancel(true));
+            }
+
+            logger.info("Ran {} analysis jobs on {} threads in {} ms", jobs.size(), threadCount,
+                    Duration.ofNanos(System.nanoTime() - start).toMillis());
+            return Arrays.asList(results);
+
+        } catch (ExecutionException e) {
+            // execute() catches every exception, so only errors can end up here
+            final Throwable cause = e.getCause();
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException("Analysis job failed unexpectedly.", cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Executes a single job, measuring its duration and capturing any exception it throws.
+     *
+     * @param job the job to execute
+     * @return the result of the job
+     */
+    private JobResult execute(final AnalysisJob<?> job) {
+        final long start = System.nanoTime();
+        try {
+            final AnalysisJob.Outcome outcome = job.analyse(cache);
+            final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+            logger.info("Analysis job {} found {} in {} ms{}", job.getName(), outcome.getBestMatch(), duration.toMillis(),
+                    outcome.isCached() ? " (cached)" : "");
+            return JobResult.success(job.getName(), outcome.getBestMatch(), duration, outcome.isCached());
+        } catch (Exception e) {
+            final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+            logger.error("Analysis job {} failed after {} ms", job.getName(), duration.toMillis(), e);
+            return JobResult.failure(job.getName(), e, duration);
+        }
+    }
+
+    //region Getter
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public ResultCache getCache() {
+        return cache;
+    }
+    //endregion
+
+    //region java.lang.Object Overrides
+    @Override
+    public String toString() {
+        return "AnalysisPipeline: parallelism: " + parallelism +
+                ", cache: " + cache;
+    }
+    //endregion
+
+    /**
+     * A job result together with the position of its job.
+     */
+    private static final class Completed {
+        private final int position;
+        private final JobResult result;
+
+        private Completed(final int position, final JobResult result) {
+            this.position = position;
+            this.result = result;
+        }
+    }
+}
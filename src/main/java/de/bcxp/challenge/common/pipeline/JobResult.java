@@ -0,0 +1,95 @@
+package de.bcxp.challenge.common.pipeline;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The result of one {@link AnalysisJob} executed by an {@link AnalysisPipeline}: either the ID of the best match or
+ * the exception that made the job fail, together with the time the job took.
+ */
+public final class JobResult {
+
+    private final String name;
+    private final String bestMatch;
+    private final Exception failure;
+    private final Duration duration;
+    private final boolean cached;
+
+    private JobResult(final String name, final String bestMatch, final Exception failure, final Duration duration, final boolean cached) {
+        this.name = name;
+        this.bestMatch = bestMatch;
+        this.failure = failure;
+        this.duration = duration;
+        this.cached = cached;
+    }
+
+    /**
+     * Creates the result of a successful job.
+     *
+     * @param name the name of the job
+     * @param bestMatch the ID of the best match
+     * @param duration the time the job took
+     * @param cached whether the best match was taken from the result cache
+     * @return the result
+     */
+    static JobResult success(final String name, final String bestMatch, final Duration duration, final boolean cached) {
+        return new JobResult(name, bestMatch, null, duration, cached);
+    }
+
+    /**
+     * Creates the result of a failed job.
+     *
+     * @param name the name of the job
+     * @param failure the exception that made the job fail
+     * @param duration the time until the job failed
+     * @return the result
+     */
+    static JobResult failure(final String name, final Exception failure, final Duration duration) {
+        return new JobResult(name, null, failure, duration, false);
+    }
+
+    /**
+     * @return {@code true} if the job found a best match, {@code false} if it failed
+     */
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    /**
+     * @return the ID of the best match, or an empty {@link Optional} if the job failed
+     */
+    public Optional<String> getBestMatch() {
+        return Optional.ofNullable(bestMatch);
+    }
+
+    /**
+     * @return the exception that made the job fail, or an empty {@link Optional} if it succeeded
+     */
+    public Optional<Exception> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    //region Getter
+    public String getName() {
+        return name;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public boolean isCached() {
+        return cached;
+    }
+    //endregion
+
+    //region java.lang.Object Overrides
+    @Override
+    public String toString() {
+        return "JobResult: " + name +
+                (isSuccessful() ? ", best match: " + bestMatch : ", failure: " + failure) +
+                ", duration: " + duration.toMillis() + " ms" +
+                ", cached: " + cached;
+    }
+    //endregion
+}
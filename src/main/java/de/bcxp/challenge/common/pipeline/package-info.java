@@ -0,0 +1,4 @@
+/**
+ * Concurrent execution of many document analyses, each pairing a parser with an analyser.
+ */
+package de.bcxp.challenge.common.pipeline;
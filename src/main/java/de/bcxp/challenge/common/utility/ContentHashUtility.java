@@ -0,0 +1,119 @@
+package de.bcxp.challenge.common.utility;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+
+/**
+ * Utility class computing SHA-256 checksums of document content.
+ * <p>
+ * The content is streamed through a fixed buffer, so hashing needs constant memory regardless of the size of the
+ * content. Checksums identify unchanged input, e.g. to detect stale snapshots or to look up cached results.
+ * </p>
+ */
+public final class ContentHashUtility {
+    private static final Logger logger = LogManager.getLogger(ContentHashUtility.class);
+
+    /**
+     * Length of a SHA-256 checksum in bytes.
+     */
+    public static final int CHECKSUM_LENGTH = 32;
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * This is a utility class which provides only static methods, therefore it shouldn't be instantiated.
+     */
+    private ContentHashUtility() {
+        throw new AssertionError("Cannot instantiate utility class.");
+    }
+
+    /**
+     * Computes the SHA-256 checksum of a local file.
+     *
+     * @param path the file to hash
+     * @return the checksum of the file content
+     * @throws IOException if the file can't be read
+     * @throws IllegalArgumentException if {@code path} is {@code null}
+     */
+    public static byte[] sha256(final Path path) throws IOException {
+        nullCheck(path, logger, "Path was null when computing checksum.", "Path can't be null.");
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return sha256(channel);
+        }
+    }
+
+    /**
+     * Computes the SHA-256 checksum of the remaining content of a channel. The channel is not closed.
+     *
+     * @param channel the channel to read until its end
+     * @return the checksum of the content
+     * @throws IOException if the channel can't be read
+     * @throws IllegalArgumentException if {@code channel} is {@code null}
+     */
+    public static byte[] sha256(final ReadableByteChannel channel) throws IOException {
+        final MessageDigest digest = newSha256();
+        update(digest, channel);
+        return digest.digest();
+    }
+
+    /**
+     * Feeds the remaining content of a channel into a digest, e.g. to hash several parts of a document into one
+     * checksum. The channel is not closed.
+     *
+     * @param digest the digest to update
+     * @param channel the channel to read until its end
+     * @throws IOException if the channel can't be read
+     * @throws IllegalArgumentException if a parameter is {@code null}
+     */
+    public static void update(final MessageDigest digest, final ReadableByteChannel channel) throws IOException {
+        nullCheck(digest, logger, "Digest was null when computing checksum.", "Digest can't be null.");
+        nullCheck(channel, logger, "Channel was null when computing checksum.", "Channel can't be null.");
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        while (channel.read(buffer) >= 0) {
+            digest.update(buffer.flip());
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Formats a checksum as lower case hexadecimal string.
+     *
+     * @param checksum the checksum to format
+     * @return the hexadecimal representation, two characters per byte
+     * @throws IllegalArgumentException if {@code checksum} is {@code null}
+     */
+    public static String toHex(final byte[] checksum) {
+        nullCheck(checksum, logger, "Checksum was null when formatting.", "Checksum can't be null.");
+        final char[] chars = new char[checksum.length * 2];
+        for (int i = 0; i < checksum.length; i++) {
+            chars[2 * i] = HEX_DIGITS[(checksum[i] >> 4) & 0xf];
+            chars[2 * i + 1] = HEX_DIGITS[checksum[i] & 0xf];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Creates a new SHA-256 digest.
+     *
+     * @return the digest
+     * @throws IllegalStateException if the runtime lacks SHA-256, which every Java platform is required to support
+     */
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            logger.fatal("SHA-256 is not supported by the runtime", e);
+            throw new IllegalStateException("SHA-256 is not supported by the runtime.", e);
+        }
+    }
+}
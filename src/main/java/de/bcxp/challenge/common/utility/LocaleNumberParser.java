@@ -0,0 +1,286 @@
+package de.bcxp.challenge.common.utility;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.text.DecimalFormatSymbols;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+
+/**
+ * Locale-aware parser for plain decimal numbers, working directly on {@link CharSequence} ranges.
+ * <p>
+ * In contrast to {@link java.text.NumberFormat}, this parser doesn't allocate on the successful path: it doesn't
+ * create intermediate strings, doesn't box its results and is shared per {@link Locale} instead of being created
+ * per call. It understands the grouping separator, decimal separator and minus sign of its locale, e.g.
+ * {@code 4.036.355,00} for {@link Locale#GERMANY} or {@code 4,036,355.00} for {@link Locale#US}. Regular spaces
+ * are always accepted as grouping separators; locales grouping with a space character accept any space character.
+ * Leading and trailing whitespace is ignored.
+ * </p>
+ * <p>
+ * Exponents, percent signs, currency symbols and explicit plus signs are not supported. Instances are immutable and
+ * thread-safe.
+ * </p>
+ */
+public final class LocaleNumberParser {
+    private static final Logger logger = LogManager.getLogger(LocaleNumberParser.class);
+    private static final ConcurrentMap<Locale, LocaleNumberParser> parsers = new ConcurrentHashMap<>();
+
+    /**
+     * Powers of ten which are exactly representable as {@code double}.
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    /**
+     * Largest mantissa which is exactly representable as {@code double}.
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    /**
+     * Number of significant digits that always fit into a {@code long}; further digits are only handled by the
+     * fallback conversion.
+     */
+    private static final int MAX_MANTISSA_DIGITS = 18;
+
+    private final Locale locale;
+    private final char groupingSeparator;
+    private final char decimalSeparator;
+    private final char minusSign;
+    private final boolean groupingWithSpaces;
+
+    /**
+     * Creates a parser using the number symbols of the given locale.
+     *
+     * @param locale the {@link Locale} whose number symbols are used
+     */
+    private LocaleNumberParser(final Locale locale) {
+        final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        this.locale = locale;
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.decimalSeparator = symbols.getDecimalSeparator();
+        this.minusSign = symbols.getMinusSign();
+        this.groupingWithSpaces = Character.isSpaceChar(groupingSeparator);
+    }
+
+    /**
+     * Returns the shared parser for the given locale.
+     *
+     * @param locale the {@link Locale} whose number symbols should be used
+     * @return the {@link LocaleNumberParser} for the locale
+     * @throws IllegalArgumentException if {@code locale} is {@code null}
+     */
+    public static LocaleNumberParser forLocale(final Locale locale) {
+        final LocaleNumberParser parser = locale == null ? null : parsers.get(locale);
+        if (parser != null) return parser;
+        nullCheck(locale, logger, "Passed in Locale was null", "Locale can't be null.");
+        return parsers.computeIfAbsent(locale, LocaleNumberParser::new);
+    }
+
+    //region Parsing longs
+    /**
+     * Parses the whole character sequence as a {@code long}.
+     *
+     * @param chars the characters to parse
+     * @return the parsed value
+     * @see #parseLong(CharSequence, int, int)
+     */
+    public long parseLong(final CharSequence chars) throws NumberFormatException, ParseException {
+        return parseLong(chars, 0, chars.length());
+    }
+
+    /**
+     * Parses the characters in {@code [start, end)} as a {@code long}.
+     * <p>
+     * Like {@link java.text.NumberFormat#getIntegerInstance(Locale)}, a fractional part is accepted but discarded,
+     * so {@code 4.036.355,00} is parsed as {@code 4036355} for {@link Locale#GERMANY}.
+     * </p>
+     *
+     * @param chars the characters containing the number
+     * @param start index of the first character of the number
+     * @param end index after the last character of the number
+     * @return the parsed value
+     * @throws NumberFormatException if the number contains letters or doesn't fit into a {@code long}
+     * @throws ParseException if the range is empty or contains characters that are not part of a number
+     */
+    public long parseLong(final CharSequence chars, int start, int end) throws NumberFormatException, ParseException {
+        start = skipLeadingWhitespace(chars, start, end);
+        end = skipTrailingWhitespace(chars, start, end);
+
+        final boolean negative = start < end && isMinusSign(chars.charAt(start));
+        int position = negative ? start + 1 : start;
+        boolean digits = false;
+        boolean fraction = false;
+        long result = 0;  // accumulated negatively, so Long.MIN_VALUE can be represented
+
+        for (; position < end; position++) {
+            final char c = chars.charAt(position);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+                if (fraction) continue;
+                final int digit = c - '0';
+                if (result < Long.MIN_VALUE / 10 || result * 10 < Long.MIN_VALUE + digit) {
+                    throw overflow(chars, start, end);
+                }
+                result = result * 10 - digit;
+            } else if (!fraction && isGroupingSeparator(c)) {
+                continue;
+            } else if (!fraction && c == decimalSeparator) {
+                fraction = true;
+            } else if (Character.isLetter(c)) {
+                throw new NumberFormatException("Number can't contain letters.");
+            } else {
+                throw unparseable(chars, start, end, position);
+            }
+        }
+
+        if (!digits) throw unparseable(chars, start, end, start);
+        if (negative) return result;
+        if (result == Long.MIN_VALUE) throw overflow(chars, start, end);
+        return -result;
+    }
+    //endregion
+
+    //region Parsing doubles
+    /**
+     * Parses the whole character sequence as a {@code double}.
+     *
+     * @param chars the characters to parse
+     * @return the parsed value
+     * @see #parseDouble(CharSequence, int, int)
+     */
+    public double parseDouble(final CharSequence chars) throws NumberFormatException, ParseException {
+        return parseDouble(chars, 0, chars.length());
+    }
+
+    /**
+     * Parses the characters in {@code [start, end)} as a finite {@code double}.
+     * <p>
+     * Numbers whose digits, read as an integer without the decimal separator, don't exceed 2<sup>53</sup>, i.e. the
+     * largest mantissa exactly representable as {@code double}, and that have at most 22 fractional digits are
+     * converted with correct rounding without allocating, as both the mantissa and the power of ten are exact. This
+     * covers all numbers with at most 15 significant digits, and thus all regular measurements. Other numbers fall
+     * back to {@link Double#parseDouble(String)}, which is always correctly rounded.
+     * </p>
+     *
+     * @param chars the characters containing the number
+     * @param start index of the first character of the number
+     * @param end index after the last character of the number
+     * @return the parsed value
+     * @throws NumberFormatException if the number contains letters or isn't finite
+     * @throws ParseException if the range is empty or contains characters that are not part of a number
+     */
+    public double parseDouble(final CharSequence chars, int start, int end) throws NumberFormatException, ParseException {
+        start = skipLeadingWhitespace(chars, start, end);
+        end = skipTrailingWhitespace(chars, start, end);
+
+        final boolean negative = start < end && isMinusSign(chars.charAt(start));
+        int position = negative ? start + 1 : start;
+        boolean digits = false;
+        boolean fraction = false;
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        boolean truncated = false;
+
+        for (; position < end; position++) {
+            final char c = chars.charAt(position);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+                if (significantDigits < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (mantissa != 0) significantDigits++;
+                    if (fraction) fractionDigits++;
+                } else {
+                    truncated = true;
+                }
+            } else if (!fraction && isGroupingSeparator(c)) {
+                continue;
+            } else if (!fraction && c == decimalSeparator) {
+                fraction = true;
+            } else if (Character.isLetter(c)) {
+                throw new NumberFormatException("Number can't contain letters.");
+            } else {
+                throw unparseable(chars, start, end, position);
+            }
+        }
+
+        if (!digits) throw unparseable(chars, start, end, start);
+
+        final double value;
+        if (!truncated && mantissa <= MAX_EXACT_MANTISSA && fractionDigits < POWERS_OF_TEN.length) {
+            value = mantissa / POWERS_OF_TEN[fractionDigits];
+        } else {
+            value = Double.parseDouble(toPlainNumber(chars, start, end));
+        }
+
+        if (!Double.isFinite(value)) {
+            logger.warn("Parsing number {} as double failed.", chars.subSequence(start, end));
+            throw new NumberFormatException("Invalid double: " + chars.subSequence(start, end));
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Converts an already validated number into the unsigned plain format understood by
+     * {@link Double#parseDouble(String)}. Only used for numbers exceeding the exact conversion range.
+     *
+     * @param chars the characters containing the number
+     * @param start index of the first character of the number, including its sign
+     * @param end index after the last character of the number
+     * @return the number without grouping separators and with {@code '.'} as decimal separator
+     */
+    private String toPlainNumber(final CharSequence chars, final int start, final int end) {
+        final StringBuilder plain = new StringBuilder(end - start);
+        for (int position = start; position < end; position++) {
+            final char c = chars.charAt(position);
+            if (c >= '0' && c <= '9') {
+                plain.append(c);
+            } else if (c == decimalSeparator) {
+                plain.append('.');
+            }
+        }
+        return plain.toString();
+    }
+    //endregion
+
+    //region Auxiliary
+    private boolean isMinusSign(final char c) {
+        return c == '-' || c == minusSign;
+    }
+
+    private boolean isGroupingSeparator(final char c) {
+        return c == groupingSeparator || c == ' ' || (groupingWithSpaces && Character.isSpaceChar(c));
+    }
+
+    private static int skipLeadingWhitespace(final CharSequence chars, int start, final int end) {
+        while (start < end && isWhitespace(chars.charAt(start))) start++;
+        return start;
+    }
+
+    private static int skipTrailingWhitespace(final CharSequence chars, final int start, int end) {
+        while (end > start && isWhitespace(chars.charAt(end - 1))) end--;
+        return end;
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c);
+    }
+
+    private NumberFormatException overflow(final CharSequence chars, final int start, final int end) {
+        logger.warn("Parsing number {} failed. Long overflow.", chars.subSequence(start, end));
+        return new NumberFormatException("Parsing failed. Absolute value of number " + chars.subSequence(start, end) + " is too large.");
+    }
+
+    private ParseException unparseable(final CharSequence chars, final int start, final int end, final int position) {
+        logger.warn("Unparseable number {} for locale {}", chars.subSequence(start, end), locale);
+        return new ParseException("Unparseable number: \"" + chars.subSequence(start, end) + "\"", position - start);
+    }
+    //endregion
+
+    public Locale getLocale() {
+        return locale;
+    }
+}
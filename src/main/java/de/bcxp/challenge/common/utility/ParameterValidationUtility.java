@@ -78,16 +78,19 @@ public final class ParameterValidationUtility {
 
     //region Validation for self-rolled objects
     /**
-     * Validates that the provided document and it's entries are non-null.
+     * Validates that the provided document is non-null.
+     * <p>
+     * The entries of a {@link Document} are checked for {@code null} when it is created and can't change afterward,
+     * so they aren't validated again.
+     * </p>
      * @param document         The {@link Document} to validate
      * @param logger           the logger to use for warnings
      * @param logMessage       the message to log if validation fails
      * @param exceptionMessage the message to include in the thrown exception
      */
-    public static void validateDocument(final Document document, final Logger logger, final String logMessage, final String exceptionMessage) throws IllegalArgumentException {
+    public static void validateDocument(final Document<?> document, final Logger logger, final String logMessage, final String exceptionMessage) throws IllegalArgumentException {
         validateLoggerAndMessages(logger, logMessage, exceptionMessage);
         nullCheck(document, logger, logMessage, exceptionMessage);
-        validateEntries(document.getEntries(), true, logger, logMessage, exceptionMessage);
     }
 
     /**
@@ -104,10 +107,11 @@ public final class ParameterValidationUtility {
     public static void validateEntries(final Collection<? extends DocumentEntry> entries, final boolean allowEmpty, final Logger logger, final String logMessage, final String exceptionMessage) throws IllegalArgumentException, NoSuchElementException, IllegalStateException {
         validateLoggerAndMessages(logger, logMessage, exceptionMessage);
         nullCheck(entries, logger, logMessage, exceptionMessage);
-        try {
-            new HashSet<>(entries).forEach(element -> nullCheck(element, logger, logMessage, exceptionMessage));
-        } catch (IllegalArgumentException e) {
-            throw new IllegalStateException(e.getMessage());
+        for (final DocumentEntry element : entries) {
+            if (element == null) {
+                logger.warn(logMessage);
+                throw new IllegalStateException(exceptionMessage);
+            }
         }
         if((entries.isEmpty() && !allowEmpty)) {
             logger.warn(logMessage);
@@ -120,12 +124,12 @@ public final class ParameterValidationUtility {
      * @param entries {@link DocumentEntry} objects contained in a {@link Document}
      * @param logger Logger to log possible error messages to
      */
-    public static void validateNumericTupleDocumentEntries(final List<DocumentEntry> entries, final Logger logger) throws IllegalArgumentException {
+    public static void validateNumericTupleDocumentEntries(final List<? extends DocumentEntry> entries, final Logger logger) throws IllegalArgumentException {
         if(logger == null) throw new IllegalArgumentException("Logger can't be null when checking NumericTupleDocumentEntries.");
         validateEntries(entries, false, logger, "Entries were null or empty when checking for numeric tuple.", "Entries can't be null or empty.");
 
         final Class<? extends DocumentEntry> type = entries.get(0).getClass();
-        for (final DocumentEntry entry : new HashSet<>(entries)) {
+        for (final DocumentEntry entry : entries) {
             if(!(entry instanceof IEntryWithComparableNumericTuple)) {
                 logger.warn("Document entry is not of type IEntryWithComparableNumericTuple {}", entry);
                 throw new IllegalArgumentException("Document entries are not all of type IEntryWithComparableNumericTuple");
@@ -136,6 +140,36 @@ public final class ParameterValidationUtility {
             }
         }
     }
+
+    /**
+     * Checks that the entries of a {@link Document} all implement the {@link IEntryWithComparableNumericTuple}
+     * interface and are all of the same concrete type.
+     * <p>
+     * In contrast to {@link #validateNumericTupleDocumentEntries(List, Logger)}, this check doesn't iterate the
+     * entries, but relies on the type information the document determined when it was created.
+     * </p>
+     * @param document {@link Document} with numeric tuples
+     * @param logger Logger to log possible error messages to
+     * @throws IllegalArgumentException if the document is {@code null} or its entries are not all of the same type
+     *                                  implementing {@link IEntryWithComparableNumericTuple}
+     * @throws NoSuchElementException if the document is empty
+     */
+    public static void validateNumericTupleDocument(final Document<?> document, final Logger logger) throws IllegalArgumentException, NoSuchElementException {
+        if(logger == null) throw new IllegalArgumentException("Logger can't be null when checking NumericTupleDocument.");
+        nullCheck(document, logger, DOCUMENT_LOG, DOCUMENT_EXCEPTION);
+        if (document.hasComparableNumericTuples()) return;
+
+        if (document.getEntryType() == null) {
+            logger.warn("Entries were empty when checking for numeric tuple.");
+            throw new NoSuchElementException("Collection empty.");
+        }
+        if (!IEntryWithComparableNumericTuple.class.isAssignableFrom(document.getEntryType())) {
+            logger.warn("Document entries are not of type IEntryWithComparableNumericTuple {}", document.getEntryType());
+            throw new IllegalArgumentException("Document entries are not all of type IEntryWithComparableNumericTuple");
+        }
+        logger.warn("Different DocumentEntry types present in document of {}", document.getEntryType());
+        throw new IllegalArgumentException("Entries must all be of the same type.");
+    }
     //endregion
 
     //region Auxiliary
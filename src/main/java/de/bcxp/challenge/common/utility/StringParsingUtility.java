@@ -2,7 +2,6 @@ package de.bcxp.challenge.common.utility;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Locale;
 import static de.bcxp.challenge.common.utility.ParameterValidationUtility.*;
@@ -31,15 +30,10 @@ public final class StringParsingUtility {
      * @throws ParseException if the string cannot be parsed into a valid number
      * @throws NumberFormatException if the String doesn't contain a valid number
      * @throws IllegalArgumentException if the input string is null, empty, or invalid
+     * @see LocaleNumberParser#parseLong(CharSequence)
      */
     public static long getLongFromString(final String numberCandidate, final Locale locale) throws NumberFormatException, ParseException {
-        final Number parsed = getParsedNumber(numberCandidate, locale, NumberFormat.getIntegerInstance(locale));
-        final long value = parsed.longValue();
-        if (!parsed.equals(value)) {
-            logger.warn("Parsing number {} failed. Long overflow likely. Parsed number: {}", numberCandidate, parsed);
-            throw new NumberFormatException("Parsing failed. Absolute value of number" + numberCandidate + "might be too large.");
-        }
-        return value;
+        return getParser(numberCandidate, locale).parseLong(numberCandidate);
     }
 
     /**
@@ -51,55 +45,32 @@ public final class StringParsingUtility {
      * @throws ParseException if the string cannot be parsed into a valid number
      * @throws NumberFormatException if the String doesn't contain a valid number
      * @throws IllegalArgumentException if the input string is null, empty, or invalid
+     * @see LocaleNumberParser#parseDouble(CharSequence)
      */
     public static double getDoubleFromString(final String numberCandidate, final Locale locale) throws NumberFormatException, ParseException {
-        final double value = getParsedNumber(numberCandidate, locale, NumberFormat.getInstance(locale)).doubleValue();
-        if (!Double.isFinite(value)) {
-            logger.warn("Parsing number {} as double failed.", numberCandidate);
-            throw new NumberFormatException("Invalid double: " + numberCandidate);
-        }
-        return value;
+        return getParser(numberCandidate, locale).parseDouble(numberCandidate);
     }
 
     /**
-     * Parses a numeric string into a {@link Number} instance using the specified {@link Locale}.
+     * Validates the parameters and retrieves the shared {@link LocaleNumberParser} for the given {@link Locale}.
      *
      * @param numberCandidate the string representation of the number to parse;
      *                        must not be {@code null} or empty
      * @param locale          the {@link Locale} whose formatting rules should be used
      *                        for parsing; must not be {@code null}
-     * @param numberFormat    Format to use when parsing the numberCandidate {@link String}
-     * @return a {@link Number} representing the parsed value
-     * @throws ParseException if the string cannot be parsed as a number according to the given locale
-     * @throws NullPointerException if {@code numberCandidate} or {@code locale} is {@code null}
-     * @see NumberFormat#getInstance(Locale)
+     * @return the {@link LocaleNumberParser} of the locale
+     * @throws IllegalArgumentException if {@code numberCandidate} or {@code locale} is {@code null}, or the string is
+     *                                  empty or blank
      */
-    private static Number getParsedNumber(String numberCandidate, final Locale locale, final NumberFormat numberFormat) throws ParseException {
+    private static LocaleNumberParser getParser(final String numberCandidate, final Locale locale) {
         nullCheck(locale, logger, localeLogMsg + numberCandidate, localeExceptionMsg);
-        numberCandidate = validateCandidateString(numberCandidate);
-        return numberFormat.parse(numberCandidate);
-    }
-
-    /**
-     * Validates that the provided string is non-null, not empty, and doesn't contain illegal characters that don't conform to number formatting.
-     * @param numberCandidate  the string to validate
-     * @return the validated {@link String} stripped of leading and trailing whitespaces
-     * @throws IllegalArgumentException if the string is {@code null} or empty
-     * @throws NumberFormatException if the string contains illegal characters
-     */
-    private static String validateCandidateString(String numberCandidate) {
         validateString(
                 numberCandidate,
                 logger,
                 ParameterValidationUtility.STRING_LOG,
                 ParameterValidationUtility.STRING_EXCEPTION
         );
-
-        numberCandidate = numberCandidate.strip();
-        if(numberCandidate.matches(".*[a-zA-Z].*")) {
-            throw new NumberFormatException("Number can't contain letters.");
-        }
-        return numberCandidate.replace(" ", "");
+        return LocaleNumberParser.forLocale(locale);
     }
     //endregion
 
@@ -1,13 +1,15 @@
 package de.bcxp.challenge.countries;
 
 import de.bcxp.challenge.common.analysis.IDocumentAnalyser;
-import de.bcxp.challenge.common.model.DocumentEntry;
+import de.bcxp.challenge.common.documentParsing.IDocumentParser;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
 import de.bcxp.challenge.common.model.csv.NumericComparisonType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import de.bcxp.challenge.common.model.Document;
 import java.util.*;
-import static de.bcxp.challenge.common.analysis.csv.CsvAnalysisUtility.getBestMatchesForNumericColumnComparison;
+import static de.bcxp.challenge.common.analysis.csv.CsvAnalysisUtility.getBestMatchesOfNumericTuples;
+import static de.bcxp.challenge.common.analysis.csv.CsvAnalysisUtility.getBestMatchesFromEntryStream;
 import static de.bcxp.challenge.common.utility.ParameterValidationUtility.*;
 
 /**
@@ -20,7 +22,7 @@ import static de.bcxp.challenge.common.utility.ParameterValidationUtility.*;
  * @see CountryEntry
  * @see Document
  */
-public class CountryAnalyser implements IDocumentAnalyser {
+public class CountryAnalyser implements IDocumentAnalyser<CountryEntry> {
     private static final Logger logger = LogManager.getLogger(CountryAnalyser.class);
 
     /**
@@ -40,8 +42,24 @@ public class CountryAnalyser implements IDocumentAnalyser {
      * @throws NoSuchElementException if the document contains no matching entries
      */
     @Override
-    public Set<DocumentEntry> getBestMatches(final Document document) throws NoSuchElementException {
+    public Set<CountryEntry> getBestMatches(final Document<? extends CountryEntry> document) throws NoSuchElementException {
         validateDocument(document, logger, DOCUMENT_LOG, DOCUMENT_EXCEPTION);
-        return getBestMatchesForNumericColumnComparison(document, NumericComparisonType.MAX);
+        return getBestMatchesOfNumericTuples(document, NumericComparisonType.MAX);
     }
-}
\ No newline at end of file
+
+    /**
+     * Finds the country with the highest population density while the provided parser streams its entries.
+     * <p>
+     * Only the current best score and its tied entries are held in memory, the document itself is never built.
+     * </p>
+     *
+     * @param parser the parser streaming the entries to analyze
+     * @return A set of entries sharing the best score
+     * @throws DocumentCreationException if parsing the document fails
+     * @throws NoSuchElementException if the parser streams no entries
+     */
+    @Override
+    public Set<CountryEntry> getBestMatchesFromParser(final IDocumentParser<? extends CountryEntry> parser) throws DocumentCreationException, NoSuchElementException {
+        return getBestMatchesFromEntryStream(parser, NumericComparisonType.MAX);
+    }
+}
@@ -0,0 +1,53 @@
+package de.bcxp.challenge.countries;
+
+import de.bcxp.challenge.common.generation.CsvGenerator;
+import de.bcxp.challenge.common.generation.CsvGeneratorOptions;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates synthetic country documents with the columns of {@code countries.csv}.
+ * <p>
+ * Rows flagged as best match have a population density of 100,000,000 people per km², all other rows less than
+ * 100,000, so the best matches of {@link CountryAnalyser} are exactly the flagged countries.
+ * </p>
+ *
+ * @see CountryCsvParser
+ */
+public class CountryCsvGenerator extends CsvGenerator {
+
+    private static final List<String> HEADER = List.of(
+            "Name", "Capital", "Accession", "Population", "Area (km²)", "GDP (US$ M)", "HDI", "MEPs"
+    );
+    private static final long BEST_POPULATION = 100_000_000L;
+
+    /**
+     * Creates a generator writing semicolon separated files unless the options specify another delimiter.
+     *
+     * @param options the generation settings
+     */
+    public CountryCsvGenerator(final CsvGeneratorOptions options) {
+        super(options, ';');
+    }
+
+    @Override
+    protected List<String> getHeader() {
+        return HEADER;
+    }
+
+    @Override
+    protected void writeRow(final Row row, final long index, final boolean best, final SplittableRandom random) {
+        final long population = best ? BEST_POPULATION : random.nextLong(1_000, BEST_POPULATION);
+        final long area = best ? 10 : random.nextLong(10_000, 10_000_000);
+        final int accession = random.nextInt(1957, 2014);
+
+        row.field("Country " + index)
+                .field("Capital " + index)
+                .field(accession == 1957 ? "Founder" : Integer.toString(accession))
+                .integer(population)
+                .decimal(area, 1)
+                .integer(random.nextLong(1_000, 5_000_000))
+                .decimal(random.nextLong(700, 1_000), 3)
+                .integer(random.nextInt(6, 97));
+    }
+}
@@ -1,6 +1,9 @@
 package de.bcxp.challenge.countries;
 
 import de.bcxp.challenge.common.documentParsing.csv.CsvParser;
+import de.bcxp.challenge.common.documentParsing.csv.ICsvRow;
+import de.bcxp.challenge.common.documentParsing.source.IDocumentSource;
+import de.bcxp.challenge.common.model.ColumnarDocument;
 import de.bcxp.challenge.common.model.DocumentEntry;
 import org.apache.commons.csv.CSVRecord;
 import org.apache.logging.log4j.LogManager;
@@ -26,7 +29,7 @@ import static de.bcxp.challenge.common.utility.StringParsingUtility.getLongFromS
  * @see CsvParser
  * @see CountryEntry
  */
-public class CountryCsvParser extends CsvParser {
+public class CountryCsvParser extends CsvParser<CountryEntry> {
     private static final Logger logger = LogManager.getLogger(CountryCsvParser.class);
 
     private final static String NAME = "Name", POPULATION = "Population", AREA = "Area (km²)";
@@ -42,6 +45,17 @@ public class CountryCsvParser extends CsvParser {
         super(delimiter, locale, filepath);
     }
 
+    /**
+     * Constructs a {@link CountryCsvParser} with the specified CSV delimiter, reading the given source.
+     *
+     * @param delimiter the character used to separate values in the CSV file.
+     * @param locale Locale used when parsing number
+     * @param source the source of the csv, e.g. a local file or a directory of shards
+     */
+    public CountryCsvParser(final char delimiter, final Locale locale, final IDocumentSource source) {
+        super(delimiter, locale, source);
+    }
+
     /**
      * Converts a collection of CSV records into a list of {@link DocumentEntry} objects,
      * specifically {@link CountryEntry} instances. Each record is expected to contain
@@ -59,19 +73,93 @@ public class CountryCsvParser extends CsvParser {
      *                        (e.g., due to locale-specific formatting issues).
      */
     @Override
-    protected List<DocumentEntry> getEntriesFromRecords(final Iterable<CSVRecord> records) throws NumberFormatException, ParseException {
-        final List<DocumentEntry> countryList = new ArrayList<>();
+    protected List<CountryEntry> getEntriesFromRecords(final Iterable<CSVRecord> records) throws NumberFormatException, ParseException {
+        final List<CountryEntry> countryList = new ArrayList<>();
 
         for (final CSVRecord record : records) {
-            countryList.add(new CountryEntry(
-                            record.get(NAME),
-                            getLongFromString(record.get(POPULATION), super.getLocale()),
-                            getDoubleFromString(record.get(AREA), super.getLocale())
-                    )
-            );
+            countryList.add(getEntryFromRecord(record));
         }
 
         return countryList;
     }
 
-}
\ No newline at end of file
+    /**
+     * Converts a single CSV record into a {@link CountryEntry}.
+     *
+     * @param record a {@link CSVRecord} providing values for {@code NAME}, {@code POPULATION} and {@code AREA}
+     * @return the {@link CountryEntry} parsed from the record
+     * @throws NumberFormatException if numeric values (population or area) cannot be parsed.
+     * @throws ParseException if a parsing error occurs during number conversion
+     *                        (e.g., due to locale-specific formatting issues).
+     */
+    @Override
+    protected CountryEntry getEntryFromRecord(final CSVRecord record) throws NumberFormatException, ParseException {
+        return new CountryEntry(
+                record.get(NAME),
+                getLongFromString(record.get(POPULATION), super.getLocale()),
+                getDoubleFromString(record.get(AREA), super.getLocale())
+        );
+    }
+
+    /**
+     * Declares the columns read by {@link #getEntryFromRow(ICsvRow)}, in the order: NAME, POPULATION, AREA.
+     *
+     * @return the required column names
+     */
+    @Override
+    protected List<String> getColumnNames() {
+        return List.of(NAME, POPULATION, AREA);
+    }
+
+    /**
+     * Converts the current row of a row based tokenizer into a {@link CountryEntry}.
+     *
+     * @param row the current row, exposing the columns declared by {@link #getColumnNames()}
+     * @return the {@link CountryEntry} parsed from the row
+     * @throws NumberFormatException if numeric values cannot be parsed.
+     * @throws ParseException if a parsing error occurs during number conversion
+     *                        (e.g., due to locale-specific formatting issues).
+     */
+    @Override
+    protected CountryEntry getEntryFromRow(final ICsvRow row) throws NumberFormatException, ParseException {
+        return new CountryEntry(
+                row.getString(0),
+                row.getLong(1),
+                row.getDouble(2)
+        );
+    }
+
+    /**
+     * Creates a builder for the columnar representation of country data, holding the columns POPULATION and AREA.
+     *
+     * @return a new, empty {@link ColumnarDocument.Builder}
+     */
+    @Override
+    protected ColumnarDocument.Builder createColumnarBuilder() {
+        return ColumnarDocument.builder(
+                List.of(POPULATION, AREA),
+                List.of(ColumnarDocument.ColumnType.LONG, ColumnarDocument.ColumnType.DOUBLE),
+                (document, row) -> new CountryEntry(document.getId(row), document.getLong(0, row), document.getDouble(1, row))
+        );
+    }
+
+    /**
+     * Validates the current row like {@link CountryEntry} does and appends it to the columnar builder, scored by its population density.
+     *
+     * @param row the current row, exposing the columns declared by {@link #getColumnNames()}
+     * @param builder the builder created by {@link #createColumnarBuilder()}
+     * @throws NumberFormatException if numeric values cannot be parsed.
+     * @throws ParseException if a parsing error occurs during number conversion
+     *                        (e.g., due to locale-specific formatting issues).
+     */
+    @Override
+    protected void addRowToColumns(final ICsvRow row, final ColumnarDocument.Builder builder) throws NumberFormatException, ParseException {
+        final String country = row.getString(0);
+        final long population = row.getLong(1);
+        final double area = row.getDouble(2);
+        CountryEntry.validateCountry(country, population, area);
+        builder.addRow(country, CountryEntry.getPopulationDensity(country, population, area))
+                .setLong(0, population)
+                .setDouble(1, area);
+    }
+}
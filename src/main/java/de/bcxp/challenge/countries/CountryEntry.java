@@ -30,17 +30,10 @@ public class CountryEntry extends DocumentEntry implements IEntryWithComparableN
      */
     public CountryEntry(final String country, final long population, final double area) {
         super(country);
-        if (population < 0) {
-            logger.warn("Population parameter ({}) less than 0 for {}", population, country);
-            throw new IllegalArgumentException("Population must be greater or equal to 0.");
-        }
-        if (area <= 0) {
-            logger.warn("Area parameter ({}) equal to or less than 0 for {}", area, country);
-            throw new IllegalArgumentException("Area must be greater than 0.");
-        }
+        validateCountry(country, population, area);
         this.population = population;
         this.area = area;
-        logger.trace("Created new country entry with {}, {}, {}", country, population, area);
+        if (logger.isTraceEnabled()) logger.trace("Created new country entry with {}, {}, {}", country, population, area);
     }
 
     /**
@@ -58,9 +51,35 @@ public class CountryEntry extends DocumentEntry implements IEntryWithComparableN
             throw new IllegalStateException("This object is invalid. Area can't be zero.");
         }
 
+        return getPopulationDensity(getCountry(), population, area);
+    }
+
+    /**
+     * Validates the values of a country, shared by the constructor and the columnar representation.
+     *
+     * @throws IllegalArgumentException if {@code population} is negative, or if {@code area} is less than or equal to zero
+     */
+    static void validateCountry(final String country, final long population, final double area) {
+        if (population < 0) {
+            logger.warn("Population parameter ({}) less than 0 for {}", population, country);
+            throw new IllegalArgumentException("Population must be greater or equal to 0.");
+        }
+        if (area <= 0) {
+            logger.warn("Area parameter ({}) equal to or less than 0 for {}", area, country);
+            throw new IllegalArgumentException("Area must be greater than 0.");
+        }
+    }
+
+    /**
+     * Calculates the population density of a country, shared by {@link #getBestMatchScore()} and the columnar
+     * representation.
+     *
+     * @throws ArithmeticException if the division doesn't result in a finite value
+     */
+    static double getPopulationDensity(final String country, final long population, final double area) {
         final double result = population / area;
         if(!Double.isFinite(result)) {
-            logger.warn("Score calculation for country: {} failed with population: {} and area: {}", getCountry(), population, area);
+            logger.warn("Score calculation for country: {} failed with population: {} and area: {}", country, population, area);
             throw new ArithmeticException("Calculating score failed.");
         }
         return result;
@@ -0,0 +1,327 @@
+package de.bcxp.challenge.daemon;
+
+import de.bcxp.challenge.DocumentType;
+import de.bcxp.challenge.common.documentParsing.source.DirectorySource;
+import de.bcxp.challenge.common.documentParsing.source.FileSource;
+import de.bcxp.challenge.common.documentParsing.source.IDocumentSource;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.metrics.LatencyHistogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+
+/**
+ * Long-running server analysing documents on request, so that many small documents are analysed by one warm JVM
+ * instead of paying JVM startup, class loading and JIT warmup for every document.
+ * <p>
+ * The daemon listens on the loopback interface only. Clients send one job per line and receive one response line
+ * per job, in order, and may keep the connection open for further jobs:
+ * </p>
+ * <ul>
+ *     <li>{@code <type>\t<delimiter>\t<locale>\t<path>} analyses a local CSV file or directory of shards within the
+ *     data root, see {@link DaemonRequest}, and responds {@code OK\t<best match>\t<latency>} or {@code ERROR\t<message>\t<latency>},
+ *     the latency being the time the daemon spent on the request in microseconds.</li>
+ *     <li>{@code STATS} responds {@code OK\t<statistics>} with the number of requests and failures and the mean,
+ *     median, 90th and 99th percentile and maximum latency over all requests in microseconds.</li>
+ *     <li>{@code QUIT} closes the connection.</li>
+ * </ul>
+ * <p>
+ * Paths are resolved against the data root the daemon was started with. Jobs addressing a path outside of it, also by
+ * {@code ..} segments or symbolic links, are answered with {@code ERROR}, so clients can only analyse the documents
+ * meant to be served.
+ * </p>
+ * <p>
+ * Every connection is read by a thread of its own, which hands each job to a fixed pool of worker threads, so at most
+ * that many jobs are analysed at once, and idle connections don't occupy a worker. Connections idle for longer than
+ * {@link #IDLE_TIMEOUT_MILLIS} are closed. Failing jobs are reported to their client and never affect other jobs.
+ * </p>
+ */
+public final class AnalysisDaemon implements Closeable {
+    private static final Logger logger = LogManager.getLogger(AnalysisDaemon.class);
+
+    /**
+     * Port the daemon listens on unless configured otherwise.
+     */
+    public static final int DEFAULT_PORT = 7311;
+
+    /**
+     * Time in milliseconds after which a connection without requests is closed.
+     */
+    public static final int IDLE_TIMEOUT_MILLIS = 60_000;
+
+    private static final String STATS_COMMAND = "STATS";
+    private static final String QUIT_COMMAND = "QUIT";
+
+    private final ServerSocket serverSocket;
+    private final Path dataRoot;
+    private final Path realDataRoot;
+    private final ExecutorService workers;
+    private final ExecutorService readers;
+    private final Thread acceptor;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder failures = new LongAdder();
+
+    private AnalysisDaemon(final ServerSocket serverSocket, final int threads, final Path dataRoot, final Path realDataRoot) {
+        this.serverSocket = serverSocket;
+        this.dataRoot = dataRoot;
+        this.realDataRoot = realDataRoot;
+        final AtomicInteger workerCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, task -> {
+            final Thread thread = new Thread(task, "daemon-worker-" + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        final AtomicInteger readerCount = new AtomicInteger();
+        this.readers = Executors.newCachedThreadPool(task -> {
+            final Thread thread = new Thread(task, "daemon-connection-" + readerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.acceptor = new Thread(this::acceptConnections, "daemon-acceptor");
+    }
+
+    /**
+     * Warms up the analysis of every {@link DocumentType} and starts a daemon on the loopback interface.
+     *
+     * @param port the port to listen on, or {@code 0} for any free port, see {@link #getPort()}
+     * @param threads the number of worker threads, i.e. the maximum number of concurrently analysed jobs
+     * @param dataRoot the directory containing all documents that may be analysed; relative paths of jobs are
+     *                 resolved against it
+     * @return the running daemon
+     * @throws IOException if the port can't be bound or the data root can't be resolved
+     * @throws DocumentCreationException if a bundled document used for warming up can't be parsed
+     * @throws IllegalArgumentException if {@code port} is out of range, {@code threads} is less than one or
+     *                                  {@code dataRoot} is {@code null} or no directory
+     */
+    public static AnalysisDaemon start(final int port, final int threads, final Path dataRoot) throws IOException, DocumentCreationException {
+        if (port < 0 || port > 0xFFFF || threads < 1) {
+            logger.warn("Invalid port {} or thread count {} for analysis daemon", port, threads);
+            throw new IllegalArgumentException("Port must be between 0 and 65535 and thread count at least 1.");
+        }
+        nullCheck(dataRoot, logger, "Data root was null when starting analysis daemon.", "Data root can't be null.");
+        if (!Files.isDirectory(dataRoot)) {
+            logger.warn("Data root {} of analysis daemon is no directory", dataRoot);
+            throw new IllegalArgumentException("Data root must be a directory: " + dataRoot);
+        }
+        for (final DocumentType type : DocumentType.values()) {
+            type.warmUp();
+        }
+
+        final AnalysisDaemon daemon = new AnalysisDaemon(new ServerSocket(port, 0, InetAddress.getLoopbackAddress()), threads,
+                dataRoot.toAbsolutePath().normalize(), dataRoot.toRealPath());
+        daemon.acceptor.start();
+        logger.info("Analysis daemon listening on {} with {} workers, serving {}", daemon.serverSocket.getLocalSocketAddress(), threads, daemon.dataRoot);
+        return daemon;
+    }
+
+    /**
+     * Accepts connections and hands each of them to a reader thread until the server socket is closed.
+     */
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Socket socket = serverSocket.accept();
+                connections.add(socket);
+                readers.execute(() -> serve(socket));
+            } catch (RejectedExecutionException | SocketException e) {
+                logger.debug("Stopped accepting connections", e);
+                return;
+            } catch (IOException e) {
+                logger.warn("Accepting connection failed", e);
+            }
+        }
+    }
+
+    /**
+     * Answers the requests of one connection until the client quits, disconnects or stays idle for too long. Every
+     * request is analysed by a worker while this thread waits for its response, so responses keep the order of the
+     * requests.
+     *
+     * @param socket the connection
+     */
+    private void serve(final Socket socket) {
+        try (socket;
+             final BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             final Writer writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setSoTimeout(IDLE_TIMEOUT_MILLIS);
+            logger.debug("Serving connection from {}", socket.getRemoteSocketAddress());
+
+            String line;
+            while ((line = reader.readLine()) != null && !line.equals(QUIT_COMMAND)) {
+                if (line.isBlank()) continue;
+                final String request = line;
+                writer.write(workers.submit(() -> respond(request)).get());
+                writer.write('\n');
+                writer.flush();
+            }
+        } catch (SocketTimeoutException e) {
+            logger.debug("Closing idle connection from {}", socket.getRemoteSocketAddress());
+        } catch (IOException | ExecutionException | RejectedExecutionException e) {
+            logger.debug("Connection from {} failed", socket.getRemoteSocketAddress(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    /**
+     * Processes one request line.
+     *
+     * @param line the request line
+     * @return the response line without line terminator
+     */
+    String respond(final String line) {
+        if (line.equals(STATS_COMMAND)) {
+            return "OK\t" + latencies + " failures=" + failures.sum();
+        }
+
+        final long start = System.nanoTime();
+        String response;
+        try {
+            final DaemonRequest request = DaemonRequest.parse(line);
+            final IDocumentSource source = resolveSource(request.getPath());
+            response = "OK\t" + sanitize(request.getType().analyse(request.getDelimiter(), request.getLocale(), source));
+        } catch (Exception e) {
+            failures.increment();
+            logger.warn("Request {} failed", line, e);
+            response = "ERROR\t" + sanitize(String.valueOf(e.getMessage()));
+        }
+
+        final long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        latencies.record(micros);
+        return response + '\t' + micros;
+    }
+
+    /**
+     * Resolves the path of a request against the data root and creates the source of the document it addresses.
+     * <p>
+     * Of a directory of shards, every shard is checked as well, since the shards are opened following symbolic links.
+     * </p>
+     *
+     * @param requested the absolute path or path relative to the data root
+     * @return a {@link DirectorySource} if the path is a directory, a {@link FileSource} otherwise
+     * @throws IOException if the real path of an existing file can't be determined or the directory can't be listed
+     * @throws IllegalArgumentException if the path or one of its shards lies outside of the data root, also after
+     *                                  following symbolic links
+     */
+    private IDocumentSource resolveSource(final Path requested) throws IOException {
+        final Path path = dataRoot.resolve(requested).normalize();
+        if (!path.startsWith(dataRoot)) throw outsideDataRoot(requested);
+        if (!Files.exists(path)) return new FileSource(path);
+        requireWithinDataRoot(path, requested);
+        if (!Files.isDirectory(path)) return new FileSource(path);
+
+        final DirectorySource directory = new DirectorySource(path);
+        for (final FileSource part : directory.getParts()) {
+            requireWithinDataRoot(part.getPath(), requested);
+        }
+        return directory;
+    }
+
+    private void requireWithinDataRoot(final Path path, final Path requested) throws IOException {
+        if (!path.toRealPath().startsWith(realDataRoot)) throw outsideDataRoot(requested);
+    }
+
+    private IllegalArgumentException outsideDataRoot(final Path requested) {
+        logger.warn("Rejected path {} outside of data root {}", requested, dataRoot);
+        return new IllegalArgumentException("Path " + requested + " is outside of the data root.");
+    }
+
+    /**
+     * Replaces the characters separating fields and responses, so values can't break the protocol.
+     */
+    private static String sanitize(final String value) {
+        return value.replace('\t', ' ').replace('\r', ' ').replace('\n', ' ');
+    }
+
+    /**
+     * Waits until the daemon has been closed.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void awaitTermination() throws InterruptedException {
+        acceptor.join();
+        readers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        workers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops accepting connections and closes all open connections, aborting the requests in progress.
+     *
+     * @throws IOException if the server socket can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        logger.info("Stopping analysis daemon after {} requests: {}", latencies.getCount(), latencies);
+        try {
+            serverSocket.close();
+        } finally {
+            readers.shutdownNow();
+            workers.shutdownNow();
+            for (final Socket connection : connections) {
+                try {
+                    connection.close();
+                } catch (IOException e) {
+                    logger.debug("Closing connection failed", e);
+                }
+            }
+        }
+    }
+
+    //region Getter
+    /**
+     * @return the port the daemon listens on, also if it was started on any free port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public Path getDataRoot() {
+        return dataRoot;
+    }
+
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+    //endregion
+
+    //region java.lang.Object Overrides
+    @Override
+    public String toString() {
+        return "AnalysisDaemon: " + serverSocket.getLocalSocketAddress() +
+                ", data root: " + dataRoot +
+                ", requests: " + latencies.getCount() +
+                ", failures: " + failures.sum();
+    }
+    //endregion
+}
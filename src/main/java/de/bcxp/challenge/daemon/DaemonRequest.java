@@ -0,0 +1,87 @@
+package de.bcxp.challenge.daemon;
+
+import de.bcxp.challenge.DocumentType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.IllformedLocaleException;
+import java.util.Locale;
+
+/**
+ * A job submitted to the {@link AnalysisDaemon}, parsed from a single tab separated request line
+ * {@code <type>\t<delimiter>\t<locale>\t<path>}, e.g. {@code weather\t,\tde-DE\t/data/weather.csv}.
+ */
+final class DaemonRequest {
+    private static final Logger logger = LogManager.getLogger(DaemonRequest.class);
+
+    private static final char SEPARATOR = '\t';
+    private static final int FIELD_COUNT = 4;
+
+    private final DocumentType type;
+    private final char delimiter;
+    private final Locale locale;
+    private final Path path;
+
+    private DaemonRequest(final DocumentType type, final char delimiter, final Locale locale, final Path path) {
+        this.type = type;
+        this.delimiter = delimiter;
+        this.locale = locale;
+        this.path = path;
+    }
+
+    /**
+     * Parses a request line. The path is the last field, so it may contain any character but line breaks and tabs.
+     *
+     * @param line the request line without line terminator
+     * @return the request
+     * @throws IllegalArgumentException if the line doesn't consist of a known document type, a single character
+     *                                  delimiter, a well-formed language tag and a path
+     */
+    static DaemonRequest parse(final String line) {
+        final String[] fields = line.split(String.valueOf(SEPARATOR), FIELD_COUNT);
+        if (fields.length != FIELD_COUNT || fields[3].isEmpty()) {
+            logger.warn("Malformed request {}", line);
+            throw new IllegalArgumentException("Request must consist of type, delimiter, locale and path separated by tabs.");
+        }
+        if (fields[1].length() != 1) {
+            logger.warn("Invalid delimiter in request {}", line);
+            throw new IllegalArgumentException("Delimiter must be a single character.");
+        }
+        try {
+            final Locale locale = new Locale.Builder().setLanguageTag(fields[2]).build();
+            return new DaemonRequest(DocumentType.forName(fields[0]), fields[1].charAt(0), locale, Path.of(fields[3]));
+        } catch (IllformedLocaleException | InvalidPathException e) {
+            logger.warn("Invalid locale or path in request {}", line, e);
+            throw new IllegalArgumentException("Invalid locale or path: " + e.getMessage(), e);
+        }
+    }
+
+    //region Getter
+    DocumentType getType() {
+        return type;
+    }
+
+    char getDelimiter() {
+        return delimiter;
+    }
+
+    Locale getLocale() {
+        return locale;
+    }
+
+    Path getPath() {
+        return path;
+    }
+    //endregion
+
+    //region java.lang.Object Overrides
+    @Override
+    public String toString() {
+        return "DaemonRequest: " + type.getName() +
+                ", delimiter: " + delimiter +
+                ", locale: " + locale.toLanguageTag() +
+                ", path: " + path;
+    }
+    //endregion
+}
@@ -0,0 +1,5 @@
+/**
+ * Long-running analysis daemon accepting jobs over a loopback socket, so that many small documents are analysed by
+ * one warm JVM instead of starting a new JVM per document.
+ */
+package de.bcxp.challenge.daemon;
@@ -0,0 +1,66 @@
+package de.bcxp.challenge.http;
+
+/**
+ * Minimal JSON encoding of the values returned by the {@link QueryServer}, which only writes flat objects and arrays
+ * of strings and numbers and therefore doesn't need a JSON library.
+ */
+final class Json {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * This is a utility class which provides only static methods, therefore it shouldn't be instantiated.
+     */
+    private Json() {
+        throw new AssertionError("Cannot instantiate utility class.");
+    }
+
+    /**
+     * Encodes a string as JSON string literal, escaping quotes, backslashes and control characters.
+     *
+     * @param value the string to encode
+     * @return the quoted and escaped string
+     */
+    static String quote(final String value) {
+        final StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xf]);
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * Encodes a number as JSON number, or {@code null} for NaN and infinite values, which JSON can't represent.
+     *
+     * @param value the number to encode
+     * @return the encoded number
+     */
+    static String number(final double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) return "null";
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) return Long.toString((long) value);
+        return Double.toString(value);
+    }
+}
@@ -0,0 +1,396 @@
+package de.bcxp.challenge.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.bcxp.challenge.DocumentType;
+import de.bcxp.challenge.common.analysis.csv.CsvAnalysisUtility;
+import de.bcxp.challenge.common.metrics.LatencyHistogram;
+import de.bcxp.challenge.common.model.Document;
+import de.bcxp.challenge.common.model.DocumentEntry;
+import de.bcxp.challenge.common.model.csv.IEntryWithComparableNumericTuple;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.InetAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static de.bcxp.challenge.common.utility.ParameterValidationUtility.nullCheck;
+
+/**
+ * Embedded HTTP server answering queries over documents that are parsed once at startup, based on the JDK's
+ * {@link HttpServer}.
+ * <p>
+ * The server listens on the loopback interface only and answers {@code GET} requests with JSON:
+ * </p>
+ * <ul>
+ *     <li>{@code /documents} lists the loaded documents and their number of entries.</li>
+ *     <li>{@code /documents/<name>/best} returns all entries sharing the best score.</li>
+ *     <li>{@code /documents/<name>/top?k=<k>} returns the {@code k} best entries, best first, or all entries if
+ *     there are fewer.</li>
+ *     <li>{@code /documents/<name>/range?min=<score>&max=<score>&limit=<n>} returns the first {@code n} entries
+ *     whose score lies within the closed range, in document order; both bounds are optional.</li>
+ *     <li>{@code /metrics} returns the request count and latency percentiles in microseconds per endpoint.</li>
+ * </ul>
+ * <p>
+ * The responses of {@code best}, {@code top} and {@code range} report the number of matching entries as
+ * {@code total}, which only exceeds the number of returned entries if a range query was limited.
+ * </p>
+ * <p>
+ * Requests are handled by a fixed pool of worker threads sized to the available processors. Responses always
+ * declare their length, so clients can keep their connections alive for further requests. The documents are
+ * immutable, so requests never wait for each other.
+ * </p>
+ */
+public final class QueryServer implements Closeable {
+    private static final Logger logger = LogManager.getLogger(QueryServer.class);
+
+    /**
+     * Port the server listens on unless configured otherwise.
+     */
+    public static final int DEFAULT_PORT = 8080;
+
+    /**
+     * Number of entries returned by a range query without {@code limit}, and the largest accepted {@code k} and
+     * {@code limit}.
+     */
+    public static final int MAX_RESULTS = 1000;
+
+    private static final String DOCUMENTS_PATH = "/documents";
+    private static final String METRICS_PATH = "/metrics";
+    private static final List<String> ENDPOINTS = List.of("documents", "best", "top", "range", "metrics", "invalid");
+
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final Map<String, LoadedDocument<?>> documents = new LinkedHashMap<>();
+    private final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
+
+    private QueryServer(final HttpServer server, final int threads, final Map<DocumentType, ? extends Document<? extends DocumentEntry>> documents) {
+        this.server = server;
+        final AtomicInteger workerCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, task -> {
+            final Thread thread = new Thread(task, "http-worker-" + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        documents.forEach((type, document) -> this.documents.put(type.getName(), LoadedDocument.of(type, document)));
+        ENDPOINTS.forEach(endpoint -> latencies.put(endpoint, new LatencyHistogram()));
+    }
+
+    /**
+     * Starts a server on the loopback interface answering queries over the given documents.
+     *
+     * @param port the port to listen on, or {@code 0} for any free port, see {@link #getPort()}
+     * @param documents the documents to query, each of the given type and available under the name of its type
+     * @return the running server
+     * @throws IOException if the port can't be bound
+     * @throws IllegalArgumentException if {@code documents} is {@code null}, a document doesn't consist of entries
+     *                                  with a score, or {@code port} is out of range
+     */
+    public static QueryServer start(final int port, final Map<DocumentType, ? extends Document<? extends DocumentEntry>> documents) throws IOException {
+        nullCheck(documents, logger, "Documents were null when starting query server.", "Documents can't be null.");
+        if (port < 0 || port > 0xFFFF) {
+            logger.warn("Invalid port {} for query server", port);
+            throw new IllegalArgumentException("Port must be between 0 and 65535.");
+        }
+        for (final Map.Entry<DocumentType, ? extends Document<? extends DocumentEntry>> document : documents.entrySet()) {
+            nullCheck(document.getValue(), logger, "Document " + document.getKey() + " was null when starting query server.", "Documents can't be null.");
+            if (!document.getValue().getEntries().isEmpty() && !document.getValue().hasComparableNumericTuples()) {
+                logger.warn("Document {} has no comparable scores", document.getKey());
+                throw new IllegalArgumentException("Entries of " + document.getKey().getName() + " must all have a score.");
+            }
+        }
+
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        final QueryServer queryServer = new QueryServer(httpServer, threads, documents);
+        httpServer.setExecutor(queryServer.workers);
+        httpServer.createContext("/", queryServer::handle);
+        httpServer.start();
+        logger.info("Query server listening on {} with {} workers", httpServer.getAddress(), threads);
+        return queryServer;
+    }
+
+    /**
+     * Answers a request and records its latency for the endpoint it addressed.
+     *
+     * @param exchange the request and its response
+     */
+    private void handle(final HttpExchange exchange) {
+        final long start = System.nanoTime();
+        String endpoint = "invalid";
+        Response response;
+        try {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.getResponseHeaders().add("Allow", "GET");
+                response = Response.error(405, "Only GET requests are supported.");
+            } else {
+                final String path = exchange.getRequestURI().getPath();
+                final Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+                endpoint = getEndpoint(path);
+                response = route(endpoint, path, parameters);
+            }
+        } catch (NoSuchElementException e) {
+            response = Response.error(404, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            response = Response.error(400, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.error("Query {} failed", exchange.getRequestURI(), e);
+            response = Response.error(500, "Internal server error.");
+        }
+
+        try {
+            final byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(response.status, body.length);
+            try (final OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } catch (IOException e) {
+            logger.debug("Sending response to {} failed", exchange.getRemoteAddress(), e);
+        } finally {
+            exchange.close();
+            latencies.get(endpoint).record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Determines the endpoint addressed by a request path.
+     *
+     * @param path the request path
+     * @return the endpoint name, {@code invalid} for unknown paths
+     */
+    private static String getEndpoint(final String path) {
+        if (path.equals(DOCUMENTS_PATH)) return "documents";
+        if (path.equals(METRICS_PATH)) return "metrics";
+        final String[] segments = path.split("/");
+        if (segments.length == 4 && ("/" + segments[1]).equals(DOCUMENTS_PATH)
+                && (segments[3].equals("best") || segments[3].equals("top") || segments[3].equals("range"))) {
+            return segments[3];
+        }
+        return "invalid";
+    }
+
+    private Response route(final String endpoint, final String path, final Map<String, String> parameters) {
+        switch (endpoint) {
+            case "documents":
+                return listDocuments();
+            case "metrics":
+                return getMetrics();
+            case "invalid":
+                return Response.error(404, "Unknown path " + path);
+            default:
+                break;
+        }
+
+        final String name = path.split("/")[2];
+        final LoadedDocument<?> document = documents.get(name);
+        if (document == null) return Response.error(404, "Unknown document " + name);
+        return query(endpoint, name, document, parameters);
+    }
+
+    private static <T extends DocumentEntry & IEntryWithComparableNumericTuple> Response query(final String endpoint, final String name,
+                                                                                               final LoadedDocument<T> document,
+                                                                                               final Map<String, String> parameters) {
+        switch (endpoint) {
+            case "best":
+                final List<T> bestMatches = new ArrayList<>(CsvAnalysisUtility.getBestMatchesOfNumericTuples(
+                        document.document, document.type.getComparisonType()));
+                bestMatches.sort(Comparator.comparing(DocumentEntry::getId));
+                return Response.ok(toJson(name, bestMatches, bestMatches.size()));
+            case "top":
+                final int k = getInt(parameters, "k", 1);
+                final List<T> topMatches = CsvAnalysisUtility.getTopMatches(document.document, document.type.getComparisonType(), k);
+                return Response.ok(toJson(name, topMatches, topMatches.size()));
+            default:
+                final double min = getDouble(parameters, "min", Double.NEGATIVE_INFINITY);
+                final double max = getDouble(parameters, "max", Double.POSITIVE_INFINITY);
+                final int limit = getInt(parameters, "limit", MAX_RESULTS);
+                final List<T> matches = new ArrayList<>(Math.min(limit, document.document.getEntries().size()));
+                final int total = CsvAnalysisUtility.collectMatchesInScoreRange(document.document, min, max, limit, matches);
+                return Response.ok(toJson(name, matches, total));
+        }
+    }
+
+    private Response listDocuments() {
+        final StringBuilder json = new StringBuilder("{\"documents\":[");
+        String separator = "";
+        for (final Map.Entry<String, LoadedDocument<?>> document : documents.entrySet()) {
+            json.append(separator)
+                    .append("{\"name\":").append(Json.quote(document.getKey()))
+                    .append(",\"entries\":").append(document.getValue().document.getEntries().size())
+                    .append(",\"best\":").append(Json.quote(document.getValue().type.getComparisonType().name().toLowerCase()))
+                    .append('}');
+            separator = ",";
+        }
+        return Response.ok(json.append("]}").toString());
+    }
+
+    private Response getMetrics() {
+        final StringBuilder json = new StringBuilder("{\"endpoints\":{");
+        String separator = "";
+        for (final Map.Entry<String, LatencyHistogram> endpoint : latencies.entrySet()) {
+            final LatencyHistogram histogram = endpoint.getValue();
+            json.append(separator).append(Json.quote(endpoint.getKey()))
+                    .append(":{\"count\":").append(histogram.getCount())
+                    .append(",\"meanMicros\":").append(Json.number(Math.round(histogram.getMean())))
+                    .append(",\"p50Micros\":").append(histogram.getPercentile(50))
+                    .append(",\"p90Micros\":").append(histogram.getPercentile(90))
+                    .append(",\"p99Micros\":").append(histogram.getPercentile(99))
+                    .append(",\"maxMicros\":").append(histogram.getMax())
+                    .append('}');
+            separator = ",";
+        }
+        return Response.ok(json.append("}}").toString());
+    }
+
+    private static <T extends DocumentEntry & IEntryWithComparableNumericTuple> String toJson(final String name, final Collection<? extends T> entries, final int total) {
+        final StringBuilder json = new StringBuilder("{\"document\":").append(Json.quote(name))
+                .append(",\"total\":").append(total)
+                .append(",\"matches\":[");
+        String separator = "";
+        for (final T entry : entries) {
+            json.append(separator)
+                    .append("{\"id\":").append(Json.quote(entry.getId()))
+                    .append(",\"score\":").append(Json.number(entry.getBestMatchScore()))
+                    .append('}');
+            separator = ",";
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Parses the raw query string of a request.
+     *
+     * @param rawQuery the URL encoded query, may be {@code null}
+     * @return the decoded parameters; of repeated parameters, the last value wins
+     */
+    static Map<String, String> parseQuery(final String rawQuery) {
+        final Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) return parameters;
+        for (final String pair : rawQuery.split("&")) {
+            final int separator = pair.indexOf('=');
+            final String key = separator < 0 ? pair : pair.substring(0, separator);
+            final String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private static int getInt(final Map<String, String> parameters, final String name, final int defaultValue) {
+        final String value = parameters.get(name);
+        if (value == null) return defaultValue;
+        final int parsed = Integer.parseInt(value);
+        if (parsed < 1 || parsed > MAX_RESULTS) {
+            throw new IllegalArgumentException("Parameter " + name + " must be between 1 and " + MAX_RESULTS + ".");
+        }
+        return parsed;
+    }
+
+    private static double getDouble(final Map<String, String> parameters, final String name, final double defaultValue) {
+        final String value = parameters.get(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    /**
+     * Stops the server, closing all connections without waiting for requests in progress.
+     */
+    @Override
+    public void close() {
+        logger.info("Stopping query server");
+        server.stop(0);
+        workers.shutdownNow();
+    }
+
+    //region Getter
+    /**
+     * @return the port the server listens on, also if it was started on any free port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * @param endpoint the endpoint, one of {@code documents}, {@code best}, {@code top}, {@code range},
+     *                 {@code metrics} and {@code invalid}
+     * @return the latencies of the requests to the endpoint
+     * @throws NoSuchElementException if there is no such endpoint
+     */
+    public LatencyHistogram getLatencies(final String endpoint) {
+        final LatencyHistogram histogram = latencies.get(endpoint);
+        if (histogram == null) throw new NoSuchElementException("Unknown endpoint " + endpoint);
+        return histogram;
+    }
+    //endregion
+
+    //region java.lang.Object Overrides
+    @Override
+    public String toString() {
+        return "QueryServer: " + server.getAddress() +
+                ", documents: " + documents.keySet();
+    }
+    //endregion
+
+    /**
+     * A document together with its type, which defines the best score.
+     *
+     * @param <T> the type of the entries
+     */
+    private static final class LoadedDocument<T extends DocumentEntry & IEntryWithComparableNumericTuple> {
+        private final DocumentType type;
+        private final Document<? extends T> document;
+
+        private LoadedDocument(final DocumentType type, final Document<? extends T> document) {
+            this.type = type;
+            this.document = document;
+        }
+
+        /**
+         * Types a document once, so queries don't need to check or cast its entries.
+         *
+         * @param type the type of the document
+         * @param document a document that is empty or {@linkplain Document#hasComparableNumericTuples() has comparable
+         *                 numeric tuples}, as validated by {@link #start(int, Map)}
+         * @return the typed document
+         */
+        @SuppressWarnings("unchecked")
+        private static <T extends DocumentEntry & IEntryWithComparableNumericTuple> LoadedDocument<T> of(final DocumentType type, final Document<? extends DocumentEntry> document) {
+            return new LoadedDocument<>(type, (Document<? extends T>) document);
+        }
+    }
+
+    /**
+     * The status and JSON body of a response.
+     */
+    private static final class Response {
+        private final int status;
+        private final String body;
+
+        private Response(final int status, final String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        private static Response ok(final String body) {
+            return new Response(200, body);
+        }
+
+        private static Response error(final int status, final String message) {
+            return new Response(status, "{\"error\":" + Json.quote(String.valueOf(message)) + "}");
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Embedded HTTP server answering best-match, top-K and score range queries over documents loaded once at startup.
+ */
+package de.bcxp.challenge.http;
@@ -1,13 +1,18 @@
 package de.bcxp.challenge.weather;
 
 import de.bcxp.challenge.common.analysis.IDocumentAnalyser;
-import de.bcxp.challenge.common.model.DocumentEntry;
+import de.bcxp.challenge.common.analysis.csv.IncrementalBestMatches;
+import de.bcxp.challenge.common.documentParsing.csv.CsvParser;
+import de.bcxp.challenge.common.documentParsing.IDocumentParser;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
 import de.bcxp.challenge.common.model.csv.NumericComparisonType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import de.bcxp.challenge.common.model.Document;
+import java.nio.file.Path;
 import java.util.*;
-import static de.bcxp.challenge.common.analysis.csv.CsvAnalysisUtility.getBestMatchesForNumericColumnComparison;
+import static de.bcxp.challenge.common.analysis.csv.CsvAnalysisUtility.getBestMatchesOfNumericTuples;
+import static de.bcxp.challenge.common.analysis.csv.CsvAnalysisUtility.getBestMatchesFromEntryStream;
 import static de.bcxp.challenge.common.utility.ParameterValidationUtility.*;
 
 /**
@@ -20,7 +25,7 @@ import static de.bcxp.challenge.common.utility.ParameterValidationUtility.*;
  * @see WeatherEntry
  * @see Document
  */
-public class WeatherAnalyser implements IDocumentAnalyser {
+public class WeatherAnalyser implements IDocumentAnalyser<WeatherEntry> {
     private static final Logger logger = LogManager.getLogger(WeatherAnalyser.class);
 
     /**
@@ -39,9 +44,40 @@ public class WeatherAnalyser implements IDocumentAnalyser {
      * @throws NoSuchElementException if the document contains no entries
      */
     @Override
-    public Set<DocumentEntry> getBestMatches(final Document document) throws NoSuchElementException {
+    public Set<WeatherEntry> getBestMatches(final Document<? extends WeatherEntry> document) throws NoSuchElementException {
         validateDocument(document, logger, DOCUMENT_LOG, DOCUMENT_EXCEPTION);
-        return getBestMatchesForNumericColumnComparison(document, NumericComparisonType.MIN);
+        return getBestMatchesOfNumericTuples(document, NumericComparisonType.MIN);
     }
 
+    /**
+     * Finds the day with the smallest temperature spread while the provided parser streams its entries.
+     * <p>
+     * Only the current best score and its tied entries are held in memory, the document itself is never built.
+     * </p>
+     *
+     * @param parser the parser streaming the entries to analyze
+     * @return A set of entries sharing the best score
+     * @throws DocumentCreationException if parsing the document fails
+     * @throws NoSuchElementException if the parser streams no entries
+     */
+    @Override
+    public Set<WeatherEntry> getBestMatchesFromParser(final IDocumentParser<? extends WeatherEntry> parser) throws DocumentCreationException, NoSuchElementException {
+        return getBestMatchesFromEntryStream(parser, NumericComparisonType.MIN);
+    }
+
+    /**
+     * Follows the day with the smallest temperature spread of a weather file that grows by appended rows, such as
+     * the log of a weather station.
+     * <p>
+     * Every {@link IncrementalBestMatches#update()} only parses the rows appended since the previous update.
+     * </p>
+     *
+     * @param parser the parser converting the rows of the file, e.g. a {@link WeatherCsvParser}
+     * @param path the path of the weather file on the local file system
+     * @return the state of the file, not parsed before its first update
+     * @throws IllegalArgumentException if a parameter is {@code null}
+     */
+    public IncrementalBestMatches<WeatherEntry> followBestMatches(final CsvParser<? extends WeatherEntry> parser, final Path path) {
+        return new IncrementalBestMatches<>(parser, path, NumericComparisonType.MIN);
+    }
 }
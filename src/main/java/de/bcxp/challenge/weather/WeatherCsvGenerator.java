@@ -0,0 +1,58 @@
+package de.bcxp.challenge.weather;
+
+import de.bcxp.challenge.common.generation.CsvGenerator;
+import de.bcxp.challenge.common.generation.CsvGeneratorOptions;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates synthetic weather documents with the columns of {@code weather.csv}, one row per day.
+ * <p>
+ * Temperatures are written with one fraction digit. Rows flagged as best match have a temperature spread of zero,
+ * all other rows a spread of at least one degree, so the best matches of {@link WeatherAnalyser} are exactly the
+ * flagged days.
+ * </p>
+ *
+ * @see WeatherCsvParser
+ */
+public class WeatherCsvGenerator extends CsvGenerator {
+
+    private static final List<String> HEADER = List.of(
+            "Day", "MxT", "MnT", "AvT", "AvDP", "1HrP TPcpn", "PDir", "AvSp", "Dir", "MxS", "SkyC", "MxR", "Mn", "R AvSLP"
+    );
+
+    /**
+     * Creates a generator writing comma separated files unless the options specify another delimiter.
+     *
+     * @param options the generation settings
+     */
+    public WeatherCsvGenerator(final CsvGeneratorOptions options) {
+        super(options, ',');
+    }
+
+    @Override
+    protected List<String> getHeader() {
+        return HEADER;
+    }
+
+    @Override
+    protected void writeRow(final Row row, final long index, final boolean best, final SplittableRandom random) {
+        final long minTemp = random.nextLong(-300, 900);
+        final long maxTemp = best ? minTemp : minTemp + random.nextLong(10, 400);
+
+        row.field(Long.toString(index + 1))
+                .decimal(maxTemp, 1)
+                .decimal(minTemp, 1)
+                .decimal((maxTemp + minTemp) / 2, 1)
+                .decimal(random.nextLong(0, 800), 1)
+                .integer(random.nextInt(0, 10))
+                .integer(random.nextInt(0, 360))
+                .decimal(random.nextLong(0, 250), 1)
+                .integer(random.nextInt(0, 360))
+                .integer(random.nextInt(0, 60))
+                .decimal(random.nextLong(0, 90), 1)
+                .integer(random.nextInt(20, 100))
+                .integer(random.nextInt(0, 80))
+                .decimal(random.nextLong(9_800, 10_400), 1);
+    }
+}
@@ -1,6 +1,9 @@
 package de.bcxp.challenge.weather;
 
 import de.bcxp.challenge.common.documentParsing.csv.CsvParser;
+import de.bcxp.challenge.common.documentParsing.csv.ICsvRow;
+import de.bcxp.challenge.common.documentParsing.source.IDocumentSource;
+import de.bcxp.challenge.common.model.ColumnarDocument;
 import de.bcxp.challenge.common.model.DocumentEntry;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -26,7 +29,7 @@ import static de.bcxp.challenge.common.utility.StringParsingUtility.*;
  * @see WeatherEntry
  * @see CsvParser
  */
-public class WeatherCsvParser extends CsvParser {
+public class WeatherCsvParser extends CsvParser<WeatherEntry> {
     private static final Logger logger = LogManager.getLogger(WeatherCsvParser.class);
 
     private final static String NAME = "Day", MAX_TEMP = "MxT", MIN_TEMP = "MnT";
@@ -42,6 +45,17 @@ public class WeatherCsvParser extends CsvParser {
         super(delimiter, locale, filepath);
     }
 
+    /**
+     * Constructs a {@link WeatherCsvParser} with the specified CSV delimiter, reading the given source.
+     *
+     * @param delimiter the character used to separate values in the CSV file.
+     * @param locale Locale used when parsing number
+     * @param source the source of the csv, e.g. a local file or a directory of shards
+     */
+    public WeatherCsvParser(final char delimiter, final Locale locale, final IDocumentSource source) {
+        super(delimiter, locale, source);
+    }
+
     /**
      * Converts a collection of CSV records into a list of {@link DocumentEntry} objects,
      * specifically {@link WeatherEntry} instances. Each record is expected to contain
@@ -59,18 +73,93 @@ public class WeatherCsvParser extends CsvParser {
      *                        (e.g., due to locale-specific formatting issues).
      */
     @Override
-    protected List<DocumentEntry> getEntriesFromRecords(final Iterable<CSVRecord> records) throws NumberFormatException, ParseException {
-        final List<DocumentEntry> weatherList = new ArrayList<>();
+    protected List<WeatherEntry> getEntriesFromRecords(final Iterable<CSVRecord> records) throws NumberFormatException, ParseException {
+        final List<WeatherEntry> weatherList = new ArrayList<>();
 
         for (final CSVRecord record : records) {
-            weatherList.add(new WeatherEntry(
+            weatherList.add(getEntryFromRecord(record));
+        }
+
+        return weatherList;
+    }
+
+    /**
+     * Converts a single CSV record into a {@link WeatherEntry}.
+     *
+     * @param record a {@link CSVRecord} providing values for {@code NAME}, {@code MAX_TEMP} and {@code MIN_TEMP}
+     * @return the {@link WeatherEntry} parsed from the record
+     * @throws NumberFormatException if temperature values cannot be parsed as doubles.
+     * @throws ParseException if a parsing error occurs during number conversion
+     *                        (e.g., due to locale-specific formatting issues).
+     */
+    @Override
+    protected WeatherEntry getEntryFromRecord(final CSVRecord record) throws NumberFormatException, ParseException {
+        return new WeatherEntry(
                 record.get(NAME),
                 getDoubleFromString(record.get(MAX_TEMP), super.getLocale()),
                 getDoubleFromString(record.get(MIN_TEMP), super.getLocale())
-                )
-            );
-        }
+        );
+    }
 
-        return weatherList;
+    /**
+     * Declares the columns read by {@link #getEntryFromRow(ICsvRow)}, in the order: NAME, MAX_TEMP, MIN_TEMP.
+     *
+     * @return the required column names
+     */
+    @Override
+    protected List<String> getColumnNames() {
+        return List.of(NAME, MAX_TEMP, MIN_TEMP);
+    }
+
+    /**
+     * Converts the current row of a row based tokenizer into a {@link WeatherEntry}.
+     *
+     * @param row the current row, exposing the columns declared by {@link #getColumnNames()}
+     * @return the {@link WeatherEntry} parsed from the row
+     * @throws NumberFormatException if numeric values cannot be parsed.
+     * @throws ParseException if a parsing error occurs during number conversion
+     *                        (e.g., due to locale-specific formatting issues).
+     */
+    @Override
+    protected WeatherEntry getEntryFromRow(final ICsvRow row) throws NumberFormatException, ParseException {
+        return new WeatherEntry(
+                row.getString(0),
+                row.getDouble(1),
+                row.getDouble(2)
+        );
+    }
+
+    /**
+     * Creates a builder for the columnar representation of weather data, holding the columns MAX_TEMP and MIN_TEMP.
+     *
+     * @return a new, empty {@link ColumnarDocument.Builder}
+     */
+    @Override
+    protected ColumnarDocument.Builder createColumnarBuilder() {
+        return ColumnarDocument.builder(
+                List.of(MAX_TEMP, MIN_TEMP),
+                List.of(ColumnarDocument.ColumnType.DOUBLE, ColumnarDocument.ColumnType.DOUBLE),
+                (document, row) -> new WeatherEntry(document.getId(row), document.getDouble(0, row), document.getDouble(1, row))
+        );
+    }
+
+    /**
+     * Validates the current row like {@link WeatherEntry} does and appends it to the columnar builder, scored by its temperature spread.
+     *
+     * @param row the current row, exposing the columns declared by {@link #getColumnNames()}
+     * @param builder the builder created by {@link #createColumnarBuilder()}
+     * @throws NumberFormatException if numeric values cannot be parsed.
+     * @throws ParseException if a parsing error occurs during number conversion
+     *                        (e.g., due to locale-specific formatting issues).
+     */
+    @Override
+    protected void addRowToColumns(final ICsvRow row, final ColumnarDocument.Builder builder) throws NumberFormatException, ParseException {
+        final String day = row.getString(0);
+        final double maxTemp = row.getDouble(1);
+        final double minTemp = row.getDouble(2);
+        WeatherEntry.validateTemperatures(day, maxTemp, minTemp);
+        builder.addRow(day, WeatherEntry.getTemperatureSpread(maxTemp, minTemp))
+                .setDouble(0, maxTemp)
+                .setDouble(1, minTemp);
     }
 }
@@ -30,13 +30,10 @@ public class WeatherEntry extends DocumentEntry implements IEntryWithComparableN
      */
     public WeatherEntry(final String day, final double maxTemp, final double minTemp) {
         super(day);
-        if (maxTemp < minTemp) {
-            logger.warn("MaxTemp {} lower than MinTemp {} for day {}", maxTemp, minTemp, day);
-            throw new IllegalArgumentException("Maximum temperature can't be less than minimum temperature.");
-        }
+        validateTemperatures(day, maxTemp, minTemp);
         this.maxTemp = maxTemp;
         this.minTemp = minTemp;
-        logger.trace("Created new country entry with {}, {}, {}", day, maxTemp, minTemp);
+        if (logger.isTraceEnabled()) logger.trace("Created new weather entry with {}, {}, {}", day, maxTemp, minTemp);
     }
 
     /**
@@ -45,6 +42,28 @@ public class WeatherEntry extends DocumentEntry implements IEntryWithComparableN
      */
     @Override
     public double getBestMatchScore() {
+        return getTemperatureSpread(maxTemp, minTemp);
+    }
+
+    /**
+     * Validates the temperatures of a day, shared by the constructor and the columnar representation.
+     *
+     * @throws IllegalArgumentException if {@code maxTemp} is less than {@code minTemp}
+     */
+    static void validateTemperatures(final String day, final double maxTemp, final double minTemp) {
+        if (maxTemp < minTemp) {
+            logger.warn("MaxTemp {} lower than MinTemp {} for day {}", maxTemp, minTemp, day);
+            throw new IllegalArgumentException("Maximum temperature can't be less than minimum temperature.");
+        }
+    }
+
+    /**
+     * Calculates the temperature spread of a day, shared by {@link #getBestMatchScore()} and the columnar
+     * representation.
+     *
+     * @throws ArithmeticException if the subtraction overflows
+     */
+    static double getTemperatureSpread(final double maxTemp, final double minTemp) {
         final double result = maxTemp - minTemp;
         if(!Double.isFinite(result)) {
             logger.error("Double subtraction resulted in Infinity, overflow detected:\nMax temp: {}, Min temp: {}", maxTemp, minTemp);
@@ -1,12 +1,21 @@
 package de.bcxp.challenge;
 
+import de.bcxp.challenge.common.cache.ResultCache;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -16,9 +25,13 @@ class AppTest {
 
     private static PrintStream originalOut;
 
+    @TempDir
+    static Path cacheDir;
+
     @BeforeAll
     static void backupOriginalOutputStream() {
         originalOut = System.out;
+        System.setProperty(ResultCache.DIRECTORY_PROPERTY, cacheDir.toString());
     }
 
     @Test
@@ -36,9 +49,78 @@ class AppTest {
 
     }
 
+    @Test
+    void testMainReadsDocumentsFromFileAndDirectory(@TempDir final Path tempDir) throws IOException {
+        final Path weather = tempDir.resolve("weather.csv");
+        Files.writeString(weather, "Day,MxT,MnT\n1,10,5\n7,8,7\n");
+        final Path countries = Files.createDirectory(tempDir.resolve("countries"));
+        Files.writeString(countries.resolve("part-0.csv"), "Name;Population;Area (km²)\nSmall;10;10\n");
+        Files.writeString(countries.resolve("part-1.csv"), "Name;Population;Area (km²)\nDense;1.000;1\n");
+
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+
+        assertDoesNotThrow(() -> App.main(weather.toString(), countries.toString()));
+        String output = outContent.toString();
+
+        assertTrue(output.contains("Day with smallest temperature spread: 7"));
+        assertTrue(output.contains("Country with highest population density: Dense"));
+    }
+
+    @Test
+    void testMainReportsFailedAnalysisWithoutAffectingOthers(@TempDir final Path tempDir) throws IOException {
+        final Path countries = Files.writeString(tempDir.resolve("countries.csv"), "Name;Population;Area (km²)\nDense;1.000;1\n");
+
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+
+        assertDoesNotThrow(() -> App.main(tempDir.resolve("missing.csv").toString(), countries.toString()));
+        String output = outContent.toString();
+
+        assertTrue(output.contains("Day with smallest temperature spread: N/A"));
+        assertTrue(output.contains("Country with highest population density: Dense"));
+    }
+
+    @Test
+    void testMainReusesCachedResultsOfUnchangedDocuments(@TempDir final Path tempDir) throws IOException {
+        final Path weather = Files.writeString(tempDir.resolve("weather.csv"), "Day,MxT,MnT\n1,10,5\n7,8,7\n");
+        final Path countries = Files.writeString(tempDir.resolve("countries.csv"), "Name;Population;Area (km²)\nDense;1.000;1\n");
+        final Path resultCache = Files.createDirectory(tempDir.resolve("cache"));
+        System.setProperty(ResultCache.DIRECTORY_PROPERTY, resultCache.toString());
+        try {
+            ByteArrayOutputStream firstRun = new ByteArrayOutputStream();
+            System.setOut(new PrintStream(firstRun));
+            App.main(weather.toString(), countries.toString());
+            assertTrue(firstRun.toString().contains("Day with smallest temperature spread: 7"));
+
+            final List<Path> results;
+            try (final Stream<Path> files = Files.list(resultCache)) {
+                results = files.collect(Collectors.toList());
+            }
+            assertEquals(2, results.size());
+            for (final Path result : results) {
+                if (Files.readString(result).equals("7")) Files.writeString(result, "cached");
+            }
+
+            ByteArrayOutputStream secondRun = new ByteArrayOutputStream();
+            System.setOut(new PrintStream(secondRun));
+            App.main(weather.toString(), countries.toString());
+            assertTrue(secondRun.toString().contains("Day with smallest temperature spread: cached"));
+
+            Files.writeString(weather, "Day,MxT,MnT\n1,10,5\n8,9,8\n");
+            ByteArrayOutputStream changedRun = new ByteArrayOutputStream();
+            System.setOut(new PrintStream(changedRun));
+            App.main(weather.toString(), countries.toString());
+            assertTrue(changedRun.toString().contains("Day with smallest temperature spread: 8"));
+        } finally {
+            System.setProperty(ResultCache.DIRECTORY_PROPERTY, cacheDir.toString());
+        }
+    }
+
     @AfterAll
     static void revertOutputStream() {
         System.setOut(originalOut);
+        System.clearProperty(ResultCache.DIRECTORY_PROPERTY);
     }
 
 }
\ No newline at end of file
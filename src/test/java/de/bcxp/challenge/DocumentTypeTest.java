@@ -0,0 +1,51 @@
+package de.bcxp.challenge;
+
+import de.bcxp.challenge.common.documentParsing.source.FileSource;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.csv.NumericComparisonType;
+import de.bcxp.challenge.countries.CountryCsvParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentTypeTest {
+
+    //region Positive Tests
+    @Test
+    void testWarmUpAnalysesBundledDocuments() throws DocumentCreationException {
+        // CSV files were copied and altered to test for different results:
+        assertEquals("25", DocumentType.WEATHER.warmUp());
+        assertEquals("Austria", DocumentType.COUNTRIES.warmUp());
+    }
+
+    @Test
+    void testLoadBundledDocuments() throws DocumentCreationException {
+        assertFalse(DocumentType.WEATHER.loadBundled().getEntries().isEmpty());
+        assertTrue(DocumentType.COUNTRIES.loadBundled().hasComparableNumericTuples());
+        assertEquals(NumericComparisonType.MIN, DocumentType.WEATHER.getComparisonType());
+        assertEquals(NumericComparisonType.MAX, DocumentType.COUNTRIES.getComparisonType());
+    }
+
+    @Test
+    void testAnalyseAndCreateParser(@TempDir final Path tempDir) throws IOException, DocumentCreationException {
+        final Path countries = Files.writeString(tempDir.resolve("countries.csv"), "Name;Population;Area (km²)\nDense;1,000;1\n");
+        assertEquals("Dense", DocumentType.forName("countries").analyse(';', Locale.US, new FileSource(countries)));
+        assertInstanceOf(CountryCsvParser.class, DocumentType.COUNTRIES.createParser(';', Locale.US, new FileSource(countries)));
+        assertEquals(DocumentType.WEATHER, DocumentType.forName("weather"));
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testInvalidRequests(@TempDir final Path tempDir) throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> DocumentType.forName("rainfall"));
+        final Path empty = Files.writeString(tempDir.resolve("weather.csv"), "Day,MxT,MnT\n");
+        assertThrows(NoSuchElementException.class, () -> DocumentType.WEATHER.analyse(',', Locale.GERMANY, new FileSource(empty)));
+    }
+    //endregion
+}
@@ -0,0 +1,48 @@
+package de.bcxp.challenge;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.RandomAccessFileAppender;
+import org.apache.logging.log4j.core.async.AsyncLoggerConfig;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoggingConfigurationTest {
+
+    private static final String LOG_FILE_PROPERTY = "de.bcxp.challenge.log.file";
+
+    @Test
+    void testProductionConfigurationLogsAsynchronously(@TempDir final Path tempDir) throws URISyntaxException, IOException {
+        final Path logFile = tempDir.resolve("app.log");
+        System.setProperty(LOG_FILE_PROPERTY, logFile.toString());
+        final LoggerContext context = new LoggerContext("production",
+                null, getClass().getClassLoader().getResource("log4j2-production.xml").toURI());
+        try {
+            context.start();
+            final Configuration configuration = context.getConfiguration();
+            final LoggerConfig root = configuration.getRootLogger();
+
+            assertInstanceOf(AsyncLoggerConfig.class, root);
+            assertEquals(Level.INFO, root.getLevel());
+            assertFalse(root.isIncludeLocation());
+            assertInstanceOf(RandomAccessFileAppender.class, configuration.getAppender("AppLog"));
+
+            context.getLogger(LoggingConfigurationTest.class).debug("discarded");
+            context.getLogger(LoggingConfigurationTest.class).info("written");
+        } finally {
+            context.stop();
+            System.clearProperty(LOG_FILE_PROPERTY);
+        }
+
+        final String log = Files.readString(logFile);
+        assertTrue(log.contains("written"));
+        assertFalse(log.contains("discarded"));
+    }
+}
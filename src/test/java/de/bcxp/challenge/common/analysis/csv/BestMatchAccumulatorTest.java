@@ -0,0 +1,139 @@
+package de.bcxp.challenge.common.analysis.csv;
+
+import de.bcxp.challenge.common.model.DocumentEntry;
+import de.bcxp.challenge.common.model.csv.IEntryWithComparableNumericTuple;
+import de.bcxp.challenge.common.model.csv.NumericComparisonType;
+import org.junit.jupiter.api.Test;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BestMatchAccumulatorTest {
+
+    static class TestEntry extends DocumentEntry implements IEntryWithComparableNumericTuple {
+        private final double score;
+        TestEntry(final String name, final double score) {
+            super(name);
+            this.score = score;
+        }
+        @Override
+        public double getBestMatchScore() {
+            return score;
+        }
+    }
+
+    //region Positive Tests
+    @Test
+    void testKeepsMaxScoreEntry() {
+        final TestEntry e1 = new TestEntry("A", 10.);
+        final TestEntry e2 = new TestEntry("B", 30.);
+        final TestEntry e3 = new TestEntry("C", 20.);
+
+        final BestMatchAccumulator<TestEntry> accumulator = new BestMatchAccumulator<>(NumericComparisonType.MAX);
+        accumulator.accept(e1);
+        accumulator.accept(e2);
+        accumulator.accept(e3);
+
+        assertEquals(Set.of(e2), accumulator.getBestMatches());
+        assertEquals(3, accumulator.getConsumedEntries());
+    }
+
+    @Test
+    void testKeepsMinScoreEntry() {
+        final TestEntry e1 = new TestEntry("A", Double.MAX_VALUE);
+        final TestEntry e2 = new TestEntry("B", -Double.MAX_VALUE);
+        final TestEntry e3 = new TestEntry("C", 0.);
+
+        final BestMatchAccumulator<TestEntry> accumulator = new BestMatchAccumulator<>(NumericComparisonType.MIN);
+        accumulator.accept(e1);
+        accumulator.accept(e2);
+        accumulator.accept(e3);
+
+        assertEquals(Set.of(e2), accumulator.getBestMatches());
+    }
+
+    @Test
+    void testTiesAreReplacedByBetterScore() {
+        final TestEntry e1 = new TestEntry("A", 10.);
+        final TestEntry e2 = new TestEntry("B", 10.);
+        final TestEntry e3 = new TestEntry("C", 5.);
+        final TestEntry e4 = new TestEntry("D", 5.);
+
+        final BestMatchAccumulator<TestEntry> accumulator = new BestMatchAccumulator<>(NumericComparisonType.MIN);
+        accumulator.accept(e1);
+        accumulator.accept(e2);
+        assertEquals(Set.of(e1, e2), accumulator.getBestMatches());
+
+        accumulator.accept(e3);
+        accumulator.accept(e4);
+        assertEquals(Set.of(e3, e4), accumulator.getBestMatches());
+    }
+
+    @Test
+    void testMergeKeepsBestMatchesOfBoth() {
+        final TestEntry e1 = new TestEntry("A", 10.);
+        final TestEntry e2 = new TestEntry("B", 5.);
+        final TestEntry e3 = new TestEntry("C", 5.);
+        final TestEntry e4 = new TestEntry("D", 1.);
+
+        final BestMatchAccumulator<TestEntry> accumulator = new BestMatchAccumulator<>(NumericComparisonType.MIN);
+        final BestMatchAccumulator<TestEntry> empty = new BestMatchAccumulator<>(NumericComparisonType.MIN);
+        accumulator.merge(empty);
+        assertEquals(0, accumulator.getConsumedEntries());
+
+        final BestMatchAccumulator<TestEntry> first = new BestMatchAccumulator<>(NumericComparisonType.MIN);
+        first.accept(e1);
+        first.accept(e2);
+        accumulator.merge(first);
+        assertEquals(Set.of(e2), accumulator.getBestMatches());
+
+        final BestMatchAccumulator<TestEntry> tie = new BestMatchAccumulator<>(NumericComparisonType.MIN);
+        tie.accept(e3);
+        accumulator.merge(tie);
+        accumulator.merge(empty);
+        assertEquals(Set.of(e2, e3), accumulator.getBestMatches());
+
+        final BestMatchAccumulator<TestEntry> better = new BestMatchAccumulator<>(NumericComparisonType.MIN);
+        better.accept(e4);
+        accumulator.merge(better);
+        assertEquals(Set.of(e4), accumulator.getBestMatches());
+        assertEquals(4, accumulator.getConsumedEntries());
+        assertEquals(Set.of(e2), first.getBestMatches());
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testMergeThrowsForNullOrDifferentType() {
+        final BestMatchAccumulator<TestEntry> accumulator = new BestMatchAccumulator<>(NumericComparisonType.MIN);
+        assertThrows(IllegalArgumentException.class, () -> accumulator.merge(null));
+        assertThrows(IllegalArgumentException.class, () -> accumulator.merge(new BestMatchAccumulator<>(NumericComparisonType.MAX)));
+    }
+
+    @Test
+    void testThrowsWithoutEntries() {
+        final BestMatchAccumulator<TestEntry> accumulator = new BestMatchAccumulator<>(NumericComparisonType.MAX);
+        assertThrows(NoSuchElementException.class, accumulator::getBestMatches);
+    }
+
+    @Test
+    void testThrowsForNullType() {
+        assertThrows(IllegalArgumentException.class, () -> new BestMatchAccumulator<TestEntry>(null));
+    }
+
+    @Test
+    void testThrowsForNullEntry() {
+        final BestMatchAccumulator<TestEntry> accumulator = new BestMatchAccumulator<>(NumericComparisonType.MAX);
+        assertThrows(IllegalStateException.class, () -> accumulator.accept(null));
+    }
+
+    @Test
+    void testThrowsForMixedEntryTypes() {
+        final BestMatchAccumulator<TestEntry> accumulator = new BestMatchAccumulator<>(NumericComparisonType.MAX);
+        accumulator.accept(new TestEntry("A", 1.) {});
+        final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> accumulator.accept(new TestEntry("B", 2.)));
+        assertEquals("Entries must all be of the same type.", ex.getMessage());
+    }
+    //endregion
+}
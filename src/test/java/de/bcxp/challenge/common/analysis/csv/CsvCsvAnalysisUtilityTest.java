@@ -2,6 +2,7 @@ package de.bcxp.challenge.common.analysis.csv;
 
 import de.bcxp.challenge.common.documentParsing.IDocumentParser;
 import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.ColumnarDocument;
 import de.bcxp.challenge.common.model.Document;
 import de.bcxp.challenge.common.model.DocumentEntry;
 import de.bcxp.challenge.common.model.csv.IEntryWithComparableNumericTuple;
@@ -30,7 +31,7 @@ class CsvCsvAnalysisUtilityTest {
     }
 
     @Mock
-    private IDocumentParser mockParser;
+    private IDocumentParser<TestEntry> mockParser;
 
     //region Positive Tests
     @Test
@@ -38,7 +39,7 @@ class CsvCsvAnalysisUtilityTest {
         TestEntry e1 = new TestEntry("A", 10.);
         TestEntry e2 = new TestEntry("B", 30.);
         TestEntry e3 = new TestEntry("C", 20.);
-        when(mockParser.parseDocument()).thenReturn(new Document(List.of(e1, e2, e3)));
+        when(mockParser.parseDocument()).thenReturn(new Document<>(List.of(e1, e2, e3)));
 
         Set<DocumentEntry> result = CsvAnalysisUtility
                 .getBestMatchesForNumericColumnComparison(
@@ -52,7 +53,7 @@ class CsvCsvAnalysisUtilityTest {
         e1 = new TestEntry("A", Double.MAX_VALUE);
         e2 = new TestEntry("B", Double.MIN_VALUE);
         e3 = new TestEntry("C", 0.);
-        when(mockParser.parseDocument()).thenReturn(new Document(List.of(e1, e2, e3)));
+        when(mockParser.parseDocument()).thenReturn(new Document<>(List.of(e1, e2, e3)));
 
         result = CsvAnalysisUtility
                 .getBestMatchesForNumericColumnComparison(
@@ -69,7 +70,7 @@ class CsvCsvAnalysisUtilityTest {
         TestEntry e1 = new TestEntry("A", 10.);
         TestEntry e2 = new TestEntry("B", 30.);
         TestEntry e3 = new TestEntry("C", 20.);
-        when(mockParser.parseDocument()).thenReturn(new Document(List.of(e1, e2, e3)));
+        when(mockParser.parseDocument()).thenReturn(new Document<>(List.of(e1, e2, e3)));
 
         Set<DocumentEntry> result = CsvAnalysisUtility
                 .getBestMatchesForNumericColumnComparison(
@@ -84,7 +85,7 @@ class CsvCsvAnalysisUtilityTest {
         e1 = new TestEntry("A", Double.MAX_VALUE);
         e2 = new TestEntry("B", -Double.MAX_VALUE);
         e3 = new TestEntry("C", 0.);
-        when(mockParser.parseDocument()).thenReturn(new Document(List.of(e1, e2, e3)));
+        when(mockParser.parseDocument()).thenReturn(new Document<>(List.of(e1, e2, e3)));
 
         result = CsvAnalysisUtility
                 .getBestMatchesForNumericColumnComparison(
@@ -101,7 +102,7 @@ class CsvCsvAnalysisUtilityTest {
         TestEntry e1 = new TestEntry("A", 10.);
         TestEntry e2 = new TestEntry("B", 10.);
         TestEntry e3 = new TestEntry("C", 5.);
-        when(mockParser.parseDocument()).thenReturn(new Document(List.of(e1, e2, e3)));
+        when(mockParser.parseDocument()).thenReturn(new Document<>(List.of(e1, e2, e3)));
 
         Set<DocumentEntry> result = CsvAnalysisUtility
                 .getBestMatchesForNumericColumnComparison(
@@ -115,7 +116,7 @@ class CsvCsvAnalysisUtilityTest {
         e1 = new TestEntry("A", Double.MIN_VALUE);
         e2 = new TestEntry("B", Double.MIN_VALUE);
         e3 = new TestEntry("C", Double.MIN_VALUE);
-        when(mockParser.parseDocument()).thenReturn(new Document(List.of(e1, e2, e3)));
+        when(mockParser.parseDocument()).thenReturn(new Document<>(List.of(e1, e2, e3)));
 
         result = CsvAnalysisUtility
                 .getBestMatchesForNumericColumnComparison(
@@ -126,12 +127,96 @@ class CsvCsvAnalysisUtilityTest {
         assertEquals(result.size(), 3);
         assertEquals(Set.of(e1, e2, e3), result);
     }
+
+    @Test
+    void testTypedDocumentReturnsBestScoreEntries() throws DocumentCreationException {
+        final TestEntry e1 = new TestEntry("A", 10.);
+        final TestEntry e2 = new TestEntry("B", 5.);
+        final TestEntry e3 = new TestEntry("C", 10.);
+        final Document<TestEntry> document = new Document<>(List.of(e1, e2, e3));
+
+        final Set<TestEntry> maxResult = CsvAnalysisUtility.getBestMatchesOfNumericTuples(document, NumericComparisonType.MAX);
+        assertEquals(Set.of(e1, e3), maxResult);
+        assertEquals(Set.of(e2), CsvAnalysisUtility.getBestMatchesOfNumericTuples(document, NumericComparisonType.MIN));
+        assertEquals(maxResult, CsvAnalysisUtility.getBestMatchesForNumericColumnComparison(document, NumericComparisonType.MAX));
+    }
+
+    @Test
+    void testStreamedEntriesReturnBestScoreEntries() throws DocumentCreationException {
+        final TestEntry e1 = new TestEntry("A", 10.);
+        final TestEntry e2 = new TestEntry("B", 5.);
+        final TestEntry e3 = new TestEntry("C", 5.);
+        final IDocumentParser<TestEntry> parser = () -> new Document<>(List.of(e1, e2, e3));
+
+        assertEquals(Set.of(e1), CsvAnalysisUtility.getBestMatchesFromEntryStream(parser, NumericComparisonType.MAX));
+        assertEquals(Set.of(e2, e3), CsvAnalysisUtility.getBestMatchesFromEntryStream(parser, NumericComparisonType.MIN));
+    }
+
+    @Test
+    void testReturnsTopMatches() throws DocumentCreationException {
+        final TestEntry e1 = new TestEntry("A", 10.);
+        final TestEntry e2 = new TestEntry("B", 5.);
+        final TestEntry e3 = new TestEntry("C", 7.);
+        final Document<TestEntry> document = new Document<>(List.of(e1, e2, e3));
+        final IDocumentParser<TestEntry> parser = () -> document;
+
+        assertEquals(List.of(e1, e3), CsvAnalysisUtility.getTopMatches(document, NumericComparisonType.MAX, 2));
+        assertEquals(List.of(e2, e3, e1), CsvAnalysisUtility.getTopMatches(document, NumericComparisonType.MIN, 10));
+        assertEquals(List.of(e2), CsvAnalysisUtility.getTopMatchesFromEntryStream(parser, NumericComparisonType.MIN, 1));
+    }
+
+    @Test
+    void testReturnsMatchesInScoreRange() throws DocumentCreationException {
+        final TestEntry e1 = new TestEntry("A", 10.);
+        final TestEntry e2 = new TestEntry("B", 5.);
+        final TestEntry e3 = new TestEntry("C", 7.);
+        final Document<TestEntry> document = new Document<>(List.of(e1, e2, e3));
+
+        assertEquals(List.of(e1, e3), CsvAnalysisUtility.getMatchesInScoreRange(document, 7., 10.));
+        assertEquals(List.of(e2), CsvAnalysisUtility.getMatchesInScoreRange(document, 5., 5.));
+        assertEquals(List.of(), CsvAnalysisUtility.getMatchesInScoreRange(document, 11., Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void testCollectsLimitedMatchesInScoreRange() throws DocumentCreationException {
+        final TestEntry e1 = new TestEntry("A", 10.);
+        final TestEntry e2 = new TestEntry("B", 5.);
+        final TestEntry e3 = new TestEntry("C", 7.);
+        final Document<TestEntry> document = new Document<>(List.of(e1, e2, e3));
+
+        final List<TestEntry> matches = new ArrayList<>();
+        assertEquals(3, CsvAnalysisUtility.collectMatchesInScoreRange(document, 5., 10., 2, matches));
+        assertEquals(List.of(e1, e2), matches);
+
+        matches.clear();
+        assertEquals(2, CsvAnalysisUtility.collectMatchesInScoreRange(document, 6., 10., 0, matches));
+        assertEquals(List.of(), matches);
+    }
+
+    @Test
+    void testColumnarDocumentReturnsBestScoreRows() {
+        final ColumnarDocument document = ColumnarDocument.builder(List.of(), List.of(), (doc, row) -> new TestEntry(doc.getId(row), doc.getScore(row)))
+                .addRow("A", 5.)
+                .addRow("B", 10.)
+                .addRow("C", 5.)
+                .addRow("D", 10.)
+                .build();
+
+        assertArrayEquals(new int[] {1, 3}, CsvAnalysisUtility.getBestMatchRows(document, NumericComparisonType.MAX));
+        assertArrayEquals(new int[] {0, 2}, CsvAnalysisUtility.getBestMatchRows(document, NumericComparisonType.MIN));
+
+        final Set<DocumentEntry> result = CsvAnalysisUtility.getBestMatchesFromColumns(document, NumericComparisonType.MAX);
+        assertEquals(2, result.size());
+        for (final DocumentEntry entry : result) {
+            assertEquals(10., ((TestEntry) entry).getBestMatchScore());
+        }
+    }
     //endregion
 
     //region Negative Tests
     @Test
     void testThrowsForEmptyDocument() throws DocumentCreationException {
-        when(mockParser.parseDocument()).thenReturn(new Document(List.of()));
+        when(mockParser.parseDocument()).thenReturn(new Document<>(List.of()));
 
         assertThrows(NoSuchElementException.class, () ->
                 CsvAnalysisUtility.getBestMatchesForNumericColumnComparison(
@@ -140,6 +225,60 @@ class CsvCsvAnalysisUtilityTest {
                 ));
     }
 
+    @Test
+    void testStreamThrowsForEmptyDocument() {
+        final IDocumentParser<TestEntry> parser = () -> new Document<>(List.of());
+        assertThrows(NoSuchElementException.class, () ->
+                CsvAnalysisUtility.getBestMatchesFromEntryStream(parser, NumericComparisonType.MAX));
+    }
+
+    @Test
+    void testStreamThrowsForNullParser() {
+        assertThrows(IllegalArgumentException.class, () ->
+                CsvAnalysisUtility.getBestMatchesFromEntryStream(null, NumericComparisonType.MAX));
+    }
+
+    @Test
+    void testColumnarDocumentThrowsForEmptyOrNullDocument() {
+        final ColumnarDocument document = ColumnarDocument.builder(List.of(), List.of(), (doc, row) -> new TestEntry(doc.getId(row), doc.getScore(row))).build();
+        assertThrows(NoSuchElementException.class, () -> CsvAnalysisUtility.getBestMatchRows(document, NumericComparisonType.MAX));
+        assertThrows(IllegalArgumentException.class, () -> CsvAnalysisUtility.getBestMatchesFromColumns(null, NumericComparisonType.MAX));
+        assertThrows(IllegalArgumentException.class, () -> CsvAnalysisUtility.getBestMatchesFromColumns(document, null));
+    }
+
+    @Test
+    void testTopMatchesThrowForInvalidArguments() throws DocumentCreationException {
+        final Document<TestEntry> empty = new Document<>(List.of());
+        final Document<TestEntry> document = new Document<>(List.of(new TestEntry("A", 1.)));
+        assertThrows(NoSuchElementException.class, () -> CsvAnalysisUtility.getTopMatches(empty, NumericComparisonType.MAX, 1));
+        assertThrows(IllegalArgumentException.class, () -> CsvAnalysisUtility.getTopMatches(null, NumericComparisonType.MAX, 1));
+        assertThrows(IllegalArgumentException.class, () -> CsvAnalysisUtility.getTopMatches(document, NumericComparisonType.MAX, 0));
+        assertThrows(IllegalArgumentException.class, () -> CsvAnalysisUtility.getTopMatchesFromEntryStream(null, NumericComparisonType.MAX, 1));
+    }
+
+    @Test
+    void testScoreRangeThrowsForInvalidArguments() throws DocumentCreationException {
+        final Document<TestEntry> document = new Document<>(List.of(new TestEntry("A", 1.)));
+        assertThrows(NoSuchElementException.class, () -> CsvAnalysisUtility.getMatchesInScoreRange(new Document<TestEntry>(List.of()), 0., 1.));
+        assertThrows(IllegalArgumentException.class, () -> CsvAnalysisUtility.getMatchesInScoreRange(null, 0., 1.));
+        assertThrows(IllegalArgumentException.class, () -> CsvAnalysisUtility.getMatchesInScoreRange(document, 2., 1.));
+        assertThrows(IllegalArgumentException.class, () -> CsvAnalysisUtility.getMatchesInScoreRange(document, Double.NaN, 1.));
+        assertThrows(IllegalArgumentException.class, () -> CsvAnalysisUtility.collectMatchesInScoreRange(document, 0., 1., -1, new ArrayList<>()));
+        assertThrows(IllegalArgumentException.class, () -> CsvAnalysisUtility.collectMatchesInScoreRange(document, 0., 1., 1, null));
+    }
+
+    @Test
+    void testTypedDocumentThrowsForEmptyNullOrMixedDocument() throws DocumentCreationException {
+        final TestEntry entry = new TestEntry("A", 1.);
+        final TestEntry subclassEntry = new TestEntry("B", 2.) {};
+        final Document<TestEntry> empty = new Document<>(List.of());
+        final Document<TestEntry> mixed = new Document<>(List.of(subclassEntry, entry));
+
+        assertThrows(NoSuchElementException.class, () -> CsvAnalysisUtility.getBestMatchesOfNumericTuples(empty, NumericComparisonType.MAX));
+        assertThrows(IllegalArgumentException.class, () -> CsvAnalysisUtility.<TestEntry>getBestMatchesOfNumericTuples(null, NumericComparisonType.MAX));
+        assertThrows(IllegalArgumentException.class, () -> CsvAnalysisUtility.getBestMatchesOfNumericTuples(mixed, NumericComparisonType.MAX));
+    }
+
     @Test
     void testThrowsForNullDocument() {
         assertThrows(IllegalArgumentException.class, () ->
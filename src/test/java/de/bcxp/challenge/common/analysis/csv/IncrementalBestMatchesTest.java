@@ -0,0 +1,92 @@
+package de.bcxp.challenge.common.analysis.csv;
+
+import de.bcxp.challenge.common.documentParsing.csv.CsvTailPosition;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.csv.NumericComparisonType;
+import de.bcxp.challenge.weather.WeatherAnalyser;
+import de.bcxp.challenge.weather.WeatherCsvParser;
+import de.bcxp.challenge.weather.WeatherEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalBestMatchesTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "ignored.csv");
+
+    //region Positive Tests
+    @Test
+    void testUpdateMergesAppendedRows() throws DocumentCreationException, IOException {
+        final Path file = Files.writeString(tempDir.resolve("station.csv"), "Day,MxT,MnT\n");
+        final IncrementalBestMatches<WeatherEntry> matches = new WeatherAnalyser().followBestMatches(parser, file);
+        assertTrue(matches.getPosition().isEmpty());
+        assertThrows(NoSuchElementException.class, matches::update);
+        assertEquals(0, matches.getPosition().orElseThrow().getRowCount());
+
+        Files.writeString(file, "1,30,20\n2,25,20\n", StandardOpenOption.APPEND);
+        assertEquals(Set.of("2"), days(matches.update()));
+
+        Files.writeString(file, "3,30,25\n4,1", StandardOpenOption.APPEND);
+        assertEquals(Set.of("2", "3"), days(matches.update()));
+
+        Files.writeString(file, "0,9\n", StandardOpenOption.APPEND);
+        assertEquals(Set.of("4"), days(matches.update()));
+        assertEquals(Set.of("4"), days(matches.getBestMatches()));
+
+        final CsvTailPosition position = matches.getPosition().orElseThrow();
+        assertEquals(4, position.getRowCount());
+        assertFalse(position.isRestarted());
+        assertEquals(0, matches.getRestarts());
+        assertEquals(NumericComparisonType.MIN, matches.getType());
+    }
+
+    @Test
+    void testUpdateDiscardsBestMatchesOfTruncatedFile() throws DocumentCreationException, IOException {
+        final Path file = Files.writeString(tempDir.resolve("station.csv"), "Day,MxT,MnT\n1,30,29\n2,25,20\n");
+        final IncrementalBestMatches<WeatherEntry> matches = new IncrementalBestMatches<>(parser, file, NumericComparisonType.MIN);
+        assertEquals(Set.of("1"), days(matches.update()));
+
+        Files.writeString(file, "Day,MxT,MnT\n3,30,20\n");
+        assertEquals(Set.of("3"), days(matches.update()));
+        assertTrue(matches.getPosition().orElseThrow().isRestarted());
+        assertEquals(1, matches.getRestarts());
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testFailedUpdateKeepsState() throws DocumentCreationException, IOException {
+        final Path file = Files.writeString(tempDir.resolve("station.csv"), "Day,MxT,MnT\n1,30,20\n");
+        final IncrementalBestMatches<WeatherEntry> matches = new IncrementalBestMatches<>(parser, file, NumericComparisonType.MIN);
+        matches.update();
+        final CsvTailPosition position = matches.getPosition().orElseThrow();
+
+        Files.writeString(file, "2,25,24\n3,a,1\n", StandardOpenOption.APPEND);
+        assertThrows(DocumentCreationException.class, matches::update);
+        assertEquals(Set.of("1"), days(matches.getBestMatches()));
+        assertSame(position, matches.getPosition().orElseThrow());
+    }
+
+    @Test
+    void testThrowsForNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new IncrementalBestMatches<>(null, tempDir, NumericComparisonType.MIN));
+        assertThrows(IllegalArgumentException.class, () -> new IncrementalBestMatches<>(parser, null, NumericComparisonType.MIN));
+        assertThrows(IllegalArgumentException.class, () -> new IncrementalBestMatches<>(parser, tempDir, null));
+    }
+    //endregion
+
+    private static Set<String> days(final Set<WeatherEntry> entries) {
+        return entries.stream().map(WeatherEntry::getDay).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,109 @@
+package de.bcxp.challenge.common.analysis.csv;
+
+import de.bcxp.challenge.common.model.DocumentEntry;
+import de.bcxp.challenge.common.model.csv.IEntryWithComparableNumericTuple;
+import de.bcxp.challenge.common.model.csv.NumericComparisonType;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopMatchesAccumulatorTest {
+
+    static class TestEntry extends DocumentEntry implements IEntryWithComparableNumericTuple {
+        private final double score;
+        TestEntry(final String name, final double score) {
+            super(name);
+            this.score = score;
+        }
+        @Override
+        public double getBestMatchScore() {
+            return score;
+        }
+    }
+
+    //region Positive Tests
+    @Test
+    void testKeepsTopEntriesBestFirst() {
+        final TestEntry e1 = new TestEntry("A", 10.);
+        final TestEntry e2 = new TestEntry("B", 30.);
+        final TestEntry e3 = new TestEntry("C", 20.);
+        final TestEntry e4 = new TestEntry("D", 5.);
+
+        final TopMatchesAccumulator<TestEntry> max = new TopMatchesAccumulator<>(NumericComparisonType.MAX, 2);
+        final TopMatchesAccumulator<TestEntry> min = new TopMatchesAccumulator<>(NumericComparisonType.MIN, 3);
+        for (final TestEntry entry : List.of(e1, e2, e3, e4)) {
+            max.accept(entry);
+            min.accept(entry);
+        }
+
+        assertEquals(List.of(e2, e3), max.getTopMatches());
+        assertEquals(List.of(e4, e1, e3), min.getTopMatches());
+        assertEquals(4, max.getConsumedEntries());
+    }
+
+    @Test
+    void testReturnsAllEntriesIfFewerThanLimit() {
+        final TestEntry e1 = new TestEntry("A", 1.);
+        final TopMatchesAccumulator<TestEntry> accumulator = new TopMatchesAccumulator<>(NumericComparisonType.MAX, 100);
+        accumulator.accept(e1);
+        assertEquals(List.of(e1), accumulator.getTopMatches());
+    }
+
+    @Test
+    void testTiesKeepConsumptionOrder() {
+        final TestEntry e1 = new TestEntry("A", 10.);
+        final TestEntry e2 = new TestEntry("B", 20.);
+        final TestEntry e3 = new TestEntry("C", 10.);
+        final TestEntry e4 = new TestEntry("D", 10.);
+
+        final TopMatchesAccumulator<TestEntry> accumulator = new TopMatchesAccumulator<>(NumericComparisonType.MAX, 3);
+        for (final TestEntry entry : List.of(e1, e2, e3, e4)) {
+            accumulator.accept(entry);
+        }
+        assertEquals(List.of(e2, e1, e3), accumulator.getTopMatches());
+    }
+
+    @Test
+    void testMatchesFullSort() {
+        final Random random = new Random(42);
+        final List<TestEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            entries.add(new TestEntry("E" + i, random.nextInt(1000) / 10.));
+        }
+
+        final TopMatchesAccumulator<TestEntry> accumulator = new TopMatchesAccumulator<>(NumericComparisonType.MIN, 100);
+        entries.forEach(accumulator);
+
+        final List<TestEntry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparingDouble(TestEntry::getBestMatchScore));
+        assertEquals(sorted.subList(0, 100), accumulator.getTopMatches());
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testThrowsWithoutEntries() {
+        final TopMatchesAccumulator<TestEntry> accumulator = new TopMatchesAccumulator<>(NumericComparisonType.MAX, 10);
+        assertThrows(NoSuchElementException.class, accumulator::getTopMatches);
+    }
+
+    @Test
+    void testThrowsForInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TopMatchesAccumulator<TestEntry>(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> new TopMatchesAccumulator<TestEntry>(NumericComparisonType.MAX, 0));
+    }
+
+    @Test
+    void testThrowsForInvalidEntries() {
+        final TopMatchesAccumulator<TestEntry> accumulator = new TopMatchesAccumulator<>(NumericComparisonType.MAX, 10);
+        assertThrows(IllegalStateException.class, () -> accumulator.accept(null));
+
+        accumulator.accept(new TestEntry("A", 10.) {});
+        assertThrows(IllegalArgumentException.class, () -> accumulator.accept(new TestEntry("B", 10.)));
+    }
+    //endregion
+}
@@ -0,0 +1,146 @@
+package de.bcxp.challenge.common.cache;
+
+import de.bcxp.challenge.common.documentParsing.source.DirectorySource;
+import de.bcxp.challenge.common.documentParsing.source.FileSource;
+import de.bcxp.challenge.common.documentParsing.source.StandardInputSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ResultCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    //region Positive Tests
+    @Test
+    void testStoresAndReturnsResults() {
+        final ResultCache cache = new ResultCache(tempDir.resolve("cache"), 10, 1024);
+        assertEquals(Optional.empty(), cache.get("abc"));
+
+        cache.put("abc", "Austria");
+        assertEquals(Optional.of("Austria"), cache.get("abc"));
+        cache.put("abc", "Germany");
+        assertEquals(Optional.of("Germany"), cache.get("abc"));
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedResults() throws IOException {
+        final Path directory = tempDir.resolve("cache");
+        final ResultCache cache = new ResultCache(directory, 2, 1024);
+        cache.put("first", "1");
+        cache.put("second", "2");
+        Files.setLastModifiedTime(directory.resolve("first.result"), FileTime.fromMillis(1_000));
+        Files.setLastModifiedTime(directory.resolve("second.result"), FileTime.fromMillis(2_000));
+        assertTrue(cache.get("first").isPresent());
+
+        cache.put("third", "3");
+        assertTrue(cache.get("first").isPresent());
+        assertEquals(Optional.empty(), cache.get("second"));
+        assertTrue(cache.get("third").isPresent());
+    }
+
+    @Test
+    void testEvictsResultsExceedingTotalSize() throws IOException {
+        final Path directory = tempDir.resolve("cache");
+        final ResultCache cache = new ResultCache(directory, 100, 10);
+        cache.put("first", "123456");
+        Files.setLastModifiedTime(directory.resolve("first.result"), FileTime.fromMillis(1_000));
+        cache.put("second", "123456");
+
+        assertEquals(Optional.empty(), cache.get("first"));
+        assertEquals(Optional.of("123456"), cache.get("second"));
+    }
+
+    @Test
+    void testKeyDependsOnContentPartsAndConfiguration() throws IOException {
+        final Path file = Files.writeString(tempDir.resolve("weather.csv"), "Day,MxT,MnT\n1,2,1\n");
+        final String key = ResultCache.createKey(new FileSource(file), "parser", ",", "de-DE");
+        assertEquals(64, key.length());
+        assertEquals(key, ResultCache.createKey(new FileSource(file), "parser", ",", "de-DE"));
+        assertNotEquals(key, ResultCache.createKey(new FileSource(file), "parser", ";", "de-DE"));
+
+        final Path shards = Files.createDirectory(tempDir.resolve("shards"));
+        Files.writeString(shards.resolve("a.csv"), "ab");
+        Files.writeString(shards.resolve("b.csv"), "c");
+        final String shardKey = ResultCache.createKey(new DirectorySource(shards));
+        Files.writeString(shards.resolve("a.csv"), "a");
+        Files.writeString(shards.resolve("b.csv"), "bc");
+        assertNotEquals(shardKey, ResultCache.createKey(new DirectorySource(shards)));
+
+        Files.writeString(file, "Day,MxT,MnT\n1,3,1\n");
+        assertNotEquals(key, ResultCache.createKey(new FileSource(file), "parser", ",", "de-DE"));
+    }
+
+    @Test
+    void testNoKeyForSourcesReadableOnlyOnce() throws IOException {
+        assertNull(ResultCache.createKey(new StandardInputSource(new ByteArrayInputStream(new byte[0])), "parser"));
+    }
+
+    @Test
+    void testCreatesDirectoryAccessibleByOwnerOnly() throws IOException {
+        assumeTrue(tempDir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        final Path directory = tempDir.resolve("cache");
+        new ResultCache(directory, 10, 1024).put("abc", "Austria");
+        assertEquals(PosixFilePermissions.fromString("rwx------"), Files.getPosixFilePermissions(directory));
+    }
+
+    @Test
+    void testFromSystemProperties() {
+        assertEquals(Path.of(System.getProperty("user.home"), ".cache", "bcxp-challenge"), ResultCache.fromSystemProperties().getDirectory());
+        System.setProperty(ResultCache.DIRECTORY_PROPERTY, tempDir.toString());
+        try {
+            assertEquals(tempDir, ResultCache.fromSystemProperties().getDirectory());
+            System.setProperty(ResultCache.DISABLED_PROPERTY, "true");
+            assertNull(ResultCache.fromSystemProperties());
+        } finally {
+            System.clearProperty(ResultCache.DIRECTORY_PROPERTY);
+            System.clearProperty(ResultCache.DISABLED_PROPERTY);
+        }
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testUnwritableDirectoryIsTreatedAsMiss() throws IOException {
+        final Path file = Files.writeString(tempDir.resolve("file"), "not a directory");
+        final ResultCache cache = new ResultCache(file, 10, 1024);
+        assertDoesNotThrow(() -> cache.put("abc", "Austria"));
+        assertEquals(Optional.empty(), cache.get("abc"));
+    }
+
+    @Test
+    void testDirectoryWritableByOthersIsNotUsed() throws IOException {
+        assumeTrue(tempDir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        final Path directory = Files.createDirectory(tempDir.resolve("cache"));
+        final ResultCache cache = new ResultCache(directory, 10, 1024);
+        cache.put("abc", "Austria");
+        Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString("rwxrwxrwx"));
+
+        assertEquals(Optional.empty(), cache.get("abc"));
+        cache.put("def", "Germany");
+        assertFalse(Files.exists(directory.resolve("def.result")));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ResultCache(null, 10, 1024));
+        assertThrows(IllegalArgumentException.class, () -> new ResultCache(tempDir, 0, 1024));
+        assertThrows(IllegalArgumentException.class, () -> new ResultCache(tempDir, 10, 0));
+
+        final ResultCache cache = new ResultCache(tempDir, 10, 1024);
+        assertThrows(IllegalArgumentException.class, () -> cache.get(""));
+        assertThrows(IllegalArgumentException.class, () -> cache.get("../escape"));
+        assertThrows(IllegalArgumentException.class, () -> cache.put("abc", null));
+        assertThrows(IllegalArgumentException.class, () -> ResultCache.createKey(null));
+    }
+    //endregion
+}
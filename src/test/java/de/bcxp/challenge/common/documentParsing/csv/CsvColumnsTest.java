@@ -0,0 +1,45 @@
+package de.bcxp.challenge.common.documentParsing.csv;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvColumnsTest {
+
+    //region Positive Tests
+    @Test
+    void testResolvesIndicesAndProjection() {
+        final List<String> header = List.of("Name", "Capital", "Population", "Area (km²)");
+        final List<String> columns = List.of("Area (km²)", "Name", "Population");
+
+        assertArrayEquals(new int[] {3, 0, 2}, CsvColumns.resolveIndices(header, columns, "test.csv"));
+        assertArrayEquals(new int[] {1, -1, 2, 0}, CsvColumns.resolveProjection(header, columns, "test.csv"));
+    }
+
+    @Test
+    void testRequireFieldsAcceptsLocatedFields() {
+        assertDoesNotThrow(() -> CsvColumns.requireFields(new int[] {0, 4}, 1, "test.csv"));
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testThrowsForMissingColumn() {
+        final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> CsvColumns.resolveIndices(List.of("Day", "MxT"), List.of("Day", "MnT"), "test.csv"));
+        assertTrue(ex.getMessage().contains("MnT"));
+        assertTrue(ex.getMessage().contains("test.csv"));
+
+        final IllegalArgumentException projected = assertThrows(IllegalArgumentException.class,
+                () -> CsvColumns.resolveProjection(List.of("Day", "MxT"), List.of("Day", "MnT"), "test.csv"));
+        assertEquals(ex.getMessage(), projected.getMessage());
+    }
+
+    @Test
+    void testRequireFieldsThrowsForMissingField() {
+        final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> CsvColumns.requireFields(new int[] {0, -1}, 7, "test.csv"));
+        assertEquals("Row 7 of test.csv has too few fields.", ex.getMessage());
+    }
+    //endregion
+}
@@ -0,0 +1,103 @@
+package de.bcxp.challenge.common.documentParsing.csv;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvFileChunksTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Path writeFile(final String content) throws IOException {
+        final Path file = tempDir.resolve("test.csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private String read(final CsvFileChunks chunks, final CsvFileChunks.Chunk chunk) throws IOException {
+        final StringWriter writer = new StringWriter();
+        try (final Reader reader = chunks.openReader(chunk)) {
+            reader.transferTo(writer);
+        }
+        return writer.toString();
+    }
+
+    //region Positive Tests
+    @Test
+    void testChunksCoverDataSectionInOrder() throws IOException, InterruptedException {
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            content.append(i).append(',').append(i * 2).append('\n');
+        }
+        final Path file = writeFile("a,b\n" + content);
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final CsvFileChunks chunks = CsvFileChunks.split(file, channel, ',', 6, executor);
+            assertEquals(List.of("a", "b"), chunks.getHeader());
+            assertEquals(6, chunks.getChunks().size());
+
+            final StringBuilder joined = new StringBuilder();
+            for (final CsvFileChunks.Chunk chunk : chunks.getChunks()) {
+                final String text = read(chunks, chunk);
+                assertTrue(text.endsWith("\n"), text);
+                joined.append(text);
+            }
+            assertEquals(content.toString(), joined.toString());
+        }
+    }
+
+    @Test
+    void testChunksDoNotSplitQuotedLineBreaks() throws IOException, InterruptedException {
+        final String row = "\"x\n\"\"y\"\"\n,z\",\"\n\n\n\"\n";
+        final Path file = writeFile("a,b\n" + row.repeat(20));
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (int chunkCount = 1; chunkCount <= 40; chunkCount++) {
+                final CsvFileChunks chunks = CsvFileChunks.split(file, channel, ',', chunkCount, executor);
+                for (final CsvFileChunks.Chunk chunk : chunks.getChunks()) {
+                    final String text = read(chunks, chunk);
+                    assertEquals(0, text.length() % row.length(), chunk.toString());
+                    assertEquals(row.repeat(text.length() / row.length()), text);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testHeaderOnly() throws IOException, InterruptedException {
+        final Path file = writeFile("a;b\n");
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final CsvFileChunks chunks = CsvFileChunks.split(file, channel, ';', 4, executor);
+            assertEquals(List.of("a", "b"), chunks.getHeader());
+            assertTrue(chunks.getChunks().isEmpty());
+        }
+    }
+    //endregion
+}
@@ -23,7 +23,7 @@ final class CsvParserTest {
         }
     }
 
-    final static class CsvParserTestImpl extends CsvParser {
+    final static class CsvParserTestImpl extends CsvParser<DocumentEntry> {
         public CsvParserTestImpl(final char delimiter, final Locale locale, final String filepath) {
             super(delimiter, locale, filepath);
         }
@@ -44,7 +44,7 @@ final class CsvParserTest {
     @Test
     void testParseDocumentLocaleAgnostic() throws DocumentCreationException {
         final CsvParserTestImpl parser = new CsvParserTestImpl(',', Locale.GERMANY, "parsingDocuments/csv/CsvParserTest/CsvParserTest.csv");
-        final Document document = parser.parseDocument();
+        final Document<DocumentEntry> document = parser.parseDocument();
         assertNotNull(document);
 
         final List<DocumentEntry> entries = document.getEntries();
@@ -60,7 +60,7 @@ final class CsvParserTest {
     @Test
     void testParseDocumentWithUSLocale() throws DocumentCreationException {
         final CsvParserTestImpl parserUS = new CsvParserTestImpl(';', Locale.US, "parsingDocuments/csv/CsvParserTest/CsvParserTestUS.csv");
-        final Document document = parserUS.parseDocument();
+        final Document<DocumentEntry> document = parserUS.parseDocument();
 
         assertNotNull(document);
         final List<DocumentEntry> entries = document.getEntries();
@@ -82,7 +82,7 @@ final class CsvParserTest {
     @Test
     void testParseDocumentWithFranceLocale() throws DocumentCreationException {
         CsvParserTestImpl parserFR = new CsvParserTestImpl(';', Locale.FRANCE, "parsingDocuments/csv/CsvParserTest/CsvParserTestFR.csv");
-        final Document document = parserFR.parseDocument();
+        final Document<DocumentEntry> document = parserFR.parseDocument();
 
         assertNotNull(document);
         final List<DocumentEntry> entries = document.getEntries();
@@ -104,7 +104,7 @@ final class CsvParserTest {
     @Test
     void testParseDocumentWithGermanyLocale() throws DocumentCreationException {
         CsvParserTestImpl parserDE = new CsvParserTestImpl(';', Locale.GERMANY, "parsingDocuments/csv/CsvParserTest/CsvParserTestDE.csv");
-        final Document document = parserDE.parseDocument();
+        final Document<DocumentEntry> document = parserDE.parseDocument();
 
         assertNotNull(document);
         final List<DocumentEntry> entries = document.getEntries();
@@ -123,4 +123,29 @@ final class CsvParserTest {
         assertEquals(4100.10, ((TestEntryImpl) entries.get(3)).age);
     }
 
+    @Test
+    void testParseEntriesFallsBackToGetEntriesFromRecords() throws DocumentCreationException {
+        final CsvParserTestImpl parserDE = new CsvParserTestImpl(';', Locale.GERMANY, "parsingDocuments/csv/CsvParserTest/CsvParserTestDE.csv");
+        final List<DocumentEntry> entries = new ArrayList<>();
+        parserDE.parseEntries(entries::add);
+
+        assertEquals(4, entries.size());
+        assertEquals("Günther", entries.get(0).getId());
+        assertEquals(1234.56, ((TestEntryImpl) entries.get(0)).age);
+        assertEquals("Anna", entries.get(3).getId());
+        assertEquals(4100.10, ((TestEntryImpl) entries.get(3)).age);
+    }
+
+    @Test
+    void testParseMappedDocumentUnsupportedWithoutColumns() {
+        final CsvParserTestImpl parser = new CsvParserTestImpl(',', Locale.GERMANY, "parsingDocuments/csv/CsvParserTest/CsvParserTest.csv");
+        assertThrows(UnsupportedOperationException.class, () -> parser.parseMappedDocument(java.nio.file.Path.of("ignored.csv")));
+    }
+
+    @Test
+    void testParseProjectedDocumentUnsupportedWithoutColumns() {
+        final CsvParserTestImpl parser = new CsvParserTestImpl(',', Locale.GERMANY, "parsingDocuments/csv/CsvParserTest/CsvParserTest.csv");
+        assertThrows(UnsupportedOperationException.class, parser::parseProjectedDocument);
+    }
+
 }
\ No newline at end of file
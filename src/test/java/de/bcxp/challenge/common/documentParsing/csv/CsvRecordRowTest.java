@@ -0,0 +1,49 @@
+package de.bcxp.challenge.common.documentParsing.csv;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.StringReader;
+import java.text.ParseException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRecordRowTest {
+
+    private static CSVParser parse(final String content) throws IOException {
+        return CSVFormat.DEFAULT.builder().setHeader().setDelimiter(';').get().parse(new StringReader(content));
+    }
+
+    //region Positive Tests
+    @Test
+    void testReadsResolvedColumnsByIndex() throws IOException, ParseException {
+        try (final CSVParser records = parse("Name;Capital;Population;Area (km²)\nCroatia;Zagreb;4.036.355,00;56594,5\n")) {
+            final int[] indices = CsvColumns.resolveIndices(records.getHeaderNames(), List.of("Area (km²)", "Name", "Population"), "test.csv");
+            assertArrayEquals(new int[] {3, 0, 2}, indices);
+
+            final CsvRecordRow row = new CsvRecordRow(indices, Locale.GERMANY, "test.csv").of(records.iterator().next());
+            assertEquals(1, row.getRowNumber());
+            assertEquals("Croatia", row.getString(1));
+            assertEquals(4_036_355L, row.getLong(2));
+            assertEquals(56594.5, row.getDouble(0));
+        }
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testThrowsForShortRecord() throws IOException {
+        try (final CSVParser records = parse("Day;MxT;MnT\n1;2;3\n4;5\n")) {
+            final CsvRecordRow row = new CsvRecordRow(CsvColumns.resolveIndices(records.getHeaderNames(), List.of("Day", "MnT"), "test.csv"), Locale.US, "test.csv");
+            final Iterator<CSVRecord> iterator = records.iterator();
+            assertSame(row, row.of(iterator.next()));
+            final CSVRecord shortRecord = iterator.next();
+            assertThrows(IllegalArgumentException.class, () -> row.of(shortRecord));
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,146 @@
+package de.bcxp.challenge.common.documentParsing.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedCsvReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path writeFile(final String content) throws IOException {
+        final Path file = tempDir.resolve("test.csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    //region Positive Tests
+    @Test
+    void testReadsProjectedColumns() throws IOException, ParseException {
+        final Path file = writeFile("Name;Capital;Population;Area (km²)\nAustria;Vienna;8926000;83871\nCroatia;Zagreb;4.036.355,00;56594,5\n");
+
+        try (final MappedCsvReader reader = MappedCsvReader.open(file, ';', Locale.GERMANY, List.of("Area (km²)", "Name", "Population"))) {
+            assertEquals(List.of("Name", "Capital", "Population", "Area (km²)"), reader.getHeader());
+
+            assertTrue(reader.next());
+            assertEquals(1, reader.getRowNumber());
+            assertEquals("Austria", reader.getString(1));
+            assertEquals(8_926_000L, reader.getLong(2));
+            assertEquals(83871.0, reader.getDouble(0));
+
+            assertTrue(reader.next());
+            assertEquals("Croatia", reader.getString(1));
+            assertEquals(4_036_355L, reader.getLong(2));
+            assertEquals(56594.5, reader.getDouble(0));
+
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void testReadsQuotedFieldsLineEndingsAndEmptyLines() throws IOException, ParseException {
+        final Path file = writeFile("\uFEFFname,age,notes\r\n\"Smith, \"\"Jo\"\"\",\"1,234.5\",\"multi\nline\"\r\n\r\nÉmile,30,\nLast,7,");
+
+        try (final MappedCsvReader reader = MappedCsvReader.open(file, ',', Locale.US, List.of("name", "age", "notes"))) {
+            assertTrue(reader.next());
+            assertEquals("Smith, \"Jo\"", reader.getString(0));
+            assertEquals(1234.5, reader.getDouble(1));
+            assertEquals("multi\nline", reader.getString(2));
+
+            assertTrue(reader.next());
+            assertEquals("Émile", reader.getString(0));
+            assertEquals(30, reader.getLong(1));
+            assertEquals("", reader.getString(2));
+
+            assertTrue(reader.next());
+            assertEquals(3, reader.getRowNumber());
+            assertEquals("Last", reader.getString(0));
+            assertEquals(7, reader.getLong(1));
+
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void testAcceptsCarriageReturnAfterQuotedFieldAtEndOfFile() throws IOException, ParseException {
+        final Path file = writeFile("name,age\r\n\"Smith\",\"30\"\r");
+
+        try (final MappedCsvReader reader = MappedCsvReader.open(file, ',', Locale.US, List.of("name", "age"))) {
+            assertTrue(reader.next());
+            assertEquals("Smith", reader.getString(0));
+            assertEquals(30, reader.getLong(1));
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void testReadsAcrossMappingWindows() throws IOException, ParseException {
+        final StringBuilder content = new StringBuilder("Day,MxT,MnT\n");
+        for (int day = 1; day <= 500; day++) {
+            content.append(day).append(',').append(day + 10).append(",\"").append(day).append("\"\n");
+        }
+        final Path file = writeFile(content.toString());
+
+        final List<Long> days = new ArrayList<>();
+        try (final MappedCsvReader reader = new MappedCsvReader(file, ',', Locale.US, List.of("Day", "MnT"), 64)) {
+            while (reader.next()) {
+                assertEquals(reader.getLong(0), reader.getLong(1));
+                days.add(reader.getLong(0));
+            }
+        }
+        assertEquals(500, days.size());
+        assertEquals(500L, days.get(499));
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testThrowsForMissingColumn() throws IOException {
+        final Path file = writeFile("Day,MxT\n1,2\n");
+        final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> MappedCsvReader.open(file, ',', Locale.US, List.of("Day", "MnT")));
+        assertTrue(ex.getMessage().contains("MnT"));
+    }
+
+    @Test
+    void testThrowsForShortRow() throws IOException {
+        final Path file = writeFile("Day,MxT,MnT\n1,2\n");
+        try (final MappedCsvReader reader = MappedCsvReader.open(file, ',', Locale.US, List.of("Day", "MnT"))) {
+            assertThrows(IllegalArgumentException.class, reader::next);
+        }
+    }
+
+    @Test
+    void testThrowsForUnterminatedQuote() throws IOException {
+        final Path file = writeFile("Day,MxT\n\"1,2\n");
+        try (final MappedCsvReader reader = MappedCsvReader.open(file, ',', Locale.US, List.of("Day"))) {
+            assertThrows(IOException.class, reader::next);
+        }
+    }
+
+    @Test
+    void testThrowsForRowLongerThanWindow() throws IOException {
+        final Path file = writeFile("Day,MxT\n1,2\n" + "1".repeat(100) + ",2\n");
+        try (final MappedCsvReader reader = new MappedCsvReader(file, ',', Locale.US, List.of("Day"), 32)) {
+            assertTrue(reader.next());
+            assertThrows(IOException.class, reader::next);
+        }
+    }
+
+    @Test
+    void testThrowsForEmptyFileAndInvalidDelimiter() throws IOException {
+        final Path file = writeFile("");
+        assertThrows(IOException.class, () -> MappedCsvReader.open(file, ',', Locale.US, List.of("Day")));
+        assertThrows(IllegalArgumentException.class, () -> MappedCsvReader.open(file, '§', Locale.US, List.of("Day")));
+    }
+    //endregion
+}
@@ -0,0 +1,143 @@
+package de.bcxp.challenge.common.documentParsing.csv;
+
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.StringReader;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectingCsvReaderTest {
+
+    private static ProjectingCsvReader open(final String content, final char delimiter, final Locale locale, final List<String> columns, final int bufferSize) throws IOException {
+        return new ProjectingCsvReader(new StringReader(content), "test.csv", delimiter, locale, columns, bufferSize);
+    }
+
+    //region Positive Tests
+    @Test
+    void testReadsProjectedColumns() throws IOException, ParseException {
+        final String content = "Name;Capital;Population;Area (km²)\nAustria;Vienna;8926000;83871\nCroatia;Zagreb;4.036.355,00;56594,5\n";
+
+        try (final ProjectingCsvReader reader = open(content, ';', Locale.GERMANY, List.of("Area (km²)", "Name", "Population"), 1024)) {
+            assertEquals(List.of("Name", "Capital", "Population", "Area (km²)"), reader.getHeader());
+
+            assertTrue(reader.next());
+            assertEquals(1, reader.getRowNumber());
+            assertEquals("Austria", reader.getString(1));
+            assertEquals(8_926_000L, reader.getLong(2));
+            assertEquals(83871.0, reader.getDouble(0));
+
+            assertTrue(reader.next());
+            assertEquals("Croatia", reader.getString(1));
+            assertEquals(4_036_355L, reader.getLong(2));
+            assertEquals(56594.5, reader.getDouble(0));
+
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void testReadsQuotedFieldsLineEndingsAndEmptyLines() throws IOException, ParseException {
+        final String content = "\uFEFFname,age,notes\r\n\"Smith, \"\"Jo\"\"\",\"1,234.5\",\"multi\nline\"\r\n\r\nÉmile,30,\nLast,7,";
+
+        try (final ProjectingCsvReader reader = open(content, ',', Locale.US, List.of("name", "age", "notes"), 1024)) {
+            assertEquals(List.of("name", "age", "notes"), reader.getHeader());
+
+            assertTrue(reader.next());
+            assertEquals("Smith, \"Jo\"", reader.getString(0));
+            assertEquals(1234.5, reader.getDouble(1));
+            assertEquals("multi\nline", reader.getString(2));
+
+            assertTrue(reader.next());
+            assertEquals("Émile", reader.getString(0));
+            assertEquals(30, reader.getLong(1));
+            assertEquals("", reader.getString(2));
+
+            assertTrue(reader.next());
+            assertEquals(3, reader.getRowNumber());
+            assertEquals("Last", reader.getString(0));
+            assertEquals(7, reader.getLong(1));
+
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void testAcceptsCarriageReturnAfterQuotedFieldAtEndOfInput() throws IOException, ParseException {
+        for (final int bufferSize : new int[] {4, 1024}) {
+            try (final ProjectingCsvReader reader = open("name,age\r\n\"Smith\",\"30\"\r", ',', Locale.US, List.of("name", "age"), bufferSize)) {
+                assertTrue(reader.next());
+                assertEquals("Smith", reader.getString(0));
+                assertEquals(30, reader.getLong(1));
+                assertFalse(reader.next());
+            }
+        }
+    }
+
+    @Test
+    void testReadsAcrossBufferRefillsAndGrowsForLongRows() throws IOException, ParseException {
+        final StringBuilder content = new StringBuilder("Day,Notes,MxT,MnT\n");
+        for (int day = 1; day <= 500; day++) {
+            content.append(day).append(",\"").append("x".repeat(day % 50)).append("\",").append(day + 10).append(",\"").append(day).append("\"\n");
+        }
+        content.append("501,").append("y".repeat(100)).append(",511,501\n");
+
+        final List<Long> days = new ArrayList<>();
+        try (final ProjectingCsvReader reader = open(content.toString(), ',', Locale.US, List.of("Day", "MnT"), 16)) {
+            while (reader.next()) {
+                assertEquals(reader.getLong(0), reader.getLong(1));
+                days.add(reader.getLong(0));
+            }
+        }
+        assertEquals(501, days.size());
+        assertEquals(501L, days.get(500));
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testThrowsForMissingColumn() {
+        final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> open("Day,MxT\n1,2\n", ',', Locale.US, List.of("Day", "MnT"), 1024));
+        assertTrue(ex.getMessage().contains("MnT"));
+    }
+
+    @Test
+    void testThrowsForShortRow() throws IOException {
+        try (final ProjectingCsvReader reader = open("Day,MxT,MnT\n1,2\n", ',', Locale.US, List.of("Day", "MnT"), 1024)) {
+            assertThrows(IllegalArgumentException.class, reader::next);
+        }
+    }
+
+    @Test
+    void testThrowsForUnterminatedQuote() throws IOException {
+        try (final ProjectingCsvReader reader = open("Day,MxT\n\"1,2\n", ',', Locale.US, List.of("Day"), 4)) {
+            assertThrows(IOException.class, reader::next);
+        }
+    }
+
+    @Test
+    void testThrowsForInvalidCharacterAfterQuote() throws IOException {
+        try (final ProjectingCsvReader reader = open("Day,MxT\n\"1\"x,2\n", ',', Locale.US, List.of("Day"), 1024)) {
+            assertThrows(IOException.class, reader::next);
+        }
+    }
+
+    @Test
+    void testThrowsForMalformedNumber() throws IOException {
+        try (final ProjectingCsvReader reader = open("Day,MxT\n1,abc\n", ',', Locale.US, List.of("MxT"), 1024)) {
+            assertTrue(reader.next());
+            assertThrows(NumberFormatException.class, () -> reader.getDouble(0));
+        }
+    }
+
+    @Test
+    void testThrowsForEmptyContentAndInvalidDelimiter() {
+        assertThrows(IOException.class, () -> open("", ',', Locale.US, List.of("Day"), 1024));
+        assertThrows(IOException.class, () -> open("\nDay\n1\n", ',', Locale.US, List.of("Day"), 1024));
+        assertThrows(IllegalArgumentException.class, () -> open("Day\n1\n", '"', Locale.US, List.of("Day"), 1024));
+    }
+    //endregion
+}
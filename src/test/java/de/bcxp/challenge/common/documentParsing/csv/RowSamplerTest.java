@@ -0,0 +1,67 @@
+package de.bcxp.challenge.common.documentParsing.csv;
+
+import de.bcxp.challenge.weather.WeatherCsvParser;
+import org.apache.logging.log4j.LogManager;
+import org.junit.jupiter.api.Test;
+import java.util.Locale;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowSamplerTest {
+
+    //region Positive Tests
+    @Test
+    void testTickIsDueEveryNthRow() {
+        final RowSampler sampler = new RowSampler(LogManager.getLogger(RowSamplerTest.class), "test.csv", 3);
+        final StringBuilder pattern = new StringBuilder();
+        for (int row = 0; row < 9; row++) {
+            pattern.append(sampler.tick() ? 'x' : '.');
+        }
+        assertEquals("..x..x..x", pattern.toString());
+    }
+
+    @Test
+    void testTickIsNeverDueWhenDisabled() {
+        final RowSampler sampler = new RowSampler(LogManager.getLogger(RowSamplerTest.class), "test.csv", 0);
+        for (int row = 0; row < 100; row++) {
+            assertFalse(sampler.tick());
+        }
+    }
+
+    @Test
+    void testParseInterval() {
+        assertEquals(1000, RowSampler.parseInterval("1000"));
+        assertEquals(5, RowSampler.parseInterval(" 5 "));
+        assertEquals(0, RowSampler.parseInterval("0"));
+        assertEquals(0, RowSampler.parseInterval(null));
+    }
+
+    @Test
+    void testParserReadsConfiguredInterval() {
+        final String previous = System.getProperty(RowSampler.INTERVAL_PROPERTY);
+        try {
+            System.setProperty(RowSampler.INTERVAL_PROPERTY, "250");
+            assertEquals(250, new WeatherCsvParser(',', Locale.GERMANY, "test.csv").getSampleInterval());
+            System.clearProperty(RowSampler.INTERVAL_PROPERTY);
+            assertEquals(0, new WeatherCsvParser(',', Locale.GERMANY, "test.csv").getSampleInterval());
+        } finally {
+            if (previous == null) System.clearProperty(RowSampler.INTERVAL_PROPERTY);
+            else System.setProperty(RowSampler.INTERVAL_PROPERTY, previous);
+        }
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testParseIntervalIgnoresInvalidValues() {
+        assertEquals(0, RowSampler.parseInterval(""));
+        assertEquals(0, RowSampler.parseInterval("-1"));
+        assertEquals(0, RowSampler.parseInterval("every"));
+    }
+
+    @Test
+    void testNegativeIntervalDisablesSampler() {
+        final RowSampler sampler = new RowSampler(LogManager.getLogger(RowSamplerTest.class), "test.csv", -5);
+        assertFalse(sampler.tick());
+    }
+    //endregion
+}
@@ -0,0 +1,34 @@
+package de.bcxp.challenge.common.documentParsing.source;
+
+import org.junit.jupiter.api.Test;
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClasspathSourceTest {
+
+    //region Positive Tests
+    @Test
+    void testOpensResource() throws IOException {
+        final ClasspathSource source = new ClasspathSource("de/bcxp/challenge/weather.csv");
+        try (final BufferedReader reader = new BufferedReader(source.openReader())) {
+            assertTrue(reader.readLine().startsWith("Day,MxT,MnT"));
+        }
+        assertEquals("de/bcxp/challenge/weather.csv", source.getName());
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testMissingResource() {
+        assertThrows(FileNotFoundException.class, () -> new ClasspathSource("missing.csv").open());
+    }
+
+    @Test
+    void testInvalidResource() {
+        assertThrows(IllegalArgumentException.class, () -> new ClasspathSource(null));
+        assertThrows(IllegalArgumentException.class, () -> new ClasspathSource(""));
+    }
+    //endregion
+}
@@ -0,0 +1,58 @@
+package de.bcxp.challenge.common.documentParsing.source;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirectorySourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    //region Positive Tests
+    @Test
+    void testGetPartsReturnsMatchingFilesInNameOrder() throws IOException {
+        Files.writeString(tempDir.resolve("part-2.csv"), "c");
+        Files.writeString(tempDir.resolve("part-0.csv"), "a");
+        Files.writeString(tempDir.resolve("part-1.csv"), "b");
+        Files.writeString(tempDir.resolve("readme.txt"), "ignored");
+        Files.createDirectory(tempDir.resolve("nested.csv"));
+
+        final List<String> names = new ArrayList<>();
+        for (final FileSource part : new DirectorySource(tempDir).getParts()) {
+            names.add(part.getPath().getFileName().toString());
+        }
+        assertEquals(List.of("part-0.csv", "part-1.csv", "part-2.csv"), names);
+        assertEquals(1, new DirectorySource(tempDir, "*.txt").getParts().size());
+    }
+
+    @Test
+    void testGetPartsOfEmptyDirectory() throws IOException {
+        assertTrue(new DirectorySource(tempDir).getParts().isEmpty());
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testOpenIsUnsupported() {
+        assertThrows(UnsupportedOperationException.class, () -> new DirectorySource(tempDir).open());
+    }
+
+    @Test
+    void testGetPartsOfMissingDirectory() {
+        assertThrows(NoSuchFileException.class, () -> new DirectorySource(tempDir.resolve("missing")).getParts());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new DirectorySource(null));
+        assertThrows(IllegalArgumentException.class, () -> new DirectorySource(tempDir, " "));
+    }
+    //endregion
+}
@@ -0,0 +1,194 @@
+package de.bcxp.challenge.common.documentParsing.source;
+
+import de.bcxp.challenge.common.documentParsing.source.GzipDecompression.Compression;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GzipDecompressionTest {
+
+    private static final byte[] CONTENT = createContent();
+
+    private static byte[] createContent() {
+        final StringBuilder builder = new StringBuilder("Day,MxT,MnT\n");
+        for (int day = 1; day <= 50_000; day++) {
+            builder.append(day).append(',').append(day % 40 + 10).append(',').append(day % 10).append('\n');
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] gzip(final byte[] content) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Compresses content into BGZF members of at most {@code blockSize} uncompressed bytes, followed by the empty end
+     * of file member.
+     */
+    static byte[] bgzf(final byte[] content, final int blockSize) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int start = 0; start < content.length; start += blockSize) {
+            writeBgzfBlock(out, Arrays.copyOfRange(content, start, Math.min(content.length, start + blockSize)));
+        }
+        writeBgzfBlock(out, new byte[0]);
+        return out.toByteArray();
+    }
+
+    private static void writeBgzfBlock(final ByteArrayOutputStream out, final byte[] block) {
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(block);
+        deflater.finish();
+        final byte[] buffer = new byte[block.length + 1024];
+        int length = 0;
+        while (!deflater.finished()) {
+            length += deflater.deflate(buffer, length, buffer.length - length);
+        }
+        deflater.end();
+        final CRC32 crc = new CRC32();
+        crc.update(block);
+
+        out.writeBytes(new byte[] {0x1f, (byte) 0x8b, 8, 4, 0, 0, 0, 0, 0, (byte) 0xff, 6, 0, 'B', 'C', 2, 0});
+        writeShort(out, 18 + length + 8 - 1);
+        out.write(buffer, 0, length);
+        writeInt(out, (int) crc.getValue());
+        writeInt(out, block.length);
+    }
+
+    private static void writeShort(final ByteArrayOutputStream out, final int value) {
+        out.write(value & 0xff);
+        out.write(value >>> 8 & 0xff);
+    }
+
+    private static void writeInt(final ByteArrayOutputStream out, final int value) {
+        writeShort(out, value & 0xffff);
+        writeShort(out, value >>> 16);
+    }
+
+    private static int readShort(final byte[] bytes, final int offset) {
+        return (bytes[offset] & 0xff) | (bytes[offset + 1] & 0xff) << 8;
+    }
+
+    private static void writeInt(final byte[] bytes, final int offset, final int value) {
+        for (int i = 0; i < 4; i++) {
+            bytes[offset + i] = (byte) (value >>> 8 * i);
+        }
+    }
+
+    private static byte[] readAll(final ReadableByteChannel channel) throws IOException {
+        try (final InputStream in = Channels.newInputStream(channel)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static ReadableByteChannel channelOf(final byte[] bytes) {
+        return Channels.newChannel(new ByteArrayInputStream(bytes));
+    }
+
+    //region Positive Tests
+    @Test
+    void testDetect() throws IOException {
+        assertEquals(Compression.NONE, GzipDecompression.detect(CONTENT, CONTENT.length));
+        assertEquals(Compression.NONE, GzipDecompression.detect(new byte[] {0x1f}, 1));
+        final byte[] gzip = gzip(CONTENT);
+        assertEquals(Compression.GZIP, GzipDecompression.detect(gzip, gzip.length));
+        final byte[] bgzf = bgzf(CONTENT, 1 << 16);
+        assertEquals(Compression.BGZF, GzipDecompression.detect(bgzf, bgzf.length));
+    }
+
+    @Test
+    void testUncompressedContentPassesThrough() throws IOException {
+        assertArrayEquals(CONTENT, readAll(GzipDecompression.decompressIfNeeded(channelOf(CONTENT), "plain")));
+        assertArrayEquals(new byte[] {'a'}, readAll(GzipDecompression.decompressIfNeeded(channelOf(new byte[] {'a'}), "short")));
+        assertArrayEquals(new byte[0], readAll(GzipDecompression.decompressIfNeeded(channelOf(new byte[0]), "empty")));
+    }
+
+    @Test
+    void testDecompressesGzipAndMultiMemberGzip() throws IOException {
+        assertArrayEquals(CONTENT, readAll(GzipDecompression.decompressIfNeeded(channelOf(gzip(CONTENT)), "gzip")));
+
+        final int half = CONTENT.length / 2;
+        final ByteArrayOutputStream members = new ByteArrayOutputStream();
+        members.writeBytes(gzip(Arrays.copyOfRange(CONTENT, 0, half)));
+        members.writeBytes(gzip(Arrays.copyOfRange(CONTENT, half, CONTENT.length)));
+        assertArrayEquals(CONTENT, readAll(GzipDecompression.decompressIfNeeded(channelOf(members.toByteArray()), "members")));
+    }
+
+    @Test
+    void testDecompressesBgzfInParallel() throws IOException {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final ReadableByteChannel channel = GzipDecompression.decompressIfNeeded(channelOf(bgzf(CONTENT, 4096)), "bgzf", executor);
+            final ByteBuffer small = ByteBuffer.allocate(1000);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int read;
+            while ((read = channel.read(small.clear())) >= 0) {
+                out.write(small.array(), 0, read);
+            }
+            channel.close();
+            assertArrayEquals(CONTENT, out.toByteArray());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCloseBeforeEnd() throws IOException {
+        final ReadableByteChannel channel = GzipDecompression.decompressIfNeeded(channelOf(bgzf(CONTENT, 1024)), "closed");
+        assertTrue(channel.read(ByteBuffer.allocate(10)) > 0);
+        channel.close();
+        assertFalse(channel.isOpen());
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testCorruptBgzfBlock() {
+        final byte[] bgzf = bgzf(CONTENT, 4096);
+        bgzf[bgzf.length / 2] ^= 0x55;
+        assertThrows(IOException.class, () -> readAll(GzipDecompression.decompressIfNeeded(channelOf(bgzf), "corrupt")));
+    }
+
+    @Test
+    void testOversizedBgzfBlock() {
+        final byte[] bgzf = bgzf(CONTENT, 4096);
+        // stated uncompressed size of the first block, right before the header of the second one
+        final int sizeOffset = readShort(bgzf, 16) + 1 - 4;
+        for (final int size : new int[] {(1 << 16) + 1, Integer.MAX_VALUE, -1}) {
+            writeInt(bgzf, sizeOffset, size);
+            final IOException e = assertThrows(IOException.class, () -> readAll(GzipDecompression.decompressIfNeeded(channelOf(bgzf), "oversized")));
+            assertTrue(e.getMessage().contains("Invalid uncompressed size"), e.getMessage());
+        }
+    }
+
+    @Test
+    void testTruncatedGzip() throws IOException {
+        final byte[] gzip = gzip(CONTENT);
+        final byte[] truncated = Arrays.copyOf(gzip, gzip.length / 2);
+        assertThrows(IOException.class, () -> readAll(GzipDecompression.decompressIfNeeded(channelOf(truncated), "truncated")));
+    }
+
+    @Test
+    void testNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> GzipDecompression.decompressIfNeeded(null, "name"));
+        assertThrows(IllegalArgumentException.class, () -> GzipDecompression.decompressIfNeeded(channelOf(CONTENT), null));
+        assertThrows(IllegalArgumentException.class, () -> GzipDecompression.decompressIfNeeded(channelOf(CONTENT), "name", null));
+    }
+    //endregion
+}
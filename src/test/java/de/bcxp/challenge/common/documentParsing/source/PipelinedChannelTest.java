@@ -0,0 +1,55 @@
+package de.bcxp.challenge.common.documentParsing.source;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelinedChannelTest {
+
+    private static PipelinedChannel channelOf(final PipelinedChannel.IProducer producer) {
+        return new PipelinedChannel(producer, () -> {}, "test", 2);
+    }
+
+    //region Positive Tests
+    @Test
+    void testReadsBlocksInOrder() throws IOException {
+        final PipelinedChannel channel = channelOf(sink -> {
+            for (final String block : new String[] {"ab", "", "cde"}) {
+                sink.put(CompletableFuture.completedFuture(ByteBuffer.wrap(block.getBytes(StandardCharsets.UTF_8))));
+            }
+        });
+        final ByteBuffer destination = ByteBuffer.allocate(10);
+        while (channel.read(destination) >= 0) {
+            assertTrue(channel.isOpen());
+        }
+        channel.close();
+        assertEquals("abcde", new String(destination.array(), 0, destination.position(), StandardCharsets.UTF_8));
+        assertFalse(channel.isOpen());
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testProducerFailureIsRethrown() {
+        final PipelinedChannel channel = channelOf(sink -> {
+            throw new IOException("broken");
+        });
+        assertEquals("broken", assertThrows(IOException.class, () -> channel.read(ByteBuffer.allocate(10))).getMessage());
+    }
+
+    @Test
+    @Timeout(10)
+    void testProducerErrorIsRethrown() {
+        final PipelinedChannel channel = channelOf(sink -> {
+            sink.put(CompletableFuture.completedFuture(ByteBuffer.wrap(new byte[] {'a'})));
+            throw new OutOfMemoryError("simulated");
+        });
+        assertEquals(1, assertDoesNotThrow(() -> channel.read(ByteBuffer.allocate(10))));
+        assertThrows(OutOfMemoryError.class, () -> channel.read(ByteBuffer.allocate(10)));
+    }
+    //endregion
+}
@@ -0,0 +1,43 @@
+package de.bcxp.challenge.common.documentParsing.source;
+
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StandardInputSourceTest {
+
+    //region Positive Tests
+    @Test
+    void testReadsStreamAndKeepsItOpen() throws IOException {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final InputStream input = new ByteArrayInputStream("Day,MxT\nä,1\n".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        final StandardInputSource source = new StandardInputSource(input);
+        try (final Reader reader = source.openReader()) {
+            final BufferedReader lines = new BufferedReader(reader);
+            assertEquals("Day,MxT", lines.readLine());
+            assertEquals("ä,1", lines.readLine());
+        }
+        assertFalse(closed.get());
+        assertEquals(1, source.getParts().size());
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testNullStream() {
+        assertThrows(IllegalArgumentException.class, () -> new StandardInputSource(null));
+    }
+    //endregion
+}
@@ -0,0 +1,88 @@
+package de.bcxp.challenge.common.generation;
+
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvGeneratorTest {
+
+    static class TestGenerator extends CsvGenerator {
+        TestGenerator(final CsvGeneratorOptions options) {
+            super(options, ',');
+        }
+
+        @Override
+        protected List<String> getHeader() {
+            return List.of("id", "text", "integer", "decimal");
+        }
+
+        @Override
+        protected void writeRow(final Row row, final long index, final boolean best, final SplittableRandom random) {
+            row.field(best ? "best" : "row " + index)
+                    .field("say \"hi\"")
+                    .integer(index % 2 == 0 ? 1_234_567 : -42)
+                    .decimal(index % 2 == 0 ? -1_234_505 : 7, 2);
+        }
+    }
+
+    private static String generate(final CsvGeneratorOptions options) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new TestGenerator(options).generate(Channels.newChannel(output));
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    //region Positive Tests
+    @Test
+    void testFormatsAndQuotesFields() throws IOException {
+        final String german = generate(CsvGeneratorOptions.builder().rows(2).bestMatches(1).seed(1).build());
+        final String[] lines = german.split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("id,text,integer,decimal", lines[0]);
+        assertTrue(lines[1].endsWith(",\"say \"\"hi\"\"\",1.234.567,\"-12.345,05\""), lines[1]);
+        assertTrue(lines[2].endsWith(",\"say \"\"hi\"\"\",-42,\"0,07\""), lines[2]);
+
+        final String us = generate(CsvGeneratorOptions.builder().rows(1).locale(Locale.US).delimiter(';').grouping(false).build());
+        assertEquals("id;text;integer;decimal\nbest;\"say \"\"hi\"\"\";1234567;-12345.05\n", us);
+
+        final String quoted = generate(CsvGeneratorOptions.builder().rows(1).locale(Locale.US).grouping(false).quoteAll(true).build());
+        assertEquals("\"id\",\"text\",\"integer\",\"decimal\"\n\"best\",\"say \"\"hi\"\"\",\"1234567\",\"-12345.05\"\n", quoted);
+    }
+
+    @Test
+    void testBestMatchesAndSeed() throws IOException {
+        final CsvGeneratorOptions options = CsvGeneratorOptions.builder().rows(50).bestMatches(5).seed(7).build();
+        final String content = generate(options);
+        assertEquals(5, content.lines().filter(line -> line.startsWith("best,")).count());
+        assertEquals(content, generate(options));
+        assertNotEquals(content, generate(CsvGeneratorOptions.builder().rows(50).bestMatches(5).seed(8).build()));
+
+        final String allBest = generate(CsvGeneratorOptions.builder().rows(3).bestMatches(3).build());
+        assertEquals(3, allBest.lines().filter(line -> line.startsWith("best,")).count());
+    }
+
+    @Test
+    void testLargeOutputIsFlushedCompletely() throws IOException {
+        final String content = generate(CsvGeneratorOptions.builder().rows(100_000).build());
+        assertEquals(100_001, content.lines().count());
+        assertTrue(content.endsWith("\n"));
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testInvalidOptions() {
+        assertThrows(IllegalArgumentException.class, () -> CsvGeneratorOptions.builder().rows(-1));
+        assertThrows(IllegalArgumentException.class, () -> CsvGeneratorOptions.builder().bestMatches(0));
+        assertThrows(IllegalArgumentException.class, () -> CsvGeneratorOptions.builder().delimiter('"'));
+        assertThrows(IllegalArgumentException.class, () -> CsvGeneratorOptions.builder().locale(null));
+        assertThrows(IllegalArgumentException.class, () -> CsvGeneratorOptions.builder().rows(2).bestMatches(3).build());
+        assertThrows(IllegalArgumentException.class, () -> new TestGenerator(null));
+    }
+    //endregion
+}
@@ -0,0 +1,92 @@
+package de.bcxp.challenge.common.metrics;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    //region Positive Tests
+    @Test
+    void testEmptyHistogram() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(99));
+    }
+
+    @Test
+    void testPercentilesStayWithinRelativeError() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(5000.5, histogram.getMean());
+        assertEquals(10_000, histogram.getMax());
+        assertEquals(1, histogram.getPercentile(0));
+        assertEquals(10_000, histogram.getPercentile(100));
+        for (final double percentile : new double[] {50, 90, 99, 99.9}) {
+            final long exact = (long) Math.ceil(percentile * 100);
+            final long reported = histogram.getPercentile(percentile);
+            assertTrue(reported >= exact && reported <= exact * 1.125, percentile + ": " + reported);
+        }
+    }
+
+    @Test
+    void testBucketsCoverAllValues() {
+        long previousUpperBound = -1;
+        for (int index = 0; index < (Long.SIZE - 3) * 8; index++) {
+            final long upperBound = LatencyHistogram.upperBoundOf(index);
+            assertEquals(index, LatencyHistogram.indexOf(previousUpperBound + 1));
+            assertEquals(index, LatencyHistogram.indexOf(upperBound));
+            assertTrue(upperBound > previousUpperBound);
+            previousUpperBound = upperBound;
+        }
+        assertEquals(Long.MAX_VALUE, previousUpperBound);
+    }
+
+    @Test
+    void testConcurrentRecording() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) histogram.record(i % 100);
+                }));
+            }
+            for (final Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(99, histogram.getMax());
+    }
+
+    @Test
+    void testNegativeLatencyCountsAsZero() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(0, histogram.getMax());
+        assertEquals(1, histogram.getCount());
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testInvalidPercentile() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(Double.NaN));
+    }
+    //endregion
+}
@@ -0,0 +1,110 @@
+package de.bcxp.challenge.common.model;
+
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.ColumnarDocument.ColumnType;
+import de.bcxp.challenge.common.model.csv.NumericComparisonType;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarDocumentTest {
+
+    static class TestEntry extends DocumentEntry {
+        private final long count;
+
+        public TestEntry(String id, long count) {
+            super(id);
+            this.count = count;
+        }
+    }
+
+    private static ColumnarDocument.Builder newBuilder() {
+        return ColumnarDocument.builder(List.of("count", "ratio"), List.of(ColumnType.LONG, ColumnType.DOUBLE),
+                (document, row) -> new TestEntry(document.getId(row), document.getLong(0, row)));
+    }
+
+    //region Positive Tests
+    @Test
+    void testBuildsColumnsBeyondInitialCapacity() {
+        final ColumnarDocument.Builder builder = newBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.addRow("row-" + i + "-ä", i * 0.5).setLong(0, i).setDouble(1, i / 4.0);
+        }
+        final ColumnarDocument document = builder.build();
+
+        assertEquals(1000, document.size());
+        assertEquals(List.of("count", "ratio"), document.getColumnNames());
+        assertEquals(List.of(ColumnType.LONG, ColumnType.DOUBLE), document.getColumnTypes());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("row-" + i + "-ä", document.getId(i));
+            assertEquals(i * 0.5, document.getScore(i));
+            assertEquals(i, document.getLong(0, i));
+            assertEquals(i / 4.0, document.getDouble(1, i));
+        }
+    }
+
+    @Test
+    void testCreatesEntries() throws DocumentCreationException {
+        final ColumnarDocument document = newBuilder()
+                .addRow("a", 1).setLong(0, 3)
+                .addRow("b", 2)
+                .build();
+
+        final TestEntry entry = assertInstanceOf(TestEntry.class, document.getEntry(0));
+        assertEquals("a", entry.getId());
+        assertEquals(3, entry.count);
+
+        final List<DocumentEntry> entries = document.toDocument().getEntries();
+        assertEquals(2, entries.size());
+        assertEquals("b", entries.get(1).getId());
+        assertEquals(0, ((TestEntry) entries.get(1)).count);
+    }
+
+    @Test
+    void testFindsRowsWithBestScore() {
+        final ColumnarDocument.Builder builder = newBuilder();
+        final int[] expected = new int[40];
+        for (int i = 0; i < 100; i++) {
+            final boolean best = i % 5 < 2;
+            builder.addRow("row-" + i, best ? 1 : 2 + i);
+            if (best) expected[i / 5 * 2 + i % 5] = i;
+        }
+        final ColumnarDocument document = builder.build();
+
+        assertArrayEquals(expected, document.getBestScoreRows(NumericComparisonType.MIN));
+        assertArrayEquals(new int[] {99}, document.getBestScoreRows(NumericComparisonType.MAX));
+        assertArrayEquals(new int[0], newBuilder().build().getBestScoreRows(NumericComparisonType.MIN));
+        assertThrows(IllegalArgumentException.class, () -> document.getBestScoreRows(null));
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testInvalidBuilderUsage() {
+        assertThrows(IllegalArgumentException.class, () -> ColumnarDocument.builder(List.of("a"), List.of(), (document, row) -> null));
+        assertThrows(IllegalArgumentException.class, () -> ColumnarDocument.builder(null, List.of(), (document, row) -> null));
+        assertThrows(IllegalArgumentException.class, () -> ColumnarDocument.builder(List.of(), List.of(), null));
+
+        final ColumnarDocument.Builder builder = newBuilder();
+        assertThrows(IllegalStateException.class, () -> builder.setLong(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> builder.addRow("", 1));
+        builder.addRow("a", 1);
+        assertThrows(IllegalArgumentException.class, () -> builder.setDouble(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> builder.setLong(1, 1));
+
+        builder.build();
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThrows(IllegalStateException.class, () -> builder.addRow("b", 1));
+    }
+
+    @Test
+    void testInvalidAccess() {
+        final ColumnarDocument document = newBuilder().addRow("a", 1).build();
+        assertThrows(IndexOutOfBoundsException.class, () -> document.getId(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> document.getScore(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> document.getDouble(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> document.getDouble(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> document.getLong(1, 0));
+    }
+    //endregion
+}
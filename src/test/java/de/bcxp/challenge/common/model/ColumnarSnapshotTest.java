@@ -0,0 +1,111 @@
+package de.bcxp.challenge.common.model;
+
+import de.bcxp.challenge.common.model.ColumnarDocument.ColumnType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarSnapshotTest {
+
+    private static final String SCHEMA = "test|,|de-DE";
+
+    @TempDir
+    Path tempDir;
+
+    private static ColumnarDocument.Builder newBuilder() {
+        return ColumnarDocument.builder(List.of("count", "ratio"), List.of(ColumnType.LONG, ColumnType.DOUBLE),
+                (document, row) -> new ColumnarDocumentTest.TestEntry(document.getId(row), document.getLong(0, row)));
+    }
+
+    private static ColumnarDocument newDocument(final int rows) {
+        final ColumnarDocument.Builder builder = newBuilder();
+        for (int i = 0; i < rows; i++) {
+            builder.addRow("row-" + i + (i % 3 == 0 ? "-ä" : ""), i * 0.5).setLong(0, Long.MAX_VALUE - i).setDouble(1, i / 3.0);
+        }
+        return builder.build();
+    }
+
+    private static byte[] checksum(final int seed) {
+        final byte[] checksum = new byte[32];
+        Arrays.fill(checksum, (byte) seed);
+        return checksum;
+    }
+
+    //region Positive Tests
+    @Test
+    void testWritesAndReloadsDocument() throws IOException {
+        final ColumnarDocument document = newDocument(10_000);
+        final Path file = tempDir.resolve("document.snapshot");
+        ColumnarSnapshot.write(document, SCHEMA, checksum(1), file);
+
+        final ColumnarDocument reloaded = ColumnarSnapshot.read(file, SCHEMA, checksum(1), newBuilder()).orElseThrow();
+        assertEquals(document.size(), reloaded.size());
+        assertEquals(document.getColumnNames(), reloaded.getColumnNames());
+        for (int row = 0; row < document.size(); row++) {
+            assertEquals(document.getId(row), reloaded.getId(row));
+            assertEquals(document.getScore(row), reloaded.getScore(row));
+            assertEquals(document.getLong(0, row), reloaded.getLong(0, row));
+            assertEquals(document.getDouble(1, row), reloaded.getDouble(1, row));
+        }
+        assertEquals("row-3-ä", reloaded.getEntry(3).getId());
+    }
+
+    @Test
+    void testReloadsEmptyDocumentAndReplacesSnapshot() throws IOException {
+        final Path file = tempDir.resolve("document.snapshot");
+        ColumnarSnapshot.write(newDocument(5), SCHEMA, checksum(1), file);
+        ColumnarSnapshot.write(newDocument(0), SCHEMA, checksum(2), file);
+
+        assertEquals(0, ColumnarSnapshot.read(file, SCHEMA, checksum(2), newBuilder()).orElseThrow().size());
+        assertEquals(1, Files.list(tempDir).count());
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testDetectsStaleSnapshots() throws IOException {
+        final Path file = tempDir.resolve("document.snapshot");
+        ColumnarSnapshot.write(newDocument(100), SCHEMA, checksum(1), file);
+
+        assertEquals(Optional.empty(), ColumnarSnapshot.read(file, SCHEMA, checksum(2), newBuilder()));
+        assertEquals(Optional.empty(), ColumnarSnapshot.read(file, "other|;|en-US", checksum(1), newBuilder()));
+        final ColumnarDocument.Builder otherColumns = ColumnarDocument.builder(List.of("count", "ratio"), List.of(ColumnType.DOUBLE, ColumnType.DOUBLE),
+                (document, row) -> new ColumnarDocumentTest.TestEntry(document.getId(row), 0));
+        assertEquals(Optional.empty(), ColumnarSnapshot.read(file, SCHEMA, checksum(1), otherColumns));
+
+        final byte[] content = Files.readAllBytes(file);
+        content[4] = (byte) (ColumnarSnapshot.FORMAT_VERSION + 1);
+        Files.write(file, content);
+        assertEquals(Optional.empty(), ColumnarSnapshot.read(file, SCHEMA, checksum(1), newBuilder()));
+    }
+
+    @Test
+    void testIgnoresMissingTruncatedAndForeignFiles() throws IOException {
+        assertEquals(Optional.empty(), ColumnarSnapshot.read(tempDir.resolve("missing.snapshot"), SCHEMA, checksum(1), newBuilder()));
+
+        final Path file = tempDir.resolve("document.snapshot");
+        ColumnarSnapshot.write(newDocument(100), SCHEMA, checksum(1), file);
+        final byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 8));
+        assertEquals(Optional.empty(), ColumnarSnapshot.read(file, SCHEMA, checksum(1), newBuilder()));
+
+        Files.writeString(file, "Day,MxT,MnT\n1,2,3\n");
+        assertEquals(Optional.empty(), ColumnarSnapshot.read(file, SCHEMA, checksum(1), newBuilder()));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        final Path file = tempDir.resolve("document.snapshot");
+        assertThrows(IllegalArgumentException.class, () -> ColumnarSnapshot.write(null, SCHEMA, checksum(1), file));
+        assertThrows(IllegalArgumentException.class, () -> ColumnarSnapshot.write(newDocument(1), SCHEMA, new byte[16], file));
+        assertThrows(IllegalArgumentException.class, () -> ColumnarSnapshot.read(file, null, checksum(1), newBuilder()));
+        assertThrows(IllegalArgumentException.class, () -> ColumnarSnapshot.read(file, SCHEMA, checksum(1), null));
+    }
+    //endregion
+}
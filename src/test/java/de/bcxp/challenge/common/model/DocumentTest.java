@@ -16,7 +16,7 @@ import static org.mockito.Mockito.*;
 class DocumentTest {
 
     @Mock
-    private IDocumentParser mockParser;
+    private IDocumentParser<DocumentEntry> mockParser;
 
     static class TestEntry extends DocumentEntry {
         public TestEntry(String id) {
@@ -33,8 +33,8 @@ class DocumentTest {
                 new TestEntry("entry2")
         );
 
-        when(mockParser.parseDocument()).thenReturn(new Document(entries));
-        final Document document = mockParser.parseDocument();
+        when(mockParser.parseDocument()).thenReturn(new Document<>(entries));
+        final Document<?> document = mockParser.parseDocument();
 
         assertNotNull(document.getEntries());
         assertEquals(2, document.getEntries().size());
@@ -44,21 +44,42 @@ class DocumentTest {
 
     @Test
     void testDocumentCreationWithEmptyEntries() throws DocumentCreationException {
-        when(mockParser.parseDocument()).thenReturn(new Document(List.of()));
+        when(mockParser.parseDocument()).thenReturn(new Document<>(List.of()));
         assertDoesNotThrow(() -> mockParser.parseDocument());
     }
+
+    @Test
+    void testDocumentDeterminesEntryTypeOnce() throws DocumentCreationException {
+        final List<DocumentEntry> entries = new ArrayList<>(List.of(new TestEntry("entry1"), new TestEntry("entry2")));
+        final Document<DocumentEntry> document = new Document<>(entries);
+        entries.add(null);
+
+        assertEquals(2, document.getEntries().size());
+        assertEquals(TestEntry.class, document.getEntryType());
+        assertTrue(document.isHomogeneous());
+        assertFalse(document.hasComparableNumericTuples());
+        assertThrows(UnsupportedOperationException.class, () -> document.getEntries().add(new TestEntry("entry3")));
+
+        final Document<DocumentEntry> empty = new Document<>(List.of());
+        assertNull(empty.getEntryType());
+        assertTrue(empty.isHomogeneous());
+        assertFalse(empty.hasComparableNumericTuples());
+
+        final Document<DocumentEntry> mixed = new Document<>(List.of(new TestEntry("entry1"), new DocumentEntry("entry2") {}));
+        assertFalse(mixed.isHomogeneous());
+    }
     //endregion
 
     //region Negative Tests
     @Test
     void testDocumentCreationWithNullEntries() {
         assertThrows(DocumentCreationException.class,
-                () -> new Document(null));
+                () -> new Document<DocumentEntry>(null));
 
         List<DocumentEntry> list = new ArrayList<>();
         list.add(null);
         assertThrows(DocumentCreationException.class,
-                () -> new Document(list));
+                () -> new Document<>(list));
     }
     //endregion
 
@@ -0,0 +1,39 @@
+package de.bcxp.challenge.common.model.csv;
+
+import org.junit.jupiter.api.Test;
+import java.util.stream.DoubleStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NumericComparisonTypeTest {
+
+    //region Positive Tests
+    @Test
+    void testIsBetter() {
+        assertTrue(NumericComparisonType.MAX.isBetter(2., 1.));
+        assertFalse(NumericComparisonType.MAX.isBetter(1., 2.));
+        assertFalse(NumericComparisonType.MAX.isBetter(1., 1.));
+
+        assertTrue(NumericComparisonType.MIN.isBetter(1., 2.));
+        assertFalse(NumericComparisonType.MIN.isBetter(2., 1.));
+        assertFalse(NumericComparisonType.MIN.isBetter(1., 1.));
+    }
+
+    @Test
+    void testSelectorMatchesComparator() {
+        final double[] scores = {3.5, -1., 12.25, 0., 12.25, -7.5};
+        for (final NumericComparisonType type : NumericComparisonType.values()) {
+            final double expected = DoubleStream.of(scores).boxed().max(type.comparator).orElseThrow();
+            assertEquals(expected, DoubleStream.of(scores).reduce(type.getWorstValue(), type.selector));
+            assertEquals(expected, type.selectBetter(type.selectBetter(expected, 0.), type.getWorstValue()));
+        }
+    }
+
+    @Test
+    void testWorstValueIsIdentity() {
+        assertEquals(Double.NEGATIVE_INFINITY, NumericComparisonType.MAX.getWorstValue());
+        assertEquals(Double.POSITIVE_INFINITY, NumericComparisonType.MIN.getWorstValue());
+        assertEquals(-1e300, NumericComparisonType.MAX.selector.applyAsDouble(NumericComparisonType.MAX.getWorstValue(), -1e300));
+        assertEquals(1e300, NumericComparisonType.MIN.selector.applyAsDouble(NumericComparisonType.MIN.getWorstValue(), 1e300));
+    }
+    //endregion
+}
@@ -0,0 +1,168 @@
+package de.bcxp.challenge.common.pipeline;
+
+import de.bcxp.challenge.common.cache.ResultCache;
+import de.bcxp.challenge.common.documentParsing.source.FileSource;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.Document;
+import de.bcxp.challenge.weather.WeatherAnalyser;
+import de.bcxp.challenge.weather.WeatherCsvParser;
+import de.bcxp.challenge.weather.WeatherEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisPipelineTest {
+
+    private static AnalysisJob<WeatherEntry> job(final String name, final WeatherEntry... entries) {
+        return new AnalysisJob<>(name, () -> new Document<>(List.of(entries)), new WeatherAnalyser());
+    }
+
+    //region Positive Tests
+    @Test
+    void testRunReturnsResultsInJobOrderAndIsolatesFailures() throws InterruptedException {
+        final List<AnalysisJob<WeatherEntry>> jobs = List.of(
+                job("first", new WeatherEntry("1", 10, 5), new WeatherEntry("2", 8, 7)),
+                new AnalysisJob<>("unreadable", () -> { throw new DocumentCreationException("File not found: x"); }, new WeatherAnalyser()),
+                job("empty"),
+                new AnalysisJob<>("broken", () -> { throw new IllegalStateException("broken"); }, new WeatherAnalyser()),
+                job("last", new WeatherEntry("3", 1, 1))
+        );
+        final List<JobResult> streamed = new ArrayList<>();
+
+        final List<JobResult> results = new AnalysisPipeline(2, null).run(jobs, streamed::add);
+
+        assertEquals(5, results.size());
+        assertEquals(5, streamed.size());
+        assertTrue(streamed.containsAll(results));
+
+        assertEquals("first", results.get(0).getName());
+        assertEquals("2", results.get(0).getBestMatch().orElseThrow());
+        assertTrue(results.get(0).isSuccessful());
+        assertFalse(results.get(0).isCached());
+        assertFalse(results.get(0).getDuration().isNegative());
+
+        assertInstanceOf(DocumentCreationException.class, results.get(1).getFailure().orElseThrow());
+        assertInstanceOf(NoSuchElementException.class, results.get(2).getFailure().orElseThrow());
+        assertInstanceOf(IllegalStateException.class, results.get(3).getFailure().orElseThrow());
+        assertTrue(results.get(3).getBestMatch().isEmpty());
+        assertFalse(results.get(3).isSuccessful());
+
+        assertEquals("3", results.get(4).getBestMatch().orElseThrow());
+    }
+
+    @Test
+    void testRunStreamsResultsWhileOtherJobsAreRunning() throws InterruptedException {
+        final CountDownLatch fastJobReported = new CountDownLatch(1);
+        final AnalysisJob<WeatherEntry> slow = new AnalysisJob<>("slow", () -> {
+            try {
+                if (!fastJobReported.await(10, TimeUnit.SECONDS)) throw new IllegalStateException("Result was not streamed.");
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return new Document<>(List.of(new WeatherEntry("1", 2, 1)));
+        }, new WeatherAnalyser());
+
+        final List<String> order = new ArrayList<>();
+        final List<JobResult> results = new AnalysisPipeline(2, null).run(List.of(slow, job("fast", new WeatherEntry("2", 2, 1))), result -> {
+            order.add(result.getName());
+            if (result.getName().equals("fast")) fastJobReported.countDown();
+        });
+
+        assertEquals(List.of("fast", "slow"), order);
+        assertTrue(results.get(0).isSuccessful());
+    }
+
+    @Test
+    void testRunBoundsConcurrentJobs() throws InterruptedException {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final List<AnalysisJob<WeatherEntry>> jobs = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            jobs.add(new AnalysisJob<>("job " + i, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                running.decrementAndGet();
+                return new Document<>(List.of(new WeatherEntry("1", 2, 1)));
+            }, new WeatherAnalyser()));
+        }
+
+        final List<JobResult> results = new AnalysisPipeline(3, null).run(jobs);
+
+        assertEquals(8, results.size());
+        assertTrue(results.stream().allMatch(JobResult::isSuccessful));
+        assertTrue(maxRunning.get() <= 3);
+    }
+
+    @Test
+    void testRunReusesCachedResults(@TempDir final Path tempDir) throws IOException, InterruptedException {
+        final Path weather = Files.writeString(tempDir.resolve("weather.csv"), "Day,MxT,MnT\n1,10,5\n7,8,7\n");
+        final AnalysisPipeline pipeline = new AnalysisPipeline(1, new ResultCache(tempDir.resolve("cache"), 10, 1024));
+        final List<AnalysisJob<WeatherEntry>> jobs = List.of(new AnalysisJob<>("weather",
+                new WeatherCsvParser(',', Locale.GERMANY, new FileSource(weather)), new WeatherAnalyser()));
+
+        final JobResult first = pipeline.run(jobs).get(0);
+        final JobResult second = pipeline.run(jobs).get(0);
+
+        assertFalse(first.isCached());
+        assertTrue(second.isCached());
+        assertEquals(first.getBestMatch(), second.getBestMatch());
+    }
+
+    @Test
+    void testRunWithoutJobs() throws InterruptedException {
+        assertEquals(List.of(), new AnalysisPipeline(null).run(List.of()));
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new AnalysisPipeline(0, null));
+        assertThrows(IllegalArgumentException.class, () -> new AnalysisJob<>("", () -> new Document<>(List.of()), new WeatherAnalyser()));
+        assertThrows(IllegalArgumentException.class, () -> new AnalysisJob<>("job", null, new WeatherAnalyser()));
+
+        final AnalysisPipeline pipeline = new AnalysisPipeline(1, null);
+        assertThrows(IllegalArgumentException.class, () -> pipeline.run(null));
+        assertThrows(IllegalArgumentException.class, () -> pipeline.run(List.of(job("job")), null));
+        final List<AnalysisJob<WeatherEntry>> withNull = new ArrayList<>();
+        withNull.add(null);
+        assertThrows(IllegalArgumentException.class, () -> pipeline.run(withNull));
+    }
+
+    @Test
+    void testListenerFailureCancelsRemainingJobs() {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        final AnalysisJob<WeatherEntry> blocked = new AnalysisJob<>("blocked", () -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+            }
+            return new Document<>(List.of());
+        }, new WeatherAnalyser());
+
+        final AnalysisPipeline pipeline = new AnalysisPipeline(2, null);
+        assertThrows(IllegalStateException.class, () -> pipeline.run(List.of(blocked, job("fast", new WeatherEntry("1", 2, 1))), result -> {
+            assertDoesNotThrow(() -> started.await(5, TimeUnit.SECONDS));
+            throw new IllegalStateException("listener");
+        }));
+        assertDoesNotThrow(() -> assertTrue(cancelled.await(5, TimeUnit.SECONDS)));
+    }
+    //endregion
+}
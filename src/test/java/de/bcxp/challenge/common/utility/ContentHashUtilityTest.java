@@ -0,0 +1,42 @@
+package de.bcxp.challenge.common.utility;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentHashUtilityTest {
+
+    //region Positive Tests
+    @Test
+    void testSha256OfKnownContent() throws IOException {
+        final byte[] checksum = ContentHashUtility.sha256(Channels.newChannel(new ByteArrayInputStream("abc".getBytes(StandardCharsets.US_ASCII))));
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", ContentHashUtility.toHex(checksum));
+        assertEquals(ContentHashUtility.CHECKSUM_LENGTH, checksum.length);
+    }
+
+    @Test
+    void testSha256OfFileLargerThanBuffer(@TempDir final Path tempDir) throws IOException {
+        final byte[] content = new byte[(1 << 20) * 3 + 17];
+        for (int i = 0; i < content.length; i++) content[i] = (byte) (i * 31);
+        final Path file = Files.write(tempDir.resolve("content.bin"), content);
+
+        assertArrayEquals(ContentHashUtility.newSha256().digest(content), ContentHashUtility.sha256(file));
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testInvalidArguments(@TempDir final Path tempDir) {
+        assertThrows(IllegalArgumentException.class, () -> ContentHashUtility.sha256((Path) null));
+        assertThrows(IllegalArgumentException.class, () -> ContentHashUtility.toHex(null));
+        assertThrows(NoSuchFileException.class, () -> ContentHashUtility.sha256(tempDir.resolve("missing")));
+    }
+    //endregion
+}
@@ -0,0 +1,95 @@
+package de.bcxp.challenge.common.utility;
+
+import org.junit.jupiter.api.Test;
+import java.text.ParseException;
+import java.util.Locale;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocaleNumberParserTest {
+
+    private final LocaleNumberParser germanParser = LocaleNumberParser.forLocale(Locale.GERMANY);
+    private final LocaleNumberParser usParser = LocaleNumberParser.forLocale(Locale.US);
+    private final LocaleNumberParser frenchParser = LocaleNumberParser.forLocale(Locale.FRANCE);
+
+    //region Positive Tests
+    @Test
+    void testParsersAreSharedPerLocale() {
+        assertSame(germanParser, LocaleNumberParser.forLocale(Locale.GERMANY));
+        assertEquals(Locale.GERMANY, germanParser.getLocale());
+    }
+
+    @Test
+    void testParseLongWithGroupingAndFraction() throws ParseException {
+        assertEquals(4_036_355L, germanParser.parseLong("4.036.355,00"));
+        assertEquals(4_036_355L, usParser.parseLong("4,036,355.00"));
+        assertEquals(4_036_355L, frenchParser.parseLong("4 036 355,00"));
+        assertEquals(4_036_355L, frenchParser.parseLong("4 036 355"));
+        assertEquals(12L, usParser.parseLong("  12.7 "));
+    }
+
+    @Test
+    void testParseLongLimits() throws ParseException {
+        assertEquals(Long.MAX_VALUE, usParser.parseLong(String.valueOf(Long.MAX_VALUE)));
+        assertEquals(Long.MIN_VALUE, usParser.parseLong(String.valueOf(Long.MIN_VALUE)));
+        assertEquals(-987L, germanParser.parseLong("-987"));
+    }
+
+    @Test
+    void testParseDoubleWithLocaleSeparators() throws ParseException {
+        assertEquals(1234.56, germanParser.parseDouble("1.234,56"));
+        assertEquals(1234.56, usParser.parseDouble("1,234.56"));
+        assertEquals(1234.56, frenchParser.parseDouble("1 234,56"));
+        assertEquals(-0.005, usParser.parseDouble("-0.005"));
+        assertEquals(4036355.0, germanParser.parseDouble("4.036.355,00"));
+    }
+
+    @Test
+    void testParseDoubleIsCorrectlyRounded() throws ParseException {
+        final String[] numbers = {"0.1", "0.3", "1004.5", "123456789.123456789", "3.14159265358979323846",
+                "0.000000000000000000000000001", "179769313486231570000000000000000000000", "9007199254740993"};
+        for (final String number : numbers) {
+            assertEquals(Double.parseDouble(number), usParser.parseDouble(number), number);
+        }
+    }
+
+    @Test
+    void testParseCharacterRange() throws ParseException {
+        final String line = "Croatia;4.036.355,00;56594";
+        assertEquals(4_036_355L, germanParser.parseLong(line, 8, 20));
+        assertEquals(56594.0, germanParser.parseDouble(line, 21, line.length()));
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testParseLongOverflow() {
+        assertThrows(NumberFormatException.class, () -> usParser.parseLong(Long.MAX_VALUE + "0"));
+        assertThrows(NumberFormatException.class, () -> usParser.parseLong("9223372036854775808"));
+    }
+
+    @Test
+    void testParseRejectsLetters() {
+        assertThrows(NumberFormatException.class, () -> usParser.parseLong("12abc"));
+        assertThrows(NumberFormatException.class, () -> usParser.parseDouble("1e5"));
+    }
+
+    @Test
+    void testParseRejectsInvalidNumbers() {
+        assertThrows(ParseException.class, () -> usParser.parseLong(""));
+        assertThrows(ParseException.class, () -> usParser.parseDouble("-"));
+        assertThrows(ParseException.class, () -> usParser.parseDouble("+5"));
+        assertThrows(ParseException.class, () -> usParser.parseDouble("1.2.3"));
+        assertThrows(ParseException.class, () -> usParser.parseDouble("12%"));
+    }
+
+    @Test
+    void testParseDoubleRejectsInfinity() {
+        assertThrows(NumberFormatException.class, () -> usParser.parseDouble("1" + "0".repeat(400)));
+    }
+
+    @Test
+    void testForLocaleRejectsNull() {
+        assertThrows(IllegalArgumentException.class, () -> LocaleNumberParser.forLocale(null));
+    }
+    //endregion
+}
@@ -39,7 +39,7 @@ class ParameterValidationUtilityTest {
     @Mock
     private Logger mockLogger;
     @Mock
-    private IDocumentParser mockParser;
+    private IDocumentParser<TestEntry> mockParser;
 
     private final DocumentEntry testEntry = new WeatherEntry("one", 3, 2);
 
@@ -167,8 +167,8 @@ class ParameterValidationUtilityTest {
     void validateDocumentValidTest() throws DocumentCreationException {
         when(mockParser
                 .parseDocument())
-                .thenReturn(new Document(List.of(new TestEntry("d"))));
-        final Document doc = mockParser.parseDocument();
+                .thenReturn(new Document<>(List.of(new TestEntry("d"))));
+        final Document<TestEntry> doc = mockParser.parseDocument();
 
         assertDoesNotThrow(() -> validateDocument(
                 doc, mockLogger,
@@ -189,7 +189,7 @@ class ParameterValidationUtilityTest {
 
     @Test
     void validateDocumentEmptyEntriesTest() throws DocumentCreationException {
-        final Document doc = new Document(List.of());
+        final Document<TestEntry> doc = new Document<>(List.of());
         assertDoesNotThrow(() ->
                 validateDocument(
                         doc,
@@ -235,4 +235,32 @@ class ParameterValidationUtilityTest {
         assertEquals("Entries must all be of the same type.", ex.getMessage());
     }
     //endregion
+
+    //region validateNumericTupleDocument() Tests
+    @Test
+    void validateNumericTupleDocumentValidTest() {
+        assertDoesNotThrow(() -> validateNumericTupleDocument(
+                new Document<>(List.of(new TestEntry("1"), new TestEntry("2"))), mockLogger));
+    }
+
+    @Test
+    void validateNumericTupleDocumentInvalidTest() throws DocumentCreationException {
+        final class NotTupleEntry extends DocumentEntry {
+            private NotTupleEntry(String id) {
+                super(id);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> validateNumericTupleDocument(null, mockLogger));
+        assertThrows(IllegalArgumentException.class, () -> validateNumericTupleDocument(new Document<>(List.of()), null));
+        assertThrows(NoSuchElementException.class, () -> validateNumericTupleDocument(new Document<>(List.of()), mockLogger));
+
+        final Document<DocumentEntry> notTuples = new Document<>(List.of(new NotTupleEntry("1")));
+        assertThrows(IllegalArgumentException.class, () -> validateNumericTupleDocument(notTuples, mockLogger));
+
+        final Document<DocumentEntry> mixed = new Document<>(List.of(new WeatherEntry("1", 1, 1), new CountryEntry("1", 1, 1)));
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> validateNumericTupleDocument(mixed, mockLogger));
+        assertEquals("Entries must all be of the same type.", ex.getMessage());
+    }
+    //endregion
 }
@@ -4,7 +4,6 @@ import de.bcxp.challenge.common.analysis.IDocumentAnalyser;
 import de.bcxp.challenge.common.documentParsing.IDocumentParser;
 import de.bcxp.challenge.common.exceptions.DocumentCreationException;
 import de.bcxp.challenge.common.model.Document;
-import de.bcxp.challenge.common.model.DocumentEntry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -19,14 +18,14 @@ import static org.mockito.Mockito.when;
 public class CountryAnalyserTest {
 
     @Mock
-    private IDocumentParser mockParser;
+    private IDocumentParser<CountryEntry> mockParser;
 
     //region Negative Tests
     @Test
     public void getBestMatchesTestEmptyDocument() throws DocumentCreationException {
 
-        final IDocumentAnalyser analyser = new CountryAnalyser();
-        when(mockParser.parseDocument()).thenReturn(new Document(List.of()));
+        final IDocumentAnalyser<CountryEntry> analyser = new CountryAnalyser();
+        when(mockParser.parseDocument()).thenReturn(new Document<>(List.of()));
 
         assertThrows(NoSuchElementException.class,
                 () -> analyser.getBestMatches(mockParser.parseDocument()));
@@ -39,15 +38,15 @@ public class CountryAnalyserTest {
     public void getBestMatchesTest() throws DocumentCreationException {
 
         //region Test 1
-        final IDocumentAnalyser analyser = new CountryAnalyser();
-        List<DocumentEntry> testEntries = List.of(
+        final IDocumentAnalyser<CountryEntry> analyser = new CountryAnalyser();
+        List<CountryEntry> testEntries = List.of(
                 new CountryEntry("Germany", 1_463_865_525, 3_287_000),
                 new CountryEntry("Italy", 50, 4)  //best match
         );
-        when(mockParser.parseDocument()).thenReturn(new Document(testEntries));
-        Document mockDocument = mockParser.parseDocument();
+        when(mockParser.parseDocument()).thenReturn(new Document<>(testEntries));
+        Document<CountryEntry> mockDocument = mockParser.parseDocument();
 
-        Set<DocumentEntry> bestMatch = analyser.getBestMatches(mockDocument);
+        Set<CountryEntry> bestMatch = analyser.getBestMatches(mockDocument);
         assertEquals(Set.of(testEntries.get(0)), bestMatch);
         assertNotEquals(Set.of(testEntries.get(1)), bestMatch);
         //endregion
@@ -57,7 +56,7 @@ public class CountryAnalyserTest {
                 new CountryEntry("Albania", 28, 20), //best match
                 new CountryEntry("Algeria", 17, 120)
         );
-        when(mockParser.parseDocument()).thenReturn(new Document(testEntries));
+        when(mockParser.parseDocument()).thenReturn(new Document<>(testEntries));
         mockDocument = mockParser.parseDocument();
 
         bestMatch = analyser.getBestMatches(mockDocument);
@@ -69,18 +68,18 @@ public class CountryAnalyserTest {
     @Test
     public void getBestMatchesTestMultipleMatches() throws DocumentCreationException {
 
-        final IDocumentAnalyser analyser = new CountryAnalyser();
+        final IDocumentAnalyser<CountryEntry> analyser = new CountryAnalyser();
 
-        final List<DocumentEntry> entries = List.of(
+        final List<CountryEntry> entries = List.of(
                 new CountryEntry("Angola", 100_00, 10),     // Density = 1.000 people/km² -- best match 1
                 new CountryEntry("China", 100_00, 10),      // Density = 1.000 people/km² -- best match 1
                 new CountryEntry("Japan", 123_123, 800),    // Density = 152,9 people/km²
                 new CountryEntry("Uruguay", 654, 30)        // Density = 21,8 people/km²
         );
-        when(mockParser.parseDocument()).thenReturn(new Document(entries));
-        final Document document = mockParser.parseDocument();
+        when(mockParser.parseDocument()).thenReturn(new Document<>(entries));
+        final Document<CountryEntry> document = mockParser.parseDocument();
 
-        Set<DocumentEntry> bestMatches = analyser.getBestMatches(document);
+        Set<CountryEntry> bestMatches = analyser.getBestMatches(document);
 
         assertEquals(2, bestMatches.size());
         assertEquals(bestMatches, Set.of(entries.get(0), entries.get(1)));
@@ -89,14 +88,14 @@ public class CountryAnalyserTest {
     @Test
     public void getBestMatchesTestEmptyDocumentExtremeValues() throws DocumentCreationException {
 
-        final IDocumentAnalyser analyser = new CountryAnalyser();
-        final List<DocumentEntry> testEntries = List.of(
+        final IDocumentAnalyser<CountryEntry> analyser = new CountryAnalyser();
+        final List<CountryEntry> testEntries = List.of(
                 new CountryEntry("Germany", Long.MAX_VALUE, Double.MAX_VALUE),
                 new CountryEntry("Germany", 0, Double.MAX_VALUE)
         );
 
-        when(mockParser.parseDocument()).thenReturn(new Document(testEntries));
-        final Document mockDocument = mockParser.parseDocument();
+        when(mockParser.parseDocument()).thenReturn(new Document<>(testEntries));
+        final Document<CountryEntry> mockDocument = mockParser.parseDocument();
 
         assertEquals(Set.of(testEntries.get(0)), analyser.getBestMatches(mockDocument));
     }
@@ -0,0 +1,31 @@
+package de.bcxp.challenge.countries;
+
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.generation.CsvGeneratorOptions;
+import de.bcxp.challenge.common.model.DocumentEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountryCsvGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testGeneratedFileHasExpectedBestMatches() throws IOException, DocumentCreationException {
+        final Path file = tempDir.resolve("countries.csv");
+        new CountryCsvGenerator(CsvGeneratorOptions.builder().rows(2000).bestMatches(2).quoteAll(true).build()).generate(file);
+
+        final CountryCsvParser parser = new CountryCsvParser(';', Locale.GERMANY, "ignored.csv");
+        final Set<CountryEntry> bestMatches = new CountryAnalyser().getBestMatches(parser.parseMappedDocument(file));
+        assertEquals(2, bestMatches.size());
+        for (final DocumentEntry entry : bestMatches) {
+            assertEquals(100_000_000., ((CountryEntry) entry).getBestMatchScore());
+        }
+    }
+}
@@ -3,8 +3,14 @@ package de.bcxp.challenge.countries;
 import de.bcxp.challenge.common.documentParsing.csv.CsvParser;
 import de.bcxp.challenge.common.exceptions.DocumentCreationException;
 import de.bcxp.challenge.common.model.Document;
+import de.bcxp.challenge.common.model.ColumnarDocument;
 import de.bcxp.challenge.common.model.DocumentEntry;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
 
@@ -16,8 +22,8 @@ class CountryCsvParserTest {
     @Test
     void testParseDocument() throws DocumentCreationException {
         final CountryCsvParser parser = new CountryCsvParser(',', Locale.US, "parsingDocuments/csv/CountryCsvParserTest.csv");
-        Document document = parser.parseDocument();
-        final List<DocumentEntry> entries = document.getEntries();
+        Document<CountryEntry> document = parser.parseDocument();
+        final List<CountryEntry> entries = document.getEntries();
 
         assertNotNull(entries);
         assertEquals(3, entries.size());
@@ -39,6 +45,46 @@ class CountryCsvParserTest {
         assertEquals(630.21, secondCountry.getArea());
     }
 
+    @Test
+    void testParseMappedDocument(@TempDir final Path tempDir) throws DocumentCreationException, IOException {
+        final Path file = Files.writeString(tempDir.resolve("countries.csv"),
+                "Name;Capital;Population;Area (km²)\nCroatia;Zagreb;4.036.355,00;56594\n", StandardCharsets.UTF_8);
+        final CountryCsvParser parser = new CountryCsvParser(';', Locale.GERMANY, "ignored.csv");
+
+        final List<CountryEntry> entries = parser.parseMappedDocument(file).getEntries();
+        assertEquals(1, entries.size());
+        final CountryEntry country = assertInstanceOf(CountryEntry.class, entries.get(0));
+        assertEquals("Croatia", country.getCountry());
+        assertEquals(4_036_355, country.getPopulation());
+        assertEquals(56594, country.getArea());
+    }
+
+    @Test
+    void testParseColumnarDocument(@TempDir final Path tempDir) throws DocumentCreationException, IOException {
+        final Path file = Files.writeString(tempDir.resolve("countries.csv"),
+                "Name;Capital;Population;Area (km²)\nCroatia;Zagreb;4.036.355,00;56594\nMalta;Valletta;516100;316\n", StandardCharsets.UTF_8);
+        final CountryCsvParser parser = new CountryCsvParser(';', Locale.GERMANY, "ignored.csv");
+
+        final ColumnarDocument document = parser.parseColumnarDocument(file);
+        assertEquals(2, document.size());
+        assertEquals("Malta", document.getId(1));
+        assertEquals(4_036_355, document.getLong(0, 0));
+        assertEquals(316, document.getDouble(1, 1));
+        assertEquals(516100 / 316.0, document.getScore(1));
+
+        final CountryEntry country = assertInstanceOf(CountryEntry.class, document.getEntry(0));
+        assertEquals("Croatia", country.getCountry());
+        assertEquals(country.getBestMatchScore(), document.getScore(0));
+    }
+
+    @Test
+    void testParseColumnarDocumentInvalidArea(@TempDir final Path tempDir) throws IOException {
+        final Path file = Files.writeString(tempDir.resolve("countries.csv"),
+                "Name;Population;Area (km²)\nNowhere;5;0\n", StandardCharsets.UTF_8);
+        final CountryCsvParser parser = new CountryCsvParser(';', Locale.GERMANY, "ignored.csv");
+        assertThrows(DocumentCreationException.class, () -> parser.parseColumnarDocument(file));
+    }
+
     @Test
     void testParseDocumentFileNotFound() {
         final CountryCsvParser parser = new CountryCsvParser(',', Locale.US, "non_existent_file.csv");
@@ -47,16 +93,16 @@ class CountryCsvParserTest {
 
     @Test
     void testParseDocumentMalformedNumber() {
-        final CsvParser parserNan = new CountryCsvParser(',', Locale.US, "ignored.csv");
+        final CsvParser<CountryEntry> parserNan = new CountryCsvParser(',', Locale.US, "ignored.csv");
         assertThrows(DocumentCreationException.class, parserNan::parseDocument);
 
-        final CsvParser parserNum = new CountryCsvParser(',', Locale.US, "ignored.csv");
+        final CsvParser<CountryEntry> parserNum = new CountryCsvParser(',', Locale.US, "ignored.csv");
         assertThrows(DocumentCreationException.class, parserNum::parseDocument);
     }
 
     @Test
     void testParseDocumentMissingField() {
-        final CsvParser parser = new CountryCsvParser(',', Locale.US, "ignored.csv");
+        final CsvParser<CountryEntry> parser = new CountryCsvParser(',', Locale.US, "ignored.csv");
         assertThrows(DocumentCreationException.class, parser::parseDocument);
     }
 }
@@ -0,0 +1,198 @@
+package de.bcxp.challenge.daemon;
+
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisDaemonTest {
+
+    @TempDir
+    Path tempDir;
+
+    private AnalysisDaemon daemon;
+
+    @BeforeEach
+    void startDaemon() throws IOException, DocumentCreationException {
+        daemon = AnalysisDaemon.start(0, 2, tempDir);
+    }
+
+    @AfterEach
+    void stopDaemon() throws IOException {
+        daemon.close();
+    }
+
+    private Socket connect() throws IOException {
+        return new Socket(InetAddress.getLoopbackAddress(), daemon.getPort());
+    }
+
+    private static void send(final Socket socket, final String line) throws IOException {
+        final PrintWriter writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        writer.print(line + "\n");
+        writer.flush();
+    }
+
+    private static String[] request(final Socket socket, final String line) throws IOException {
+        send(socket, line);
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        return reader.readLine().split("\t");
+    }
+
+    //region Positive Tests
+    @Test
+    void testAnswersJobsOnOneConnection() throws IOException {
+        final Path weather = Files.writeString(tempDir.resolve("weather.csv"), "Day,MxT,MnT\n1,10,5\n7,8,7\n");
+        final Path countries = Files.createDirectory(tempDir.resolve("countries"));
+        Files.writeString(countries.resolve("part-0.csv"), "Name;Population;Area (km²)\nSmall;10;10\n");
+        Files.writeString(countries.resolve("part-1.csv"), "Name;Population;Area (km²)\nDense;1.000;1\n");
+
+        try (final Socket socket = connect()) {
+            final String[] first = request(socket, "weather\t,\tde-DE\t" + weather);
+            assertEquals("OK", first[0]);
+            assertEquals("7", first[1]);
+            assertTrue(Long.parseLong(first[2]) >= 0);
+
+            final String[] second = request(socket, "countries\t;\tde-DE\t" + countries);
+            assertEquals("OK", second[0]);
+            assertEquals("Dense", second[1]);
+
+            final String[] stats = request(socket, "STATS");
+            assertEquals("OK", stats[0]);
+            assertTrue(stats[1].startsWith("count=2 "));
+            assertTrue(stats[1].endsWith("failures=0"));
+        }
+        assertEquals(2, daemon.getLatencies().getCount());
+    }
+
+    @Test
+    void testServesConnectionsConcurrently() throws Exception {
+        final Path weather = Files.writeString(tempDir.resolve("weather.csv"), "Day,MxT,MnT\n1,10,5\n7,8,7\n");
+        final ExecutorService clients = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int client = 0; client < 4; client++) {
+                results.add(clients.submit(() -> {
+                    try (final Socket socket = connect()) {
+                        String last = null;
+                        for (int i = 0; i < 25; i++) {
+                            last = request(socket, "weather\t,\tde-DE\t" + weather)[1];
+                        }
+                        send(socket, "QUIT");
+                        return last;
+                    }
+                }));
+            }
+            for (final Future<String> result : results) {
+                assertEquals("7", result.get());
+            }
+        } finally {
+            clients.shutdown();
+        }
+        assertEquals(100, daemon.getLatencies().getCount());
+    }
+
+    @Test
+    void testResolvesRelativePathsAgainstDataRoot() throws IOException {
+        Files.writeString(tempDir.resolve("weather.csv"), "Day,MxT,MnT\n1,10,5\n7,8,7\n");
+        try (final Socket socket = connect()) {
+            final String[] response = request(socket, "weather\t,\tde-DE\tweather.csv");
+            assertEquals("OK", response[0]);
+            assertEquals("7", response[1]);
+        }
+    }
+
+    @Test
+    void testIdleConnectionsDontOccupyWorkers() throws IOException {
+        final Path weather = Files.writeString(tempDir.resolve("weather.csv"), "Day,MxT,MnT\n1,10,5\n7,8,7\n");
+        final List<Socket> idle = new ArrayList<>();
+        try {
+            idle.add(connect());
+            idle.add(connect());
+            try (final Socket socket = connect()) {
+                socket.setSoTimeout(10_000);
+                assertEquals("7", request(socket, "weather\t,\tde-DE\t" + weather)[1]);
+            }
+        } finally {
+            for (final Socket socket : idle) {
+                socket.close();
+            }
+        }
+    }
+
+    @Test
+    void testQuitClosesConnection() throws IOException {
+        try (final Socket socket = connect()) {
+            send(socket, "QUIT");
+            assertEquals(-1, socket.getInputStream().read());
+        }
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testReportsFailedJobsWithoutClosingConnection() throws IOException {
+        try (final Socket socket = connect()) {
+            final String[] missing = request(socket, "weather\t,\tde-DE\t" + tempDir.resolve("missing.csv"));
+            assertEquals("ERROR", missing[0]);
+            assertTrue(missing[1].startsWith("File not found"));
+
+            assertEquals("ERROR", request(socket, "rainfall\t,\tde-DE\tweather.csv")[0]);
+            assertEquals("ERROR", request(socket, "weather\t,,\tde-DE\tweather.csv")[0]);
+            assertEquals("ERROR", request(socket, "weather")[0]);
+
+            final String[] stats = request(socket, "STATS");
+            assertTrue(stats[1].endsWith("failures=4"));
+        }
+        assertEquals(4, daemon.getFailures());
+    }
+
+    @Test
+    void testRejectsPathsOutsideDataRoot() throws IOException {
+        final Path outside = Files.createTempFile("outside", ".csv");
+        try (final Socket socket = connect()) {
+            Files.writeString(outside, "Day,MxT,MnT\n1,10,5\n");
+            final Path link = Files.createSymbolicLink(tempDir.resolve("link.csv"), outside);
+
+            final String[] parent = request(socket, "weather\t,\tde-DE\t../" + outside.getFileName());
+            assertEquals("ERROR", parent[0]);
+            assertTrue(parent[1].endsWith("is outside of the data root."));
+            assertEquals("ERROR", request(socket, "weather\t,\tde-DE\t" + outside)[0]);
+            assertEquals("ERROR", request(socket, "weather\t,\tde-DE\t" + link)[0]);
+
+            final Path shards = Files.createDirectory(tempDir.resolve("shards"));
+            Files.writeString(shards.resolve("part-0.csv"), "Day,MxT,MnT\n7,8,7\n");
+            Files.createSymbolicLink(shards.resolve("part-1.csv"), outside);
+            final String[] shard = request(socket, "weather\t,\tde-DE\tshards");
+            assertEquals("ERROR", shard[0]);
+            assertTrue(shard[1].endsWith("is outside of the data root."));
+        } finally {
+            Files.delete(outside);
+        }
+        assertEquals(4, daemon.getFailures());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> AnalysisDaemon.start(-1, 1, tempDir));
+        assertThrows(IllegalArgumentException.class, () -> AnalysisDaemon.start(0, 0, tempDir));
+        assertThrows(IllegalArgumentException.class, () -> AnalysisDaemon.start(0, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> AnalysisDaemon.start(0, 1, tempDir.resolve("missing")));
+    }
+    //endregion
+}
@@ -0,0 +1,33 @@
+package de.bcxp.challenge.daemon;
+
+import de.bcxp.challenge.DocumentType;
+import org.junit.jupiter.api.Test;
+import java.nio.file.Path;
+import java.util.Locale;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DaemonRequestTest {
+
+    //region Positive Tests
+    @Test
+    void testParse() {
+        final DaemonRequest request = DaemonRequest.parse("countries\t;\tde-DE\t/data/my countries.csv");
+        assertEquals(DocumentType.COUNTRIES, request.getType());
+        assertEquals(';', request.getDelimiter());
+        assertEquals(Locale.GERMANY, request.getLocale());
+        assertEquals(Path.of("/data/my countries.csv"), request.getPath());
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testParseMalformedRequests() {
+        assertThrows(IllegalArgumentException.class, () -> DaemonRequest.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> DaemonRequest.parse("weather\t,\tde-DE"));
+        assertThrows(IllegalArgumentException.class, () -> DaemonRequest.parse("weather\t,\tde-DE\t"));
+        assertThrows(IllegalArgumentException.class, () -> DaemonRequest.parse("rainfall\t,\tde-DE\tweather.csv"));
+        assertThrows(IllegalArgumentException.class, () -> DaemonRequest.parse("weather\t\tde-DE\tweather.csv"));
+        assertThrows(IllegalArgumentException.class, () -> DaemonRequest.parse("weather\t,\tde_DE!\tweather.csv"));
+    }
+    //endregion
+}
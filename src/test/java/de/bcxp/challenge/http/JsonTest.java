@@ -0,0 +1,21 @@
+package de.bcxp.challenge.http;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonTest {
+
+    @Test
+    void testQuoteEscapesSpecialCharacters() {
+        assertEquals("\"Côte d'Ivoire\"", Json.quote("Côte d'Ivoire"));
+        assertEquals("\"a\\\"b\\\\c\\n\\t\\u0001\"", Json.quote("a\"b\\c\n\t\u0001"));
+    }
+
+    @Test
+    void testNumber() {
+        assertEquals("2", Json.number(2.0));
+        assertEquals("-0.5", Json.number(-0.5));
+        assertEquals("null", Json.number(Double.NaN));
+        assertEquals("null", Json.number(Double.POSITIVE_INFINITY));
+    }
+}
@@ -0,0 +1,117 @@
+package de.bcxp.challenge.http;
+
+import de.bcxp.challenge.DocumentType;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.Document;
+import de.bcxp.challenge.common.model.DocumentEntry;
+import de.bcxp.challenge.countries.CountryEntry;
+import de.bcxp.challenge.weather.WeatherEntry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryServerTest {
+
+    private static final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private static QueryServer server;
+
+    @BeforeAll
+    static void startServer() throws DocumentCreationException, IOException {
+        final Map<DocumentType, Document<? extends DocumentEntry>> documents = new EnumMap<>(DocumentType.class);
+        documents.put(DocumentType.WEATHER, new Document<>(List.of(
+                new WeatherEntry("1", 10, 5),
+                new WeatherEntry("2", 8, 7),
+                new WeatherEntry("3", 9, 6),
+                new WeatherEntry("4", 3, 2)
+        )));
+        documents.put(DocumentType.COUNTRIES, new Document<CountryEntry>(List.of()));
+        server = QueryServer.start(0, documents);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    private static HttpResponse<String> get(final String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + path)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    //region Positive Tests
+    @Test
+    void testBestMatches() throws IOException, InterruptedException {
+        final HttpResponse<String> response = get("/documents/weather/best");
+        assertEquals(200, response.statusCode());
+        assertEquals("application/json; charset=utf-8", response.headers().firstValue("Content-Type").orElseThrow());
+        assertEquals("{\"document\":\"weather\",\"total\":2,\"matches\":[{\"id\":\"2\",\"score\":1},{\"id\":\"4\",\"score\":1}]}", response.body());
+    }
+
+    @Test
+    void testTopMatches() throws IOException, InterruptedException {
+        assertEquals("{\"document\":\"weather\",\"total\":3,\"matches\":[{\"id\":\"2\",\"score\":1},{\"id\":\"4\",\"score\":1},{\"id\":\"3\",\"score\":3}]}",
+                get("/documents/weather/top?k=3").body());
+        assertEquals("{\"document\":\"weather\",\"total\":4,\"matches\":[{\"id\":\"2\",\"score\":1},{\"id\":\"4\",\"score\":1},{\"id\":\"3\",\"score\":3},{\"id\":\"1\",\"score\":5}]}",
+                get("/documents/weather/top?k=10").body());
+    }
+
+    @Test
+    void testRangeMatches() throws IOException, InterruptedException {
+        assertEquals("{\"document\":\"weather\",\"total\":2,\"matches\":[{\"id\":\"1\",\"score\":5},{\"id\":\"3\",\"score\":3}]}",
+                get("/documents/weather/range?min=2&max=5").body());
+        assertEquals("{\"document\":\"weather\",\"total\":4,\"matches\":[{\"id\":\"1\",\"score\":5}]}",
+                get("/documents/weather/range?limit=1").body());
+    }
+
+    @Test
+    void testDocumentsAndMetrics() throws IOException, InterruptedException {
+        assertEquals("{\"documents\":[{\"name\":\"weather\",\"entries\":4,\"best\":\"min\"},{\"name\":\"countries\",\"entries\":0,\"best\":\"max\"}]}",
+                get("/documents").body());
+
+        final long before = server.getLatencies("top").getCount();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(200, get("/documents/weather/top?k=2").statusCode());
+        }
+        assertEquals(before + 10, server.getLatencies("top").getCount());
+
+        final HttpResponse<String> metrics = get("/metrics");
+        assertEquals(200, metrics.statusCode());
+        assertTrue(metrics.body().contains("\"top\":{\"count\":" + (before + 10) + ","));
+        assertTrue(metrics.body().contains("\"p99Micros\":"));
+    }
+    //endregion
+
+    //region Negative Tests
+    @Test
+    void testErrors() throws IOException, InterruptedException {
+        assertEquals(404, get("/documents/rainfall/best").statusCode());
+        assertEquals(404, get("/unknown").statusCode());
+        assertEquals(404, get("/documents/countries/best").statusCode());
+        assertEquals(400, get("/documents/weather/top?k=0").statusCode());
+        assertEquals(400, get("/documents/weather/top?k=abc").statusCode());
+        assertEquals(400, get("/documents/weather/range?min=5&max=2").statusCode());
+        assertTrue(get("/documents/weather/range?min=5&max=2").body().startsWith("{\"error\":"));
+
+        final HttpResponse<String> post = client.send(HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + "/documents"))
+                .POST(HttpRequest.BodyPublishers.ofString("{}")).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(405, post.statusCode());
+        assertEquals("GET", post.headers().firstValue("Allow").orElseThrow());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> QueryServer.start(0, null));
+        assertThrows(IllegalArgumentException.class, () -> QueryServer.start(-1, Map.of()));
+        assertThrows(java.util.NoSuchElementException.class, () -> server.getLatencies("unknown"));
+    }
+    //endregion
+}
@@ -4,7 +4,6 @@ import de.bcxp.challenge.common.analysis.IDocumentAnalyser;
 import de.bcxp.challenge.common.documentParsing.IDocumentParser;
 import de.bcxp.challenge.common.exceptions.DocumentCreationException;
 import de.bcxp.challenge.common.model.Document;
-import de.bcxp.challenge.common.model.DocumentEntry;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import java.util.List;
@@ -19,15 +18,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 public class WeatherAnalyserTest {
 
     @Mock
-    private IDocumentParser mockParser;
+    private IDocumentParser<WeatherEntry> mockParser;
 
     //region Negative Tests
     @Test
     public void getBestMatchesTestEmptyDocument() throws DocumentCreationException {
 
-        final IDocumentAnalyser analyser = new WeatherAnalyser();
-        when(mockParser.parseDocument()).thenReturn(new Document(List.of()));
-        final Document emptyDocument = mockParser.parseDocument();
+        final IDocumentAnalyser<WeatherEntry> analyser = new WeatherAnalyser();
+        when(mockParser.parseDocument()).thenReturn(new Document<>(List.of()));
+        final Document<WeatherEntry> emptyDocument = mockParser.parseDocument();
 
         assertThrows(NoSuchElementException.class, () -> analyser.getBestMatches(emptyDocument));
 
@@ -39,16 +38,16 @@ public class WeatherAnalyserTest {
     public void getBestMatchesTest() throws DocumentCreationException {
 
         //region Test 1
-        final IDocumentAnalyser analyser = new WeatherAnalyser();
+        final IDocumentAnalyser<WeatherEntry> analyser = new WeatherAnalyser();
 
-        List<DocumentEntry> testEntries = List.of(
+        List<WeatherEntry> testEntries = List.of(
                 new WeatherEntry("1", 3, 2),   //best match
                 new WeatherEntry("2", 50, -50)
         );
-        when(mockParser.parseDocument()).thenReturn(new Document(testEntries));
-        Document mockDocument = mockParser.parseDocument();
+        when(mockParser.parseDocument()).thenReturn(new Document<>(testEntries));
+        Document<WeatherEntry> mockDocument = mockParser.parseDocument();
         
-        Set<DocumentEntry> bestMatch = analyser.getBestMatches(mockDocument);
+        Set<WeatherEntry> bestMatch = analyser.getBestMatches(mockDocument);
         assertEquals(Set.of(testEntries.get(0)), bestMatch);
         assertNotEquals(Set.of(testEntries.get(1)), bestMatch);
         //endregion
@@ -58,7 +57,7 @@ public class WeatherAnalyserTest {
                 new WeatherEntry("1", 24, 12), //best match
                 new WeatherEntry("2", 28, 9)
         );
-        when(mockParser.parseDocument()).thenReturn(new Document(testEntries));
+        when(mockParser.parseDocument()).thenReturn(new Document<>(testEntries));
         mockDocument = mockParser.parseDocument();
 
         bestMatch = analyser.getBestMatches(mockDocument);
@@ -70,18 +69,18 @@ public class WeatherAnalyserTest {
     @Test
     public void getBestMatchesTestMultipleMatches() throws DocumentCreationException {
 
-        final IDocumentAnalyser analyser = new WeatherAnalyser();
+        final IDocumentAnalyser<WeatherEntry> analyser = new WeatherAnalyser();
 
-        final List<DocumentEntry> entries = List.of(
+        final List<WeatherEntry> entries = List.of(
                 new WeatherEntry("1", 10, 5),    // Spread = 5 -- best match 1
                 new WeatherEntry("2", 7, 2),     // Spread = 5 -- best match 1
                 new WeatherEntry("3", 50, 20),   // Spread = 30
                 new WeatherEntry("3", 50, -50)   // Spread = 100
         );
-        when(mockParser.parseDocument()).thenReturn(new Document(entries));
-        final Document document = mockParser.parseDocument();
+        when(mockParser.parseDocument()).thenReturn(new Document<>(entries));
+        final Document<WeatherEntry> document = mockParser.parseDocument();
 
-        final Set<DocumentEntry> bestMatches = analyser.getBestMatches(document);
+        final Set<WeatherEntry> bestMatches = analyser.getBestMatches(document);
 
         assertEquals(2, bestMatches.size());
         assertEquals(bestMatches, Set.of(entries.get(0), entries.get(1)));
@@ -89,15 +88,28 @@ public class WeatherAnalyserTest {
 
     @Test
     public void getBestMatchesTestEmptyDocumentExtremeValues() throws DocumentCreationException {
-        final IDocumentAnalyser analyser = new WeatherAnalyser();
-        final List<DocumentEntry> testEntries = List.of(
+        final IDocumentAnalyser<WeatherEntry> analyser = new WeatherAnalyser();
+        final List<WeatherEntry> testEntries = List.of(
                 new WeatherEntry("5", Double.MAX_VALUE, Double.MAX_VALUE - 1),
                 new WeatherEntry("8", 0, -Double.MAX_VALUE)
         );
-        when(mockParser.parseDocument()).thenReturn(new Document(testEntries));
-        final Document mockDocument = mockParser.parseDocument();
+        when(mockParser.parseDocument()).thenReturn(new Document<>(testEntries));
+        final Document<WeatherEntry> mockDocument = mockParser.parseDocument();
 
         assertEquals(Set.of(testEntries.get(0)), analyser.getBestMatches(mockDocument));
     }
+
+    @Test
+    public void getBestMatchesFromParserTest() throws DocumentCreationException {
+        final IDocumentAnalyser<WeatherEntry> analyser = new WeatherAnalyser();
+        final List<WeatherEntry> entries = List.of(
+                new WeatherEntry("1", 10, 5),    // Spread = 5 -- best match
+                new WeatherEntry("2", 7, 2),     // Spread = 5 -- best match
+                new WeatherEntry("3", 50, 20)    // Spread = 30
+        );
+        final IDocumentParser<WeatherEntry> parser = () -> new Document<>(entries);
+
+        assertEquals(Set.of(entries.get(0), entries.get(1)), analyser.getBestMatchesFromParser(parser));
+    }
     //endregion
 }
\ No newline at end of file
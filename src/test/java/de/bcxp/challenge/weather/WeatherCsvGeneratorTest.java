@@ -0,0 +1,35 @@
+package de.bcxp.challenge.weather;
+
+import de.bcxp.challenge.common.analysis.csv.CsvAnalysisUtility;
+import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.generation.CsvGeneratorOptions;
+import de.bcxp.challenge.common.model.ColumnarDocument;
+import de.bcxp.challenge.common.model.csv.NumericComparisonType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherCsvGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testGeneratedFileHasExpectedBestMatches() throws IOException, DocumentCreationException {
+        for (final Locale locale : new Locale[] {Locale.GERMANY, Locale.US, Locale.FRANCE}) {
+            final Path file = tempDir.resolve("weather-" + locale + ".csv");
+            new WeatherCsvGenerator(CsvGeneratorOptions.builder().rows(5000).bestMatches(3).locale(locale).build()).generate(file);
+
+            assertTrue(Files.readString(file).startsWith("Day,MxT,MnT,AvT,"));
+            final ColumnarDocument document = new WeatherCsvParser(',', locale, "ignored.csv").parseColumnarDocument(file);
+            assertEquals(5000, document.size());
+            final int[] bestRows = CsvAnalysisUtility.getBestMatchRows(document, NumericComparisonType.MIN);
+            assertEquals(3, bestRows.length);
+            assertEquals(0., document.getScore(bestRows[0]));
+        }
+    }
+}
@@ -1,21 +1,45 @@
 package de.bcxp.challenge.weather;
 
 import de.bcxp.challenge.common.documentParsing.csv.CsvParser;
+import de.bcxp.challenge.common.documentParsing.csv.CsvTailPosition;
+import de.bcxp.challenge.common.documentParsing.csv.ICsvRow;
+import de.bcxp.challenge.common.documentParsing.source.DirectorySource;
+import de.bcxp.challenge.common.documentParsing.source.FileSource;
+import de.bcxp.challenge.common.documentParsing.source.IDocumentSource;
+import de.bcxp.challenge.common.documentParsing.source.StandardInputSource;
 import de.bcxp.challenge.common.exceptions.DocumentCreationException;
+import de.bcxp.challenge.common.model.ColumnarDocument;
 import de.bcxp.challenge.common.model.Document;
 import de.bcxp.challenge.common.model.DocumentEntry;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
 import static org.junit.jupiter.api.Assertions.*;
 
 class WeatherCsvParserTest {
 
+    @TempDir
+    Path tempDir;
+
     @Test
     void testParseDocument() throws DocumentCreationException {
         final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "parsingDocuments/csv/WeatherCsvParserTest.csv");
-        final Document document = parser.parseDocument();
-        final List<DocumentEntry> entries = document.getEntries();
+        final Document<WeatherEntry> document = parser.parseDocument();
+        final List<WeatherEntry> entries = document.getEntries();
 
         assertNotNull(entries);
         assertEquals(3, entries.size());
@@ -37,6 +61,356 @@ class WeatherCsvParserTest {
         assertEquals(63.0, secondWeather.getMinTemp());
     }
 
+    @Test
+    void testParseEntriesStreamsSameEntriesAsParseDocument() throws DocumentCreationException {
+        final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "parsingDocuments/csv/WeatherCsvParserTest.csv");
+        final List<DocumentEntry> streamed = new ArrayList<>();
+        parser.parseEntries(streamed::add);
+
+        final List<WeatherEntry> parsed = parser.parseDocument().getEntries();
+        assertEquals(parsed.size(), streamed.size());
+        for (int i = 0; i < parsed.size(); i++) {
+            final WeatherEntry expected = parsed.get(i);
+            final WeatherEntry actual = assertInstanceOf(WeatherEntry.class, streamed.get(i));
+            assertEquals(expected.getDay(), actual.getDay());
+            assertEquals(expected.getMaxTemp(), actual.getMaxTemp());
+            assertEquals(expected.getMinTemp(), actual.getMinTemp());
+        }
+    }
+
+    @Test
+    void testParseEntriesFileNotFound() {
+        final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "p");
+        assertThrows(DocumentCreationException.class, () -> parser.parseEntries(entry -> fail("No entry expected.")));
+    }
+
+    @Test
+    void testParseEntriesNullConsumer() {
+        final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "parsingDocuments/csv/WeatherCsvParserTest.csv");
+        assertThrows(IllegalArgumentException.class, () -> parser.parseEntries(null));
+    }
+
+    @Test
+    void testParseMappedDocumentMatchesParseDocument() throws DocumentCreationException, IOException {
+        final Path file = tempDir.resolve("weather.csv");
+        try (final InputStream input = getClass().getClassLoader().getResourceAsStream("de/bcxp/challenge/weather.csv")) {
+            Files.copy(input, file);
+        }
+        final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "de/bcxp/challenge/weather.csv");
+
+        final List<WeatherEntry> mapped = parser.parseMappedDocument(file).getEntries();
+        final List<WeatherEntry> parsed = parser.parseDocument().getEntries();
+        assertEquals(30, mapped.size());
+        for (int i = 0; i < parsed.size(); i++) {
+            assertEquals(parsed.get(i).getDay(), mapped.get(i).getDay());
+            assertEquals(parsed.get(i).getBestMatchScore(), mapped.get(i).getBestMatchScore());
+        }
+    }
+
+    @Test
+    void testParseMappedDocumentFailures() throws IOException {
+        final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "ignored.csv");
+        assertThrows(DocumentCreationException.class, () -> parser.parseMappedDocument(tempDir.resolve("missing.csv")));
+
+        final Path missingColumn = Files.writeString(tempDir.resolve("missingColumn.csv"), "Day,MxT\n1,2\n");
+        assertThrows(DocumentCreationException.class, () -> parser.parseMappedDocument(missingColumn));
+
+        final Path malformed = Files.writeString(tempDir.resolve("malformed.csv"), "Day,MxT,MnT\n1,2,x\n");
+        assertThrows(DocumentCreationException.class, () -> parser.parseMappedDocument(malformed));
+    }
+
+    @Test
+    void testParseProjectedDocumentMatchesParseDocument() throws DocumentCreationException, IOException {
+        final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "de/bcxp/challenge/weather.csv");
+        final List<WeatherEntry> projected = parser.parseProjectedDocument().getEntries();
+        final List<WeatherEntry> parsed = parser.parseDocument().getEntries();
+        assertEquals(30, projected.size());
+        for (int i = 0; i < parsed.size(); i++) {
+            assertEquals(parsed.get(i).getDay(), projected.get(i).getDay());
+            assertEquals(parsed.get(i).getBestMatchScore(), projected.get(i).getBestMatchScore());
+        }
+
+        final Path file = tempDir.resolve("weather.csv.gz");
+        try (final InputStream input = getClass().getClassLoader().getResourceAsStream("de/bcxp/challenge/weather.csv");
+             final OutputStream output = new GZIPOutputStream(Files.newOutputStream(file))) {
+            input.transferTo(output);
+        }
+        final List<WeatherEntry> streamed = new ArrayList<>();
+        new WeatherCsvParser(',', Locale.GERMANY, new FileSource(file)).parseProjectedEntries(streamed::add);
+        assertEquals(30, streamed.size());
+        assertEquals(parsed.get(29).getDay(), streamed.get(29).getDay());
+    }
+
+    @Test
+    void testParseProjectedDocumentFailures() throws IOException {
+        final WeatherCsvParser missingFile = new WeatherCsvParser(',', Locale.GERMANY, new FileSource(tempDir.resolve("missing.csv")));
+        final DocumentCreationException fileException = assertThrows(DocumentCreationException.class, missingFile::parseProjectedDocument);
+        assertTrue(fileException.getMessage().startsWith("File not found"));
+
+        final Path missingColumn = Files.writeString(tempDir.resolve("missingColumn.csv"), "Day,MxT\n1,2\n");
+        final WeatherCsvParser missingColumnParser = new WeatherCsvParser(',', Locale.GERMANY, new FileSource(missingColumn));
+        assertThrows(DocumentCreationException.class, missingColumnParser::parseProjectedDocument);
+
+        final Path malformed = Files.writeString(tempDir.resolve("malformed.csv"), "Day,MxT,MnT\n1,2,x\n");
+        final WeatherCsvParser malformedParser = new WeatherCsvParser(',', Locale.GERMANY, new FileSource(malformed));
+        assertThrows(DocumentCreationException.class, malformedParser::parseProjectedDocument);
+        assertThrows(IllegalArgumentException.class, () -> malformedParser.parseProjectedEntries(null));
+    }
+
+    @Test
+    void testParseDocumentInParallelMatchesParseDocument() throws DocumentCreationException, IOException {
+        final Path file = tempDir.resolve("weather.csv");
+        try (final InputStream input = getClass().getClassLoader().getResourceAsStream("de/bcxp/challenge/weather.csv")) {
+            Files.copy(input, file);
+        }
+        final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "de/bcxp/challenge/weather.csv");
+        final List<WeatherEntry> parsed = parser.parseDocument().getEntries();
+
+        for (final int chunkCount : new int[] {1, 3, 7, 1000}) {
+            final List<WeatherEntry> parallel = parser.parseDocumentInParallel(file, chunkCount).getEntries();
+            assertEquals(parsed.size(), parallel.size());
+            for (int i = 0; i < parsed.size(); i++) {
+                assertEquals(parsed.get(i).getDay(), parallel.get(i).getDay());
+                assertEquals(parsed.get(i).getBestMatchScore(), parallel.get(i).getBestMatchScore());
+            }
+        }
+    }
+
+    @Test
+    void testParseDocumentInParallelFailures() throws IOException {
+        final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "ignored.csv");
+        assertThrows(DocumentCreationException.class, () -> parser.parseDocumentInParallel(tempDir.resolve("missing.csv"), 2));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseDocumentInParallel(null, 2));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseDocumentInParallel(tempDir.resolve("missing.csv"), 0));
+
+        final Path malformed = Files.writeString(tempDir.resolve("malformed.csv"), "Day,MxT,MnT\n1,3,2\n2,4,3\n3,5,x\n");
+        assertThrows(DocumentCreationException.class, () -> parser.parseDocumentInParallel(malformed, 2));
+    }
+
+    @Test
+    void testParseColumnarDocumentMatchesParseDocument() throws DocumentCreationException, IOException {
+        final Path file = tempDir.resolve("weather.csv");
+        try (final InputStream input = getClass().getClassLoader().getResourceAsStream("de/bcxp/challenge/weather.csv")) {
+            Files.copy(input, file);
+        }
+        final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "de/bcxp/challenge/weather.csv");
+
+        final ColumnarDocument columnar = parser.parseColumnarDocument(file);
+        final List<WeatherEntry> parsed = parser.parseDocument().getEntries();
+        assertEquals(parsed.size(), columnar.size());
+        for (int row = 0; row < parsed.size(); row++) {
+            final WeatherEntry expected = parsed.get(row);
+            assertEquals(expected.getDay(), columnar.getId(row));
+            assertEquals(expected.getMaxTemp(), columnar.getDouble(0, row));
+            assertEquals(expected.getMinTemp(), columnar.getDouble(1, row));
+            assertEquals(expected.getBestMatchScore(), columnar.getScore(row));
+            assertEquals(expected.getDay(), ((WeatherEntry) columnar.getEntry(row)).getDay());
+        }
+    }
+
+    @Test
+    void testParseColumnarDocumentReusesSnapshotOfUnchangedFile() throws DocumentCreationException, IOException {
+        final Path file = Files.writeString(tempDir.resolve("weather.csv"), "Day,MxT,MnT\n1,30,20\n2,25,24\n");
+        final Path snapshot = tempDir.resolve("weather.snapshot");
+        final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "ignored.csv");
+
+        final ColumnarDocument parsed = parser.parseColumnarDocument(file, snapshot);
+        assertTrue(Files.exists(snapshot));
+        final ColumnarDocument reloaded = parser.parseColumnarDocument(file, snapshot);
+        assertEquals(parsed.size(), reloaded.size());
+        assertEquals("2", reloaded.getId(1));
+        assertEquals(parsed.getScore(1), reloaded.getScore(1));
+        assertEquals(25.0, ((WeatherEntry) reloaded.getEntry(1)).getMaxTemp());
+
+        Files.writeString(file, "Day,MxT,MnT\n1,30,20\n2,25,24\n3,10,9\n");
+        assertEquals(3, parser.parseColumnarDocument(file, snapshot).size());
+        assertEquals(3, new WeatherCsvParser(',', Locale.US, "ignored.csv").parseColumnarDocument(file, snapshot).size());
+
+        assertThrows(DocumentCreationException.class, () -> parser.parseColumnarDocument(tempDir.resolve("missing.csv"), snapshot));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseColumnarDocument(file, null));
+    }
+
+    @Test
+    void testParseColumnarDocumentSkipsSnapshotOfFileChangedWhileParsing() throws DocumentCreationException, IOException {
+        final Path file = Files.writeString(tempDir.resolve("weather.csv"), "Day,MxT,MnT\n1,30,20\n2,25,24\n");
+        final Path snapshot = tempDir.resolve("weather.snapshot");
+        final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "ignored.csv") {
+            @Override
+            protected void addRowToColumns(final ICsvRow row, final ColumnarDocument.Builder builder) throws ParseException {
+                super.addRowToColumns(row, builder);
+                try {
+                    Files.writeString(file, "3,10,9\n", StandardOpenOption.APPEND);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+
+        assertEquals(2, parser.parseColumnarDocument(file, snapshot).size());
+        assertFalse(Files.exists(snapshot));
+    }
+
+    @Test
+    void testParseAppendedEntriesReadsOnlyAppendedCompleteRows() throws DocumentCreationException, IOException {
+        final Path file = Files.writeString(tempDir.resolve("station.csv"), "Day,MxT,MnT\n1,30,20\n2,25,24\n3,1");
+        final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "ignored.csv");
+
+        final List<WeatherEntry> first = new ArrayList<>();
+        final CsvTailPosition start = parser.parseAppendedEntries(file, null, first::add);
+        assertEquals(List.of("1", "2"), days(first));
+        assertTrue(start.isRestarted());
+        assertEquals(List.of("Day", "MxT", "MnT"), start.getHeader());
+        assertEquals(Files.size(file) - 3, start.getOffset());
+        assertEquals(2, start.getRowCount());
+
+        final List<WeatherEntry> none = new ArrayList<>();
+        assertEquals(start.getOffset(), parser.parseAppendedEntries(file, start, none::add).getOffset());
+        assertTrue(none.isEmpty());
+
+        Files.writeString(file, "0,9\n4,8,7\n", StandardOpenOption.APPEND);
+        final List<WeatherEntry> appended = new ArrayList<>();
+        final CsvTailPosition next = parser.parseAppendedEntries(file, start, appended::add);
+        assertEquals(List.of("3", "4"), days(appended));
+        assertEquals(10.0, appended.get(0).getMaxTemp());
+        assertFalse(next.isRestarted());
+        assertEquals(Files.size(file), next.getOffset());
+        assertEquals(4, next.getRowCount());
+    }
+
+    @Test
+    void testParseAppendedEntriesRestartsAfterTruncationOrReplacement() throws DocumentCreationException, IOException {
+        final Path file = Files.writeString(tempDir.resolve("station.csv"), "Day,MxT,MnT\n1,30,20\n2,25,24\n");
+        final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "ignored.csv");
+        final CsvTailPosition start = parser.parseAppendedEntries(file, null, entry -> {});
+
+        Files.writeString(file, "Day,MxT,MnT\n5,30,20\n");
+        final List<WeatherEntry> truncated = new ArrayList<>();
+        final CsvTailPosition afterTruncation = parser.parseAppendedEntries(file, start, truncated::add);
+        assertTrue(afterTruncation.isRestarted());
+        assertEquals(List.of("5"), days(truncated));
+
+        Files.writeString(file, "Day,MxT,MnT\n6,30,20\n7,25,24\n8,1,0\n");
+        final List<WeatherEntry> rewritten = new ArrayList<>();
+        assertTrue(parser.parseAppendedEntries(file, afterTruncation, rewritten::add).isRestarted());
+        assertEquals(List.of("6", "7", "8"), days(rewritten));
+
+        final CsvTailPosition beforeRotation = parser.parseAppendedEntries(file, null, entry -> {});
+        final Path rotated = Files.writeString(tempDir.resolve("rotated.csv"), "Day,MxT,MnT\n6,30,20\n7,25,24\n8,1,0\n9,2,1\n");
+        Files.move(rotated, file, StandardCopyOption.REPLACE_EXISTING);
+        final List<WeatherEntry> afterRotation = new ArrayList<>();
+        final CsvTailPosition next = parser.parseAppendedEntries(file, beforeRotation, afterRotation::add);
+        if (Files.readAttributes(file, BasicFileAttributes.class).fileKey() != null) {
+            assertTrue(next.isRestarted());
+            assertEquals(List.of("6", "7", "8", "9"), days(afterRotation));
+        }
+        assertEquals(4, next.getRowCount());
+    }
+
+    @Test
+    void testParseAppendedEntriesFailures() throws IOException {
+        final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "ignored.csv");
+        assertThrows(DocumentCreationException.class, () -> parser.parseAppendedEntries(tempDir.resolve("missing.csv"), null, entry -> {}));
+
+        final Path incompleteHeader = Files.writeString(tempDir.resolve("header.csv"), "Day,MxT");
+        assertThrows(DocumentCreationException.class, () -> parser.parseAppendedEntries(incompleteHeader, null, entry -> {}));
+
+        final Path missingColumn = Files.writeString(tempDir.resolve("column.csv"), "Day,MxT\n1,2\n");
+        assertThrows(DocumentCreationException.class, () -> parser.parseAppendedEntries(missingColumn, null, entry -> {}));
+
+        final Path invalid = Files.writeString(tempDir.resolve("invalid.csv"), "Day,MxT,MnT\n1,a,3\n");
+        assertThrows(DocumentCreationException.class, () -> parser.parseAppendedEntries(invalid, null, entry -> {}));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseAppendedEntries(null, null, entry -> {}));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseAppendedEntries(invalid, null, null));
+    }
+
+    private static List<String> days(final List<WeatherEntry> entries) {
+        final List<String> days = new ArrayList<>();
+        entries.forEach(entry -> days.add(entry.getDay()));
+        return days;
+    }
+
+    @Test
+    void testParseColumnarDocumentFailures() throws IOException {
+        final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "ignored.csv");
+        assertThrows(DocumentCreationException.class, () -> parser.parseColumnarDocument(tempDir.resolve("missing.csv")));
+
+        final Path invalid = Files.writeString(tempDir.resolve("invalid.csv"), "Day,MxT,MnT\n1,2,3\n");
+        assertThrows(DocumentCreationException.class, () -> parser.parseColumnarDocument(invalid));
+    }
+
+    @Test
+    void testParseDocumentFromFileDirectoryAndStandardInput() throws DocumentCreationException, IOException {
+        final Path file = tempDir.resolve("weather.csv");
+        Files.writeString(file, "Day,MxT,MnT\n1,10,5\n2,8,7\n");
+        final Path shards = Files.createDirectory(tempDir.resolve("shards"));
+        Files.writeString(shards.resolve("part-1.csv"), "Day,MxT,MnT\n3,20,19\n");
+        Files.writeString(shards.resolve("part-0.csv"), "Day,MnT,MxT\n1,5,10\n2,7,8\n");
+        Files.writeString(shards.resolve("notes.txt"), "not a shard");
+
+        final List<WeatherEntry> fromFile = new WeatherCsvParser(',', Locale.GERMANY, new FileSource(file)).parseDocument().getEntries();
+        assertEquals(List.of("1", "2"), List.of(fromFile.get(0).getDay(), fromFile.get(1).getDay()));
+        assertEquals(1., fromFile.get(1).getBestMatchScore());
+
+        final WeatherCsvParser directoryParser = new WeatherCsvParser(',', Locale.GERMANY, new DirectorySource(shards));
+        final List<WeatherEntry> fromDirectory = directoryParser.parseDocument().getEntries();
+        assertEquals(3, fromDirectory.size());
+        assertEquals("1", fromDirectory.get(0).getDay());
+        assertEquals(10., fromDirectory.get(0).getMaxTemp());
+        assertEquals("3", fromDirectory.get(2).getDay());
+        final List<WeatherEntry> streamed = new ArrayList<>();
+        directoryParser.parseEntries(streamed::add);
+        assertEquals(3, streamed.size());
+
+        final InputStream input = new ByteArrayInputStream(Files.readAllBytes(file));
+        final List<WeatherEntry> fromStandardInput = new WeatherCsvParser(',', Locale.GERMANY, new StandardInputSource(input)).parseDocument().getEntries();
+        assertEquals(2, fromStandardInput.size());
+    }
+
+    @Test
+    void testParseDocumentFromCompressedFile() throws DocumentCreationException, IOException {
+        final Path file = tempDir.resolve("weather.csv.gz");
+        try (final InputStream input = getClass().getClassLoader().getResourceAsStream("de/bcxp/challenge/weather.csv");
+             final OutputStream output = new GZIPOutputStream(Files.newOutputStream(file))) {
+            input.transferTo(output);
+        }
+
+        final List<WeatherEntry> compressed = new WeatherCsvParser(',', Locale.GERMANY, new FileSource(file)).parseDocument().getEntries();
+        final List<WeatherEntry> plain = new WeatherCsvParser(',', Locale.GERMANY, "de/bcxp/challenge/weather.csv").parseDocument().getEntries();
+        assertEquals(plain.size(), compressed.size());
+        for (int i = 0; i < plain.size(); i++) {
+            assertEquals(plain.get(i).getDay(), compressed.get(i).getDay());
+            assertEquals(plain.get(i).getBestMatchScore(), compressed.get(i).getBestMatchScore());
+        }
+    }
+
+    @Test
+    void testParseDocumentFromMissingFileOrDirectory() {
+        final WeatherCsvParser fileParser = new WeatherCsvParser(',', Locale.GERMANY, new FileSource(tempDir.resolve("missing.csv")));
+        final DocumentCreationException fileException = assertThrows(DocumentCreationException.class, fileParser::parseDocument);
+        assertTrue(fileException.getMessage().startsWith("File not found"));
+
+        final WeatherCsvParser directoryParser = new WeatherCsvParser(',', Locale.GERMANY, new DirectorySource(tempDir.resolve("missing")));
+        assertThrows(DocumentCreationException.class, directoryParser::parseDocument);
+        assertThrows(IllegalArgumentException.class, () -> new WeatherCsvParser(',', Locale.GERMANY, (IDocumentSource) null));
+    }
+
+    @Test
+    void testParseDocumentFailsFastForMissingColumnOrShortRow() throws IOException {
+        final Path missingColumn = Files.writeString(tempDir.resolve("missingColumn.csv"), "Day,MxT\n1,2\n");
+        final WeatherCsvParser missingColumnParser = new WeatherCsvParser(',', Locale.GERMANY, new FileSource(missingColumn));
+        final DocumentCreationException documentException = assertThrows(DocumentCreationException.class, missingColumnParser::parseDocument);
+        assertTrue(documentException.getMessage().contains("MnT"));
+        final DocumentCreationException entriesException = assertThrows(DocumentCreationException.class, () -> missingColumnParser.parseEntries(entry -> fail()));
+        assertTrue(entriesException.getMessage().contains("MnT"));
+        final DocumentCreationException parallelException = assertThrows(DocumentCreationException.class, () -> missingColumnParser.parseDocumentInParallel(missingColumn, 2));
+        assertTrue(parallelException.getMessage().contains("MnT"));
+
+        final Path shortRow = Files.writeString(tempDir.resolve("shortRow.csv"), "Day,MxT,MnT\n1,2,3\n2,4\n");
+        final WeatherCsvParser shortRowParser = new WeatherCsvParser(',', Locale.GERMANY, new FileSource(shortRow));
+        assertThrows(DocumentCreationException.class, shortRowParser::parseDocument);
+        assertThrows(DocumentCreationException.class, () -> shortRowParser.parseEntries(entry -> { }));
+    }
+
     @Test
     void testParseDocumentFileNotFound() {
         final WeatherCsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "p");
@@ -45,16 +419,16 @@ class WeatherCsvParserTest {
 
     @Test
     void testParseDocumentMalformedNumber() {
-        final CsvParser parserNan = new WeatherCsvParser(',', Locale.GERMANY, "ignored.csv");
+        final CsvParser<WeatherEntry> parserNan = new WeatherCsvParser(',', Locale.GERMANY, "ignored.csv");
         assertThrows(DocumentCreationException.class, parserNan::parseDocument);
 
-        final CsvParser parserNum = new WeatherCsvParser(',', Locale.GERMANY, "ignored.csv");
+        final CsvParser<WeatherEntry> parserNum = new WeatherCsvParser(',', Locale.GERMANY, "ignored.csv");
         assertThrows(DocumentCreationException.class, parserNum::parseDocument);
     }
 
     @Test
     void testParseDocumentMissingField() {
-        final CsvParser parser = new WeatherCsvParser(',', Locale.GERMANY, "ignored.csv");
+        final CsvParser<WeatherEntry> parser = new WeatherCsvParser(',', Locale.GERMANY, "ignored.csv");
         assertThrows(DocumentCreationException.class, parser::parseDocument);
     }
 }